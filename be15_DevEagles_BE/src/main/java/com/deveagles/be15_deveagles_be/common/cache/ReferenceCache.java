@@ -0,0 +1,20 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 매장 단위로 캐시하는 기준 데이터 목록. 캐시 키는 매장 ID 이며 값은 해당 매장의 전체 데이터다. */
+@Getter
+@RequiredArgsConstructor
+public enum ReferenceCache {
+  PRIMARY_ITEMS("primary-items", 600),
+  SECONDARY_ITEMS("secondary-items", 600),
+  CUSTOMER_GRADES("customer-grades", 600),
+  TAGS("tags", 600),
+  MESSAGE_SETTINGS("message-settings", 300),
+  RESERVATION_SETTINGS("reservation-settings", 600),
+  INCENTIVES("incentives", 300);
+
+  private final String cacheName;
+  private final long defaultTtlSeconds;
+}
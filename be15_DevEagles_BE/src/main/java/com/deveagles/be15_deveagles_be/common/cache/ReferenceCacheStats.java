@@ -0,0 +1,14 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+/**
+ * 캐시별 누적 통계. 로컬 적중(l1Hits), Redis 적중(l2Hits), DB 조회(misses), 로컬에서 밀려나거나 무효화된 항목 수(evictions).
+ */
+public record ReferenceCacheStats(
+    String cacheName,
+    long l1Hits,
+    long l2Hits,
+    long misses,
+    long evictions,
+    double hitRate,
+    int size,
+    long ttlSeconds) {}
@@ -0,0 +1,257 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 자주 읽고 드물게 바뀌는 매장 기준 데이터(상품, 고객등급, 태그, 문자/예약 설정, 인센티브)의 2단 캐시.
+ *
+ * <p>노드 로컬 맵(L1)을 먼저 보고, 없으면 Redis(L2)의 JSON 을, 그래도 없으면 DB 를 읽어 두 단계에 모두 채운다. 데이터를 바꾸는 커맨드
+ * 서비스가 {@link ReferenceDataChangedEvent}를 발행하면 커밋 이후 L1/L2 를 지우고 Redis 채널로 다른 노드의 L1 도 지운다. TTL 은
+ * 무효화가 유실됐을 때 오래된 값이 남는 시간의 상한이다.
+ *
+ * <p>반환 값은 여러 요청이 공유하므로 호출하는 쪽에서 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache implements MessageListener {
+
+  private static final String KEY_PREFIX = "REF:";
+  private static final String SEPARATOR = "|";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final Environment environment;
+  private final ObjectMapper objectMapper;
+
+  // 자기 노드가 보낸 무효화 메시지를 구분하기 위한 식별자
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<ReferenceCache, Region> regions = new EnumMap<>(ReferenceCache.class);
+
+  @Value("${cache.reference.l1-max-entries:1000}")
+  private int l1MaxEntries;
+
+  @Value("${cache.reference.invalidation-channel:reference-cache:invalidate}")
+  private String invalidationChannel;
+
+  public ReferenceDataCache(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      Environment environment,
+      ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.environment = environment;
+    // 응답 DTO 마다 getter/생성자 모양이 달라 필드 기준으로 직렬화한다
+    this.objectMapper =
+        objectMapper
+            .copy()
+            .setVisibility(PropertyAccessor.GETTER, Visibility.NONE)
+            .setVisibility(PropertyAccessor.IS_GETTER, Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  }
+
+  @PostConstruct
+  void init() {
+    for (ReferenceCache cache : ReferenceCache.values()) {
+      long ttlSeconds =
+          environment.getProperty(
+              "cache.reference.ttl-seconds." + cache.getCacheName(),
+              Long.class,
+              cache.getDefaultTtlSeconds());
+      regions.put(cache, new Region(ttlSeconds, l1MaxEntries));
+    }
+    listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T get(ReferenceCache cache, Long shopId, TypeReference<T> type, Supplier<T> loader) {
+    if (shopId == null) {
+      return loader.get();
+    }
+
+    Region region = regions.get(cache);
+    Object cached = region.entries.getIfPresent(shopId);
+    if (cached != null) {
+      region.l1Hits.increment();
+      return (T) cached;
+    }
+
+    long version = region.version.get();
+    T value = readRemote(cache, shopId, type);
+    if (value != null) {
+      region.l2Hits.increment();
+    } else {
+      region.misses.increment();
+      value = loader.get();
+      if (value == null) {
+        return null;
+      }
+      if (version == region.version.get()) {
+        writeRemote(cache, shopId, value, region.ttlSeconds);
+      }
+    }
+
+    // 조회 중 무효화가 있었다면 오래된 값일 수 있으므로 로컬에 넣지 않는다
+    if (version == region.version.get()) {
+      region.entries.put(shopId, value);
+    }
+    return value;
+  }
+
+  public void evict(ReferenceCache cache, Long shopId) {
+    if (shopId == null) {
+      return;
+    }
+    evictLocal(cache, shopId);
+    try {
+      redisTemplate.delete(redisKey(cache, shopId));
+      redisTemplate.convertAndSend(
+          invalidationChannel, nodeId + SEPARATOR + cache.name() + SEPARATOR + shopId);
+    } catch (RuntimeException e) {
+      log.warn(
+          "기준 데이터 캐시 무효화 전파 실패 - 캐시: {}, 매장ID: {}, 사유: {}",
+          cache.getCacheName(),
+          shopId,
+          e.getMessage());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    log.debug("기준 데이터 캐시 무효화 - 캐시: {}, 매장ID: {}", event.cache().getCacheName(), event.shopId());
+    evict(event.cache(), event.shopId());
+  }
+
+  /** 다른 노드가 보낸 무효화 메시지({@code nodeId|캐시|매장ID})를 받아 로컬 항목만 지운다. */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts =
+        new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+    if (parts.length != 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+    try {
+      evictLocal(ReferenceCache.valueOf(parts[1]), Long.valueOf(parts[2]));
+    } catch (IllegalArgumentException e) {
+      log.warn("알 수 없는 기준 데이터 캐시 무효화 메시지 무시 - {}", Arrays.toString(parts));
+    }
+  }
+
+  public List<ReferenceCacheStats> stats() {
+    return regions.entrySet().stream()
+        .map(entry -> entry.getValue().stats(entry.getKey().getCacheName()))
+        .toList();
+  }
+
+  private void evictLocal(ReferenceCache cache, Long shopId) {
+    Region region = regions.get(cache);
+    region.version.incrementAndGet();
+    if (region.entries.asMap().remove(shopId) != null) {
+      region.evictions.increment();
+    }
+  }
+
+  private <T> T readRemote(ReferenceCache cache, Long shopId, TypeReference<T> type) {
+    try {
+      String json = redisTemplate.opsForValue().get(redisKey(cache, shopId));
+      return json == null ? null : objectMapper.readValue(json, type);
+    } catch (JsonProcessingException | RuntimeException e) {
+      // Redis 장애나 저장 형식 변경 시에는 DB 조회로 넘어간다
+      log.warn(
+          "기준 데이터 캐시 조회 실패 - 캐시: {}, 매장ID: {}, 사유: {}",
+          cache.getCacheName(),
+          shopId,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeRemote(ReferenceCache cache, Long shopId, Object value, long ttlSeconds) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(
+              redisKey(cache, shopId),
+              objectMapper.writeValueAsString(value),
+              Duration.ofSeconds(ttlSeconds));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn(
+          "기준 데이터 캐시 저장 실패 - 캐시: {}, 매장ID: {}, 사유: {}",
+          cache.getCacheName(),
+          shopId,
+          e.getMessage());
+    }
+  }
+
+  private String redisKey(ReferenceCache cache, Long shopId) {
+    return KEY_PREFIX + cache.getCacheName() + ":" + shopId;
+  }
+
+  private static final class Region {
+
+    private final long ttlSeconds;
+    private final Cache<Long, Object> entries;
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // 만료/상한으로 밀려난 항목과 무효화로 지운 항목
+    private final LongAdder evictions = new LongAdder();
+
+    private Region(long ttlSeconds, int maxEntries) {
+      this.ttlSeconds = ttlSeconds;
+      this.entries =
+          Caffeine.newBuilder()
+              .maximumSize(maxEntries)
+              .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+              .<Long, Object>evictionListener((shopId, value, cause) -> evictions.increment())
+              .build();
+    }
+
+    private ReferenceCacheStats stats(String cacheName) {
+      long hits1 = l1Hits.sum();
+      long hits2 = l2Hits.sum();
+      long missCount = misses.sum();
+      long total = hits1 + hits2 + missCount;
+      return new ReferenceCacheStats(
+          cacheName,
+          hits1,
+          hits2,
+          missCount,
+          evictions.sum(),
+          total == 0 ? 0.0 : (double) (hits1 + hits2) / total,
+          (int) entries.estimatedSize(),
+          ttlSeconds);
+    }
+  }
+}
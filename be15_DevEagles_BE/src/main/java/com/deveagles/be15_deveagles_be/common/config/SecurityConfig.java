@@ -1,9 +1,11 @@
 package com.deveagles.be15_deveagles_be.common.config;
 
+import com.deveagles.be15_deveagles_be.common.jwt.AuthPrincipalCache;
 import com.deveagles.be15_deveagles_be.common.jwt.JwtAuthenticationFilter;
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
 import com.deveagles.be15_deveagles_be.common.jwt.RestAccessDeniedHandler;
 import com.deveagles.be15_deveagles_be.common.jwt.RestAuthenticationEntryPoint;
+import com.deveagles.be15_deveagles_be.common.jwt.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +30,8 @@ public class SecurityConfig {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final UserDetailsService userDetailsService;
+  private final AuthPrincipalCache authPrincipalCache;
+  private final TokenBlacklist tokenBlacklist;
   private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
   private final RestAccessDeniedHandler restAccessDeniedHandler;
 
@@ -89,6 +93,7 @@ public class SecurityConfig {
 
   @Bean
   public JwtAuthenticationFilter jwtAuthenticationFilter() {
-    return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+    return new JwtAuthenticationFilter(
+        jwtTokenProvider, userDetailsService, authPrincipalCache, tokenBlacklist);
   }
 }
@@ -0,0 +1,28 @@
+package com.deveagles.be15_deveagles_be.common.controller;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCacheStats;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
+import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "캐시", description = "기준 데이터 캐시 상태 API")
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+public class ReferenceCacheController {
+
+  private final ReferenceDataCache referenceDataCache;
+
+  @Operation(summary = "캐시 통계 조회", description = "이 노드의 캐시별 적중/미스/제거 건수를 조회합니다.")
+  @GetMapping("/stats")
+  public ResponseEntity<ApiResponse<List<ReferenceCacheStats>>> getStats() {
+    return ResponseEntity.ok(ApiResponse.success(referenceDataCache.stats()));
+  }
+}
@@ -0,0 +1,5 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+
+public record ReferenceDataChangedEvent(ReferenceCache cache, Long shopId) {}
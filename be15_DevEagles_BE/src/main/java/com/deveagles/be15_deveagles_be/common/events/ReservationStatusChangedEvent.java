@@ -0,0 +1,14 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+import java.util.List;
+
+/** 한 번의 일괄 변경에서 실제로 상태가 바뀐 예약 목록. 통계, 워크플로우 등은 예약마다가 아니라 이 묶음 단위로 받는다. */
+public record ReservationStatusChangedEvent(Long shopId, List<StatusChange> changes) {
+
+  public record StatusChange(
+      Long reservationId,
+      Long staffId,
+      Long customerId,
+      String previousStatus,
+      String newStatus) {}
+}
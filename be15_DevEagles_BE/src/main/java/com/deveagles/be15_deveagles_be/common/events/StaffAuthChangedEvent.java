@@ -0,0 +1,4 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+/** 직원 정보, 권한, 비밀번호가 바뀌어 캐시된 인증 사용자 정보를 다시 읽어야 함을 알린다. */
+public record StaffAuthChangedEvent(Long staffId) {}
@@ -0,0 +1,3 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+public record StaffLeaveChangedEvent(Long shopId) {}
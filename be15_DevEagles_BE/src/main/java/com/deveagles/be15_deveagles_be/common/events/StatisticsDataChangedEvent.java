@@ -0,0 +1,4 @@
+package com.deveagles.be15_deveagles_be.common.events;
+
+/** 매출이나 예약이 바뀌어 매장의 통계 결과가 달라질 수 있음을 알린다. 통계 결과 캐시의 매장 데이터 버전을 올린다. */
+public record StatisticsDataChangedEvent(Long shopId) {}
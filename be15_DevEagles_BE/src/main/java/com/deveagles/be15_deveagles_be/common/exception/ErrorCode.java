@@ -40,6 +40,7 @@ public enum ErrorCode implements ErrorCodeType {
   CUSTOMER_ACCESS_DENIED("30004", "해당 고객에 대한 접근 권한이 없습니다", HttpStatus.FORBIDDEN),
   CUSTOMER_INVALID_PHONE_NUMBER("30005", "유효하지 않은 전화번호 형식입니다", HttpStatus.BAD_REQUEST),
   CUSTOMER_INVALID_BIRTHDATE("30006", "유효하지 않은 생년월일입니다", HttpStatus.BAD_REQUEST),
+  REINDEX_TASK_NOT_FOUND("30007", "재색인 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
   // 메시지 관련 에러 (40000번대)
   MESSAGE_SETTINGS_ALREADY_EXISTS("40001", "이미 메시지 설정이 존재합니다.", HttpStatus.BAD_REQUEST),
@@ -66,6 +67,7 @@ public enum ErrorCode implements ErrorCodeType {
   WEBSOCKET_INVALID_TOKEN("41002", "WebSocket 연결 실패: 유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED),
   WEBSOCKET_AUTHENTICATION_FAILED(
       "41003", "WebSocket 인증에 실패했습니다. 사용자 정보를 확인할 수 없습니다.", HttpStatus.UNAUTHORIZED),
+  CHAT_INVALID_CURSOR("41004", "유효하지 않은 채팅 메시지 커서입니다.", HttpStatus.BAD_REQUEST),
 
   // 쿠폰 관련 에러 (50000번대)
   COUPON_NOT_FOUND("50001", "쿠폰을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
@@ -107,6 +109,8 @@ public enum ErrorCode implements ErrorCodeType {
   RESERVATION_NOT_FOUND("71001", "예약을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
   MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION(
       "71002", "PAID 상태의 예약은 수정할 수 없습니다", HttpStatus.BAD_REQUEST),
+  INVALID_AVAILABILITY_RANGE("71003", "빈 시간 조회 기간은 시작일부터 31일 이내여야 합니다", HttpStatus.BAD_REQUEST),
+  RESERVATION_TIME_CONFLICT("71004", "담당자의 다른 예약, 일정 또는 휴무와 시간이 겹칩니다", HttpStatus.CONFLICT),
   // 일정 삭제 관련 에러 (72000번대)
   PLAN_NOT_FOUND("72001", "단기 일정이 존재하지 않습니다", HttpStatus.NOT_FOUND),
   REGULAR_PLAN_NOT_FOUND("72002", "정기 일정이 존재하지 않습니다", HttpStatus.NOT_FOUND),
@@ -141,6 +145,11 @@ public enum ErrorCode implements ErrorCodeType {
       "82007", "회원권 유효기간 단위를 입력해주세요.", HttpStatus.BAD_REQUEST),
   CUSTOMERPREPAIDPASS_NOT_FOUND("82008", "고객선불권을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   CUSTOMERSESSIONPASS_NOT_FOUND("82009", "고객횟수권을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+  CUSTOMERPREPAIDPASS_INSUFFICIENT_AMOUNT("82010", "고객선불권 잔액이 부족합니다.", HttpStatus.BAD_REQUEST),
+  CUSTOMERSESSIONPASS_INSUFFICIENT_COUNT("82011", "고객횟수권 잔여 횟수가 부족합니다.", HttpStatus.BAD_REQUEST),
+  CUSTOMERPASS_CONCURRENT_UPDATE(
+      "82012", "조회 이후 회원권이 변경되었습니다. 다시 조회한 뒤 수정해주세요.", HttpStatus.CONFLICT),
+  CUSTOMERSESSIONPASS_INVALID_COUNT("82013", "차감할 횟수는 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
   // 매출 관련 에러 (90000번대)
 
   SALES_RETAILPRICE_REQUIRED("90001", "매출정가를 입력해주세요.", HttpStatus.BAD_REQUEST),
@@ -165,6 +174,9 @@ public enum ErrorCode implements ErrorCodeType {
       "95005", "위험 세그먼트 업데이트에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
   ANALYTICS_INVALID_PARAMETER("95006", "분석 요청 파라미터가 유효하지 않습니다", HttpStatus.BAD_REQUEST),
   ANALYTICS_RESULT_PARSING_FAILED("95007", "분석 결과 파싱에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+
+  // 통계 관련 에러 (96000번대)
+  INVALID_STATISTICS_PERIOD("96001", "통계 조회 시작일과 종료일이 없거나 시작일이 종료일보다 늦습니다", HttpStatus.BAD_REQUEST),
   ;
 
   private final String code;
@@ -0,0 +1,131 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import com.deveagles.be15_deveagles_be.common.events.StaffAuthChangedEvent;
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 토큰 subject(로그인 ID)별 인증 사용자 정보를 짧게 보관해 요청마다 직원 조회를 하지 않도록 한다.
+ *
+ * <p>직원 정보, 권한, 비밀번호가 바뀌면 커밋 이후 해당 직원의 항목을 지우고 Redis 채널로 직원 ID 를 보내 다른 노드의 항목도 지운다. TTL 은
+ * 무효화 메시지가 유실됐을 때 오래된 권한이 남는 시간의 상한이다.
+ */
+@Slf4j
+@Component
+public class AuthPrincipalCache implements MessageListener {
+
+  private static final String SEPARATOR = "|";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  // 자기 노드가 보낸 무효화 메시지를 구분하기 위한 식별자
+  private final String nodeId = UUID.randomUUID().toString();
+
+  @Value("${jwt.principal-cache.ttl-seconds:60}")
+  private long ttlSeconds;
+
+  @Value("${jwt.principal-cache.max-entries:10000}")
+  private int maxEntries;
+
+  @Value("${jwt.principal-cache.invalidation-channel:auth-principal-cache:invalidate}")
+  private String invalidationChannel;
+
+  private Cache<String, UserDetails> cache;
+  private final AtomicLong invalidationVersion = new AtomicLong();
+
+  public AuthPrincipalCache(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  @PostConstruct
+  void init() {
+    cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+  }
+
+  public UserDetails get(String username, Function<String, UserDetails> loader) {
+    UserDetails cached = cache.getIfPresent(username);
+    if (cached != null) {
+      return cached;
+    }
+
+    long version = invalidationVersion.get();
+    UserDetails loaded = loader.apply(username);
+
+    // 로딩 중 무효화가 있었다면 캐시에 넣지 않는다
+    if (loaded != null && version == invalidationVersion.get()) {
+      cache.put(username, loaded);
+    }
+    return loaded;
+  }
+
+  /** 이 노드와 다른 노드에서 직원의 인증 사용자 정보를 지운다. */
+  public void invalidate(Long staffId) {
+    evictLocal(staffId);
+    if (staffId == null) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(invalidationChannel, nodeId + SEPARATOR + staffId);
+    } catch (RuntimeException e) {
+      log.warn("인증 사용자 캐시 무효화 전파 실패 - 직원ID: {}, 사유: {}", staffId, e.getMessage());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStaffAuthChanged(StaffAuthChangedEvent event) {
+    log.debug("인증 사용자 캐시 무효화: staffId={}", event.staffId());
+    invalidate(event.staffId());
+  }
+
+  /** 다른 노드가 보낸 무효화 메시지({@code nodeId|직원ID})를 받아 로컬 항목만 지운다. */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts =
+        new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+    if (parts.length != 2 || nodeId.equals(parts[0])) {
+      return;
+    }
+    try {
+      evictLocal(Long.valueOf(parts[1]));
+    } catch (NumberFormatException e) {
+      log.warn("알 수 없는 인증 사용자 캐시 무효화 메시지 무시 - {}", parts[1]);
+    }
+  }
+
+  private void evictLocal(Long staffId) {
+    invalidationVersion.incrementAndGet();
+    if (staffId != null) {
+      cache
+          .asMap()
+          .values()
+          .removeIf(
+              cached -> cached instanceof CustomUser user && staffId.equals(user.getUserId()));
+    }
+  }
+}
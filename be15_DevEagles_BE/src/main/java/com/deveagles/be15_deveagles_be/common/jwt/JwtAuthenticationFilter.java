@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.common.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final UserDetailsService userDetailsService;
+  private final AuthPrincipalCache authPrincipalCache;
+  private final TokenBlacklist tokenBlacklist;
 
   @Override
   protected void doFilterInternal(
@@ -27,27 +30,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
 
     String token = getJwtFromRequest(request);
-    log.info("[AUTH_FILTER] 요청 헤더 토큰: {}", token);
     try {
-      if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+      if (StringUtils.hasText(token)) {
+        // 서명/만료 검증과 claims 추출을 한 번에
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
 
-        if (jwtTokenProvider.isRefreshToken(token)) {
+        if (jwtTokenProvider.isRefreshToken(claims)) {
           log.warn("# refreshToken으로 접근 시도 차단");
           response.sendError(
               HttpServletResponse.SC_UNAUTHORIZED, "refreshToken은 API 인증에 사용할 수 없습니다.");
           return;
         }
 
-        if (Boolean.TRUE.equals(jwtTokenProvider.isAccessTokenBlacklisted(token))) {
+        if (tokenBlacklist.isBlacklisted(token, claims.getExpiration().getTime())) {
           log.warn("# 블랙리스트 토큰 사용 시도");
           response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.");
           return;
         }
 
-        String username = jwtTokenProvider.getUsernameFromJWT(token);
-        log.info("## user login -> username: {}", username);
+        String username = claims.getSubject();
+        log.debug("## user login -> username: {}", username);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails userDetails =
+            authPrincipalCache.get(username, userDetailsService::loadUserByUsername);
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
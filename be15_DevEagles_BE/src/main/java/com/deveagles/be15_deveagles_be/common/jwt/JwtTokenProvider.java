@@ -16,7 +16,6 @@ import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
@@ -35,8 +34,9 @@ public class JwtTokenProvider {
   private long jwtRefreshExpiration;
 
   private SecretKey secretKey;
+  // 서명 검증 파서는 스레드 안전하므로 한 번만 만든다
+  private JwtParser jwtParser;
 
-  private final RedisTemplate<String, String> redisTemplate;
   private final UserRepository userRepository;
 
   @PostConstruct
@@ -44,6 +44,7 @@ public class JwtTokenProvider {
 
     byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
     secretKey = Keys.hmacShaKeyFor(keyBytes);
+    jwtParser = Jwts.parser().verifyWith(secretKey).build();
   }
 
   public String createToken(String username) {
@@ -113,9 +114,14 @@ public class JwtTokenProvider {
   }
 
   public boolean validateToken(String token) {
+    parseVerifiedClaims(token);
+    return true;
+  }
+
+  // 서명/만료 검증과 claims 추출을 한 번의 파싱으로 처리
+  public Claims parseVerifiedClaims(String token) {
     try {
-      Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-      return true;
+      return jwtParser.parseSignedClaims(token).getPayload();
     } catch (SecurityException | MalformedJwtException e) {
       throw new BadCredentialsException("Invalid JWT Token", e);
     } catch (ExpiredJwtException e) {
@@ -128,9 +134,7 @@ public class JwtTokenProvider {
   }
 
   public String getUsernameFromJWT(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return claims.getSubject();
+    return jwtParser.parseSignedClaims(token).getPayload().getSubject();
   }
 
   public long getRemainingExpiration(String token) {
@@ -140,18 +144,17 @@ public class JwtTokenProvider {
 
   public Claims parseClaims(String token) {
     try {
-      return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+      return jwtParser.parseSignedClaims(token).getPayload();
     } catch (ExpiredJwtException e) {
       return e.getClaims(); // 만료된 토큰도 claims는 꺼낼 수 있음
     }
   }
 
   public boolean isRefreshToken(String token) {
-    Claims claims = parseClaims(token);
-    return "refresh".equals(claims.get("type", String.class));
+    return isRefreshToken(parseClaims(token));
   }
 
-  public boolean isAccessTokenBlacklisted(String token) {
-    return Boolean.TRUE.equals(redisTemplate.hasKey("BL:" + token));
+  public boolean isRefreshToken(Claims claims) {
+    return "refresh".equals(claims.get("type", String.class));
   }
 }
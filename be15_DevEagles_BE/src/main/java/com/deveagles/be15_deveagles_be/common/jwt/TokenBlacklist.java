@@ -0,0 +1,78 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 액세스 토큰 목록. 원본은 Redis 의 {@code BL:<token>} 키이고, 로컬에 조회 결과를 보관해 요청마다 Redis 를 왕복하지 않는다.
+ *
+ * <p>블랙리스트로 확인된 토큰은 만료 시각까지, 블랙리스트가 아닌 토큰은 짧은 시간 동안만 기억한다. 다른 노드에서 로그아웃한 토큰은 최대 그 시간만큼
+ * 늦게 차단된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist {
+
+  private static final String KEY_PREFIX = "BL:";
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  @Value("${jwt.blacklist.negative-ttl-seconds:5}")
+  private long negativeTtlSeconds;
+
+  @Value("${jwt.blacklist.max-entries:100000}")
+  private int maxEntries;
+
+  // 토큰 서명 → 로컬 판단. Redis 가 원본이므로 상한을 넘어 밀려난 판단은 다시 확인하면 된다
+  private Cache<String, Checked> checked;
+
+  @PostConstruct
+  void init() {
+    checked =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(
+                Expiry.creating(
+                    (String key, Checked value) ->
+                        Duration.ofMillis(
+                            Math.max(0, value.untilMillis() - System.currentTimeMillis()))))
+            .build();
+  }
+
+  public void blacklist(String token, Duration remaining) {
+    redisTemplate.opsForValue().set(KEY_PREFIX + token, "logout", remaining);
+    checked.put(
+        localKey(token), new Checked(true, System.currentTimeMillis() + remaining.toMillis()));
+  }
+
+  public boolean isBlacklisted(String token, long expiresAtMillis) {
+    String key = localKey(token);
+    Checked cached = checked.getIfPresent(key);
+    if (cached != null) {
+      return cached.blacklisted();
+    }
+
+    boolean result = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + token));
+    long untilMillis =
+        result
+            ? expiresAtMillis
+            : Math.min(System.currentTimeMillis() + negativeTtlSeconds * 1000, expiresAtMillis);
+    checked.put(key, new Checked(result, untilMillis));
+    return result;
+  }
+
+  // 서명 부분만으로도 토큰이 구분되므로 로컬 키는 서명으로 줄인다
+  private String localKey(String token) {
+    return token.substring(token.lastIndexOf('.') + 1);
+  }
+
+  // 블랙리스트 여부와 그 판단을 믿을 수 있는 시각. 블랙리스트는 토큰 만료까지, 아니면 짧게만 믿는다
+  private record Checked(boolean blacklisted, long untilMillis) {}
+}
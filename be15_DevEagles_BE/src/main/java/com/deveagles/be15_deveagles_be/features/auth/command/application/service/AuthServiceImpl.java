@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.auth.command.application.servic
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.TokenBlacklist;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.CheckEmailRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.EmailVerifyRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.LoginRequest;
@@ -31,6 +32,7 @@ public class AuthServiceImpl implements AuthService {
   private final RefreshTokenService refreshTokenService;
   private final RedisTemplate<String, String> redisTemplate;
   private final MailService mailService;
+  private final TokenBlacklist tokenBlacklist;
 
   @Value("${spring.mail.properties.auth-code-expiration-millis}")
   private long expireMinute;
@@ -105,7 +107,7 @@ public class AuthServiceImpl implements AuthService {
     refreshTokenService.deleteRefreshToken(username);
 
     long remainTime = jwtTokenProvider.getRemainingExpiration(accessToken);
-    redisTemplate.opsForValue().set("BL:" + accessToken, "logout", Duration.ofMillis(remainTime));
+    tokenBlacklist.blacklist(accessToken, Duration.ofMillis(remainTime));
   }
 
   @Override
@@ -0,0 +1,4 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response;
+
+/** 보낸 사람에게 메시지 저장 결과를 알리는 확인 응답. */
+public record ChatMessageAck(String messageId, String chatroomId, boolean persisted) {}
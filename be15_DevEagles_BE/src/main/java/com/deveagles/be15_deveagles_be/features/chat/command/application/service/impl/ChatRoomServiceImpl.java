@@ -9,11 +9,11 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.Ch
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatMessageBroadcaster;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -24,7 +24,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
   private final ChatRoomRepository chatRoomRepository;
   private final ChatMessageRepository chatMessageRepository;
   private final ShopCommandService shopCommandService;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final ChatMessageBroadcaster chatMessageBroadcaster;
 
   @Override
   public ChatRoomCreateResult createChatRoom(Long shopId, Long staffId, String staffName) {
@@ -80,7 +80,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
             .createdAt(message.getCreatedAt())
             .build();
 
-    messagingTemplate.convertAndSend("/sub/chatroom/" + roomId, response);
+    chatMessageBroadcaster.broadcast(roomId, response);
   }
 
   @Override
@@ -111,6 +111,6 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     chatMessageRepository.save(message);
 
-    messagingTemplate.convertAndSend("/sub/chatroom/" + roomId, message);
+    chatMessageBroadcaster.broadcast(roomId, message);
   }
 }
@@ -3,16 +3,18 @@ package com.deveagles.be15_deveagles_be.features.chat.command.application.servic
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.request.ChatMessageRequest;
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageAck;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.application.service.ChatService;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
-import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatMessageBroadcaster;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatMessageWriter;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatRoomExistenceCache;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,44 +22,40 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
-  private final ChatRoomRepository chatRoomRepository;
-  private final ChatMessageRepository chatMessageRepository;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final ChatRoomExistenceCache chatRoomExistenceCache;
+  private final ChatMessageWriter chatMessageWriter;
+  private final ChatMessageBroadcaster chatMessageBroadcaster;
 
   @Override
   public ChatMessageResponse saveMessage(ChatMessageRequest request, Long userId) {
-    // 채팅방 검증
-    ChatRoom chatRoom =
-        chatRoomRepository
-            .findById(request.getRoomId())
-            .orElseThrow(() -> new BusinessException(ErrorCode.CHATROOM_NOT_FOUND));
-
-    // 메시지 저장
-    ChatMessage saved =
-        chatMessageRepository.save(
-            ChatMessage.builder()
-                .chatroomId(chatRoom.getId())
-                .sender(
-                    ChatMessage.Sender.builder().id(userId).name(request.getSenderName()).build())
-                .content(request.getContent())
-                .isCustomer(request.isCustomer())
-                .createdAt(LocalDateTime.now())
-                .build());
-
-    // 응답 DTO 생성
-    ChatMessageResponse response =
-        ChatMessageResponse.builder()
-            .messageId(saved.getId())
-            .chatroomId(saved.getChatroomId())
-            .senderId(saved.getSender().getId())
-            .senderName(saved.getSender().getName())
-            .content(saved.getContent())
-            .isCustomer(saved.isCustomer())
-            .createdAt(saved.getCreatedAt())
+    // 채팅방 검증 (존재 확인 결과는 노드 로컬에 잠시 캐시)
+    if (!chatRoomExistenceCache.exists(request.getRoomId())) {
+      throw new BusinessException(ErrorCode.CHATROOM_NOT_FOUND);
+    }
+
+    // 저장 전에 보낼 수 있도록 ID 를 미리 부여한다 (Mongo 에 저장되는 정밀도에 맞춰 밀리초로 자름)
+    ChatMessage message =
+        ChatMessage.builder()
+            .id(new ObjectId().toHexString())
+            .chatroomId(request.getRoomId())
+            .sender(ChatMessage.Sender.builder().id(userId).name(request.getSenderName()).build())
+            .content(request.getContent())
+            .isCustomer(request.isCustomer())
+            .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
             .build();
-
-    // WebSocket 브로커 전송
-    messagingTemplate.convertAndSend("/sub/chatroom/" + chatRoom.getId(), response);
+    ChatMessageResponse response = ChatMessageResponse.from(message);
+
+    // WebSocket 브로커 전송 (다른 노드의 참여자에게도 중계)
+    chatMessageBroadcaster.broadcast(message.getChatroomId(), response);
+
+    // 메시지 저장은 write-behind 로 처리하고, 기록이 끝나면 보낸 사람에게 확인 응답을 보낸다
+    chatMessageWriter
+        .persist(message)
+        .whenComplete(
+            (ignored, error) ->
+                chatMessageBroadcaster.acknowledge(
+                    userId,
+                    new ChatMessageAck(message.getId(), message.getChatroomId(), error == null)));
 
     return response;
   }
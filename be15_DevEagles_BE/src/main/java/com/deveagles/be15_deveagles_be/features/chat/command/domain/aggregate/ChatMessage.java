@@ -3,9 +3,14 @@ package com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate;
 import jakarta.persistence.Id;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "chat_message")
+// 채팅방별 최신순 커서 조회용 (createdAt 이 같으면 _id 로 순서를 정한다)
+@CompoundIndex(
+    name = "chatroom_created_id_idx",
+    def = "{'chatroomId': 1, 'createdAt': -1, '_id': -1}")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
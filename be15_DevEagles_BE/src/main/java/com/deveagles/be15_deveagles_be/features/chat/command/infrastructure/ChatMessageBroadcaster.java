@@ -0,0 +1,95 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅방 구독자에게 메시지를 보낸다.
+ *
+ * <p>payload 를 한 번만 JSON 으로 직렬화해 이 노드의 simple broker 로 전달하고, 같은 바이트를 {@link ChatRelay}로 다른 노드에도
+ * 중계한다. 어느 노드에 접속한 참여자든 같은 메시지를 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBroadcaster {
+
+  private static final String ROOM_DESTINATION_PREFIX = "/sub/chatroom/";
+  private static final String ACK_DESTINATION = "/sub/chat/ack";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+  private final ChatRelay chatRelay;
+
+  // 자기 노드가 중계한 메시지를 구분하기 위한 식별자
+  private final String nodeId = UUID.randomUUID().toString();
+
+  @PostConstruct
+  void init() {
+    chatRelay.subscribe(this::onRelayed);
+  }
+
+  public void broadcast(String roomId, Object payload) {
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("채팅 메시지를 직렬화할 수 없습니다.", e);
+    }
+
+    String destination = ROOM_DESTINATION_PREFIX + roomId;
+    deliverLocal(destination, json);
+    try {
+      chatRelay.publish(
+          objectMapper.writeValueAsString(new RelayedMessage(nodeId, destination, json)));
+    } catch (JsonProcessingException | RuntimeException e) {
+      // 중계가 실패해도 이 노드의 참여자에게는 이미 전달됐다
+      log.warn("채팅 메시지 중계 실패 - destination: {}, 사유: {}", destination, e.getMessage());
+    }
+  }
+
+  /**
+   * 보낸 사람의 세션에만 확인 응답을 보낸다. 메시지를 받은 노드에 보낸 사람이 접속해 있으므로 중계하지 않는다.
+   *
+   * <p>클라이언트는 {@code /user/sub/chat/ack}를 구독한다.
+   */
+  public void acknowledge(Long userId, Object ack) {
+    messagingTemplate.convertAndSendToUser(String.valueOf(userId), ACK_DESTINATION, ack);
+  }
+
+  private void onRelayed(String message) {
+    RelayedMessage relayed;
+    try {
+      relayed = objectMapper.readValue(message, RelayedMessage.class);
+    } catch (JsonProcessingException e) {
+      log.warn("알 수 없는 채팅 중계 메시지 무시 - 사유: {}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(relayed.nodeId())) {
+      return;
+    }
+    deliverLocal(relayed.destination(), relayed.payload());
+  }
+
+  private void deliverLocal(String destination, String json) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    accessor.setLeaveMutable(true);
+    messagingTemplate.send(
+        destination,
+        MessageBuilder.createMessage(
+            json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+  }
+
+  private record RelayedMessage(String nodeId, String destination, String payload) {}
+}
@@ -0,0 +1,195 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 write-behind 저장기.
+ *
+ * <p>메시지를 크기가 제한된 큐에 넣고 전용 스레드가 쌓인 만큼 한 번에 꺼내 일괄 insert 한다. 몰릴수록 한 번에 쓰는 건수가 늘어나고, 한가할 때는
+ * 기다리지 않고 바로 쓴다. 일괄 저장이 실패하면 건별 save(미리 부여한 ID 기준이라 중복 저장되지 않음)로 재시도한다.
+ *
+ * <p>{@link #persist}가 돌려주는 future 는 DB 에 기록된 뒤에 완료된다. 큐가 계속 가득 차 있거나 종료 중이면 호출 스레드에서 바로 저장하고,
+ * 종료 시에는 큐에 남은 메시지를 모두 쓴 뒤 멈춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+  private final ChatMessageRepository chatMessageRepository;
+
+  @Value("${chat.persistence.queue-capacity:10000}")
+  private int queueCapacity;
+
+  @Value("${chat.persistence.batch-size:200}")
+  private int batchSize;
+
+  @Value("${chat.persistence.poll-interval-ms:100}")
+  private long pollIntervalMillis;
+
+  @Value("${chat.persistence.enqueue-timeout-ms:200}")
+  private long enqueueTimeoutMillis;
+
+  @Value("${chat.persistence.max-attempts:3}")
+  private int maxAttempts;
+
+  @Value("${chat.persistence.retry-backoff-ms:100}")
+  private long retryBackoffMillis;
+
+  private final LongAdder persisted = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final AtomicLong lastLagMillis = new AtomicLong();
+  private final AtomicLong maxLagMillis = new AtomicLong();
+
+  private BlockingQueue<PendingWrite> queue;
+  private ThreadPoolTaskExecutor worker;
+  private volatile boolean running;
+
+  @PostConstruct
+  void init() {
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    running = true;
+    worker = new ThreadPoolTaskExecutor();
+    worker.setCorePoolSize(1);
+    worker.setMaxPoolSize(1);
+    worker.setThreadNamePrefix("chat-writer-");
+    worker.setWaitForTasksToCompleteOnShutdown(true);
+    worker.setAwaitTerminationSeconds(30);
+    worker.initialize();
+    worker.execute(this::run);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    running = false;
+    worker.shutdown();
+    // 작업 스레드가 멈춘 뒤 들어온 메시지까지 마저 쓴다
+    List<PendingWrite> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      write(remaining);
+    }
+  }
+
+  /**
+   * 메시지 저장을 예약한다.
+   *
+   * @return 저장이 끝나면 완료되고, 재시도까지 실패하면 예외로 완료되는 future
+   */
+  public CompletableFuture<Void> persist(ChatMessage message) {
+    PendingWrite pending = new PendingWrite(message, System.nanoTime(), new CompletableFuture<>());
+    if (!running || !offer(pending)) {
+      log.debug("채팅 저장 큐를 사용할 수 없어 바로 저장 - messageId: {}", message.getId());
+      write(List.of(pending));
+    }
+    return pending.done();
+  }
+
+  public ChatPersistenceStats stats() {
+    PendingWrite oldest = queue.peek();
+    return new ChatPersistenceStats(
+        queue.size(),
+        queueCapacity,
+        oldest == null ? 0 : elapsedMillis(oldest),
+        persisted.sum(),
+        failed.sum(),
+        batches.sum(),
+        lastLagMillis.get(),
+        maxLagMillis.get());
+  }
+
+  private boolean offer(PendingWrite pending) {
+    try {
+      return queue.offer(pending, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void run() {
+    List<PendingWrite> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingWrite first = queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<PendingWrite> batch) {
+    try {
+      chatMessageRepository.insert(batch.stream().map(PendingWrite::message).toList());
+      batches.increment();
+      batch.forEach(this::complete);
+    } catch (RuntimeException e) {
+      log.warn("채팅 메시지 일괄 저장 실패, 건별 저장으로 재시도 - 건수: {}, 사유: {}", batch.size(), e.getMessage());
+      batch.forEach(this::writeOne);
+    }
+  }
+
+  private void writeOne(PendingWrite pending) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        chatMessageRepository.save(pending.message());
+        complete(pending);
+        return;
+      } catch (RuntimeException e) {
+        if (attempt >= maxAttempts) {
+          failed.increment();
+          log.error(
+              "채팅 메시지 저장 실패 - messageId: {}, chatroomId: {}, 사유: {}",
+              pending.message().getId(),
+              pending.message().getChatroomId(),
+              e.getMessage());
+          pending.done().completeExceptionally(e);
+          return;
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis * attempt));
+      }
+    }
+  }
+
+  private void complete(PendingWrite pending) {
+    long lag = elapsedMillis(pending);
+    lastLagMillis.set(lag);
+    maxLagMillis.accumulateAndGet(lag, Math::max);
+    persisted.increment();
+    pending.done().complete(null);
+  }
+
+  private long elapsedMillis(PendingWrite pending) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.enqueuedAtNanos());
+  }
+
+  private record PendingWrite(
+      ChatMessage message, long enqueuedAtNanos, CompletableFuture<Void> done) {}
+}
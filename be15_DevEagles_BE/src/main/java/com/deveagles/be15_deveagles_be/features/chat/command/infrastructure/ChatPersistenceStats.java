@@ -0,0 +1,11 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+public record ChatPersistenceStats(
+    int queueDepth,
+    int queueCapacity,
+    long oldestPendingMillis,
+    long persisted,
+    long failed,
+    long batches,
+    long lastLagMillis,
+    long maxLagMillis) {}
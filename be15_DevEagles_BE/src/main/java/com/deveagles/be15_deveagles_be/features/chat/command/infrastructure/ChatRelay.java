@@ -0,0 +1,14 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채팅 메시지 중계 통로. 각 노드의 STOMP 세션은 로컬 simple broker 가 관리하고, 이 통로로 받은 메시지를 다시 로컬 구독자에게
+ * 전달한다.
+ */
+public interface ChatRelay {
+
+  void publish(String message);
+
+  void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,54 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 전송마다 채팅방을 조회하지 않도록 존재 확인 결과를 노드 로컬에 잠시 보관한다.
+ *
+ * <p>채팅방은 만들어진 뒤 지워지지 않으므로 존재하는 방만 캐시하고, 없는 방은 매번 다시 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomExistenceCache {
+
+  private final ChatRoomRepository chatRoomRepository;
+
+  @Value("${chat.persistence.room-cache-ttl-seconds:300}")
+  private long ttlSeconds;
+
+  @Value("${chat.persistence.room-cache-max-entries:10000}")
+  private int maxEntries;
+
+  // 존재가 확인된 roomId
+  private Cache<String, Boolean> knownRooms;
+
+  @PostConstruct
+  void init() {
+    knownRooms =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+  }
+
+  public boolean exists(String roomId) {
+    if (roomId == null) {
+      return false;
+    }
+    if (knownRooms.getIfPresent(roomId) != null) {
+      return true;
+    }
+    if (!chatRoomRepository.existsById(roomId)) {
+      return false;
+    }
+    knownRooms.put(roomId, Boolean.TRUE);
+    return true;
+  }
+}
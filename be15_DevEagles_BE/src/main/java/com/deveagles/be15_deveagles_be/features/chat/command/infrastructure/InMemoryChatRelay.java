@@ -0,0 +1,28 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 JVM 안에서만 중계하는 대체 구현. 단일 노드 실행이나 테스트에서 Redis 없이 사용하며, 테스트에서는 하나의 인스턴스를 여러 브로드캐스터가 공유해
+ * 다중 노드를 흉내 낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.broker.relay", havingValue = "in-memory")
+public class InMemoryChatRelay implements ChatRelay {
+
+  private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(String message) {
+    listeners.forEach(listener -> listener.accept(message));
+  }
+
+  @Override
+  public void subscribe(Consumer<String> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,37 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/** Redis pub/sub 로 채팅 메시지를 모든 노드에 중계한다 (기본 모드). */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.relay", havingValue = "redis", matchIfMissing = true)
+public class RedisChatRelay implements ChatRelay {
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  @Value("${chat.broker.relay-channel:chat:relay}")
+  private String relayChannel;
+
+  @Override
+  public void publish(String message) {
+    redisTemplate.convertAndSend(relayChannel, message);
+  }
+
+  @Override
+  public void subscribe(Consumer<String> listener) {
+    listenerContainer.addMessageListener(
+        (message, pattern) ->
+            listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(relayChannel));
+  }
+}
@@ -22,6 +22,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
+    // 세션 구독은 노드별 simple broker 가 관리하고, 노드 간 전달은 ChatMessageBroadcaster 가 중계한다
     registry.enableSimpleBroker("/sub");
     registry.setApplicationDestinationPrefixes("/pub");
   }
@@ -1,17 +1,19 @@
 package com.deveagles.be15_deveagles_be.features.chat.query.controller;
 
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
-import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatMessageWriter;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatPersistenceStats;
+import com.deveagles.be15_deveagles_be.features.chat.query.dto.response.ChatMessagePageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.query.service.ChatMessageQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "채팅 메시지 조회", description = "채팅 메시지 조회 API")
@@ -21,20 +23,37 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatMessageQueryController {
 
   private final ChatMessageQueryService chatMessageQueryService;
+  private final ChatMessageWriter chatMessageWriter;
 
-  @Operation(summary = "채팅 메시지 조회", description = "특정 채팅방의 모든 메시지를 시간순으로 조회합니다.")
+  @Operation(
+      summary = "채팅 메시지 조회",
+      description = "특정 채팅방의 메시지를 최근 것부터 페이지 단위로 조회합니다. 페이지 안의 메시지는 시간순입니다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
         description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "유효하지 않은 커서"),
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "404",
         description = "채팅방을 찾을 수 없음")
   })
   @GetMapping("/{roomId}/messages")
-  public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getMessages(
-      @PathVariable String roomId) {
-    List<ChatMessageResponse> messages = chatMessageQueryService.getMessagesByRoomId(roomId);
+  public ResponseEntity<ApiResponse<ChatMessagePageResponse>> getMessages(
+      @PathVariable String roomId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size) {
+    ChatMessagePageResponse messages =
+        chatMessageQueryService.getMessagesByRoomId(roomId, cursor, size);
     return ResponseEntity.ok(ApiResponse.success(messages));
   }
+
+  @Operation(
+      summary = "채팅 메시지 저장 현황 조회",
+      description = "이 노드의 저장 대기 큐 길이, 저장 지연, 저장/실패 건수를 조회합니다.")
+  @GetMapping("/persistence/stats")
+  public ResponseEntity<ApiResponse<ChatPersistenceStats>> getPersistenceStats() {
+    return ResponseEntity.ok(ApiResponse.success(chatMessageWriter.stats()));
+  }
 }
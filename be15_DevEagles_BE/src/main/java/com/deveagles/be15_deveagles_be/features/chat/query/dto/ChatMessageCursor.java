@@ -0,0 +1,39 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.dto;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/** 메시지 이력 페이지 커서. 클라이언트에는 "createdAt|id" 를 URL-safe Base64 로 인코딩한 문자열로 전달한다. */
+public record ChatMessageCursor(LocalDateTime createdAt, String id) {
+
+  private static final String SEPARATOR = "|";
+
+  public static ChatMessageCursor of(ChatMessage message) {
+    return new ChatMessageCursor(message.getCreatedAt(), message.getId());
+  }
+
+  public static ChatMessageCursor decode(String cursor) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf(SEPARATOR);
+      if (separator <= 0 || separator == decoded.length() - 1) {
+        throw new BusinessException(ErrorCode.CHAT_INVALID_CURSOR);
+      }
+      return new ChatMessageCursor(
+          LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BusinessException(ErrorCode.CHAT_INVALID_CURSOR);
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+}
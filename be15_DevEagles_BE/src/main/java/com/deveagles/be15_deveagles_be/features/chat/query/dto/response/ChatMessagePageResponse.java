@@ -0,0 +1,18 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.dto.response;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageResponse {
+  private List<ChatMessageResponse> messages; // 페이지 안에서는 시간순
+  private String nextCursor; // 더 이전 메시지를 조회할 때 전달 (없으면 null)
+  private boolean hasNext;
+}
@@ -0,0 +1,17 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.repository;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatMessageCursorRepository {
+
+  /**
+   * 커서(createdAt, id) 보다 이전 메시지를 최신순으로 조회한다.
+   *
+   * @param createdAt 커서 메시지의 생성 시각 (null 이면 가장 최근 메시지부터)
+   * @param id 커서 메시지의 ID (createdAt 이 같은 메시지의 순서를 정한다)
+   */
+  List<ChatMessage> findPageBefore(
+      String chatroomId, LocalDateTime createdAt, String id, int limit);
+}
@@ -0,0 +1,34 @@
+package com.deveagles.be15_deveagles_be.features.chat.query.repository;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor
+public class ChatMessageCursorRepositoryImpl implements ChatMessageCursorRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public List<ChatMessage> findPageBefore(
+      String chatroomId, LocalDateTime createdAt, String id, int limit) {
+    Criteria criteria = Criteria.where("chatroomId").is(chatroomId);
+    if (createdAt != null) {
+      // (chatroomId, createdAt desc, _id desc) 인덱스를 따라 커서 이후 구간만 읽는다
+      criteria.orOperator(
+          Criteria.where("createdAt").lt(createdAt),
+          Criteria.where("createdAt").is(createdAt).and("id").lt(id));
+    }
+
+    Query query =
+        Query.query(criteria)
+            .with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+            .limit(limit);
+    return mongoTemplate.find(query, ChatMessage.class);
+  }
+}
@@ -1,8 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.chat.query.service;
 
-import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
-import java.util.List;
+import com.deveagles.be15_deveagles_be.features.chat.query.dto.response.ChatMessagePageResponse;
 
 public interface ChatMessageQueryService {
-  List<ChatMessageResponse> getMessagesByRoomId(String roomId);
+  ChatMessagePageResponse getMessagesByRoomId(String roomId, String cursor, int size);
 }
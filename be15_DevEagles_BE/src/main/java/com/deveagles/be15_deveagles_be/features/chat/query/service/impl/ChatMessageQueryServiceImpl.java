@@ -2,9 +2,14 @@ package com.deveagles.be15_deveagles_be.features.chat.query.service.impl;
 
 import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.query.dto.ChatMessageCursor;
+import com.deveagles.be15_deveagles_be.features.chat.query.dto.response.ChatMessagePageResponse;
 import com.deveagles.be15_deveagles_be.features.chat.query.repository.ChatMessageQueryRepository;
 import com.deveagles.be15_deveagles_be.features.chat.query.service.ChatMessageQueryService;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,15 +17,39 @@ public class ChatMessageQueryServiceImpl implements ChatMessageQueryService {
 
   private final ChatMessageQueryRepository chatMessageQueryRepository;
 
+  @Value("${chat.history.default-page-size:50}")
+  private int defaultPageSize;
+
+  @Value("${chat.history.max-page-size:100}")
+  private int maxPageSize;
+
   public ChatMessageQueryServiceImpl(ChatMessageQueryRepository chatMessageQueryRepository) {
     this.chatMessageQueryRepository = chatMessageQueryRepository;
   }
 
   @Override
-  public List<ChatMessageResponse> getMessagesByRoomId(String roomId) {
-    List<ChatMessage> messages =
-        chatMessageQueryRepository.findByChatroomIdOrderByCreatedAtAsc(roomId);
+  public ChatMessagePageResponse getMessagesByRoomId(String roomId, String cursor, int size) {
+    int pageSize = size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+    ChatMessageCursor before =
+        cursor == null || cursor.isBlank() ? null : ChatMessageCursor.decode(cursor);
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+    List<ChatMessage> latestFirst =
+        chatMessageQueryRepository.findPageBefore(
+            roomId,
+            before == null ? null : before.createdAt(),
+            before == null ? null : before.id(),
+            pageSize + 1);
+    boolean hasNext = latestFirst.size() > pageSize;
+    List<ChatMessage> page =
+        new ArrayList<>(hasNext ? latestFirst.subList(0, pageSize) : latestFirst);
 
-    return messages.stream().map(ChatMessageResponse::from).toList();
+    String nextCursor = hasNext ? ChatMessageCursor.of(page.get(page.size() - 1)).encode() : null;
+    Collections.reverse(page);
+    return ChatMessagePageResponse.builder()
+        .messages(page.stream().map(ChatMessageResponse::from).toList())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
   }
 }
@@ -0,0 +1,58 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 고객 검색 인덱스 동기화 아웃박스. 고객/태그/등급 변경과 같은 트랜잭션에서 기록되고, 릴레이가 고객 단위로 병합해 Elasticsearch 에
+ * 반영한 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "customer_search_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CustomerSearchOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "outbox_id")
+  private Long id;
+
+  @Column(name = "customer_id", nullable = false)
+  private Long customerId;
+
+  @Column(name = "shop_id", nullable = false)
+  private Long shopId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Builder.Default
+  @ColumnDefault("0")
+  @Column(name = "attempts", nullable = false)
+  private Integer attempts = 0;
+
+  /** 지수 백오프로 다음 시도 시각을 미룬다. */
+  public void scheduleRetry(LocalDateTime now, long baseSeconds, long maxSeconds) {
+    int current = attempts == null ? 0 : attempts;
+    long delay = Math.min(maxSeconds, baseSeconds << Math.min(current, 20));
+    this.attempts = current + 1;
+    this.nextAttemptAt = now.plusSeconds(delay);
+  }
+}
@@ -0,0 +1,16 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerSearchOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CustomerSearchOutboxRepository extends JpaRepository<CustomerSearchOutbox, Long> {
+
+  List<CustomerSearchOutbox> findByNextAttemptAtLessThanEqualOrderByIdAsc(
+      LocalDateTime now, Limit limit);
+
+  Optional<CustomerSearchOutbox> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,222 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 검색 인덱스의 버전 관리. {@code customers}는 alias 로 운영하고 재색인은 {@code customers_v<시각>} 인덱스에 만든 뒤 alias 를
+ * 원자적으로 옮긴다.
+ *
+ * <p>문서는 외부 버전(version_type=external)으로 쓴다. 증분 동기화는 아웃박스 ID 를, 재색인 스냅샷은 {@link #SNAPSHOT_VERSION}
+ * 을 버전으로 쓰므로 스냅샷을 읽은 뒤 색인하기까지의 사이에 반영된 증분 변경을 오래된 스냅샷 문서가 덮어쓰지 못한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerIndexManager {
+
+  public static final String ALIAS = "customers";
+
+  // 재색인으로 만드는 중인 인덱스를 가리키는 alias. 어느 노드의 릴레이든 ES 에서 조회해 증분 변경을 함께 쓴다
+  public static final String REINDEX_ALIAS = "customers_reindex";
+
+  /** 재색인 스냅샷 문서의 버전. 아웃박스 ID(1 이상)를 버전으로 쓰는 증분 문서보다 항상 낮다. */
+  public static final long SNAPSHOT_VERSION = 0L;
+
+  private static final int VERSION_CONFLICT = 409;
+
+  private static final DateTimeFormatter VERSION_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  /** 현재 인덱스의 분석기 설정과 매핑을 그대로 복사해 새 버전 인덱스를 만든다. */
+  public String createVersionedIndex() {
+    String indexName = ALIAS + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+    IndexOperations target = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+
+    Set<String> currentIndices = currentIndices();
+    Map<String, Object> settings;
+    Document mapping;
+    if (!currentIndices.isEmpty()) {
+      IndexOperations current =
+          elasticsearchOperations.indexOps(IndexCoordinates.of(currentIndices.iterator().next()));
+      settings = copyableSettings(current.getSettings());
+      mapping = Document.from(current.getMapping());
+    } else {
+      settings = elasticsearchOperations.indexOps(CustomerDocument.class).createSettings();
+      mapping = elasticsearchOperations.indexOps(CustomerDocument.class).createMapping();
+    }
+
+    target.create(settings, mapping);
+    target.alias(
+        new AliasActions(
+            new AliasAction.Add(
+                AliasActionParameters.builder()
+                    .withIndices(indexName)
+                    .withAliases(REINDEX_ALIAS)
+                    .build())));
+    log.info("고객 검색 인덱스 생성: {}", indexName);
+    return indexName;
+  }
+
+  /**
+   * bulk API 로 문서를 외부 버전과 함께 색인하고 실패한 문서 ID 를 반환한다. 버전 충돌은 같은 문서의 더 새로운 버전이 이미 색인된 것이므로 실패로 보지
+   * 않는다. 재색인 중에는 refresh 를 하지 않으며 alias 전환 전에 {@link #refresh} 로 한 번만 반영한다.
+   */
+  public Set<String> bulkIndex(String indexName, List<VersionedDocument> documents) {
+    if (documents.isEmpty()) {
+      return Set.of();
+    }
+    List<IndexQuery> queries =
+        documents.stream()
+            .map(
+                doc ->
+                    new IndexQueryBuilder()
+                        .withId(doc.document().getId())
+                        .withObject(doc.document())
+                        .withVersion(doc.version())
+                        .build())
+            .toList();
+    try {
+      elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(indexName));
+      return Set.of();
+    } catch (BulkFailureException e) {
+      Set<String> failed =
+          e.getFailedDocuments().entrySet().stream()
+              .filter(failure -> !isVersionConflict(failure.getValue()))
+              .map(Map.Entry::getKey)
+              .collect(Collectors.toSet());
+      if (!failed.isEmpty()) {
+        log.warn("고객 문서 bulk 색인 일부 실패: index={}, 실패={}건", indexName, failed.size());
+      }
+      return failed;
+    }
+  }
+
+  public void deleteDocument(String indexName, String documentId) {
+    elasticsearchOperations.delete(documentId, IndexCoordinates.of(indexName));
+  }
+
+  /**
+   * 증분 동기화가 써야 할 인덱스. 평소에는 alias 하나, 재색인 중에는 {@link #REINDEX_ALIAS} 가 가리키는 인덱스까지. 재색인을 시작한
+   * 노드가 아니어도 ES 에서 조회하므로 모든 노드의 증분 변경이 새 인덱스에 반영된다.
+   */
+  public List<String> liveWriteTargets() {
+    List<String> targets = new ArrayList<>();
+    targets.add(ALIAS);
+    targets.addAll(aliasIndices(REINDEX_ALIAS));
+    return targets;
+  }
+
+  public void refresh(String indexName) {
+    elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).refresh();
+  }
+
+  /**
+   * alias 를 새 인덱스로 원자적으로 옮기고, 재색인 alias 와 이전 버전 인덱스를 같은 요청에서 제거한다. alias 도입 전
+   * {@code customers}가 실제 인덱스인 경우에도 remove_index 액션으로 한 번에 교체되므로 검색이 비는 구간이 없다.
+   */
+  public void switchAlias(String newIndexName) {
+    AliasActions actions =
+        new AliasActions(
+            new AliasAction.Add(
+                AliasActionParameters.builder()
+                    .withIndices(newIndexName)
+                    .withAliases(ALIAS)
+                    .build()),
+            new AliasAction.Remove(
+                AliasActionParameters.builder()
+                    .withIndices(newIndexName)
+                    .withAliases(REINDEX_ALIAS)
+                    .build()));
+
+    currentIndices().stream()
+        .filter(index -> !index.equals(newIndexName))
+        .forEach(
+            index ->
+                actions.add(
+                    new AliasAction.RemoveIndex(
+                        AliasActionParameters.builder().withIndices(index).build())));
+
+    elasticsearchOperations.indexOps(IndexCoordinates.of(newIndexName)).alias(actions);
+    log.info("고객 검색 alias 전환 완료: {} -> {}", ALIAS, newIndexName);
+  }
+
+  public void deleteIndex(String indexName) {
+    elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).delete();
+  }
+
+  /** alias 가 가리키는 실제 인덱스들. alias 도입 전이라면 customers 인덱스 자신, 아무것도 없으면 빈 집합. */
+  private Set<String> currentIndices() {
+    IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+    if (!aliasOps.exists()) {
+      return Set.of();
+    }
+    try {
+      Map<String, Set<AliasData>> aliases = aliasOps.getAliases(ALIAS);
+      if (!aliases.isEmpty()) {
+        return aliases.keySet();
+      }
+    } catch (Exception e) {
+      log.debug("customers alias 조회 실패, 실제 인덱스로 간주: {}", e.getMessage());
+    }
+    return Set.of(ALIAS);
+  }
+
+  private boolean isVersionConflict(BulkFailureException.FailureDetails details) {
+    return details != null
+        && details.status() != null
+        && details.status() == VERSION_CONFLICT;
+  }
+
+  private Set<String> aliasIndices(String alias) {
+    IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+    if (!aliasOps.exists()) {
+      return Set.of();
+    }
+    return aliasOps.getAliases(alias).keySet();
+  }
+
+  private Map<String, Object> copyableSettings(Settings settings) {
+    Map<String, Object> copy = new HashMap<>();
+    settings
+        .flatten()
+        .forEach(
+            (key, value) -> {
+              // uuid, creation_date 등 인덱스 고유 설정은 제외
+              if (key.startsWith("index.analysis.")
+                  || key.equals("index.number_of_shards")
+                  || key.equals("index.number_of_replicas")
+                  || key.equals("index.max_ngram_diff")) {
+                copy.put(key, value);
+              }
+            });
+    return copy;
+  }
+
+  /** 외부 버전을 붙인 색인 문서. */
+  public record VersionedDocument(CustomerDocument document, long version) {}
+}
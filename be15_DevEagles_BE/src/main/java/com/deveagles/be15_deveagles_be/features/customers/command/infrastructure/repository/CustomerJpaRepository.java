@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.customers.command.infrastructur
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +16,12 @@ public interface CustomerJpaRepository extends JpaRepository<Customer, Long> {
 
   List<Customer> findByShopIdAndDeletedAtIsNull(Long shopId, Pageable pageable);
 
+  // 재색인용 키셋 조회 (customer_id 오름차순, OFFSET 없음)
+  List<Customer> findByShopIdAndDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(
+      Long shopId, Long lastCustomerId, Limit limit);
+
+  long countByDeletedAtIsNull();
+
   Optional<Customer> findByPhoneNumberAndShopIdAndDeletedAtIsNull(String phoneNumber, Long shopId);
 
   boolean existsByPhoneNumberAndShopIdAndDeletedAtIsNull(String phoneNumber, Long shopId);
@@ -0,0 +1,27 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 엔티티가 저장/수정/삭제될 때마다 아웃박스를 남긴다. 서비스마다 동기화 호출을 넣지 않아도 모든 쓰기 경로가 검색 인덱스에 반영된다.
+ *
+ * <p>도메인 엔티티가 이 클래스를 알지 않도록 {@code META-INF/orm.xml} 에서 {@link Customer} 에 연결한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerSearchOutboxListener {
+
+  private final CustomerSearchOutboxWriter customerSearchOutboxWriter;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  void onChange(Customer customer) {
+    customerSearchOutboxWriter.enqueue(customer.getId(), customer.getShopId());
+  }
+}
@@ -0,0 +1,44 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 고객 검색 아웃박스 기록. JPA flush 도중(엔티티 리스너)에도 호출되므로 영속성 컨텍스트를 거치지 않고 현재 트랜잭션의 커넥션으로 바로
+ * INSERT 한다. 변경과 아웃박스가 함께 커밋/롤백되도록 트랜잭션 밖 호출은 허용하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CustomerSearchOutboxWriter {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO customer_search_outbox (customer_id, shop_id, created_at, next_attempt_at,"
+          + " attempts) VALUES (?, ?, ?, ?, 0)";
+
+  private static final String INSERT_BY_GRADE_SQL =
+      "INSERT INTO customer_search_outbox (customer_id, shop_id, created_at, next_attempt_at,"
+          + " attempts) SELECT customer_id, shop_id, ?, ?, 0 FROM customer"
+          + " WHERE customer_grade_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void enqueue(Long customerId, Long shopId) {
+    if (customerId == null || shopId == null) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.update(INSERT_SQL, customerId, shopId, now, now);
+  }
+
+  /** 등급명이 바뀌거나 등급이 삭제되면 해당 등급 고객 문서를 모두 다시 색인한다. */
+  public int enqueueByGrade(Long customerGradeId) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    return jdbcTemplate.update(INSERT_BY_GRADE_SQL, now, now, customerGradeId);
+  }
+}
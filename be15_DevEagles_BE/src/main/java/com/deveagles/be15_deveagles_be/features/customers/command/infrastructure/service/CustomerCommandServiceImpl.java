@@ -10,7 +10,6 @@ import com.deveagles.be15_deveagles_be.features.customers.command.application.se
 import com.deveagles.be15_deveagles_be.features.customers.command.application.service.CustomerTagService;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
-import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.AutomaticMessageTriggerService;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.AutomaticEventType;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +25,6 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomerCommandServiceImpl implements CustomerCommandService {
 
   private final CustomerRepository customerRepository;
-  private final CustomerQueryService customerQueryService;
   private final AutomaticMessageTriggerService automaticMessageTriggerService;
   private final CustomerTagService customerTagService;
 
@@ -50,7 +48,6 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
             .build();
 
     Customer savedCustomer = customerRepository.save(customer);
-    customerQueryService.syncCustomerToElasticsearch(savedCustomer.getId());
 
     if (request.tags() != null && !request.tags().isEmpty()) {
       request
@@ -101,9 +98,6 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
 
     Customer updatedCustomer = customerRepository.save(customer);
 
-    // Elasticsearch 동기화
-    customerQueryService.syncCustomerToElasticsearch(updatedCustomer.getId());
-
     log.info("고객 정보 수정됨: ID={}, 이름={}", updatedCustomer.getId(), updatedCustomer.getCustomerName());
 
     return CustomerCommandResponse.from(updatedCustomer);
@@ -119,9 +113,6 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
     customer.softDelete();
     customerRepository.save(customer);
     log.info("고객 삭제됨: ID={}, 매장ID={}", customerId, shopId);
-
-    // Elasticsearch 동기화
-    customerQueryService.syncCustomerToElasticsearch(customerId);
   }
 
   @Override
@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.CreateCustomerGradeRequest;
@@ -7,8 +9,10 @@ import com.deveagles.be15_deveagles_be.features.customers.command.application.dt
 import com.deveagles.be15_deveagles_be.features.customers.command.application.service.CustomerGradeCommandService;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandService {
 
   private final CustomerGradeRepository customerGradeRepository;
+  private final CustomerSearchOutboxWriter customerSearchOutboxWriter;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public Long createCustomerGrade(CreateCustomerGradeRequest request) {
@@ -36,6 +42,7 @@ public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandServ
             .build();
 
     CustomerGrade savedGrade = customerGradeRepository.save(customerGrade);
+    publishGradesChanged(request.getShopId());
 
     log.info(
         "고객등급 생성 완료 - ID: {}, 매장ID: {}, 등급명: {}, 할인율: {}%",
@@ -64,6 +71,12 @@ public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandServ
     customerGrade.updateGradeName(request.getCustomerGradeName());
     customerGrade.updateDiscountRate(request.getDiscountRate());
 
+    // 검색 문서에는 등급명만 들어가므로 이름이 바뀐 경우에만 재색인
+    if (!oldGradeName.equals(request.getCustomerGradeName())) {
+      customerSearchOutboxWriter.enqueueByGrade(gradeId);
+    }
+    publishGradesChanged(request.getShopId());
+
     log.info(
         "고객등급 수정 완료 - ID: {}, 매장ID: {}, 등급명: {} -> {}, 할인율: {}% -> {}%",
         gradeId,
@@ -80,10 +93,17 @@ public class CustomerGradeCommandServiceImpl implements CustomerGradeCommandServ
 
     CustomerGrade customerGrade = findCustomerGradeById(gradeId);
     customerGradeRepository.delete(customerGrade);
+    customerSearchOutboxWriter.enqueueByGrade(gradeId);
+    publishGradesChanged(customerGrade.getShopId());
 
     log.info("고객등급 삭제 완료 - ID: {}, 등급명: {}", gradeId, customerGrade.getCustomerGradeName());
   }
 
+  private void publishGradesChanged(Long shopId) {
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.CUSTOMER_GRADES, shopId));
+  }
+
   private CustomerGrade findCustomerGradeById(Long gradeId) {
     return customerGradeRepository
         .findById(gradeId)
@@ -7,6 +7,7 @@ import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggrega
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagByCustomerRepository;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ public class CustomerTagServiceImpl implements CustomerTagService {
   private final TagByCustomerRepository tagByCustomerRepository;
   private final CustomerRepository customerRepository;
   private final TagRepository tagRepository;
+  private final CustomerSearchOutboxWriter customerSearchOutboxWriter;
 
   @Override
   public void addTagToCustomer(Long customerId, Long tagId, Long shopId) {
@@ -38,6 +40,7 @@ public class CustomerTagServiceImpl implements CustomerTagService {
         TagByCustomer.builder().customerId(customerId).tagId(tagId).build();
 
     tagByCustomerRepository.save(tagByCustomer);
+    customerSearchOutboxWriter.enqueue(customerId, shopId);
 
     log.info("고객 태그 추가 완료 - 고객ID: {}, 태그ID: {}", customerId, tagId);
   }
@@ -54,6 +57,7 @@ public class CustomerTagServiceImpl implements CustomerTagService {
     }
 
     tagByCustomerRepository.deleteByCustomerIdAndTagId(customerId, tagId);
+    customerSearchOutboxWriter.enqueue(customerId, shopId);
 
     log.info("고객 태그 제거 완료 - 고객ID: {}, 태그ID: {}", customerId, tagId);
   }
@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.CreateTagRequest;
@@ -9,6 +11,7 @@ import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggrega
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class TagCommandServiceImpl implements TagCommandService {
 
   private final TagRepository tagRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public Long createTag(CreateTagRequest request) {
@@ -38,6 +42,7 @@ public class TagCommandServiceImpl implements TagCommandService {
             .build();
 
     Tag savedTag = tagRepository.save(tag);
+    publishTagsChanged(request.getShopId());
 
     log.info(
         "태그 생성 완료 - ID: {}, 매장ID: {}, 태그명: {}, 색상코드: {}",
@@ -67,6 +72,7 @@ public class TagCommandServiceImpl implements TagCommandService {
     String oldColorCode = tag.getColorCode();
 
     tag.updateTagInfo(request.getTagName(), request.getColorCode());
+    publishTagsChanged(request.getShopId());
 
     log.info(
         "태그 수정 완료 - ID: {}, 매장ID: {}, 태그명: {} -> {}, 색상코드: {} -> {}",
@@ -84,10 +90,15 @@ public class TagCommandServiceImpl implements TagCommandService {
 
     Tag tag = findTagById(tagId);
     tagRepository.delete(tag);
+    publishTagsChanged(tag.getShopId());
 
     log.info("태그 삭제 완료 - ID: {}, 태그명: {}", tagId, tag.getTagName());
   }
 
+  private void publishTagsChanged(Long shopId) {
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceCache.TAGS, shopId));
+  }
+
   private Tag findTagById(Long tagId) {
     return tagRepository
         .findById(tagId)
@@ -3,6 +3,9 @@ package com.deveagles.be15_deveagles_be.features.customers.query.controller;
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchResult;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchSyncMetricsResponse;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.ReindexStatus;
+import com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service.CustomerSearchSyncMetrics;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CustomerElasticsearchController {
 
   private final CustomerQueryService customerQueryService;
+  private final CustomerSearchSyncMetrics customerSearchSyncMetrics;
 
   @Operation(summary = "개별 고객 엘라스틱서치 동기화", description = "특정 고객의 데이터를 엘라스틱서치에 동기화합니다.")
   @ApiResponses({
@@ -211,7 +215,7 @@ public class CustomerElasticsearchController {
 
   @Operation(
       summary = "전체 매장 안전한 재인덱싱 (리셋)",
-      description = "모든 인덱스를 삭제하고 전체 재생성합니다. DB 전체 데이터를 갈은 경우 사용.")
+      description = "새 버전 인덱스에 전체 재생성한 뒤 alias 를 전환합니다. 작업 ID를 반환하며 진행 상황은 상태 조회 API로 확인합니다.")
   @ApiResponses({
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
         responseCode = "200",
@@ -222,11 +226,39 @@ public class CustomerElasticsearchController {
     log.info("전체 매장 안전한 고객 재인덱싱 요청");
 
     try {
-      customerQueryService.reindexAllShopsCustomersWithReset();
-      return ResponseEntity.ok(ApiResponse.success("모든 매장의 고객 데이터가 안전하게 재인덱싱되었습니다."));
+      String taskId = customerQueryService.reindexAllShopsCustomersWithReset();
+      return ResponseEntity.ok(ApiResponse.success(taskId));
     } catch (Exception e) {
       log.error("전체 매장 안전한 재인덱싱 실패 - 오류: {}", e.getMessage());
       return ResponseEntity.ok(ApiResponse.success("전체 안전한 재인덱싱 중 오류가 발생했습니다: " + e.getMessage()));
     }
   }
+
+  @Operation(summary = "재인덱싱 작업 상태 조회", description = "읽은/색인/실패 문서 수와 남은 예상 시간을 반환합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "상태 조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "작업을 찾을 수 없음")
+  })
+  @GetMapping("/reindex/status/{taskId}")
+  public ResponseEntity<ApiResponse<ReindexStatus>> getReindexStatus(
+      @Parameter(description = "재인덱싱 작업 ID", required = true) @PathVariable String taskId) {
+    return ResponseEntity.ok(ApiResponse.success(customerQueryService.getReindexStatus(taskId)));
+  }
+
+  @Operation(
+      summary = "증분 동기화 지표 조회",
+      description = "아웃박스 적체 건수, 가장 오래된 미반영 변경의 대기 시간, 색인 반영 지연을 반환합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "지표 조회 성공")
+  })
+  @GetMapping("/sync/metrics")
+  public ResponseEntity<ApiResponse<CustomerSearchSyncMetricsResponse>> getSyncMetrics() {
+    return ResponseEntity.ok(ApiResponse.success(customerSearchSyncMetrics.snapshot()));
+  }
 }
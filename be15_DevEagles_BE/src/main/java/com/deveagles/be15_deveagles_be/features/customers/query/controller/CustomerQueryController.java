@@ -171,7 +171,10 @@ public class CustomerQueryController {
           String sortBy,
       @Parameter(description = "정렬 방향 (ASC/DESC)", example = "DESC")
           @RequestParam(defaultValue = "DESC")
-          String sortDirection) {
+          String sortDirection,
+      @Parameter(description = "키셋 페이징 커서 (이전 페이지 마지막 고객 ID, 지정 시 page 무시)", example = "1024")
+          @RequestParam(required = false)
+          Long cursorCustomerId) {
 
     log.info(
         "고객 통합 검색 요청 - 매장ID: {}, 키워드: {}, 등급ID: {}, 성별: {}",
@@ -197,7 +200,8 @@ public class CustomerQueryController {
             page,
             size,
             sortBy,
-            sortDirection);
+            sortDirection,
+            cursorCustomerId);
 
     PagedResult<CustomerSearchResult> pagedResult = customerQueryService.advancedSearch(query);
     PagedResponse<CustomerSearchResult> response = PagedResponse.from(pagedResult);
@@ -18,7 +18,8 @@ public record CustomerSearchQuery(
     int page,
     int size,
     String sortBy,
-    String sortDirection) {
+    String sortDirection,
+    Long cursorCustomerId) { // 키셋 페이징: 이전 페이지 마지막 고객 ID (null이면 OFFSET 페이징)
   public CustomerSearchQuery {
     if (page < 0) page = 0;
     if (size <= 0) size = 20;
@@ -29,4 +30,45 @@ public record CustomerSearchQuery(
     if (excludeDormant == null) excludeDormant = false;
     if (excludeRecentMessage == null) excludeRecentMessage = false;
   }
+
+  public CustomerSearchQuery(
+      Long shopId,
+      String keyword,
+      List<Long> customerGradeIds,
+      List<String> tagIds,
+      String gender,
+      Boolean marketingConsent,
+      Boolean notificationConsent,
+      Boolean excludeDormant,
+      Integer dormantMonths,
+      Boolean excludeRecentMessage,
+      Integer recentMessageDays,
+      Boolean includeDeleted,
+      int page,
+      int size,
+      String sortBy,
+      String sortDirection) {
+    this(
+        shopId,
+        keyword,
+        customerGradeIds,
+        tagIds,
+        gender,
+        marketingConsent,
+        notificationConsent,
+        excludeDormant,
+        dormantMonths,
+        excludeRecentMessage,
+        recentMessageDays,
+        includeDeleted,
+        page,
+        size,
+        sortBy,
+        sortDirection,
+        null);
+  }
+
+  public boolean isKeysetMode() {
+    return cursorCustomerId != null;
+  }
 }
@@ -9,7 +9,8 @@ import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
-@Document(indexName = "customers")
+// 증분 동기화와 재색인이 외부 버전으로 순서를 정한다 (CustomerIndexManager)
+@Document(indexName = "customers", versionType = Document.VersionType.EXTERNAL)
 @Getter
 @Builder
 public class CustomerDocument {
@@ -41,16 +42,25 @@ public class CustomerDocument {
   private LocalDateTime deletedAt;
 
   public static CustomerDocument from(Customer customer) {
+    return from(customer, null);
+  }
+
+  /** 등급명은 customer_grade 조인 결과이므로 호출 측에서 조회해 넘긴다. */
+  public static CustomerDocument from(Customer customer, String customerGradeName) {
     return CustomerDocument.builder()
-        .id(customer.getShopId() + "_" + customer.getId())
+        .id(documentId(customer.getShopId(), customer.getId()))
         .customerId(customer.getId())
         .shopId(customer.getShopId())
         .customerName(customer.getCustomerName())
         .phoneNumber(customer.getPhoneNumber())
         .customerGradeId(customer.getCustomerGradeId())
-        .customerGradeName(null) // 조인 정보가 필요하므로 별도 처리 필요
+        .customerGradeName(customerGradeName)
         .gender(customer.getGender() != null ? customer.getGender().name() : null)
         .deletedAt(customer.getDeletedAt())
         .build();
   }
+
+  public static String documentId(Long shopId, Long customerId) {
+    return shopId + "_" + customerId;
+  }
 }
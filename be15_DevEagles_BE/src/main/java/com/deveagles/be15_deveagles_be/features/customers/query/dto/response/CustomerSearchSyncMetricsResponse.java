@@ -0,0 +1,27 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CustomerSearchSyncMetricsResponse {
+
+  // 아웃박스 적체 (전체 노드 공통, DB 기준)
+  private Long backlogCount;
+  private LocalDateTime oldestPendingAt;
+  private Long stalenessMillis; // 가장 오래된 미반영 변경이 기다린 시간
+
+  // 현재 노드 릴레이 누적 처리량
+  private Long relayedCount; // 색인/삭제에 반영된 고객 문서 수
+  private Long coalescedCount; // 같은 고객의 중복 변경으로 병합된 아웃박스 건수
+  private Long failedCount;
+
+  // 변경 기록 시각부터 색인 반영까지의 지연
+  private Long lastLagMillis;
+  private Long maxLagMillis;
+  private Long averageLagMillis;
+
+  private LocalDateTime lastRelayedAt;
+}
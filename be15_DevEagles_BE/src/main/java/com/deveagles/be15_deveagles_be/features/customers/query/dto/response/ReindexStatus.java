@@ -16,6 +16,13 @@ public class ReindexStatus {
   private LocalDateTime endTime;
   private String errorMessage;
   private Long shopId; // null이면 전체 매장
+  private String targetIndex; // 새로 만드는 버전 인덱스
+  private Long readCount; // DB에서 읽은 문서 수
+  private Long writtenCount; // 색인 성공 문서 수
+  private Long failedCount; // 색인 실패 문서 수
+  private Integer completedShops;
+  private Integer totalShops;
+  private Long estimatedRemainingSeconds; // 처리 속도 기준 남은 시간 (진행 중일 때만)
 
   public static ReindexStatus createRunning(String taskId, Long totalCount, Long shopId) {
     return ReindexStatus.builder()
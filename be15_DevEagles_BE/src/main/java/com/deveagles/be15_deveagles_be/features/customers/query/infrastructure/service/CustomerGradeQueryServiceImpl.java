@@ -1,11 +1,14 @@
 package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.CustomerGradeResponse;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerGradeQueryService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,29 +23,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class CustomerGradeQueryServiceImpl implements CustomerGradeQueryService {
 
+  private static final TypeReference<List<CustomerGradeResponse>> GRADE_LIST =
+      new TypeReference<>() {};
+
   private final CustomerGradeRepository customerGradeRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   @Override
   public CustomerGradeResponse getCustomerGrade(Long customerGradeId, Long shopId) {
     log.info("고객등급 조회 요청 - 고객등급ID: {}, 매장ID: {}", customerGradeId, shopId);
 
-    CustomerGrade customerGrade =
-        customerGradeRepository
-            .findByIdAndShopId(customerGradeId, shopId)
+    // 매장 등급 목록(캐시)에서 찾는다
+    CustomerGradeResponse response =
+        loadShopGrades(shopId).stream()
+            .filter(grade -> grade.getId().equals(customerGradeId))
+            .findFirst()
             .orElseThrow(
                 () -> {
                   log.error("고객등급을 찾을 수 없음 - 고객등급ID: {}, 매장ID: {}", customerGradeId, shopId);
                   return new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "고객등급을 찾을 수 없습니다.");
                 });
 
-    CustomerGradeResponse response =
-        CustomerGradeResponse.builder()
-            .id(customerGrade.getId())
-            .shopId(customerGrade.getShopId())
-            .customerGradeName(customerGrade.getCustomerGradeName())
-            .discountRate(customerGrade.getDiscountRate())
-            .build();
-
     log.info("고객등급 조회 완료 - 고객등급ID: {}", customerGradeId);
     return response;
   }
@@ -63,9 +64,7 @@ public class CustomerGradeQueryServiceImpl implements CustomerGradeQueryService
   public List<CustomerGradeResponse> getAllCustomerGradesByShopId(Long shopId) {
     log.info("매장별 고객등급 목록 조회 요청 - 매장ID: {}", shopId);
 
-    List<CustomerGrade> customerGrades = customerGradeRepository.findByShopId(shopId);
-    List<CustomerGradeResponse> responses =
-        customerGrades.stream().map(this::mapToResponse).toList();
+    List<CustomerGradeResponse> responses = loadShopGrades(shopId);
 
     log.info("매장별 고객등급 목록 조회 완료 - 매장ID: {}, 총 {}개", shopId, responses.size());
     return responses;
@@ -87,6 +86,17 @@ public class CustomerGradeQueryServiceImpl implements CustomerGradeQueryService
     return responses;
   }
 
+  private List<CustomerGradeResponse> loadShopGrades(Long shopId) {
+    return referenceDataCache.get(
+        ReferenceCache.CUSTOMER_GRADES,
+        shopId,
+        GRADE_LIST,
+        () ->
+            customerGradeRepository.findByShopId(shopId).stream()
+                .map(this::mapToResponse)
+                .toList());
+  }
+
   private CustomerGradeResponse mapToResponse(CustomerGrade customerGrade) {
     return CustomerGradeResponse.builder()
         .id(customerGrade.getId())
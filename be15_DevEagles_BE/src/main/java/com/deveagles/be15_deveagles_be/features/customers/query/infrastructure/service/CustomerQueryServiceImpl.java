@@ -19,14 +19,25 @@ import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerDetailQueryRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerListQueryRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerReindexService;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +45,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,12 +54,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class CustomerQueryServiceImpl implements CustomerQueryService {
 
+  private static final int AUTOCOMPLETE_LIMIT = 10;
+  // 메모리 인덱스 결과를 IN 절로 다시 읽을 때 한 번에 넘기는 ID 수
+  private static final int SEARCH_RESULT_CHUNK_SIZE = 1000;
+
   private final CustomerJpaRepository customerJpaRepository;
   private final CustomerRepository customerRepository;
   private final CustomerElasticsearchRepository elasticsearchRepository;
   private final CustomerDetailQueryRepository customerDetailQueryRepository;
   private final CustomerListQueryRepository customerListQueryRepository;
   private final JPAQueryFactory queryFactory;
+  private final CustomerReindexService customerReindexService;
+  private final CustomerSearchIndex customerSearchIndex;
 
   // 기본 조회
   @Override
@@ -94,7 +110,7 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
     return customerListQueryRepository.findCustomerListByShopId(shopId, pageable);
   }
 
-  // 검색 (Elasticsearch + JPA 폴백)
+  // 검색 (Elasticsearch + 메모리 인덱스/JPA 폴백)
   @Override
   public List<CustomerSearchResult> searchByKeyword(String keyword, Long shopId) {
     try {
@@ -102,131 +118,214 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
           elasticsearchRepository.searchByNameOrPhoneNumber(shopId, keyword);
       return documents.stream().map(CustomerSearchResult::from).collect(Collectors.toList());
     } catch (Exception e) {
-      log.warn("Elasticsearch 검색 실패, JPA로 폴백: {}", e.getMessage());
-      return fallbackToJpaSearch(keyword, shopId);
+      log.warn("Elasticsearch 검색 실패, 메모리 인덱스로 폴백: {}", e.getMessage());
+      return customerSearchIndex
+          .search(shopId, keyword)
+          .map(ids -> findSearchResultsByIds(ids, shopId))
+          .orElseGet(() -> fallbackToJpaSearch(keyword, shopId));
     }
   }
 
   @Override
   public PagedResult<CustomerSearchResult> advancedSearch(CustomerSearchQuery query) {
     try {
-      Sort sort =
-          Sort.by(
-              "DESC".equalsIgnoreCase(query.sortDirection())
-                  ? Sort.Direction.DESC
-                  : Sort.Direction.ASC,
-              mapSortField(query.sortBy()));
+      boolean desc = "DESC".equalsIgnoreCase(query.sortDirection());
+      BooleanBuilder condition = buildSearchCondition(query);
+
+      // 전체 건수는 COUNT 프로젝션으로만 계산합니다 (등급 조인 불필요).
+      Long total =
+          queryFactory.select(customer.count()).from(customer).where(condition).fetchOne();
+      long totalItems = total != null ? total : 0L;
 
-      Pageable pageable = PageRequest.of(query.page(), query.size(), sort);
+      BooleanBuilder pageCondition = new BooleanBuilder(condition);
+      if (query.isKeysetMode()) {
+        pageCondition.and(seekCondition(query, desc));
+      }
 
-      // 기본 쿼리 생성
-      JPAQuery<Customer> jpaQuery =
+      JPAQuery<CustomerSearchResult> pageQuery =
           queryFactory
-              .selectFrom(customer)
+              .select(
+                  Projections.constructor(
+                      CustomerSearchResult.class,
+                      customer.id,
+                      customer.customerName,
+                      customer.phoneNumber,
+                      customer.customerGradeId,
+                      customerGrade.customerGradeName,
+                      customer.gender))
+              .from(customer)
               .leftJoin(customerGrade)
               .on(customer.customerGradeId.eq(customerGrade.id))
-              .where(customer.shopId.eq(query.shopId()).and(customer.deletedAt.isNull()));
-
-      // 키워드 검색
-      if (query.keyword() != null && !query.keyword().trim().isEmpty()) {
-        jpaQuery.where(
-            customer
-                .customerName
-                .containsIgnoreCase(query.keyword())
-                .or(customer.phoneNumber.containsIgnoreCase(query.keyword())));
-      }
-
-      // 고객 등급 필터링
-      if (query.customerGradeIds() != null && !query.customerGradeIds().isEmpty()) {
-        jpaQuery.where(customer.customerGradeId.in(query.customerGradeIds()));
-      }
-
-      // 태그 필터링
-      if (query.tagIds() != null && !query.tagIds().isEmpty()) {
-        jpaQuery
-            .innerJoin(tagByCustomer)
-            .on(customer.id.eq(tagByCustomer.customerId))
-            .where(tagByCustomer.tagId.in(query.tagIds().stream().map(Long::valueOf).toList()));
-      }
-
-      // 성별 필터링
-      if (query.gender() != null) {
-        jpaQuery.where(customer.gender.eq(Customer.Gender.valueOf(query.gender())));
-      }
-
-      // 마케팅 동의 필터링
-      if (query.marketingConsent() != null) {
-        jpaQuery.where(customer.marketingConsent.eq(query.marketingConsent()));
-      }
-
-      // 알림 동의 필터링
-      if (query.notificationConsent() != null) {
-        jpaQuery.where(customer.notificationConsent.eq(query.notificationConsent()));
-      }
-
-      // 휴면 고객 제외
-      if (query.excludeDormant() != null && query.excludeDormant()) {
-        LocalDateTime dormantDate =
-            LocalDateTime.now()
-                .minusMonths(query.dormantMonths() != null ? query.dormantMonths() : 6);
-        jpaQuery.where(customer.recentVisitDate.after(dormantDate.toLocalDate()));
+              .where(pageCondition)
+              .orderBy(
+                  sortOrder(query.sortBy(), desc),
+                  desc ? customer.id.desc() : customer.id.asc())
+              .limit(query.size());
+
+      // 키셋 모드에서는 커서가 위치를 결정하므로 OFFSET을 사용하지 않습니다.
+      if (!query.isKeysetMode()) {
+        pageQuery.offset((long) query.page() * query.size());
       }
 
-      // 최근 메시지 수신자 제외
-      if (query.excludeRecentMessage() != null && query.excludeRecentMessage()) {
-        LocalDateTime recentMessageDate =
-            LocalDateTime.now()
-                .minusDays(query.recentMessageDays() != null ? query.recentMessageDays() : 30);
-        jpaQuery.where(
-            customer
-                .lastMessageSentAt
-                .before(recentMessageDate)
-                .or(customer.lastMessageSentAt.isNull()));
-      }
-
-      // 페이징 적용
-      List<Customer> countResult = jpaQuery.fetch();
-      long total = countResult.size();
-      List<Customer> customers =
-          jpaQuery.offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
-
-      // 결과 변환
-      List<CustomerSearchResult> responses =
-          customers.stream()
-              .map(
-                  c ->
-                      CustomerSearchResult.of(
-                          c.getId(),
-                          c.getCustomerName(),
-                          c.getPhoneNumber(),
-                          c.getCustomerGradeId(),
-                          null, // customerGradeName은 나중에 조인으로 가져오도록 수정
-                          c.getGender()))
-              .toList();
+      List<CustomerSearchResult> responses = pageQuery.fetch();
 
       Pagination pagination =
           Pagination.builder()
               .currentPage(query.page())
-              .totalPages((int) Math.ceil((double) total / query.size()))
-              .totalItems(total)
+              .totalPages((int) Math.ceil((double) totalItems / query.size()))
+              .totalItems(totalItems)
               .build();
 
       return new PagedResult<>(responses, pagination);
 
+    } catch (BusinessException e) {
+      throw e;
     } catch (Exception e) {
       log.error("JPA 고급 검색 실패: {}", e.getMessage(), e);
       throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
     }
   }
 
+  /** 정렬 컬럼. 동일 값은 customer_id로 순서를 고정해 키셋 페이징이 누락/중복 없이 이어지도록 합니다. */
+  private ComparableExpression<?> sortPath(String sortBy) {
+    return switch (sortBy) {
+      case "customerName" -> customer.customerName;
+      case "phoneNumber" -> customer.phoneNumber;
+      case "recentVisitDate" -> customer.recentVisitDate;
+      default -> customer.createdAt;
+    };
+  }
+
+  private OrderSpecifier<?> sortOrder(String sortBy, boolean desc) {
+    ComparableExpression<?> path = sortPath(sortBy);
+    return desc ? path.desc() : path.asc();
+  }
+
+  /**
+   * 커서 고객의 정렬 값을 조회해 (정렬값, customer_id) 기준으로 그 다음 행부터 읽는 조건을 만듭니다. 커서 값은 클라이언트가 이전 페이지 마지막
+   * 고객 ID만 넘기면 되도록 서버에서 조회합니다.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private BooleanExpression seekCondition(CustomerSearchQuery query, boolean desc) {
+    ComparableExpression path = sortPath(query.sortBy());
+    Long cursorId = query.cursorCustomerId();
+
+    Comparable cursorValue =
+        (Comparable)
+            queryFactory
+                .select(path)
+                .from(customer)
+                .where(customer.id.eq(cursorId), customer.shopId.eq(query.shopId()))
+                .fetchOne();
+    if (cursorValue == null) {
+      throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+    }
+
+    BooleanExpression sameValueAfterCursor =
+        path.eq(cursorValue).and(desc ? customer.id.lt(cursorId) : customer.id.gt(cursorId));
+    return (desc ? path.lt(cursorValue) : path.gt(cursorValue)).or(sameValueAfterCursor);
+  }
+
+  @Override
+  public List<Long> findAudienceCustomerIds(
+      CustomerSearchQuery query, Long afterCustomerId, int limit) {
+    BooleanBuilder condition = buildSearchCondition(query);
+    if (afterCustomerId != null) {
+      condition.and(customer.id.gt(afterCustomerId));
+    }
+
+    // PK 순서 키셋 페이징: OFFSET 없이 (shop_id, customer_id) 범위 스캔으로 청크를 이어 읽습니다.
+    return queryFactory
+        .select(customer.id)
+        .from(customer)
+        .where(condition)
+        .orderBy(customer.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /** 고급 검색과 대상 고객 조회가 공유하는 필터 조건. 태그는 EXISTS로 걸러 고객이 중복되지 않도록 합니다. */
+  private BooleanBuilder buildSearchCondition(CustomerSearchQuery query) {
+    BooleanBuilder condition = new BooleanBuilder();
+    condition.and(customer.shopId.eq(query.shopId())).and(customer.deletedAt.isNull());
+
+    // 키워드 검색
+    if (query.keyword() != null && !query.keyword().trim().isEmpty()) {
+      condition.and(
+          customer
+              .customerName
+              .containsIgnoreCase(query.keyword())
+              .or(customer.phoneNumber.containsIgnoreCase(query.keyword())));
+    }
+
+    // 고객 등급 필터링
+    if (query.customerGradeIds() != null && !query.customerGradeIds().isEmpty()) {
+      condition.and(customer.customerGradeId.in(query.customerGradeIds()));
+    }
+
+    // 태그 필터링
+    if (query.tagIds() != null && !query.tagIds().isEmpty()) {
+      condition.and(
+          JPAExpressions.selectOne()
+              .from(tagByCustomer)
+              .where(
+                  tagByCustomer.customerId.eq(customer.id),
+                  tagByCustomer.tagId.in(query.tagIds().stream().map(Long::valueOf).toList()))
+              .exists());
+    }
+
+    // 성별 필터링
+    if (query.gender() != null) {
+      condition.and(customer.gender.eq(Customer.Gender.valueOf(query.gender())));
+    }
+
+    // 마케팅 동의 필터링
+    if (query.marketingConsent() != null) {
+      condition.and(customer.marketingConsent.eq(query.marketingConsent()));
+    }
+
+    // 알림 동의 필터링
+    if (query.notificationConsent() != null) {
+      condition.and(customer.notificationConsent.eq(query.notificationConsent()));
+    }
+
+    // 휴면 고객 제외
+    if (query.excludeDormant() != null && query.excludeDormant()) {
+      LocalDateTime dormantDate =
+          LocalDateTime.now()
+              .minusMonths(query.dormantMonths() != null ? query.dormantMonths() : 6);
+      condition.and(customer.recentVisitDate.after(dormantDate.toLocalDate()));
+    }
+
+    // 최근 메시지 수신자 제외
+    if (query.excludeRecentMessage() != null && query.excludeRecentMessage()) {
+      LocalDateTime recentMessageDate =
+          LocalDateTime.now()
+              .minusDays(query.recentMessageDays() != null ? query.recentMessageDays() : 30);
+      condition.and(
+          customer
+              .lastMessageSentAt
+              .before(recentMessageDate)
+              .or(customer.lastMessageSentAt.isNull()));
+    }
+
+    return condition;
+  }
+
+  // 자동완성과 건수는 메모리 인덱스에서 바로 답하고, 인덱스를 쓸 수 없을 때만 Elasticsearch 를 조회한다
   @Override
   public List<String> autocomplete(String prefix, Long shopId) {
+    Optional<List<String>> indexed =
+        customerSearchIndex.autocomplete(shopId, prefix, AUTOCOMPLETE_LIMIT);
+    if (indexed.isPresent()) {
+      return indexed.get();
+    }
     try {
       List<CustomerDocument> documents = elasticsearchRepository.autocomplete(shopId, prefix);
       return documents.stream()
           .map(doc -> doc.getCustomerName() + " (" + doc.getPhoneNumber() + ")")
           .distinct()
-          .limit(10)
+          .limit(AUTOCOMPLETE_LIMIT)
           .collect(Collectors.toList());
     } catch (Exception e) {
       log.warn("Elasticsearch 자동완성 실패: {}", e.getMessage());
@@ -236,6 +335,10 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 
   @Override
   public long countByKeyword(String keyword, Long shopId) {
+    OptionalLong indexed = customerSearchIndex.count(shopId, keyword);
+    if (indexed.isPresent()) {
+      return indexed.getAsLong();
+    }
     try {
       return elasticsearchRepository.searchByNameOrPhoneNumber(shopId, keyword).size();
     } catch (Exception e) {
@@ -348,28 +451,18 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
   }
 
   @Override
-  @Transactional
-  public void reindexAllShopsCustomersWithReset() {
-    try {
-      log.info("전체 매장 고객 데이터 리셋 후 재인덱싱 시작");
-
-      // 1. 모든 고객 문서 삭제
-      elasticsearchRepository.deleteAll();
-      log.info("기존 고객 문서 전체 삭제 완료");
-
-      // 2. 전체 매장 재인덱싱
-      reindexAllShopsCustomers();
-
-      log.info("전체 매장 고객 데이터 리셋 후 재인덱싱 완료");
-    } catch (Exception e) {
-      log.error("전체 매장 고객 데이터 리셋 후 재인덱싱 실패: {}", e.getMessage());
-      throw new RuntimeException("전체 리셋 후 재인덱싱 실패", e);
-    }
+  public String reindexAllShopsCustomersWithReset() {
+    // 기존 인덱스를 지우지 않고 새 버전 인덱스를 만든 뒤 alias 를 전환하므로 재색인 중에도 검색이 유지됩니다.
+    String taskId = customerReindexService.startFullReindex();
+    log.info("전체 매장 고객 재색인 작업 시작: taskId={}", taskId);
+    return taskId;
   }
 
   @Override
   public ReindexStatus getReindexStatus(String taskId) {
-    return ReindexStatus.createCompleted(taskId, 0L, 0L, LocalDateTime.now(), null);
+    return customerReindexService
+        .getStatus(taskId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.REINDEX_TASK_NOT_FOUND));
   }
 
   // 배치 처리를 위한 private 메서드들
@@ -412,7 +505,7 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 
       List<CustomerDocument> documents =
           customers.stream()
-              .map(cust -> createCustomerDocumentWithGradeMap(cust, gradeNameMap))
+              .map(cust -> CustomerDocument.from(cust, gradeNameMap.get(cust.getCustomerGradeId())))
               .collect(Collectors.toList());
 
       elasticsearchRepository.saveAll(documents);
@@ -444,24 +537,6 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
                 tuple -> tuple.get(customerGrade.customerGradeName)));
   }
 
-  // 최적화된 CustomerDocument 생성 메서드
-  private CustomerDocument createCustomerDocumentWithGradeMap(
-      Customer cust, Map<Long, String> gradeNameMap) {
-    String gradeName = gradeNameMap.get(cust.getCustomerGradeId());
-
-    return CustomerDocument.builder()
-        .id(cust.getShopId() + "_" + cust.getId())
-        .customerId(cust.getId())
-        .shopId(cust.getShopId())
-        .customerName(cust.getCustomerName())
-        .phoneNumber(cust.getPhoneNumber())
-        .customerGradeId(cust.getCustomerGradeId())
-        .customerGradeName(gradeName)
-        .gender(cust.getGender() != null ? cust.getGender().name() : null)
-        .deletedAt(cust.getDeletedAt())
-        .build();
-  }
-
   @Override
   public Optional<CustomerIdResponse> findCustomerIdByPhoneNumber(String phoneNumber, Long shopId) {
     return customerJpaRepository
@@ -478,17 +553,7 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
             .where(customerGrade.id.eq(cust.getCustomerGradeId()))
             .fetchOne();
 
-    return CustomerDocument.builder()
-        .id(cust.getShopId() + "_" + cust.getId())
-        .customerId(cust.getId())
-        .shopId(cust.getShopId())
-        .customerName(cust.getCustomerName())
-        .phoneNumber(cust.getPhoneNumber())
-        .customerGradeId(cust.getCustomerGradeId())
-        .customerGradeName(gradeName)
-        .gender(cust.getGender() != null ? cust.getGender().name() : null)
-        .deletedAt(cust.getDeletedAt())
-        .build();
+    return CustomerDocument.from(cust, gradeName);
   }
 
   // Private helper methods
@@ -499,17 +564,7 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
   }
 
   private List<CustomerSearchResult> fallbackToJpaSearch(String keyword, Long shopId) {
-    return queryFactory
-        .select(
-            customer.id,
-            customer.customerName,
-            customer.phoneNumber,
-            customer.customerGradeId,
-            customerGrade.customerGradeName,
-            customer.gender)
-        .from(customer)
-        .leftJoin(customerGrade)
-        .on(customer.customerGradeId.eq(customerGrade.id))
+    return searchResultQuery()
         .where(
             customer
                 .shopId
@@ -522,24 +577,46 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
                         .or(customer.phoneNumber.contains(keyword))))
         .fetch()
         .stream()
-        .map(
-            tuple ->
-                CustomerSearchResult.of(
-                    tuple.get(customer.id),
-                    tuple.get(customer.customerName),
-                    tuple.get(customer.phoneNumber),
-                    tuple.get(customer.customerGradeId),
-                    tuple.get(customerGrade.customerGradeName),
-                    tuple.get(customer.gender)))
+        .map(this::toSearchResult)
         .collect(Collectors.toList());
   }
 
-  private String mapSortField(String sortBy) {
-    return switch (sortBy) {
-      case "customerName" -> "customerName.keyword";
-      case "phoneNumber" -> "phoneNumber";
-      default -> "customerName.keyword";
-    };
+  /** 메모리 인덱스가 찾은 고객 ID 를 PK 로 다시 읽어 인덱스 순서대로 반환한다. */
+  private List<CustomerSearchResult> findSearchResultsByIds(List<Long> ids, Long shopId) {
+    Map<Long, CustomerSearchResult> byId = new HashMap<>();
+    for (int from = 0; from < ids.size(); from += SEARCH_RESULT_CHUNK_SIZE) {
+      List<Long> chunk = ids.subList(from, Math.min(from + SEARCH_RESULT_CHUNK_SIZE, ids.size()));
+      searchResultQuery()
+          .where(
+              customer.id.in(chunk), customer.shopId.eq(shopId), customer.deletedAt.isNull())
+          .fetch()
+          .forEach(tuple -> byId.put(tuple.get(customer.id), toSearchResult(tuple)));
+    }
+    return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  private JPAQuery<Tuple> searchResultQuery() {
+    return queryFactory
+        .select(
+            customer.id,
+            customer.customerName,
+            customer.phoneNumber,
+            customer.customerGradeId,
+            customerGrade.customerGradeName,
+            customer.gender)
+        .from(customer)
+        .leftJoin(customerGrade)
+        .on(customer.customerGradeId.eq(customerGrade.id));
+  }
+
+  private CustomerSearchResult toSearchResult(Tuple tuple) {
+    return CustomerSearchResult.of(
+        tuple.get(customer.id),
+        tuple.get(customer.customerName),
+        tuple.get(customer.phoneNumber),
+        tuple.get(customer.customerGradeId),
+        tuple.get(customerGrade.customerGradeName),
+        tuple.get(customer.gender));
   }
 
   @Override
@@ -552,4 +629,21 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 
     return customers.stream().map(Customer::getPhoneNumber).toList();
   }
+
+  @Override
+  public Map<Long, String> getCustomerPhoneNumberMap(Collection<Long> customerIds) {
+    if (customerIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    return queryFactory
+        .select(customer.id, customer.phoneNumber)
+        .from(customer)
+        .where(customer.id.in(customerIds), customer.deletedAt.isNull())
+        .fetch()
+        .stream()
+        .collect(
+            Collectors.toMap(
+                tuple -> tuple.get(customer.id), tuple -> tuple.get(customer.phoneNumber)));
+  }
 }
@@ -0,0 +1,265 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager.VersionedDocument;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.ReindexStatus;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerReindexService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 고객 재색인 작업.
+ *
+ * <p>새 버전 인덱스에 매장별 워커가 병렬로 키셋 스트리밍 + bulk 색인하고, 모든 문서가 성공하면 alias 를 원자적으로 전환한다. 실패하면 새 인덱스를
+ * 지우고 기존 인덱스가 계속 서비스되므로 재색인 중에도 검색이 비지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerReindexServiceImpl implements CustomerReindexService {
+
+  private static final int MAX_TRACKED_TASKS = 20;
+
+  private final CustomerJpaRepository customerJpaRepository;
+  private final CustomerGradeRepository customerGradeRepository;
+  private final CustomerIndexManager customerIndexManager;
+
+  @Value("${customer.reindex.batch-size:1000}")
+  private int batchSize;
+
+  @Value("${customer.reindex.parallelism:4}")
+  private int parallelism;
+
+  private ThreadPoolTaskExecutor coordinator;
+  private ThreadPoolTaskExecutor workers;
+
+  private final AtomicReference<String> runningTaskId = new AtomicReference<>();
+
+  // 최근 작업만 보관
+  private final Map<String, ReindexTask> tasks =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ReindexTask> eldest) {
+              return size() > MAX_TRACKED_TASKS;
+            }
+          });
+
+  @PostConstruct
+  void init() {
+    coordinator = new ThreadPoolTaskExecutor();
+    coordinator.setCorePoolSize(1);
+    coordinator.setMaxPoolSize(1);
+    coordinator.setThreadNamePrefix("customer-reindex-");
+    coordinator.initialize();
+
+    workers = new ThreadPoolTaskExecutor();
+    workers.setCorePoolSize(parallelism);
+    workers.setMaxPoolSize(parallelism);
+    workers.setThreadNamePrefix("customer-reindex-shop-");
+    workers.initialize();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    coordinator.shutdown();
+    workers.shutdown();
+  }
+
+  @Override
+  public String startFullReindex() {
+    String taskId = UUID.randomUUID().toString();
+    while (!runningTaskId.compareAndSet(null, taskId)) {
+      String running = runningTaskId.get();
+      if (running != null) {
+        log.info("이미 실행 중인 고객 재색인 작업이 있습니다: taskId={}", running);
+        return running;
+      }
+    }
+
+    ReindexTask task = new ReindexTask(taskId);
+    tasks.put(taskId, task);
+    coordinator.execute(() -> run(task));
+    return taskId;
+  }
+
+  @Override
+  public Optional<ReindexStatus> getStatus(String taskId) {
+    return Optional.ofNullable(tasks.get(taskId)).map(ReindexTask::toStatus);
+  }
+
+  void run(ReindexTask task) {
+    String indexName = null;
+    try {
+      List<Long> shopIds = customerJpaRepository.findDistinctShopIds();
+      task.totalCount = customerJpaRepository.countByDeletedAtIsNull();
+      task.totalShops = shopIds.size();
+
+      indexName = customerIndexManager.createVersionedIndex();
+      task.targetIndex = indexName;
+      log.info(
+          "고객 재색인 시작: taskId={}, index={}, 매장={}개, 고객={}명",
+          task.taskId,
+          indexName,
+          shopIds.size(),
+          task.totalCount);
+
+      String target = indexName;
+      CompletableFuture.allOf(
+              shopIds.stream()
+                  .map(
+                      shopId ->
+                          CompletableFuture.runAsync(
+                              () -> reindexShop(task, target, shopId), workers))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+
+      if (task.failed.get() > 0) {
+        throw new IllegalStateException("색인 실패 문서 " + task.failed.get() + "건");
+      }
+
+      customerIndexManager.refresh(indexName);
+      customerIndexManager.switchAlias(indexName);
+      task.complete();
+      log.info(
+          "고객 재색인 완료: taskId={}, index={}, 색인={}건, 소요={}초",
+          task.taskId,
+          indexName,
+          task.written.get(),
+          Duration.between(task.startTime, task.endTime).toSeconds());
+
+    } catch (Exception e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      log.error("고객 재색인 실패: taskId={}, 오류={}", task.taskId, cause.getMessage(), cause);
+      task.fail(cause.getMessage());
+      if (indexName != null) {
+        // 기존 alias 는 그대로 두고 만들던 인덱스만 정리
+        try {
+          customerIndexManager.deleteIndex(indexName);
+        } catch (Exception deleteError) {
+          log.warn("재색인 인덱스 정리 실패: index={}, 오류={}", indexName, deleteError.getMessage());
+        }
+      }
+    } finally {
+      runningTaskId.compareAndSet(task.taskId, null);
+    }
+  }
+
+  private void reindexShop(ReindexTask task, String indexName, Long shopId) {
+    Map<Long, String> gradeNames =
+        customerGradeRepository.findByShopId(shopId).stream()
+            .collect(Collectors.toMap(CustomerGrade::getId, CustomerGrade::getCustomerGradeName));
+
+    Long lastCustomerId = 0L;
+    while (true) {
+      List<Customer> customers =
+          customerJpaRepository.findByShopIdAndDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(
+              shopId, lastCustomerId, Limit.of(batchSize));
+      if (customers.isEmpty()) {
+        break;
+      }
+      task.read.addAndGet(customers.size());
+
+      // 스냅샷 문서는 가장 낮은 버전으로 써서 그 사이 반영된 증분 변경을 덮어쓰지 않는다
+      List<VersionedDocument> documents =
+          customers.stream()
+              .map(cust -> CustomerDocument.from(cust, gradeNames.get(cust.getCustomerGradeId())))
+              .map(doc -> new VersionedDocument(doc, CustomerIndexManager.SNAPSHOT_VERSION))
+              .toList();
+      int failed = customerIndexManager.bulkIndex(indexName, documents).size();
+      task.written.addAndGet(documents.size() - failed);
+      task.failed.addAndGet(failed);
+
+      lastCustomerId = customers.get(customers.size() - 1).getId();
+      if (customers.size() < batchSize) {
+        break;
+      }
+    }
+    task.completedShops.incrementAndGet();
+    log.debug("매장 {} 재색인 완료: taskId={}", shopId, task.taskId);
+  }
+
+  /** 진행 중인 재색인 작업의 상태. 카운터는 매장 워커들이 동시에 갱신한다. */
+  static class ReindexTask {
+    private final String taskId;
+    private final LocalDateTime startTime = LocalDateTime.now();
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger completedShops = new AtomicInteger();
+    private volatile long totalCount;
+    private volatile int totalShops;
+    private volatile String targetIndex;
+    private volatile String status = "RUNNING";
+    private volatile String errorMessage;
+    private volatile LocalDateTime endTime;
+
+    ReindexTask(String taskId) {
+      this.taskId = taskId;
+    }
+
+    void complete() {
+      endTime = LocalDateTime.now();
+      status = "COMPLETED";
+    }
+
+    void fail(String message) {
+      endTime = LocalDateTime.now();
+      errorMessage = message;
+      status = "FAILED";
+    }
+
+    ReindexStatus toStatus() {
+      long processed = written.get() + failed.get();
+      return ReindexStatus.builder()
+          .taskId(taskId)
+          .status(status)
+          .totalCount(totalCount)
+          .processedCount(processed)
+          .startTime(startTime)
+          .endTime(endTime)
+          .errorMessage(errorMessage)
+          .targetIndex(targetIndex)
+          .readCount(read.get())
+          .writtenCount(written.get())
+          .failedCount(failed.get())
+          .completedShops(completedShops.get())
+          .totalShops(totalShops)
+          .estimatedRemainingSeconds(estimateRemainingSeconds(processed))
+          .build();
+    }
+
+    private Long estimateRemainingSeconds(long processed) {
+      if (!"RUNNING".equals(status) || processed == 0) {
+        return null;
+      }
+      long elapsedMillis = Duration.between(startTime, LocalDateTime.now()).toMillis();
+      long remaining = Math.max(totalCount - processed, 0);
+      return remaining * elapsedMillis / processed / 1000;
+    }
+  }
+}
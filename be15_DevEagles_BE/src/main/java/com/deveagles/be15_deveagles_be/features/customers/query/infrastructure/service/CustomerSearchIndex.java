@@ -0,0 +1,299 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomer.customer;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장별 고객 이름/전화번호 검색 인덱스({@link ShopCustomerIndex})를 JVM 메모리에 올려 두고 관리한다.
+ *
+ * <p>매장 인덱스는 처음 조회될 때 DB 에서 만들고, 이후에는 검색 아웃박스 릴레이가 넘겨 주는 고객 변경을 반영한다. 릴레이는 아웃박스 행마다 한 노드에서만
+ * 돌기 때문에 반영한 변경을 Redis 채널로 다른 노드에도 중계한다. 중계가 유실되더라도 오래된 결과가 남는 시간은 주기 재구성 간격으로 제한된다.
+ *
+ * <p>인덱스를 쓸 수 없으면(비활성화, 적재 실패) 빈 Optional 을 돌려주고 호출하는 쪽이 Elasticsearch 나 DB 로 넘어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerSearchIndex implements MessageListener {
+
+  private final JPAQueryFactory queryFactory;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+
+  // 자기 노드가 중계한 메시지를 구분하기 위한 식별자
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<Long, ShopHolder> shops = new ConcurrentHashMap<>();
+
+  @Value("${customer.search-index.enabled:true}")
+  private boolean enabled;
+
+  @Value("${customer.search-index.max-shops:200}")
+  private int maxShops;
+
+  @Value("${customer.search-index.rebuild-interval-seconds:1800}")
+  private long rebuildIntervalSeconds;
+
+  @Value("${customer.search-index.relay-channel:customer-search-index:changed}")
+  private String relayChannel;
+
+  private ThreadPoolTaskExecutor rebuilder;
+
+  @PostConstruct
+  void init() {
+    if (!enabled) {
+      log.info("고객 메모리 검색 인덱스 비활성화");
+      return;
+    }
+    rebuilder = new ThreadPoolTaskExecutor();
+    rebuilder.setCorePoolSize(1);
+    rebuilder.setMaxPoolSize(1);
+    rebuilder.setThreadNamePrefix("customer-index-");
+    rebuilder.initialize();
+    listenerContainer.addMessageListener(this, new ChannelTopic(relayChannel));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (rebuilder != null) {
+      rebuilder.shutdown();
+    }
+  }
+
+  /** 이름 또는 전화번호에 keyword 가 포함된 고객 ID 목록. */
+  public Optional<List<Long>> search(Long shopId, String keyword) {
+    return Optional.ofNullable(indexOf(shopId)).map(index -> index.search(keyword));
+  }
+
+  public OptionalLong count(Long shopId, String keyword) {
+    ShopCustomerIndex index = indexOf(shopId);
+    return index == null ? OptionalLong.empty() : OptionalLong.of(index.count(keyword));
+  }
+
+  /** 이름 또는 전화번호가 prefix 로 시작하는 고객의 "이름 (전화번호)" 목록 (최근 등록 순). */
+  public Optional<List<String>> autocomplete(Long shopId, String prefix, int limit) {
+    return Optional.ofNullable(indexOf(shopId)).map(index -> index.autocomplete(prefix, limit));
+  }
+
+  /** 이 노드의 인덱스에 고객 변경을 반영하고 다른 노드에 중계한다. 검색 동기화를 막지 않도록 예외를 던지지 않는다. */
+  public void apply(List<Change> changes) {
+    if (!enabled || changes.isEmpty()) {
+      return;
+    }
+    try {
+      applyLocal(changes);
+    } catch (RuntimeException e) {
+      log.error("고객 검색 인덱스 변경 반영 실패 - {}건, 사유: {}", changes.size(), e.getMessage(), e);
+    }
+    try {
+      redisTemplate.convertAndSend(
+          relayChannel, objectMapper.writeValueAsString(new RelayedChanges(nodeId, changes)));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("고객 검색 인덱스 변경 중계 실패 - {}건, 사유: {}", changes.size(), e.getMessage());
+    }
+  }
+
+  /** 다른 노드가 중계한 고객 변경을 이 노드의 인덱스에 반영한다. */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    RelayedChanges relayed;
+    try {
+      relayed = objectMapper.readValue(message.getBody(), RelayedChanges.class);
+    } catch (IOException e) {
+      log.warn("알 수 없는 고객 검색 인덱스 중계 메시지 무시 - 사유: {}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(relayed.nodeId())) {
+      return;
+    }
+    applyLocal(relayed.changes());
+  }
+
+  private void applyLocal(List<Change> changes) {
+    for (Change change : changes) {
+      if (change.shopId() == null || change.customerId() == null) {
+        continue;
+      }
+      // 아직 올리지 않은 매장은 처음 조회할 때 최신 상태로 만든다
+      ShopHolder holder = shops.get(change.shopId());
+      if (holder == null) {
+        continue;
+      }
+      synchronized (holder) {
+        if (holder.pending != null) {
+          holder.pending.add(change);
+        }
+        ShopCustomerIndex index = holder.index;
+        if (index != null) {
+          applyTo(index, change);
+          if (index.needsCompaction()) {
+            holder.index = index.compacted();
+          }
+        }
+      }
+    }
+  }
+
+  private ShopCustomerIndex indexOf(Long shopId) {
+    if (!enabled || shopId == null) {
+      return null;
+    }
+    long now = System.currentTimeMillis();
+    ShopHolder holder = shops.computeIfAbsent(shopId, id -> new ShopHolder());
+    holder.lastAccessMillis = now;
+
+    ShopCustomerIndex current = holder.index;
+    if (current == null) {
+      synchronized (holder.loadLock) {
+        current = holder.index;
+        if (current == null) {
+          current = rebuild(shopId, holder);
+          trimShops();
+        }
+      }
+    } else if (now - holder.builtAtMillis > rebuildIntervalSeconds * 1000
+        && holder.rebuilding.compareAndSet(false, true)) {
+      // 주기 재구성은 백그라운드에서 하고, 그동안 요청은 기존 인덱스를 쓴다
+      try {
+        rebuilder.execute(
+            () -> {
+              try {
+                synchronized (holder.loadLock) {
+                  rebuild(shopId, holder);
+                }
+              } finally {
+                holder.rebuilding.set(false);
+              }
+            });
+      } catch (RuntimeException e) {
+        holder.rebuilding.set(false);
+        log.warn("고객 검색 인덱스 재구성 예약 실패 - 매장ID: {}, 사유: {}", shopId, e.getMessage());
+      }
+    }
+    return current;
+  }
+
+  /** DB 에서 매장 인덱스를 새로 만들어 교체한다. 적재 중 들어온 변경은 새 인덱스에 다시 적용한다. 실패하면 기존 인덱스를 반환한다. */
+  private ShopCustomerIndex rebuild(Long shopId, ShopHolder holder) {
+    synchronized (holder) {
+      holder.pending = new ArrayList<>();
+    }
+    ShopCustomerIndex built;
+    try {
+      built = load(shopId);
+    } catch (RuntimeException e) {
+      log.warn("고객 검색 인덱스 적재 실패 - 매장ID: {}, 사유: {}", shopId, e.getMessage());
+      synchronized (holder) {
+        holder.pending = null;
+        return holder.index;
+      }
+    }
+    synchronized (holder) {
+      for (Change change : holder.pending) {
+        applyTo(built, change);
+      }
+      holder.pending = null;
+      holder.index = built;
+      holder.builtAtMillis = System.currentTimeMillis();
+    }
+    return built;
+  }
+
+  private ShopCustomerIndex load(Long shopId) {
+    long start = System.nanoTime();
+    List<Tuple> rows =
+        queryFactory
+            .select(customer.id, customer.customerName, customer.phoneNumber)
+            .from(customer)
+            .where(customer.shopId.eq(shopId), customer.deletedAt.isNull())
+            .orderBy(customer.id.asc())
+            .fetch();
+    ShopCustomerIndex index = new ShopCustomerIndex();
+    for (Tuple row : rows) {
+      index.upsert(
+          row.get(customer.id), row.get(customer.customerName), row.get(customer.phoneNumber));
+    }
+    index.trimToSize();
+    log.info(
+        "고객 검색 인덱스 적재 - 매장ID: {}, 고객: {}명, 약 {}KB, {}ms",
+        shopId,
+        index.size(),
+        index.estimatedBytes() / 1024,
+        (System.nanoTime() - start) / 1_000_000);
+    return index;
+  }
+
+  // 매장 수가 상한을 넘으면 가장 오래 조회되지 않은 매장부터 내린다
+  private void trimShops() {
+    while (shops.size() > maxShops) {
+      shops.entrySet().stream()
+          .min(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis))
+          .ifPresent(entry -> shops.remove(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  private void applyTo(ShopCustomerIndex index, Change change) {
+    if (change.removed()) {
+      index.remove(change.customerId());
+    } else {
+      index.upsert(change.customerId(), change.customerName(), change.phoneNumber());
+    }
+  }
+
+  /** 인덱스에 반영할 고객 변경. 삭제(소프트 삭제 포함)된 고객은 removed 로 보낸다. */
+  public record Change(
+      Long shopId, Long customerId, String customerName, String phoneNumber, boolean removed) {
+
+    public static Change of(Customer customer) {
+      return new Change(
+          customer.getShopId(),
+          customer.getId(),
+          customer.getCustomerName(),
+          customer.getPhoneNumber(),
+          customer.isDeleted());
+    }
+
+    public static Change removed(Long shopId, Long customerId) {
+      return new Change(shopId, customerId, null, null, true);
+    }
+  }
+
+  private record RelayedChanges(String nodeId, List<Change> changes) {}
+
+  private static final class ShopHolder {
+    private final Object loadLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile ShopCustomerIndex index;
+    private volatile long builtAtMillis;
+    private volatile long lastAccessMillis;
+    // 재구성 중 들어온 변경 (this 로 동기화)
+    private List<Change> pending;
+  }
+}
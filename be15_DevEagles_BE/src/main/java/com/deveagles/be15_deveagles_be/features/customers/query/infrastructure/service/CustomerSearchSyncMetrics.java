@@ -0,0 +1,71 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerSearchOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerSearchOutboxRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchSyncMetricsResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 고객 검색 인덱스 증분 동기화 지표. 적체량은 아웃박스 테이블에서, 처리량/지연은 노드 로컬 인메모리로 집계한다. */
+@Component
+@RequiredArgsConstructor
+public class CustomerSearchSyncMetrics {
+
+  private final CustomerSearchOutboxRepository customerSearchOutboxRepository;
+
+  private final LongAdder relayed = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder lagSum = new LongAdder();
+  private final AtomicLong lastLag = new AtomicLong();
+  private final AtomicLong maxLag = new AtomicLong();
+  private volatile LocalDateTime lastRelayedAt;
+
+  /** 색인에 반영된 고객 문서 하나. 지연은 병합된 변경 중 가장 먼저 기록된 시각 기준. */
+  public void recordRelayed(LocalDateTime firstChangedAt, LocalDateTime relayedAt) {
+    long lagMillis = Math.max(0L, Duration.between(firstChangedAt, relayedAt).toMillis());
+    relayed.increment();
+    lagSum.add(lagMillis);
+    lastLag.set(lagMillis);
+    maxLag.accumulateAndGet(lagMillis, Math::max);
+    lastRelayedAt = relayedAt;
+  }
+
+  public void recordCoalesced(int count) {
+    coalesced.add(count);
+  }
+
+  public void recordFailed(int count) {
+    failed.add(count);
+  }
+
+  public CustomerSearchSyncMetricsResponse snapshot() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime oldestPendingAt =
+        customerSearchOutboxRepository
+            .findFirstByOrderByIdAsc()
+            .map(CustomerSearchOutbox::getCreatedAt)
+            .orElse(null);
+    long relayedCount = relayed.sum();
+
+    return CustomerSearchSyncMetricsResponse.builder()
+        .backlogCount(customerSearchOutboxRepository.count())
+        .oldestPendingAt(oldestPendingAt)
+        .stalenessMillis(
+            oldestPendingAt == null
+                ? 0L
+                : Math.max(0L, Duration.between(oldestPendingAt, now).toMillis()))
+        .relayedCount(relayedCount)
+        .coalescedCount(coalesced.sum())
+        .failedCount(failed.sum())
+        .lastLagMillis(lastLag.get())
+        .maxLagMillis(maxLag.get())
+        .averageLagMillis(relayedCount == 0 ? 0L : lagSum.sum() / relayedCount)
+        .lastRelayedAt(lastRelayedAt)
+        .build();
+  }
+}
@@ -0,0 +1,227 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerSearchOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerSearchOutboxRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager.VersionedDocument;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * 고객 검색 아웃박스를 주기적으로 비워 Elasticsearch 에 반영한다.
+ *
+ * <p>배치 안에서 같은 고객의 변경은 하나로 병합하고, 문서는 릴레이 시점의 DB 상태로 만들기 때문에 마지막 변경이 항상 이긴다. 실패한 고객은 마지막
+ * 아웃박스 하나만 남겨 지수 백오프로 재시도한다. 문서는 고객의 최신 아웃박스 ID 를 외부 버전으로 쓰므로 여러 노드가 같은 고객을 동시에 처리하거나
+ * 재색인 스냅샷과 겹쳐도 더 새로운 변경이 남는다.
+ *
+ * <p>같은 변경을 매장별 메모리 검색 인덱스({@link CustomerSearchIndex})에도 넘긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerSearchSyncRelay {
+
+  private final CustomerSearchOutboxRepository customerSearchOutboxRepository;
+  private final CustomerJpaRepository customerJpaRepository;
+  private final CustomerGradeRepository customerGradeRepository;
+  private final CustomerIndexManager customerIndexManager;
+  private final CustomerSearchSyncMetrics customerSearchSyncMetrics;
+  private final CustomerSearchIndex customerSearchIndex;
+
+  @Value("${customer.search-sync.enabled:true}")
+  private boolean enabled;
+
+  @Value("${customer.search-sync.interval-ms:1000}")
+  private long intervalMs;
+
+  @Value("${customer.search-sync.batch-size:500}")
+  private int batchSize;
+
+  @Value("${customer.search-sync.retry-base-seconds:5}")
+  private long retryBaseSeconds;
+
+  @Value("${customer.search-sync.retry-max-seconds:600}")
+  private long retryMaxSeconds;
+
+  private ScheduledExecutorService relayExecutor;
+
+  @PostConstruct
+  void init() {
+    if (!enabled) {
+      log.info("고객 검색 증분 동기화 릴레이 비활성화");
+      return;
+    }
+    relayExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "customer-search-relay");
+              thread.setDaemon(true);
+              return thread;
+            });
+    relayExecutor.scheduleWithFixedDelay(
+        this::drainQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (relayExecutor != null) {
+      relayExecutor.shutdown();
+    }
+  }
+
+  private void drainQuietly() {
+    try {
+      // 배치가 가득 차고 모두 성공한 동안은 주기를 기다리지 않고 이어서 비운다
+      while (relayBatch() >= batchSize) {
+        log.debug("고객 검색 아웃박스 적체, 다음 배치 이어서 처리");
+      }
+    } catch (Exception e) {
+      log.error("고객 검색 아웃박스 처리 중 오류: {}", e.getMessage(), e);
+    }
+  }
+
+  /** 아웃박스 한 배치를 반영하고 정상 처리되어 삭제한 아웃박스 건수를 반환한다. */
+  int relayBatch() {
+    List<CustomerSearchOutbox> entries =
+        customerSearchOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+            LocalDateTime.now(), Limit.of(batchSize));
+    if (entries.isEmpty()) {
+      return 0;
+    }
+
+    // 아웃박스 ID 순으로 읽었으므로 고객별 목록의 마지막이 최신 변경
+    Map<Long, List<CustomerSearchOutbox>> changesByCustomer =
+        entries.stream()
+            .collect(
+                Collectors.groupingBy(
+                    CustomerSearchOutbox::getCustomerId,
+                    LinkedHashMap::new,
+                    Collectors.toList()));
+
+    Map<Long, Customer> customers =
+        customerJpaRepository.findAllById(changesByCustomer.keySet()).stream()
+            .collect(Collectors.toMap(Customer::getId, Function.identity()));
+    Map<Long, String> gradeNames = gradeNames(customers.values());
+
+    List<VersionedDocument> documents = new ArrayList<>();
+    List<String> removedDocumentIds = new ArrayList<>();
+    List<CustomerSearchIndex.Change> indexChanges = new ArrayList<>();
+    changesByCustomer.forEach(
+        (customerId, changes) -> {
+          Customer customer = customers.get(customerId);
+          if (customer != null) {
+            // 최신 아웃박스 ID 를 외부 버전으로 써서 노드 간, 재색인 스냅샷과의 쓰기 순서를 ES 가 판정한다
+            documents.add(
+                new VersionedDocument(
+                    CustomerDocument.from(customer, gradeNames.get(customer.getCustomerGradeId())),
+                    latest(changes).getId()));
+            indexChanges.add(CustomerSearchIndex.Change.of(customer));
+          } else {
+            // 물리 삭제된 고객은 문서도 지운다
+            Long shopId = latest(changes).getShopId();
+            removedDocumentIds.add(CustomerDocument.documentId(shopId, customerId));
+            indexChanges.add(CustomerSearchIndex.Change.removed(shopId, customerId));
+          }
+        });
+
+    // 메모리 검색 인덱스는 Elasticsearch 반영 성공 여부와 관계없이 DB 상태를 따른다
+    customerSearchIndex.apply(indexChanges);
+
+    Set<String> failedDocumentIds = write(documents, removedDocumentIds);
+
+    LocalDateTime relayedAt = LocalDateTime.now();
+    List<CustomerSearchOutbox> done = new ArrayList<>();
+    List<CustomerSearchOutbox> retries = new ArrayList<>();
+    changesByCustomer.forEach(
+        (customerId, changes) -> {
+          CustomerSearchOutbox latest = latest(changes);
+          String documentId = CustomerDocument.documentId(latest.getShopId(), customerId);
+          if (failedDocumentIds.contains(documentId)) {
+            done.addAll(changes.subList(0, changes.size() - 1));
+            latest.scheduleRetry(relayedAt, retryBaseSeconds, retryMaxSeconds);
+            retries.add(latest);
+          } else {
+            done.addAll(changes);
+            customerSearchSyncMetrics.recordRelayed(changes.get(0).getCreatedAt(), relayedAt);
+          }
+        });
+
+    if (!done.isEmpty()) {
+      customerSearchOutboxRepository.deleteAllInBatch(done);
+    }
+    if (!retries.isEmpty()) {
+      customerSearchOutboxRepository.saveAll(retries);
+      log.warn("고객 검색 문서 반영 실패, 재시도 예약: {}명", retries.size());
+    }
+    customerSearchSyncMetrics.recordCoalesced(entries.size() - changesByCustomer.size());
+    customerSearchSyncMetrics.recordFailed(retries.size());
+
+    log.debug(
+        "고객 검색 아웃박스 처리: 읽음={}건, 고객={}명, 재시도={}명",
+        entries.size(),
+        changesByCustomer.size(),
+        retries.size());
+    return done.size();
+  }
+
+  /** alias 와 재색인 중인 인덱스에 모두 반영하고, 어느 한 곳이라도 실패한 문서 ID 를 반환한다. */
+  private Set<String> write(List<VersionedDocument> documents, List<String> removedDocumentIds) {
+    Set<String> failed = new HashSet<>();
+    for (String index : customerIndexManager.liveWriteTargets()) {
+      try {
+        failed.addAll(customerIndexManager.bulkIndex(index, documents));
+      } catch (Exception e) {
+        log.warn("고객 검색 문서 bulk 색인 실패: index={}, 오류={}", index, e.getMessage());
+        documents.forEach(document -> failed.add(document.document().getId()));
+      }
+      for (String documentId : removedDocumentIds) {
+        try {
+          customerIndexManager.deleteDocument(index, documentId);
+        } catch (Exception e) {
+          log.warn("고객 검색 문서 삭제 실패: index={}, id={}, 오류={}", index, documentId, e.getMessage());
+          failed.add(documentId);
+        }
+      }
+    }
+    return failed;
+  }
+
+  private Map<Long, String> gradeNames(Iterable<Customer> customers) {
+    Set<Long> gradeIds = new HashSet<>();
+    customers.forEach(customer -> gradeIds.add(customer.getCustomerGradeId()));
+    gradeIds.remove(null);
+    if (gradeIds.isEmpty()) {
+      return Map.of();
+    }
+    return customerGradeRepository.findAllById(gradeIds).stream()
+        .filter(grade -> Objects.nonNull(grade.getCustomerGradeName()))
+        .collect(Collectors.toMap(CustomerGrade::getId, CustomerGrade::getCustomerGradeName));
+  }
+
+  private CustomerSearchOutbox latest(List<CustomerSearchOutbox> changes) {
+    return changes.get(changes.size() - 1);
+  }
+}
@@ -0,0 +1,607 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 한 매장 고객의 이름/전화번호 부분 문자열 검색 인덱스.
+ *
+ * <p>고객마다 슬롯 번호를 매기고 이름은 char 풀, 전화번호는 숫자 byte 풀에 이어 붙인다. 이름의 글자와 2-gram, 전화번호의 2-gram 마다
+ * 슬롯 번호를 오름차순 델타 varint 로 압축한 목록을 두고, 검색어 2-gram 목록의 교집합 후보만 원문과 대조한다. 고객이 바뀌면 기존 슬롯을 지우고 새
+ * 슬롯을 뒤에 붙이므로 목록은 항상 오름차순이며, 지운 슬롯이 살아 있는 슬롯보다 많아지면 {@link #compacted()}로 다시 만든다.
+ *
+ * <p>숫자와 하이픈만으로 된 검색어는 전화번호에서, 나머지는 이름(대소문자 무시)에서 찾는다.
+ */
+final class ShopCustomerIndex {
+
+  private static final int INITIAL_SLOTS = 1024;
+  private static final int MIN_COMPACTION_SLOTS = 1024;
+  // 후보가 다음 목록보다 이만큼 적으면 교집합을 멈추고 원문 대조로 거른다
+  private static final int INTERSECT_RATIO = 8;
+  private static final int[] EMPTY = new int[0];
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final BitSet live = new BitSet();
+  private final GramTable nameGrams = new GramTable();
+  private final Postings[] phoneGrams = new Postings[100];
+
+  private long[] customerIds = new long[INITIAL_SLOTS];
+  // 슬롯 s 의 이름은 names[nameOffsets[s], nameOffsets[s + 1]) (전화번호도 같은 방식)
+  private int[] nameOffsets = new int[INITIAL_SLOTS + 1];
+  private int[] phoneOffsets = new int[INITIAL_SLOTS + 1];
+  private char[] names = new char[INITIAL_SLOTS * 4];
+  private byte[] phones = new byte[INITIAL_SLOTS * 11];
+  // 고객 ID 로 최신 슬롯을 찾는 개방 주소법 테이블. 값은 슬롯 + 1 이고 0 은 빈 칸이며, 키는 customerIds 에서 읽는다
+  private int[] slotTable = new int[2048];
+  private int slotTableSize;
+  private int slots;
+  private int liveCount;
+
+  void upsert(long customerId, String customerName, String phoneNumber) {
+    lock.writeLock().lock();
+    try {
+      kill(customerId);
+      int slot = slots++;
+      ensureSlotCapacity(slots);
+      customerIds[slot] = customerId;
+      appendName(slot, customerName == null ? "" : customerName);
+      appendPhone(slot, phoneNumber == null ? "" : phoneNumber);
+      live.set(slot);
+      liveCount++;
+      putSlot(customerId, slot);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(long customerId) {
+    lock.writeLock().lock();
+    try {
+      kill(customerId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 검색어를 포함하는 고객 ID 를 등록 순서대로 반환한다. */
+  List<Long> search(String keyword) {
+    Query query = Query.parse(keyword);
+    if (query == null) {
+      return List.of();
+    }
+    List<Long> result = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      scan(
+          query,
+          false,
+          false,
+          slot -> {
+            result.add(customerIds[slot]);
+            return true;
+          });
+    } finally {
+      lock.readLock().unlock();
+    }
+    return result;
+  }
+
+  long count(String keyword) {
+    Query query = Query.parse(keyword);
+    if (query == null) {
+      return 0;
+    }
+    long[] count = new long[1];
+    lock.readLock().lock();
+    try {
+      scan(
+          query,
+          false,
+          false,
+          slot -> {
+            count[0]++;
+            return true;
+          });
+    } finally {
+      lock.readLock().unlock();
+    }
+    return count[0];
+  }
+
+  /** 이름 또는 전화번호가 prefix 로 시작하는 고객을 최근 등록 순으로 "이름 (전화번호)" 형식으로 반환한다. */
+  List<String> autocomplete(String prefix, int limit) {
+    Query query = Query.parse(prefix);
+    if (query == null || limit <= 0) {
+      return List.of();
+    }
+    Set<String> suggestions = new LinkedHashSet<>();
+    lock.readLock().lock();
+    try {
+      scan(
+          query,
+          true,
+          true,
+          slot -> {
+            suggestions.add(nameOf(slot) + " (" + phoneOf(slot) + ")");
+            return suggestions.size() < limit;
+          });
+    } finally {
+      lock.readLock().unlock();
+    }
+    return List.copyOf(suggestions);
+  }
+
+  int size() {
+    return liveCount;
+  }
+
+  boolean needsCompaction() {
+    int dead = slots - liveCount;
+    return dead > MIN_COMPACTION_SLOTS && dead > liveCount;
+  }
+
+  /** 살아 있는 고객만으로 새 인덱스를 만든다. */
+  ShopCustomerIndex compacted() {
+    ShopCustomerIndex copy = new ShopCustomerIndex();
+    lock.readLock().lock();
+    try {
+      for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+        copy.upsert(customerIds[slot], nameOf(slot), phoneOf(slot));
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    copy.trimToSize();
+    return copy;
+  }
+
+  /** 한꺼번에 적재한 뒤 배열의 여유 공간을 돌려준다. 이후 변경이 들어오면 다시 늘어난다. */
+  void trimToSize() {
+    lock.writeLock().lock();
+    try {
+      customerIds = Arrays.copyOf(customerIds, Math.max(slots, 1));
+      nameOffsets = Arrays.copyOf(nameOffsets, customerIds.length + 1);
+      phoneOffsets = Arrays.copyOf(phoneOffsets, customerIds.length + 1);
+      names = Arrays.copyOf(names, Math.max(nameOffsets[slots], 1));
+      phones = Arrays.copyOf(phones, Math.max(phoneOffsets[slots], 1));
+      nameGrams.trimToSize();
+      for (Postings postings : phoneGrams) {
+        if (postings != null) {
+          postings.trimToSize();
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 배열과 목록이 차지하는 대략적인 힙 크기(바이트). */
+  long estimatedBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes =
+          (long) customerIds.length * Long.BYTES
+              + (long) (nameOffsets.length + phoneOffsets.length) * Integer.BYTES
+              + (long) names.length * Character.BYTES
+              + phones.length
+              + live.size() / Byte.SIZE
+              + (long) slotTable.length * Integer.BYTES
+              + nameGrams.estimatedBytes();
+      for (Postings postings : phoneGrams) {
+        bytes += postings == null ? 0 : postings.estimatedBytes();
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 호출하는 쪽에서 쓰기 잠금을 잡는다
+  private void kill(long customerId) {
+    int slot = slotOf(customerId);
+    if (slot >= 0 && live.get(slot)) {
+      live.clear(slot);
+      liveCount--;
+    }
+  }
+
+  private int slotOf(long customerId) {
+    int mask = slotTable.length - 1;
+    for (int i = mix(customerId) & mask; slotTable[i] != 0; i = (i + 1) & mask) {
+      int slot = slotTable[i] - 1;
+      if (customerIds[slot] == customerId) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  private void putSlot(long customerId, int slot) {
+    int mask = slotTable.length - 1;
+    for (int i = mix(customerId) & mask; slotTable[i] != 0; i = (i + 1) & mask) {
+      if (customerIds[slotTable[i] - 1] == customerId) {
+        slotTable[i] = slot + 1;
+        return;
+      }
+    }
+    if ((slotTableSize + 1) * 5 > slotTable.length * 4) {
+      int[] old = slotTable;
+      slotTable = new int[old.length * 2];
+      for (int value : old) {
+        if (value != 0) {
+          insertSlot(customerIds[value - 1], value);
+        }
+      }
+    }
+    insertSlot(customerId, slot + 1);
+    slotTableSize++;
+  }
+
+  private void insertSlot(long customerId, int value) {
+    int mask = slotTable.length - 1;
+    int i = mix(customerId) & mask;
+    while (slotTable[i] != 0) {
+      i = (i + 1) & mask;
+    }
+    slotTable[i] = value;
+  }
+
+  private static int mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /** 조건에 맞는 살아 있는 슬롯마다 visitor 를 호출한다. visitor 가 false 를 반환하면 멈춘다. */
+  private void scan(Query query, boolean prefix, boolean newestFirst, IntPredicate visitor) {
+    int[] candidates = candidates(query);
+    // 검색어가 목록 키(이름 한 글자, 2-gram) 하나와 같으면 목록이 곧 결과라 원문 대조가 필요 없다
+    boolean exact = !prefix && (query.length() == 2 || (query.length() == 1 && !query.phone()));
+    if (candidates == null) {
+      int slot = newestFirst ? live.previousSetBit(slots - 1) : live.nextSetBit(0);
+      while (slot >= 0) {
+        if (matches(slot, query, prefix) && !visitor.test(slot)) {
+          return;
+        }
+        slot = newestFirst ? live.previousSetBit(slot - 1) : live.nextSetBit(slot + 1);
+      }
+      return;
+    }
+    for (int i = 0; i < candidates.length; i++) {
+      int slot = candidates[newestFirst ? candidates.length - 1 - i : i];
+      if (live.get(slot) && (exact || matches(slot, query, prefix)) && !visitor.test(slot)) {
+        return;
+      }
+    }
+  }
+
+  /** 검색어 2-gram 목록의 교집합(오름차순 슬롯). 한 자리 전화번호 검색어는 전체를 훑어야 하므로 null. */
+  private int[] candidates(Query query) {
+    if (query.length() == 1) {
+      if (query.phone()) {
+        return null;
+      }
+      Postings postings = nameGrams.get(query.name()[0]);
+      return postings == null ? EMPTY : postings.decode();
+    }
+    int grams = query.length() - 1;
+    Postings[] lists = new Postings[grams];
+    for (int i = 0; i < grams; i++) {
+      Postings postings =
+          query.phone()
+              ? phoneGrams[query.digits()[i] * 10 + query.digits()[i + 1]]
+              : nameGrams.get(gram(query.name()[i], query.name()[i + 1]));
+      if (postings == null) {
+        return EMPTY;
+      }
+      lists[i] = postings;
+    }
+    // 가장 짧은 목록부터 교집합을 좁힌다
+    Arrays.sort(lists, Comparator.comparingInt(Postings::count));
+    int[] result = lists[0].decode();
+    int size = result.length;
+    for (int i = 1; i < lists.length && size > 0; i++) {
+      // 010 처럼 거의 모든 고객에 있는 2-gram 은 푸는 비용이 대조 비용보다 크다
+      if (lists[i].count() > (long) size * INTERSECT_RATIO) {
+        break;
+      }
+      size = lists[i].retainAll(result, size);
+    }
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+
+  private boolean matches(int slot, Query query, boolean prefix) {
+    if (query.phone()) {
+      byte[] digits = query.digits();
+      int start = phoneOffsets[slot];
+      int end = phoneOffsets[slot + 1];
+      int last = prefix ? start : end - digits.length;
+      for (int from = start; from <= last && from + digits.length <= end; from++) {
+        int i = 0;
+        while (i < digits.length && phones[from + i] == digits[i]) {
+          i++;
+        }
+        if (i == digits.length) {
+          return true;
+        }
+      }
+      return false;
+    }
+    char[] name = query.name();
+    int start = nameOffsets[slot];
+    int end = nameOffsets[slot + 1];
+    int last = prefix ? start : end - name.length;
+    for (int from = start; from <= last && from + name.length <= end; from++) {
+      int i = 0;
+      while (i < name.length && Character.toLowerCase(names[from + i]) == name[i]) {
+        i++;
+      }
+      if (i == name.length) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void appendName(int slot, String customerName) {
+    int start = nameOffsets[slot];
+    int length = customerName.length();
+    if (start + length > names.length) {
+      names = Arrays.copyOf(names, Math.max(names.length * 2, start + length));
+    }
+    customerName.getChars(0, length, names, start);
+    nameOffsets[slot + 1] = start + length;
+    for (int i = start; i < start + length; i++) {
+      char current = Character.toLowerCase(names[i]);
+      // 글자 키는 상위 16비트가 0 이라 2-gram 키와 겹치지 않는다 (이름에 NUL 문자는 없다)
+      nameGrams.getOrCreate(current).add(slot);
+      if (i + 1 < start + length) {
+        nameGrams.getOrCreate(gram(current, Character.toLowerCase(names[i + 1]))).add(slot);
+      }
+    }
+  }
+
+  private void appendPhone(int slot, String phoneNumber) {
+    int start = phoneOffsets[slot];
+    if (start + phoneNumber.length() > phones.length) {
+      phones = Arrays.copyOf(phones, Math.max(phones.length * 2, start + phoneNumber.length()));
+    }
+    int end = start;
+    for (int i = 0; i < phoneNumber.length(); i++) {
+      char c = phoneNumber.charAt(i);
+      if (c >= '0' && c <= '9') {
+        phones[end++] = (byte) (c - '0');
+      }
+    }
+    phoneOffsets[slot + 1] = end;
+    for (int i = start; i + 1 < end; i++) {
+      int key = phones[i] * 10 + phones[i + 1];
+      if (phoneGrams[key] == null) {
+        phoneGrams[key] = new Postings();
+      }
+      phoneGrams[key].add(slot);
+    }
+  }
+
+  private void ensureSlotCapacity(int required) {
+    if (required <= customerIds.length) {
+      return;
+    }
+    int capacity = Math.max(customerIds.length * 2, required);
+    customerIds = Arrays.copyOf(customerIds, capacity);
+    nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+    phoneOffsets = Arrays.copyOf(phoneOffsets, capacity + 1);
+  }
+
+  private String nameOf(int slot) {
+    return new String(names, nameOffsets[slot], nameOffsets[slot + 1] - nameOffsets[slot]);
+  }
+
+  private String phoneOf(int slot) {
+    char[] digits = new char[phoneOffsets[slot + 1] - phoneOffsets[slot]];
+    for (int i = 0; i < digits.length; i++) {
+      digits[i] = (char) ('0' + phones[phoneOffsets[slot] + i]);
+    }
+    return new String(digits);
+  }
+
+  private static int gram(char first, char second) {
+    return (first << 16) | second;
+  }
+
+  /** 정규화한 검색어. 전화번호 검색이면 digits, 아니면 소문자로 바꾼 name 을 쓴다. */
+  private record Query(boolean phone, byte[] digits, char[] name) {
+
+    static Query parse(String keyword) {
+      if (keyword == null || keyword.isBlank()) {
+        return null;
+      }
+      String trimmed = keyword.trim();
+      String digits = trimmed.replaceAll("[-\\s]", "");
+      if (!digits.isEmpty() && digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+        byte[] bytes = new byte[digits.length()];
+        for (int i = 0; i < bytes.length; i++) {
+          bytes[i] = (byte) (digits.charAt(i) - '0');
+        }
+        return new Query(true, bytes, null);
+      }
+      char[] name = trimmed.toCharArray();
+      for (int i = 0; i < name.length; i++) {
+        name[i] = Character.toLowerCase(name[i]);
+      }
+      return new Query(false, null, name);
+    }
+
+    int length() {
+      return phone ? digits.length : name.length;
+    }
+  }
+
+  /** 오름차순 슬롯 번호를 이전 값과의 차이로 varint 압축해 이어 붙인 목록. */
+  private static final class Postings {
+
+    private byte[] data = new byte[4];
+    private int size;
+    private int count;
+    private int last = -1;
+
+    void add(int slot) {
+      // 한 고객 이름에 같은 2-gram 이 여러 번 나와도 한 번만 넣는다
+      if (slot == last) {
+        return;
+      }
+      int delta = slot - last;
+      last = slot;
+      count++;
+      if (size + 5 > data.length) {
+        data = Arrays.copyOf(data, Math.max(data.length * 2, size + 5));
+      }
+      while ((delta & ~0x7F) != 0) {
+        data[size++] = (byte) ((delta & 0x7F) | 0x80);
+        delta >>>= 7;
+      }
+      data[size++] = (byte) delta;
+    }
+
+    int count() {
+      return count;
+    }
+
+    void trimToSize() {
+      data = Arrays.copyOf(data, size);
+    }
+
+    int[] decode() {
+      int[] slots = new int[count];
+      int position = 0;
+      int slot = -1;
+      for (int i = 0; i < count; i++) {
+        int delta = 0;
+        int shift = 0;
+        byte b;
+        do {
+          b = data[position++];
+          delta |= (b & 0x7F) << shift;
+          shift += 7;
+        } while (b < 0);
+        slot += delta;
+        slots[i] = slot;
+      }
+      return slots;
+    }
+
+    /** sorted[0, size) 중 이 목록에 있는 슬롯만 앞으로 모으고 남은 개수를 반환한다. */
+    int retainAll(int[] sorted, int size) {
+      int kept = 0;
+      int position = 0;
+      int slot = -1;
+      int remaining = count;
+      for (int i = 0; i < size; i++) {
+        int target = sorted[i];
+        while (slot < target && remaining > 0) {
+          int delta = 0;
+          int shift = 0;
+          byte b;
+          do {
+            b = data[position++];
+            delta |= (b & 0x7F) << shift;
+            shift += 7;
+          } while (b < 0);
+          slot += delta;
+          remaining--;
+        }
+        if (slot == target) {
+          sorted[kept++] = target;
+        } else if (slot < target) {
+          break;
+        }
+      }
+      return kept;
+    }
+
+    long estimatedBytes() {
+      return 32L + data.length;
+    }
+  }
+
+  /** int 2-gram 키에서 목록으로 가는 개방 주소법 해시 테이블 (박싱 없이 키를 저장한다). */
+  private static final class GramTable {
+
+    private int[] keys = new int[1024];
+    private Postings[] values = new Postings[1024];
+    private int size;
+
+    Postings get(int key) {
+      int mask = keys.length - 1;
+      for (int i = mix(key) & mask; values[i] != null; i = (i + 1) & mask) {
+        if (keys[i] == key) {
+          return values[i];
+        }
+      }
+      return null;
+    }
+
+    Postings getOrCreate(int key) {
+      Postings postings = get(key);
+      if (postings != null) {
+        return postings;
+      }
+      if ((size + 1) * 2 > keys.length) {
+        resize();
+      }
+      postings = new Postings();
+      insert(key, postings);
+      size++;
+      return postings;
+    }
+
+    void trimToSize() {
+      for (Postings postings : values) {
+        if (postings != null) {
+          postings.trimToSize();
+        }
+      }
+    }
+
+    long estimatedBytes() {
+      long bytes = (long) keys.length * (Integer.BYTES + 4);
+      for (Postings postings : values) {
+        bytes += postings == null ? 0 : postings.estimatedBytes();
+      }
+      return bytes;
+    }
+
+    private void insert(int key, Postings postings) {
+      int mask = keys.length - 1;
+      int i = mix(key) & mask;
+      while (values[i] != null) {
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      values[i] = postings;
+    }
+
+    private void resize() {
+      int[] oldKeys = keys;
+      Postings[] oldValues = values;
+      keys = new int[oldKeys.length * 2];
+      values = new Postings[oldKeys.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldValues[i] != null) {
+          insert(oldKeys[i], oldValues[i]);
+        }
+      }
+    }
+
+    private static int mix(int key) {
+      int h = key * 0x9E3779B9;
+      return h ^ (h >>> 16);
+    }
+  }
+}
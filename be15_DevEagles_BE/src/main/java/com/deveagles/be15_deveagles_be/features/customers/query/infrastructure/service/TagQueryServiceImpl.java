@@ -1,11 +1,14 @@
 package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.TagResponse;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Tag;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagRepository;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.TagQueryService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,22 +23,25 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class TagQueryServiceImpl implements TagQueryService {
 
+  private static final TypeReference<List<TagResponse>> TAG_LIST = new TypeReference<>() {};
+
   private final TagRepository tagRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   @Override
   public TagResponse getTag(Long tagId, Long shopId) {
     log.info("태그 조회 요청 - 태그ID: {}, 매장ID: {}", tagId, shopId);
 
-    Tag tag =
-        tagRepository
-            .findByIdAndShopId(tagId, shopId)
+    // 매장 태그 목록(캐시)에서 찾는다
+    TagResponse response =
+        loadShopTags(shopId).stream()
+            .filter(tag -> tag.getTagId().equals(tagId))
+            .findFirst()
             .orElseThrow(
                 () -> {
                   log.error("태그를 찾을 수 없음 - 태그ID: {}, 매장ID: {}", tagId, shopId);
                   return new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "태그를 찾을 수 없습니다.");
                 });
-
-    TagResponse response = TagResponse.from(tag);
     log.info("태그 조회 완료 - 태그ID: {}", tagId);
     return response;
   }
@@ -55,8 +61,7 @@ public class TagQueryServiceImpl implements TagQueryService {
   public List<TagResponse> getAllTagsByShopId(Long shopId) {
     log.info("매장별 태그 목록 조회 요청 - 매장ID: {}", shopId);
 
-    List<Tag> tags = tagRepository.findByShopId(shopId);
-    List<TagResponse> responses = tags.stream().map(this::mapToResponse).toList();
+    List<TagResponse> responses = loadShopTags(shopId);
 
     log.info("매장별 태그 목록 조회 완료 - 매장ID: {}, 총 {}개", shopId, responses.size());
     return responses;
@@ -78,6 +83,14 @@ public class TagQueryServiceImpl implements TagQueryService {
     return responses;
   }
 
+  private List<TagResponse> loadShopTags(Long shopId) {
+    return referenceDataCache.get(
+        ReferenceCache.TAGS,
+        shopId,
+        TAG_LIST,
+        () -> tagRepository.findByShopId(shopId).stream().map(this::mapToResponse).toList());
+  }
+
   private TagResponse mapToResponse(Tag tag) {
     return TagResponse.builder()
         .tagId(tag.getId())
@@ -0,0 +1,58 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색 조건에 맞는 고객 ID를 customer_id 오름차순 키셋 페이징으로 순회하는 커서.
+ *
+ * <p>고객 엔티티 대신 ID만 청크 단위로 가져오므로 대상 고객 수와 무관하게 메모리 사용량이 청크 크기로 제한됩니다. 마지막으로 반환한 고객 ID를 기록해 두면
+ * {@code afterCustomerId}로 넘겨 중단된 지점부터 다시 순회할 수 있습니다.
+ */
+public class CustomerAudienceCursor {
+
+  private final CustomerQueryService customerQueryService;
+  private final CustomerSearchQuery query;
+  private final int chunkSize;
+  private Long lastCustomerId;
+  private boolean exhausted;
+
+  public CustomerAudienceCursor(
+      CustomerQueryService customerQueryService,
+      CustomerSearchQuery query,
+      Long afterCustomerId,
+      int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
+    this.customerQueryService = customerQueryService;
+    this.query = query;
+    this.lastCustomerId = afterCustomerId;
+    this.chunkSize = chunkSize;
+  }
+
+  /** 다음 청크를 반환합니다. 더 이상 대상이 없으면 빈 목록을 반환합니다. */
+  public List<Long> next() {
+    if (exhausted) {
+      return Collections.emptyList();
+    }
+    List<Long> ids = customerQueryService.findAudienceCustomerIds(query, lastCustomerId, chunkSize);
+    if (ids.size() < chunkSize) {
+      exhausted = true;
+    }
+    if (!ids.isEmpty()) {
+      lastCustomerId = ids.get(ids.size() - 1);
+    }
+    return ids;
+  }
+
+  /** 지금까지 반환한 마지막 고객 ID (재개 지점). */
+  public Long getLastCustomerId() {
+    return lastCustomerId;
+  }
+
+  public boolean isExhausted() {
+    return exhausted;
+  }
+}
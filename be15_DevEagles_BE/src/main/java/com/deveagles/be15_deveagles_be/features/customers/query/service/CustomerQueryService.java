@@ -4,7 +4,9 @@ import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.TagResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.*;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +35,9 @@ public interface CustomerQueryService {
 
   PagedResult<CustomerSearchResult> advancedSearch(CustomerSearchQuery query);
 
+  // 대상 고객 ID 키셋 조회 (afterCustomerId 초과, customer_id 오름차순, 최대 limit건)
+  List<Long> findAudienceCustomerIds(CustomerSearchQuery query, Long afterCustomerId, int limit);
+
   List<String> autocomplete(String prefix, Long shopId);
 
   long countByKeyword(String keyword, Long shopId);
@@ -50,11 +55,15 @@ public interface CustomerQueryService {
 
   void reindexAllShopsCustomers();
 
-  void reindexAllShopsCustomersWithReset();
+  // 새 버전 인덱스로 전체 재색인 후 alias 전환 (비동기, 작업 ID 반환)
+  String reindexAllShopsCustomersWithReset();
 
   ReindexStatus getReindexStatus(String taskId);
 
   List<String> getCustomerPhoneNumbers(List<Long> customerIds);
 
+  // 고객 ID → 전화번호. 없는 고객은 결과에서 빠진다.
+  Map<Long, String> getCustomerPhoneNumberMap(Collection<Long> customerIds);
+
   Optional<CustomerIdResponse> findCustomerIdByPhoneNumber(String phoneNumber, Long shopId);
 }
@@ -0,0 +1,14 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.service;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.ReindexStatus;
+import java.util.Optional;
+
+public interface CustomerReindexService {
+
+  /**
+   * 전체 매장 고객을 새 버전 인덱스에 색인하고 완료 시 alias 를 전환하는 작업을 시작합니다. 이미 실행 중인 작업이 있으면 그 작업 ID를 반환합니다.
+   */
+  String startFullReindex();
+
+  Optional<ReindexStatus> getStatus(String taskId);
+}
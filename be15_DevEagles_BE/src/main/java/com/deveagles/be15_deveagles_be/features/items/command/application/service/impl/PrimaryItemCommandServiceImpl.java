@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.items.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.items.command.application.dto.request.PrimaryItemRequest;
@@ -14,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -23,6 +26,7 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
   private final PrimaryItemRepository primaryItemRepository;
   private final SecondaryItemRepository secondaryItemRepository;
   private final ShopRepository shopRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public void registerPrimaryItem(PrimaryItemRequest request) {
@@ -59,6 +63,8 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
             .build();
 
     primaryItemRepository.save(primaryItem);
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.PRIMARY_ITEMS, shop.getShopId()));
   }
 
   @Override
@@ -96,6 +102,8 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
     primaryItem.updatePrimaryItem(request.getPrimaryItemName(), request.getCategory());
 
     primaryItemRepository.save(primaryItem);
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.PRIMARY_ITEMS, request.getShopId()));
   }
 
   @Override
@@ -118,5 +126,12 @@ public class PrimaryItemCommandServiceImpl implements PrimaryItemCommandService
     // 4. PrimaryItem soft delete
     item.setDeletedAt();
     primaryItemRepository.save(item);
+
+    // 5. 매장 상품 캐시 무효화 (하위 2차 상품 포함)
+    Long shopId = item.getShopId().getShopId();
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.PRIMARY_ITEMS, shopId));
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.SECONDARY_ITEMS, shopId));
   }
 }
@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.items.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.items.command.application.dto.request.SecondaryItemRegistRequest;
@@ -11,6 +13,7 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,6 +22,7 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
 
   private final PrimaryItemRepository primaryItemRepository;
   private final SecondaryItemRepository secondaryItemRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public void registerSecondaryItem(SecondaryItemRegistRequest request) {
@@ -55,6 +59,7 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
             .build();
 
     secondaryItemRepository.save(secondaryItem);
+    publishChanged(primaryItem);
   }
 
   @Override
@@ -98,6 +103,7 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
 
     // 저장
     secondaryItemRepository.save(secondaryItem);
+    publishChanged(primaryItem);
   }
 
   @Override
@@ -109,5 +115,12 @@ public class SecondaryItemCommandServiceImpl implements SecondaryItemCommandServ
 
     item.setDeletedAt();
     secondaryItemRepository.save(item);
+    primaryItemRepository.findById(item.getPrimaryItemId()).ifPresent(this::publishChanged);
+  }
+
+  private void publishChanged(PrimaryItem primaryItem) {
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(
+            ReferenceCache.SECONDARY_ITEMS, primaryItem.getShopId().getShopId()));
   }
 }
@@ -1,10 +1,14 @@
 package com.deveagles.be15_deveagles_be.features.items.query.dto.response;
 
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class SecondaryItemResponse {
 
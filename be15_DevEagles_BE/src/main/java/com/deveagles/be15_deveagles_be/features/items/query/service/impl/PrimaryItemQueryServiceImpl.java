@@ -1,11 +1,12 @@
 package com.deveagles.be15_deveagles_be.features.items.query.service.impl;
 
-import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.PrimaryItem;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.query.dto.response.PrimaryItemResponse;
 import com.deveagles.be15_deveagles_be.features.items.query.service.PrimaryItemQueryService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,11 +14,21 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PrimaryItemQueryServiceImpl implements PrimaryItemQueryService {
 
+  private static final TypeReference<List<PrimaryItemResponse>> PRIMARY_ITEM_LIST =
+      new TypeReference<>() {};
+
   private final PrimaryItemRepository primaryItemRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   @Override
   public List<PrimaryItemResponse> getAllPrimaryItems(Long shopId) {
-    List<PrimaryItem> items = primaryItemRepository.findAllByShopId(shopId);
-    return items.stream().map(PrimaryItemResponse::from).collect(Collectors.toList());
+    return referenceDataCache.get(
+        ReferenceCache.PRIMARY_ITEMS,
+        shopId,
+        PRIMARY_ITEM_LIST,
+        () ->
+            primaryItemRepository.findAllByShopId(shopId).stream()
+                .map(PrimaryItemResponse::from)
+                .toList());
   }
 }
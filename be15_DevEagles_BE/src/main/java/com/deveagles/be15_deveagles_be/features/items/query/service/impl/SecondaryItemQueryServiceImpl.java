@@ -1,11 +1,12 @@
 package com.deveagles.be15_deveagles_be.features.items.query.service.impl;
 
-import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.query.dto.response.SecondaryItemResponse;
 import com.deveagles.be15_deveagles_be.features.items.query.service.SecondaryItemQueryService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,17 +14,27 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SecondaryItemQueryServiceImpl implements SecondaryItemQueryService {
 
+  private static final TypeReference<List<SecondaryItemResponse>> SECONDARY_ITEM_LIST =
+      new TypeReference<>() {};
+
   private final SecondaryItemRepository secondaryItemRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   @Override
   public List<SecondaryItemResponse> getAllSecondaryItems(Long shopId) {
-    List<SecondaryItem> items = secondaryItemRepository.findAllByShopId(shopId);
-    return items.stream().map(SecondaryItemResponse::from).collect(Collectors.toList());
+    return referenceDataCache.get(
+        ReferenceCache.SECONDARY_ITEMS,
+        shopId,
+        SECONDARY_ITEM_LIST,
+        () ->
+            secondaryItemRepository.findAllByShopId(shopId).stream()
+                .map(SecondaryItemResponse::from)
+                .toList());
   }
 
+  // 판매 중 상품은 매장 전체 목록(캐시)에서 걸러낸다
   @Override
   public List<SecondaryItemResponse> getActiveSecondaryItems(Long shopId) {
-    List<SecondaryItem> items = secondaryItemRepository.findAllByShopIdAndIsActiveTrue(shopId);
-    return items.stream().map(SecondaryItemResponse::from).collect(Collectors.toList());
+    return getAllSecondaryItems(shopId).stream().filter(SecondaryItemResponse::isActive).toList();
   }
 }
@@ -16,4 +16,7 @@ public class CustomerPrepaidPassUpdateRequest {
   private Integer remainingAmount;
 
   private Date expirationDate;
+
+  // 관리자가 수정 화면을 열 때 조회한 버전
+  @NotNull(message = "회원권 버전은 필수입니다.") private Long version;
 }
@@ -1,13 +1,11 @@
 package com.deveagles.be15_deveagles_be.features.membership.command.application.service.impl;
 
-import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
-import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerPrepaidPassRegistRequest;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerPrepaidPassUpdateRequest;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.service.CustomerPrepaidPassCommandService;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
-import java.time.LocalDateTime;
+import com.deveagles.be15_deveagles_be.features.sales.command.application.service.PassLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +14,7 @@ import org.springframework.stereotype.Service;
 public class CustomerPrepaidPassCommandServiceImpl implements CustomerPrepaidPassCommandService {
 
   private final CustomerPrepaidPassRepository customerPrepaidPassRepository;
+  private final PassLedgerService passLedgerService;
 
   @Override
   public void registCustomerPrepaidPass(CustomerPrepaidPassRegistRequest request) {
@@ -33,24 +32,11 @@ public class CustomerPrepaidPassCommandServiceImpl implements CustomerPrepaidPas
 
   @Override
   public void updateCustomerPrepaidPass(CustomerPrepaidPassUpdateRequest request) {
-    CustomerPrepaidPass pass =
-        customerPrepaidPassRepository
-            .findById(request.getCustomerPrepaidPassId())
-            .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-
-    // 3. 값 유효성 체크 및 필드 수정
-    if (request.getRemainingAmount() != null) {
-      pass.setRemainingAmount(request.getRemainingAmount());
-    }
-
-    if (request.getExpirationDate() != null) {
-      pass.setExpirationDate(request.getExpirationDate());
-    }
-
-    // 4. 수정 시간 갱신
-    pass.setModifiedAt(LocalDateTime.now());
-
-    // 5. 저장
-    customerPrepaidPassRepository.save(pass);
+    // 관리자가 조회한 버전 기준의 차이만큼 원장에서 조정한다. 그 사이 결제로 바뀌었으면 덮어쓰지 않고 실패한다
+    passLedgerService.adjustPrepaidPass(
+        request.getCustomerPrepaidPassId(),
+        request.getVersion(),
+        request.getRemainingAmount(),
+        request.getExpirationDate());
   }
 }
@@ -1,13 +1,11 @@
 package com.deveagles.be15_deveagles_be.features.membership.command.application.service.impl;
 
-import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
-import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerSessionPassRegistRequest;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerSessionPassUpdateRequest;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.service.CustomerSessionPassCommandService;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
-import java.time.LocalDateTime;
+import com.deveagles.be15_deveagles_be.features.sales.command.application.service.PassLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +14,7 @@ import org.springframework.stereotype.Service;
 public class CustomerSessionPassCommandServiceImpl implements CustomerSessionPassCommandService {
 
   private final CustomerSessionPassRepository customerSessionPassRepository;
+  private final PassLedgerService passLedgerService;
 
   @Override
   public void registCustomerSessionPass(CustomerSessionPassRegistRequest request) {
@@ -33,24 +32,11 @@ public class CustomerSessionPassCommandServiceImpl implements CustomerSessionPas
 
   @Override
   public void updateCustomerSessionPass(CustomerSessionPassUpdateRequest request) {
-    CustomerSessionPass pass =
-        customerSessionPassRepository
-            .findById(request.getCustomerSessionPassId())
-            .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-
-    // 3. 값 유효성 체크 및 필드 수정
-    if (request.getRemainingCount() != null) {
-      pass.setRemainingCount(request.getRemainingCount());
-    }
-
-    if (request.getExpirationDate() != null) {
-      pass.setExpirationDate(request.getExpirationDate());
-    }
-
-    // 4. 수정 시간 갱신
-    pass.setModifiedAt(LocalDateTime.now());
-
-    // 5. 저장
-    customerSessionPassRepository.save(pass);
+    // 관리자가 조회한 버전 기준의 차이만큼 원장에서 조정한다. 그 사이 결제로 바뀌었으면 덮어쓰지 않고 실패한다
+    passLedgerService.adjustSessionPass(
+        request.getCustomerSessionPassId(),
+        request.getVersion(),
+        request.getRemainingCount(),
+        request.getExpirationDate());
   }
 }
@@ -42,13 +42,8 @@ public class CustomerPrepaidPass {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  public void useAmount(int amount) {
-    this.remainingAmount -= amount;
-    this.modifiedAt = LocalDateTime.now();
-  }
-
-  public void restoreAmount(int amount) {
-    this.remainingAmount += amount;
-    this.modifiedAt = LocalDateTime.now();
-  }
+  // 잔액 차감/복원은 PassLedgerService 의 조건부 UPDATE 로만 하고, 엔티티 수정과 겹치면 버전으로 감지한다
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
 }
@@ -42,13 +42,8 @@ public class CustomerSessionPass {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
-  public void useCount(int count) {
-    this.remainingCount -= count;
-    this.modifiedAt = LocalDateTime.now();
-  }
-
-  public void restoreCount(int amount) {
-    this.remainingCount += amount;
-    this.modifiedAt = LocalDateTime.now();
-  }
+  // 잔여 횟수 차감/복원은 PassLedgerService 의 조건부 UPDATE 로만 하고, 엔티티 수정과 겹치면 버전으로 감지한다
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
 }
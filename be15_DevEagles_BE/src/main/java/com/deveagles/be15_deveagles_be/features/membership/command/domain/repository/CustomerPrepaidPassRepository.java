@@ -1,6 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.membership.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 public interface CustomerPrepaidPassRepository {
@@ -9,4 +11,19 @@ public interface CustomerPrepaidPassRepository {
   Optional<CustomerPrepaidPass> findById(Long customerPrepaidPassId);
 
   Optional<CustomerPrepaidPass> findByCustomerId(Long customerId);
+
+  /** 잔액이 차감액 이상일 때만 차감한다. 차감했으면 1, 잔액 부족이거나 없는 선불권이면 0 을 반환한다. */
+  int deductAmount(Long customerPrepaidPassId, int amount, LocalDateTime now);
+
+  int restoreAmount(Long customerPrepaidPassId, int amount, LocalDateTime now);
+
+  /**
+   * 관리자가 조회한 버전 그대로일 때만 잔액을 delta 만큼 조정하고, 유효기간이 주어지면 함께 바꾼다. 조정했으면 1, 그 사이
+   * 버전이 바뀌었거나 없는 선불권이면 0 을 반환한다.
+   */
+  int adjustAmount(
+      Long customerPrepaidPassId, Long version, int delta, Date expirationDate, LocalDateTime now);
+
+  /** 영속성 컨텍스트를 거치지 않고 DB 의 현재 잔액을 읽는다. */
+  Optional<Integer> findRemainingAmountById(Long customerPrepaidPassId);
 }
@@ -1,6 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.membership.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 public interface CustomerSessionPassRepository {
@@ -9,4 +11,19 @@ public interface CustomerSessionPassRepository {
   Optional<CustomerSessionPass> findById(Long customerSessionPassId);
 
   Optional<CustomerSessionPass> findByCustomerId(Long customerId);
+
+  /** 잔여 횟수가 차감 횟수 이상일 때만 차감한다. 차감했으면 1, 횟수 부족이거나 없는 횟수권이면 0 을 반환한다. */
+  int deductCount(Long customerSessionPassId, int count, LocalDateTime now);
+
+  int restoreCount(Long customerSessionPassId, int count, LocalDateTime now);
+
+  /**
+   * 관리자가 조회한 버전 그대로일 때만 잔여 횟수를 delta 만큼 조정하고, 유효기간이 주어지면 함께 바꾼다. 조정했으면 1, 그 사이
+   * 버전이 바뀌었거나 없는 횟수권이면 0 을 반환한다.
+   */
+  int adjustCount(
+      Long customerSessionPassId, Long version, int delta, Date expirationDate, LocalDateTime now);
+
+  /** 영속성 컨텍스트를 거치지 않고 DB 의 현재 잔여 횟수를 읽는다. */
+  Optional<Integer> findRemainingCountById(Long customerSessionPassId);
 }
@@ -2,7 +2,71 @@ package com.deveagles.be15_deveagles_be.features.membership.command.infrastructu
 
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaCustomerPrepaidPassRepository
-    extends JpaRepository<CustomerPrepaidPass, Long>, CustomerPrepaidPassRepository {}
+    extends JpaRepository<CustomerPrepaidPass, Long>, CustomerPrepaidPassRepository {
+
+  @Override
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE CustomerPrepaidPass p
+         SET p.remainingAmount = p.remainingAmount - :amount,
+             p.version = p.version + 1,
+             p.modifiedAt = :now
+       WHERE p.customerPrepaidPassId = :id
+         AND p.deletedAt IS NULL
+         AND p.remainingAmount >= :amount
+      """)
+  int deductAmount(
+      @Param("id") Long customerPrepaidPassId,
+      @Param("amount") int amount,
+      @Param("now") LocalDateTime now);
+
+  @Override
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE CustomerPrepaidPass p
+         SET p.remainingAmount = p.remainingAmount + :amount,
+             p.version = p.version + 1,
+             p.modifiedAt = :now
+       WHERE p.customerPrepaidPassId = :id
+      """)
+  int restoreAmount(
+      @Param("id") Long customerPrepaidPassId,
+      @Param("amount") int amount,
+      @Param("now") LocalDateTime now);
+
+  @Override
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE CustomerPrepaidPass p
+         SET p.remainingAmount = p.remainingAmount + :delta,
+             p.expirationDate = COALESCE(:expirationDate, p.expirationDate),
+             p.version = p.version + 1,
+             p.modifiedAt = :now
+       WHERE p.customerPrepaidPassId = :id
+         AND p.version = :version
+         AND p.deletedAt IS NULL
+      """)
+  int adjustAmount(
+      @Param("id") Long customerPrepaidPassId,
+      @Param("version") Long version,
+      @Param("delta") int delta,
+      @Param("expirationDate") Date expirationDate,
+      @Param("now") LocalDateTime now);
+
+  @Override
+  @Query(
+      "SELECT p.remainingAmount FROM CustomerPrepaidPass p WHERE p.customerPrepaidPassId = :id")
+  Optional<Integer> findRemainingAmountById(@Param("id") Long customerPrepaidPassId);
+}
@@ -2,7 +2,71 @@ package com.deveagles.be15_deveagles_be.features.membership.command.infrastructu
 
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaCustomerSessionPassRepository
-    extends JpaRepository<CustomerSessionPass, Long>, CustomerSessionPassRepository {}
+    extends JpaRepository<CustomerSessionPass, Long>, CustomerSessionPassRepository {
+
+  @Override
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE CustomerSessionPass p
+         SET p.remainingCount = p.remainingCount - :count,
+             p.version = p.version + 1,
+             p.modifiedAt = :now
+       WHERE p.customerSessionPassId = :id
+         AND p.deletedAt IS NULL
+         AND p.remainingCount >= :count
+      """)
+  int deductCount(
+      @Param("id") Long customerSessionPassId,
+      @Param("count") int count,
+      @Param("now") LocalDateTime now);
+
+  @Override
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE CustomerSessionPass p
+         SET p.remainingCount = p.remainingCount + :count,
+             p.version = p.version + 1,
+             p.modifiedAt = :now
+       WHERE p.customerSessionPassId = :id
+      """)
+  int restoreCount(
+      @Param("id") Long customerSessionPassId,
+      @Param("count") int count,
+      @Param("now") LocalDateTime now);
+
+  @Override
+  @Modifying(flushAutomatically = true)
+  @Query(
+      """
+      UPDATE CustomerSessionPass p
+         SET p.remainingCount = p.remainingCount + :delta,
+             p.expirationDate = COALESCE(:expirationDate, p.expirationDate),
+             p.version = p.version + 1,
+             p.modifiedAt = :now
+       WHERE p.customerSessionPassId = :id
+         AND p.version = :version
+         AND p.deletedAt IS NULL
+      """)
+  int adjustCount(
+      @Param("id") Long customerSessionPassId,
+      @Param("version") Long version,
+      @Param("delta") int delta,
+      @Param("expirationDate") Date expirationDate,
+      @Param("now") LocalDateTime now);
+
+  @Override
+  @Query(
+      "SELECT p.remainingCount FROM CustomerSessionPass p WHERE p.customerSessionPassId = :id")
+  Optional<Integer> findRemainingCountById(@Param("id") Long customerSessionPassId);
+}
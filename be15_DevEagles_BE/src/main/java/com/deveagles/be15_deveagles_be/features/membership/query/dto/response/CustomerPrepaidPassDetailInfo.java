@@ -14,4 +14,6 @@ public class CustomerPrepaidPassDetailInfo {
   private Integer remainingAmount;
   private Date expirationDate;
   private Date createdAt;
+  // 수정 요청에 그대로 돌려보내는 버전
+  private Long version;
 }
@@ -15,4 +15,6 @@ public class CustomerSessionPassDetailInfo {
   private Integer remainingCount;
   private Date expirationDate;
   private Date createdAt;
+  // 수정 요청에 그대로 돌려보내는 버전
+  private Long version;
 }
@@ -0,0 +1,6 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.dto;
+
+import java.util.List;
+
+/** 발신번호와 내용이 같아 한 번에 보낼 수 있는 메시지 묶음 */
+public record SmsSendGroup(String sender, String content, List<SmsSendUnit> units) {}
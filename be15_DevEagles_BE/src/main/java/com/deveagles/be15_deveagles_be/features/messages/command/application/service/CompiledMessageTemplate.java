@@ -0,0 +1,92 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번 파싱해 둔 메시지 템플릿.
+ *
+ * <p>본문을 고정 문자열과 #{키} 자리로 나눠 두고, 렌더링은 넘겨받은 버퍼에 이어 붙이기만 한다. 값이 없는 키는 원문 그대로 남긴다.
+ */
+public final class CompiledMessageTemplate {
+
+  private static final String OPEN = "#{";
+  private static final char CLOSE = '}';
+
+  // literals.length == keys.length + 1, 본문 = literals[0] + keys[0] + literals[1] + ...
+  private final String[] literals;
+  private final String[] keys;
+  private final String[] placeholders;
+  private final Set<MessageVariable> variables;
+  private final int literalLength;
+
+  private CompiledMessageTemplate(List<String> literals, List<String> keys) {
+    this.literals = literals.toArray(String[]::new);
+    this.keys = keys.toArray(String[]::new);
+    this.placeholders = keys.stream().map(key -> OPEN + key + CLOSE).toArray(String[]::new);
+
+    EnumSet<MessageVariable> required = EnumSet.noneOf(MessageVariable.class);
+    keys.forEach(key -> MessageVariable.fromKey(key).ifPresent(required::add));
+    this.variables = Collections.unmodifiableSet(required);
+    this.literalLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  public static CompiledMessageTemplate compile(String content) {
+    List<String> literals = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+    int from = 0;
+    int open;
+    while ((open = content.indexOf(OPEN, from)) >= 0) {
+      int close = content.indexOf(CLOSE, open + OPEN.length());
+      if (close < 0) {
+        break;
+      }
+      literals.add(content.substring(from, open));
+      keys.add(content.substring(open + OPEN.length(), close));
+      from = close + 1;
+    }
+    literals.add(content.substring(from));
+    return new CompiledMessageTemplate(literals, keys);
+  }
+
+  /** 템플릿에 등장하는 치환 가능한 변수. 발송 전 필요한 데이터만 조회하는 데 쓴다. */
+  public Set<MessageVariable> variables() {
+    return variables;
+  }
+
+  public boolean hasPlaceholders() {
+    return keys.length > 0;
+  }
+
+  /** 렌더링 결과 길이 추정치. 버퍼 초기 크기로 쓴다. */
+  public int estimatedLength() {
+    return literalLength + keys.length * 16;
+  }
+
+  /** 버퍼를 비우고 본문을 채운 뒤 문자열로 반환한다. 같은 버퍼를 여러 수신자에 재사용할 수 있다. */
+  public String render(Map<String, String> payload, StringBuilder buffer) {
+    if (keys.length == 0) {
+      return literals[0];
+    }
+    buffer.setLength(0);
+    for (int i = 0; i < keys.length; i++) {
+      buffer.append(literals[i]);
+      if (payload != null && payload.containsKey(keys[i])) {
+        // 값이 null 인 변수는 빈 문자열로 치환
+        String value = payload.get(keys[i]);
+        if (value != null) {
+          buffer.append(value);
+        }
+      } else {
+        buffer.append(placeholders[i]);
+      }
+    }
+    buffer.append(literals[keys.length]);
+    return buffer.toString();
+  }
+}
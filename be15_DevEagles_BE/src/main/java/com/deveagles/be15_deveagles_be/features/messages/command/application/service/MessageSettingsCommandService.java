@@ -2,11 +2,15 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.MessageSettingRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
+import java.util.Optional;
 
 public interface MessageSettingsCommandService {
   Long createDefault(Long shopId);
 
   MessageSettingResponse loadSettings(Long shopId);
 
+  // 발송 경로용 조회 (매장 검증 없이 캐시에서 읽는다)
+  Optional<MessageSettingResponse> findSettings(Long shopId);
+
   void updateSettings(Long shopId, MessageSettingRequest request);
 }
@@ -2,47 +2,81 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
-import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
-import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageVariable;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageVariableQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * 메시지 본문의 #{키} 변수를 고객 정보로 치환한다.
+ *
+ * <p>본문은 한 번만 파싱해 캐시하고, 수신자 데이터는 템플릿에 쓰인 변수만 한 번의 조회로 가져온다.
+ */
 @Component
 @RequiredArgsConstructor
 public class MessageVariableProcessor {
 
-  private final CustomerQueryService customerQueryService;
+  private static final int MAX_CACHED_TEMPLATES = 1000;
 
-  // ✅ payload 생성 - 고객 ID + 매장 ID 기반
-  public Map<String, String> buildPayload(Long customerId, Long shopId) {
-    CustomerDetailResponse customer =
-        customerQueryService
-            .getCustomerDetail(customerId, shopId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND));
+  private final MessageVariableQueryRepository messageVariableQueryRepository;
+
+  // 자유 입력 본문이 계속 쌓이지 않도록 상한을 두고, 넘치면 자주 쓰지 않는 본문부터 밀어낸다
+  private final Cache<String, CompiledMessageTemplate> compiledTemplates =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_TEMPLATES).build();
+
+  public CompiledMessageTemplate compile(String content) {
+    return compiledTemplates.get(content, CompiledMessageTemplate::compile);
+  }
 
-    Map<String, String> payload = new HashMap<>();
-    payload.put("고객명", customer.getCustomerName());
-    // 앞으로 선불권, 예약일, 쿠폰 등 추가 가능
+  // ✅ payload 일괄 생성 - 필요한 변수만 한 번에 조회, 매장에 없는 고객은 결과에서 빠진다
+  public Map<Long, Map<String, String>> buildPayloads(
+      Collection<Long> customerIds, Long shopId, Set<MessageVariable> variables) {
+    return messageVariableQueryRepository.findVariableValues(customerIds, shopId, variables);
+  }
+
+  public Map<Long, Map<String, String>> buildPayloads(Collection<Long> customerIds, Long shopId) {
+    return buildPayloads(customerIds, shopId, EnumSet.allOf(MessageVariable.class));
+  }
 
+  // ✅ payload 생성 - 고객 ID + 매장 ID 기반, 매장에 없는 고객이면 예외
+  public Map<String, String> buildPayload(Long customerId, Long shopId) {
+    Map<String, String> payload = buildPayloads(List.of(customerId), shopId).get(customerId);
+    if (payload == null) {
+      throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+    }
     return payload;
   }
 
+  // ✅ 수신자별 본문 일괄 생성 - 고객 ID → 치환된 본문, 매장에 없는 고객은 빠지므로 호출하는 쪽이 건너뛴다
+  public Map<Long, String> renderAll(String content, List<Long> customerIds, Long shopId) {
+    CompiledMessageTemplate template = compile(content);
+    Map<Long, Map<String, String>> payloads =
+        buildPayloads(customerIds, shopId, template.variables());
+
+    StringBuilder buffer = new StringBuilder(template.estimatedLength());
+    Map<Long, String> rendered = new HashMap<>(customerIds.size() * 2);
+    for (Long customerId : customerIds) {
+      Map<String, String> payload = payloads.get(customerId);
+      if (payload != null) {
+        rendered.put(customerId, template.render(payload, buffer));
+      }
+    }
+    return rendered;
+  }
+
   // ✅ 템플릿 메시지 치환 - payload 주어졌을 때 바로 치환
   public String resolveVariables(String content, Map<String, String> payload) {
     if (content == null || payload == null) return content;
 
-    System.out.println("🔍 템플릿 content = " + content);
-    for (Map.Entry<String, String> entry : payload.entrySet()) {
-      String key = "#{" + entry.getKey() + "}";
-      String value = Optional.ofNullable(entry.getValue()).orElse("");
-      System.out.println("→ 바꾸려는 key = '" + key + "'");
-      System.out.println("→ 바꿀 값 = '" + value + "'");
-      content = content.replace(key, value);
-    }
-    System.out.println("✅ 최종 content = " + content);
-    return content;
+    CompiledMessageTemplate template = compile(content);
+    return template.render(payload, new StringBuilder(template.estimatedLength()));
   }
 }
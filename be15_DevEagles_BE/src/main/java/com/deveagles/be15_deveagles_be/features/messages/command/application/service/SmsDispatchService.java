@@ -0,0 +1,15 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SmsDispatchService {
+
+  /** 발송 시각이 지난 예약 메시지를 한 배치 선점해 발송하고, 이 노드가 선점한 건수를 반환한다. */
+  int dispatchDueReservations(LocalDateTime now);
+
+  /** 저장된 대기 메시지를 발신번호/내용별로 묶어 발송하고 결과를 일괄 반영한다. */
+  List<MessageSendResult> dispatch(List<Sms> messages);
+}
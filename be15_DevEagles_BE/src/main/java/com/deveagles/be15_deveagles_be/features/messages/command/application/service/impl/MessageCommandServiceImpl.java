@@ -2,40 +2,38 @@ package com.deveagles.be15_deveagles_be.features.messages.command.application.se
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
-import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
-import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.SmsRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageCommandService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSettingsCommandService;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageVariableProcessor;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.SmsDispatchService;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageDeliveryStatus;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
-import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSettings;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
-import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.SmsRepository;
-import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.CoolSmsClient;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageCommandServiceImpl implements MessageCommandService {
   private final ShopCommandService shopCommandService;
-  private final CustomerQueryService customerQueryService;
-  private final MessageSettingRepository messageSettingRepository;
-  private final CoolSmsClient coolSmsClient;
+  private final MessageSettingsCommandService messageSettingsCommandService;
   private final SmsRepository smsRepository;
   private final MessageVariableProcessor messageVariableProcessor;
+  private final SmsDispatchService smsDispatchService;
 
   @Override
   @Transactional
@@ -48,86 +46,67 @@ public class MessageCommandServiceImpl implements MessageCommandService {
     // 1. 고객 ID 원본 리스트
     List<Long> customerIds = smsRequest.customerIds();
 
-    // 2. 중복 제거된 ID로 전화번호 조회 (성공/실패 여부 판단용)
+    // 2. 중복 제거 (전화번호는 발송 시점에 고객 ID 기준으로 조회)
     List<Long> distinctCustomerIds = customerIds.stream().distinct().toList();
-    List<String> phoneNumbers = customerQueryService.getCustomerPhoneNumbers(distinctCustomerIds);
 
-    // 3. 메시지 설정 조회 (발신번호 등)
-    MessageSettings settings =
-        messageSettingRepository
-            .findByShopId(shopId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND));
-    String senderNumber = settings.getSenderNumber();
+    // 3. 메시지 설정(발신번호) 존재 확인
+    messageSettingsCommandService
+        .findSettings(shopId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND));
+
+    // 4. 수신자별 본문 치환 (템플릿은 한 번만 파싱, 필요한 고객 정보는 한 번에 조회)
+    Map<Long, String> resolvedContents =
+        messageVariableProcessor.renderAll(
+            smsRequest.messageContent(), distinctCustomerIds, shopId);
+
+    // 매장에 없는 고객은 건너뛰고 실패 결과로 남긴다. 한 명 때문에 나머지 수신자 발송을 막지 않는다.
+    List<Long> missingCustomerIds =
+        distinctCustomerIds.stream().filter(id -> !resolvedContents.containsKey(id)).toList();
+    if (!distinctCustomerIds.isEmpty() && missingCustomerIds.size() == distinctCustomerIds.size()) {
+      throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND);
+    }
+    if (!missingCustomerIds.isEmpty()) {
+      log.warn("매장에 없는 고객 발송 제외 - 매장ID: {}, 고객ID: {}", shopId, missingCustomerIds);
+    }
 
-    // 4. Sms 리스트 생성 (치환 포함)
+    // 5. Sms 리스트 생성
     List<Sms> smsList =
-        IntStream.range(0, distinctCustomerIds.size())
-            .mapToObj(
-                i -> {
-                  Long customerId = distinctCustomerIds.get(i);
-
-                  // ✅ 메시지 치환: payload 생성 + 적용
-                  Map<String, String> payload =
-                      messageVariableProcessor.buildPayload(customerId, shopId);
-                  String resolvedContent =
-                      messageVariableProcessor.resolveVariables(
-                          smsRequest.messageContent(), payload);
-
-                  Sms.SmsBuilder builder =
-                      Sms.builder()
-                          .shopId(shopId)
-                          .customerId(customerId)
-                          .messageContent(resolvedContent)
-                          .messageKind(smsRequest.messageKind())
-                          .messageType(smsRequest.messageType())
-                          .messageSendingType(smsRequest.messageSendingType())
-                          .messageDeliveryStatus(
-                              isReservation
-                                  ? MessageDeliveryStatus.PENDING
-                                  : MessageDeliveryStatus.SENT)
-                          .scheduledAt(scheduledAt)
-                          .templateId(smsRequest.templateId())
-                          .hasLink(Boolean.TRUE.equals(smsRequest.hasLink()))
-                          .customerGradeId(smsRequest.customerGradeId())
-                          .tagId(smsRequest.tagId())
-                          .couponId(smsRequest.couponId())
-                          .workflowId(smsRequest.workflowId());
-
-                  if (!isReservation) {
-                    builder.sentAt(now);
-                  }
-
-                  return builder.build();
-                })
+        distinctCustomerIds.stream()
+            .filter(resolvedContents::containsKey)
+            .map(
+                customerId ->
+                    Sms.builder()
+                        .shopId(shopId)
+                        .customerId(customerId)
+                        .messageContent(resolvedContents.get(customerId))
+                        .messageKind(smsRequest.messageKind())
+                        .messageType(smsRequest.messageType())
+                        .messageSendingType(smsRequest.messageSendingType())
+                        .messageDeliveryStatus(MessageDeliveryStatus.PENDING)
+                        .scheduledAt(scheduledAt)
+                        .templateId(smsRequest.templateId())
+                        .hasLink(Boolean.TRUE.equals(smsRequest.hasLink()))
+                        .customerGradeId(smsRequest.customerGradeId())
+                        .tagId(smsRequest.tagId())
+                        .couponId(smsRequest.couponId())
+                        .workflowId(smsRequest.workflowId())
+                        .build())
             .toList();
 
-    // 5. 저장
+    // 6. 저장
     List<Sms> saved = smsRepository.saveAll(smsList);
     smsRepository.flush();
-    // 6. 즉시 발송이면 CoolSMS 호출
+    // 7. 즉시 발송이면 발송 엔진으로 전송 (치환된 내용별로 묶어 발송, 결과는 일괄 반영)
+    List<MessageSendResult> results = new ArrayList<>();
     if (!isReservation) {
-      List<SmsSendUnit> units =
-          IntStream.range(0, saved.size())
-              .mapToObj(i -> new SmsSendUnit(saved.get(i).getMessageId(), phoneNumbers.get(i)))
-              .toList();
-
-      List<MessageSendResult> results =
-          coolSmsClient.sendMany(senderNumber, saved.get(0).getMessageContent(), units);
-
-      List<Long> failedIds =
-          results.stream().filter(r -> !r.success()).map(MessageSendResult::messageId).toList();
-
-      if (!failedIds.isEmpty()) {
-        markSmsAsFailed(failedIds);
-      }
-
-      return results;
+      results.addAll(smsDispatchService.dispatch(saved));
+    } else {
+      // 8. 예약 발송이면 등록 완료 응답
+      saved.forEach(s -> results.add(new MessageSendResult(true, "예약 등록 완료", s.getMessageId())));
     }
-
-    // 7. 예약 발송이면 등록 완료 응답
-    return saved.stream()
-        .map(s -> new MessageSendResult(true, "예약 등록 완료", s.getMessageId()))
-        .toList();
+    missingCustomerIds.forEach(
+        id -> results.add(new MessageSendResult(false, "고객을 찾을 수 없습니다. 고객ID: " + id, null)));
+    return results;
   }
 
   @Override
@@ -1,5 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.messages.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.MessageSettingRequest;
@@ -8,7 +11,10 @@ import com.deveagles.be15_deveagles_be.features.messages.command.application.ser
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSettings;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,8 +22,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class MessageSettingsCommandServiceImpl implements MessageSettingsCommandService {
+  private static final TypeReference<MessageSettingResponse> SETTINGS_TYPE =
+      new TypeReference<>() {};
+
   private final MessageSettingRepository messageSettingRepository;
   private final ShopCommandServiceImpl shopCommandServiceImpl;
+  private final ReferenceDataCache referenceDataCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public Long createDefault(Long shopId) {
@@ -33,18 +44,32 @@ public class MessageSettingsCommandServiceImpl implements MessageSettingsCommand
             .point(0L)
             .build();
 
-    return messageSettingRepository.save(settings).getShopId();
+    Long savedShopId = messageSettingRepository.save(settings).getShopId();
+    publishSettingsChanged(shopId);
+    return savedShopId;
   }
 
   @Override
   @Transactional(readOnly = true)
   public MessageSettingResponse loadSettings(Long shopId) {
     shopCommandServiceImpl.validateShopExists(shopId);
-    MessageSettings settings =
-        messageSettingRepository
-            .findByShopId(shopId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND));
-    return MessageSettingResponse.from(settings);
+    return findSettings(shopId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_SETTINGS_NOT_FOUND));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<MessageSettingResponse> findSettings(Long shopId) {
+    return Optional.ofNullable(
+        referenceDataCache.get(
+            ReferenceCache.MESSAGE_SETTINGS,
+            shopId,
+            SETTINGS_TYPE,
+            () ->
+                messageSettingRepository
+                    .findByShopId(shopId)
+                    .map(MessageSettingResponse::from)
+                    .orElse(null)));
   }
 
   @Override
@@ -60,5 +85,11 @@ public class MessageSettingsCommandServiceImpl implements MessageSettingsCommand
     if (request.getPoint() != null && request.getPoint() > 0) {
       settings.addPoint(request.getPoint());
     }
+    publishSettingsChanged(shopId);
+  }
+
+  private void publishSettingsChanged(Long shopId) {
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.MESSAGE_SETTINGS, shopId));
   }
 }
@@ -0,0 +1,181 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service.impl;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendGroup;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSettingsCommandService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.SmsDispatchService;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageDeliveryStatus;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.SmsRepository;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.SmsDispatchGateway;
+import jakarta.annotation.PostConstruct;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * 문자 발송 엔진.
+ *
+ * <p>예약 메시지는 조건부 UPDATE 로 배치 단위 선점 후 발송하므로 여러 노드가 동시에 실행해도 중복 발송되지 않는다. 선점한 노드가 죽으면 선점 만료 후
+ * 다른 노드가 이어받는다. 발송 결과는 성공/실패별 IN 절 UPDATE 로 한 번에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmsDispatchServiceImpl implements SmsDispatchService {
+
+  private static final int RESULT_UPDATE_CHUNK = 1000;
+
+  private final SmsRepository smsRepository;
+  private final CustomerQueryService customerQueryService;
+  private final MessageSettingsCommandService messageSettingsCommandService;
+  private final SmsDispatchGateway smsDispatchGateway;
+
+  @Value("${sms.dispatch.claim-batch-size:1000}")
+  private int claimBatchSize;
+
+  @Value("${sms.dispatch.claim-seconds:300}")
+  private long claimSeconds;
+
+  @Value("${sms.dispatch.node-id:}")
+  private String nodeId;
+
+  @PostConstruct
+  void init() {
+    if (nodeId == null || nodeId.isBlank()) {
+      nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+  }
+
+  @Override
+  public int dispatchDueReservations(LocalDateTime now) {
+    List<Long> candidateIds =
+        smsRepository.findClaimableIds(
+            MessageSendingType.RESERVATION,
+            MessageDeliveryStatus.PENDING,
+            now,
+            Limit.of(claimBatchSize));
+    if (candidateIds.isEmpty()) {
+      return 0;
+    }
+
+    String claimToken = nodeId + ":" + UUID.randomUUID();
+    int claimed =
+        smsRepository.claim(
+            candidateIds,
+            claimToken,
+            MessageDeliveryStatus.PENDING,
+            now,
+            now.plusSeconds(claimSeconds));
+    if (claimed == 0) {
+      log.debug("예약 메시지 {}건 모두 다른 노드가 선점", candidateIds.size());
+      return 0;
+    }
+
+    List<Sms> messages = smsRepository.findAllByMessageIdInAndClaimedBy(candidateIds, claimToken);
+    List<MessageSendResult> results = dispatch(messages);
+    log.info(
+        "예약 메시지 발송: 선점={}건, 성공={}건",
+        messages.size(),
+        results.stream().filter(MessageSendResult::success).count());
+    return messages.size();
+  }
+
+  @Override
+  public List<MessageSendResult> dispatch(List<Sms> messages) {
+    if (messages.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, String> phoneNumbers =
+        customerQueryService.getCustomerPhoneNumberMap(
+            messages.stream().map(Sms::getCustomerId).distinct().toList());
+    Map<Long, String> senderNumbers = new HashMap<>();
+    messages.stream()
+        .map(Sms::getShopId)
+        .distinct()
+        .forEach(
+            shopId ->
+                messageSettingsCommandService
+                    .findSettings(shopId)
+                    .map(MessageSettingResponse::getSenderNumber)
+                    .ifPresent(sender -> senderNumbers.put(shopId, sender)));
+
+    List<MessageSendResult> results = new ArrayList<>();
+    Map<GroupKey, List<SmsSendUnit>> groups = new LinkedHashMap<>();
+    for (Sms sms : messages) {
+      String sender = senderNumbers.get(sms.getShopId());
+      String phoneNumber = phoneNumbers.get(sms.getCustomerId());
+      if (sender == null) {
+        // 한 매장의 설정 누락이 다른 매장 발송을 막지 않도록 해당 메시지만 실패 처리
+        results.add(new MessageSendResult(false, "발신번호 미설정", sms.getMessageId()));
+      } else if (phoneNumber == null) {
+        results.add(new MessageSendResult(false, "수신 고객 없음", sms.getMessageId()));
+      } else {
+        groups
+            .computeIfAbsent(
+                new GroupKey(sender, sms.getMessageContent()), key -> new ArrayList<>())
+            .add(new SmsSendUnit(sms.getMessageId(), phoneNumber));
+      }
+    }
+
+    results.addAll(
+        smsDispatchGateway.sendAll(
+            groups.entrySet().stream()
+                .map(
+                    entry ->
+                        new SmsSendGroup(
+                            entry.getKey().sender(), entry.getKey().content(), entry.getValue()))
+                .toList()));
+
+    recordResults(results);
+    return results;
+  }
+
+  private void recordResults(List<MessageSendResult> results) {
+    LocalDateTime sentAt = LocalDateTime.now();
+    List<Long> sentIds = new ArrayList<>();
+    List<Long> failedIds = new ArrayList<>();
+    results.forEach(
+        result -> (result.success() ? sentIds : failedIds).add(result.messageId()));
+
+    for (int from = 0; from < sentIds.size(); from += RESULT_UPDATE_CHUNK) {
+      smsRepository.recordResult(
+          sentIds.subList(from, Math.min(from + RESULT_UPDATE_CHUNK, sentIds.size())),
+          MessageDeliveryStatus.SENT,
+          sentAt,
+          MessageDeliveryStatus.PENDING);
+    }
+    for (int from = 0; from < failedIds.size(); from += RESULT_UPDATE_CHUNK) {
+      smsRepository.recordResult(
+          failedIds.subList(from, Math.min(from + RESULT_UPDATE_CHUNK, failedIds.size())),
+          MessageDeliveryStatus.FAIL,
+          null,
+          MessageDeliveryStatus.PENDING);
+    }
+  }
+
+  private String resolveHostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      return "unknown";
+    }
+  }
+
+  private record GroupKey(String sender, String content) {}
+}
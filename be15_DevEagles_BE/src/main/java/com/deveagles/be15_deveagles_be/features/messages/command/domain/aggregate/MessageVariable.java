@@ -0,0 +1,29 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 메시지 본문에서 #{키} 형태로 치환할 수 있는 고객 변수. */
+@Getter
+@RequiredArgsConstructor
+public enum MessageVariable {
+  CUSTOMER_NAME("고객명"),
+  CUSTOMER_GRADE("고객등급"),
+  VISIT_COUNT("방문횟수"),
+  RECENT_VISIT_DATE("최근방문일");
+
+  private static final Map<String, MessageVariable> BY_KEY =
+      Arrays.stream(values())
+          .collect(Collectors.toMap(MessageVariable::getKey, Function.identity()));
+
+  private final String key;
+
+  public static Optional<MessageVariable> fromKey(String key) {
+    return Optional.ofNullable(BY_KEY.get(key));
+  }
+}
@@ -74,6 +74,13 @@ public class Sms {
   @Column(name = "workflow_id", nullable = true)
   private Long workflowId;
 
+  // 발송 선점 토큰과 만료 시각 (여러 노드가 같은 예약 메시지를 중복 발송하지 않도록)
+  @Column(name = "claimed_by", length = 100)
+  private String claimedBy;
+
+  @Column(name = "claimed_until")
+  private LocalDateTime claimedUntil;
+
   public void markAsSent() {
     this.sentAt = LocalDateTime.now();
     this.messageDeliveryStatus = MessageDeliveryStatus.SENT;
@@ -4,8 +4,14 @@ import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregat
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SmsRepository extends JpaRepository<Sms, Long> {
 
@@ -13,4 +19,56 @@ public interface SmsRepository extends JpaRepository<Sms, Long> {
       MessageSendingType messageSendingType,
       LocalDateTime scheduledAt,
       MessageDeliveryStatus messageDeliveryStatus);
+
+  @Query(
+      """
+      SELECT s.messageId
+        FROM Sms s
+       WHERE s.messageSendingType = :sendingType
+         AND s.messageDeliveryStatus = :status
+         AND s.scheduledAt <= :now
+         AND (s.claimedUntil IS NULL OR s.claimedUntil < :now)
+       ORDER BY s.scheduledAt, s.messageId
+      """)
+  List<Long> findClaimableIds(
+      @Param("sendingType") MessageSendingType sendingType,
+      @Param("status") MessageDeliveryStatus status,
+      @Param("now") LocalDateTime now,
+      Limit limit);
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE Sms s
+         SET s.claimedBy = :claimToken, s.claimedUntil = :claimedUntil
+       WHERE s.messageId IN :ids
+         AND s.messageDeliveryStatus = :status
+         AND (s.claimedUntil IS NULL OR s.claimedUntil < :now)
+      """)
+  int claim(
+      @Param("ids") Collection<Long> ids,
+      @Param("claimToken") String claimToken,
+      @Param("status") MessageDeliveryStatus status,
+      @Param("now") LocalDateTime now,
+      @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  // 후보 ID(PK)로 좁힌 뒤 선점 토큰을 확인하므로 claimed_by 인덱스 없이도 전체 스캔하지 않는다
+  List<Sms> findAllByMessageIdInAndClaimedBy(Collection<Long> ids, String claimedBy);
+
+  @Transactional
+  @Modifying
+  @Query(
+      """
+      UPDATE Sms s
+         SET s.messageDeliveryStatus = :result, s.sentAt = :sentAt,
+             s.claimedBy = NULL, s.claimedUntil = NULL
+       WHERE s.messageId IN :ids
+         AND s.messageDeliveryStatus = :pending
+      """)
+  int recordResult(
+      @Param("ids") Collection<Long> ids,
+      @Param("result") MessageDeliveryStatus result,
+      @Param("sentAt") LocalDateTime sentAt,
+      @Param("pending") MessageDeliveryStatus pending);
 }
@@ -11,11 +11,13 @@ import net.nurigo.sdk.message.model.Message;
 import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class CoolSmsClient {
+@ConditionalOnProperty(name = "sms.client", havingValue = "coolsms", matchIfMissing = true)
+public class CoolSmsClient implements SmsClient {
 
   private DefaultMessageService messageService;
 
@@ -31,6 +33,7 @@ public class CoolSmsClient {
         NurigoApp.INSTANCE.initialize(apiKey, apiSecret, "https://api.coolsms.co.kr");
   }
 
+  @Override
   public List<MessageSendResult> sendMany(String sender, String content, List<SmsSendUnit> units) {
     List<Message> messages =
         units.stream()
@@ -0,0 +1,11 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.infrastructure;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import java.util.List;
+
+/** 문자 발송사 연동. 같은 발신번호/내용의 메시지를 한 번의 요청으로 보내고 메시지별 결과를 돌려준다. */
+public interface SmsClient {
+
+  List<MessageSendResult> sendMany(String sender, String content, List<SmsSendUnit> units);
+}
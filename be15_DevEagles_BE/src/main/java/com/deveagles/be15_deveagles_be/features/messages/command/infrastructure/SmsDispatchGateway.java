@@ -0,0 +1,89 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.infrastructure;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendGroup;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 요청을 발송사 요청 크기로 나눠 제한된 수의 워커로 병렬 전송한다. 전체 처리량은 초당 발송 건수로 제한해 발송사 한도를 넘지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsDispatchGateway {
+
+  private final SmsClient smsClient;
+
+  @Value("${sms.dispatch.concurrency:4}")
+  private int concurrency;
+
+  @Value("${sms.dispatch.rate-per-second:100}")
+  private double ratePerSecond;
+
+  @Value("${sms.dispatch.max-per-request:500}")
+  private int maxPerRequest;
+
+  private ThreadPoolTaskExecutor executor;
+  private SmsRateLimiter rateLimiter;
+
+  @PostConstruct
+  void init() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setThreadNamePrefix("sms-dispatch-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    rateLimiter = new SmsRateLimiter(ratePerSecond);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  /** 모든 묶음을 전송하고 메시지별 결과를 반환한다. 요청 단위 예외는 해당 요청의 메시지만 실패로 처리한다. */
+  public List<MessageSendResult> sendAll(List<SmsSendGroup> groups) {
+    List<CompletableFuture<List<MessageSendResult>>> futures = new ArrayList<>();
+    for (SmsSendGroup group : groups) {
+      List<SmsSendUnit> units = group.units();
+      for (int from = 0; from < units.size(); from += maxPerRequest) {
+        List<SmsSendUnit> slice = units.subList(from, Math.min(from + maxPerRequest, units.size()));
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> send(group.sender(), group.content(), slice), executor));
+      }
+    }
+    return futures.stream().map(CompletableFuture::join).flatMap(List::stream).toList();
+  }
+
+  private List<MessageSendResult> send(String sender, String content, List<SmsSendUnit> units) {
+    try {
+      rateLimiter.acquire(units.size());
+      return smsClient.sendMany(sender, content, units);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return failAll(units, "발송 중단");
+    } catch (Exception e) {
+      log.error("문자 발송 요청 실패: 발신={}, 건수={}, 오류={}", sender, units.size(), e.getMessage(), e);
+      return failAll(units, "예외 발생: " + e.getMessage());
+    }
+  }
+
+  private List<MessageSendResult> failAll(List<SmsSendUnit> units, String reason) {
+    return units.stream()
+        .map(unit -> new MessageSendResult(false, reason, unit.messageId()))
+        .toList();
+  }
+}
@@ -0,0 +1,32 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 발송 건수 제한. 요청 건수만큼 다음 허용 시각을 앞당겨 예약하고, 앞선 요청이 예약해 둔 시각까지 기다린다. 0 이하이면 제한하지 않는다.
+ */
+class SmsRateLimiter {
+
+  private final long nanosPerPermit;
+  private long nextFreeNanos = System.nanoTime();
+
+  SmsRateLimiter(double permitsPerSecond) {
+    this.nanosPerPermit = permitsPerSecond > 0 ? (long) (1_000_000_000L / permitsPerSecond) : 0L;
+  }
+
+  void acquire(int permits) throws InterruptedException {
+    if (nanosPerPermit == 0L) {
+      return;
+    }
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      long start = Math.max(now, nextFreeNanos);
+      nextFreeNanos = start + permits * nanosPerPermit;
+      waitNanos = start - now;
+    }
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+}
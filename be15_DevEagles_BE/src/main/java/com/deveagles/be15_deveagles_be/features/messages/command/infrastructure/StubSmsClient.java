@@ -0,0 +1,81 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.infrastructure;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 발송 없이 요청을 메모리에 기록하는 로컬/테스트용 클라이언트. {@code sms.client=stub} 일 때 CoolSMS 대신 사용된다.
+ *
+ * <p>지정한 번호는 실패로 응답하고, 요청마다 지연을 줄 수 있어 동시성/처리량 제한 검증에 쓸 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.client", havingValue = "stub")
+public class StubSmsClient implements SmsClient {
+
+  private final List<SentRequest> requests = new CopyOnWriteArrayList<>();
+  private final Set<String> failingNumbers = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private volatile long latencyMillis;
+
+  @Override
+  public List<MessageSendResult> sendMany(String sender, String content, List<SmsSendUnit> units) {
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      if (latencyMillis > 0) {
+        Thread.sleep(latencyMillis);
+      }
+      requests.add(new SentRequest(sender, content, List.copyOf(units)));
+      log.debug("[stub] 문자 발송: 발신={}, 수신={}건", sender, units.size());
+      return units.stream()
+          .map(
+              unit -> {
+                boolean success = !failingNumbers.contains(unit.phoneNumber());
+                return new MessageSendResult(
+                    success, success ? "발송 성공" : "발송 실패", unit.messageId());
+              })
+          .toList();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return units.stream()
+          .map(unit -> new MessageSendResult(false, "발송 중단", unit.messageId()))
+          .toList();
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  public void failFor(String phoneNumber) {
+    failingNumbers.add(phoneNumber);
+  }
+
+  public void setLatencyMillis(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  public List<SentRequest> getRequests() {
+    return List.copyOf(requests);
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight.get();
+  }
+
+  public void reset() {
+    requests.clear();
+    failingNumbers.clear();
+    maxInFlight.set(0);
+    latencyMillis = 0;
+  }
+
+  public record SentRequest(String sender, String content, List<SmsSendUnit> units) {}
+}
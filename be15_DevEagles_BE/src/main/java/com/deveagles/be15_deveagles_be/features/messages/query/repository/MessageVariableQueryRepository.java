@@ -0,0 +1,13 @@
+package com.deveagles.be15_deveagles_be.features.messages.query.repository;
+
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageVariable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface MessageVariableQueryRepository {
+
+  // 고객 ID → (변수 키 → 값). 요청한 변수의 컬럼만 조회하며, 매장에 없는 고객은 결과에서 빠진다.
+  Map<Long, Map<String, String>> findVariableValues(
+      Collection<Long> customerIds, Long shopId, Set<MessageVariable> variables);
+}
@@ -0,0 +1,77 @@
+package com.deveagles.be15_deveagles_be.features.messages.query.repository.impl;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.QCustomerGrade;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageVariable;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageVariableQueryRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageVariableQueryRepositoryImpl implements MessageVariableQueryRepository {
+
+  private static final int IN_CLAUSE_CHUNK = 1000;
+
+  private final JPAQueryFactory queryFactory;
+  private final QCustomer customer = QCustomer.customer;
+  private final QCustomerGrade customerGrade = QCustomerGrade.customerGrade;
+
+  @Override
+  public Map<Long, Map<String, String>> findVariableValues(
+      Collection<Long> customerIds, Long shopId, Set<MessageVariable> variables) {
+    if (customerIds.isEmpty()) {
+      return Map.of();
+    }
+
+    // 템플릿에 쓰인 변수의 컬럼만 조회 (변수가 없으면 고객 존재 여부만 확인)
+    Map<MessageVariable, Expression<?>> columns = new EnumMap<>(MessageVariable.class);
+    variables.forEach(variable -> columns.put(variable, column(variable)));
+    List<Expression<?>> select = new ArrayList<>();
+    select.add(customer.id);
+    select.addAll(columns.values());
+
+    List<Long> ids = customerIds.stream().distinct().toList();
+    Map<Long, Map<String, String>> result = new HashMap<>(ids.size() * 2);
+    for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+      List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+      JPAQuery<Tuple> query = queryFactory.select(select.toArray(Expression[]::new)).from(customer);
+      if (variables.contains(MessageVariable.CUSTOMER_GRADE)) {
+        query.leftJoin(customerGrade).on(customer.customerGradeId.eq(customerGrade.id));
+      }
+
+      for (Tuple row : query.where(customer.id.in(chunk), customer.shopId.eq(shopId)).fetch()) {
+        Map<String, String> values = new HashMap<>(columns.size() * 2);
+        columns.forEach(
+            (variable, column) -> values.put(variable.getKey(), format(row.get(column))));
+        result.put(row.get(customer.id), values);
+      }
+    }
+    return result;
+  }
+
+  private Expression<?> column(MessageVariable variable) {
+    return switch (variable) {
+      case CUSTOMER_NAME -> customer.customerName;
+      case CUSTOMER_GRADE -> customerGrade.customerGradeName;
+      case VISIT_COUNT -> customer.visitCount;
+      case RECENT_VISIT_DATE -> customer.recentVisitDate;
+    };
+  }
+
+  private String format(Object value) {
+    return Objects.toString(value, "");
+  }
+}
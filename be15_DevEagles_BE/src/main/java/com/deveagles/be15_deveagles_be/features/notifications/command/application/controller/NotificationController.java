@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,9 +26,13 @@ public class NotificationController {
   private final NotificationSseService notificationSseService;
   private final JwtTokenProvider jwtTokenProvider;
 
-  @Operation(summary = "알림 구독", description = "로그인한 사용자가 실시간 알림을 구독합니다. (SSE)")
+  @Operation(
+      summary = "알림 구독",
+      description = "로그인한 사용자가 실시간 알림을 구독합니다. (SSE) 재연결 시 Last-Event-ID 이후의 알림을 다시 받습니다.")
   @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-  public ResponseEntity<SseEmitter> subscribe(@RequestParam("token") String token) {
+  public ResponseEntity<SseEmitter> subscribe(
+      @RequestParam("token") String token,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
 
     if (!jwtTokenProvider.validateToken(token)) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
@@ -41,7 +46,7 @@ public class NotificationController {
     }
     Long shopId = Long.parseLong(shopIdStr);
 
-    SseEmitter emitter = notificationSseService.subscribe(shopId);
+    SseEmitter emitter = notificationSseService.subscribe(shopId, lastEventId);
     return ResponseEntity.ok(emitter);
   }
 }
@@ -0,0 +1,34 @@
+package com.deveagles.be15_deveagles_be.features.notifications.command.application.dto;
+
+import com.deveagles.be15_deveagles_be.features.notifications.command.domain.aggregate.NotificationType;
+import com.deveagles.be15_deveagles_be.features.notifications.query.application.dto.NotificationResponse;
+import java.time.LocalDateTime;
+
+/** 다른 노드에 연결된 SSE 구독자에게 알림을 전달하기 위해 Redis 채널로 보내는 메시지 */
+public record NotificationRelayMessage(
+    String nodeId,
+    Long shopId,
+    Long notificationId,
+    String title,
+    String content,
+    NotificationType type,
+    boolean read,
+    LocalDateTime createdAt) {
+
+  public static NotificationRelayMessage of(
+      String nodeId, Long shopId, NotificationResponse notification) {
+    return new NotificationRelayMessage(
+        nodeId,
+        shopId,
+        notification.getNotificationId(),
+        notification.getTitle(),
+        notification.getContent(),
+        notification.getType(),
+        notification.isRead(),
+        notification.getCreatedAt());
+  }
+
+  public NotificationResponse toResponse() {
+    return new NotificationResponse(notificationId, title, content, type, read, createdAt);
+  }
+}
@@ -1,71 +1,288 @@
 package com.deveagles.be15_deveagles_be.features.notifications.command.application.service;
 
+import com.deveagles.be15_deveagles_be.features.notifications.command.application.dto.NotificationRelayMessage;
 import com.deveagles.be15_deveagles_be.features.notifications.query.application.dto.NotificationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 매장별 SSE 구독 연결을 관리하고 알림을 전달하는 허브.
+ *
+ * <p>한 매장에 여러 탭/기기가 동시에 연결할 수 있고, 어느 노드에서 만든 알림이든 Redis 채널로 중계되어 모든 노드의 구독자에게 전달된다. 전송은
+ * 연결마다 크기가 제한된 큐에 쌓은 뒤 전용 스레드 풀이 비우므로 알림을 만든 요청 스레드는 네트워크 쓰기를 기다리지 않는다. 큐가 넘치면 가장 오래된
+ * 이벤트를 버리고, 버린 횟수가 한도에 이르면 느린 구독자로 보고 연결을 끊는다.
+ *
+ * <p>최근 알림은 매장별 링 버퍼에 남겨 두었다가 재연결 시 {@code Last-Event-ID} 이후의 알림을 다시 보낸다. 이벤트 ID 는 알림 ID 를 그대로
+ * 사용한다.
+ */
 @Slf4j
 @Service
-public class NotificationSseService {
+@RequiredArgsConstructor
+public class NotificationSseService implements MessageListener {
 
-  // SSE 타임아웃 시간 (1시간)
-  private static final Long SSE_TIMEOUT = 1000L * 60 * 60;
-  // 동시성 문제를 해결하기 위해 ConcurrentHashMap 사용
-  private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+  private static final String CONNECT_EVENT = "connect";
+  private static final String NOTIFICATION_EVENT = "notification";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+
+  // 자기 노드가 중계한 메시지를 구분하기 위한 식별자
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<Long, ShopChannel> channels = new ConcurrentHashMap<>();
+
+  @Value("${notification.sse.timeout-ms:3600000}")
+  private long timeoutMillis;
+
+  @Value("${notification.sse.queue-capacity:64}")
+  private int queueCapacity;
+
+  @Value("${notification.sse.max-dropped-events:16}")
+  private int maxDroppedEvents;
+
+  @Value("${notification.sse.replay-buffer-size:50}")
+  private int replayBufferSize;
+
+  @Value("${notification.sse.writer-pool-size:4}")
+  private int writerPoolSize;
+
+  @Value("${notification.sse.relay-channel:notification:relay}")
+  private String relayChannel;
+
+  private ThreadPoolTaskExecutor writer;
+
+  @PostConstruct
+  void init() {
+    writer = new ThreadPoolTaskExecutor();
+    writer.setCorePoolSize(writerPoolSize);
+    writer.setMaxPoolSize(writerPoolSize);
+    writer.setThreadNamePrefix("sse-writer-");
+    writer.initialize();
+    listenerContainer.addMessageListener(this, new ChannelTopic(relayChannel));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    writer.shutdown();
+  }
+
+  public SseEmitter subscribe(Long shopId) {
+    return subscribe(shopId, null);
+  }
 
   /**
    * 사용자가 구독을 시작하면, SseEmitter를 생성하고 저장합니다.
    *
    * @param shopId 구독하는 사용자의 매장 ID
+   * @param lastEventId 재연결 시 브라우저가 보내는 마지막 수신 이벤트 ID (없으면 null)
    * @return 생성된 SseEmitter 객체
    */
-  public SseEmitter subscribe(Long shopId) {
-    SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-    emitters.put(shopId, emitter);
+  public SseEmitter subscribe(Long shopId, String lastEventId) {
+    SseEmitter emitter = createEmitter(timeoutMillis);
+    SseConnection connection = new SseConnection(shopId, emitter, queueCapacity);
 
-    // 연결이 종료되거나 타임아웃되면 emitters 맵에서 제거
-    emitter.onCompletion(() -> emitters.remove(shopId));
-    emitter.onTimeout(() -> emitters.remove(shopId));
+    // 연결이 종료되거나 타임아웃되면 구독 목록에서 제거
+    emitter.onCompletion(() -> remove(connection));
+    emitter.onTimeout(() -> remove(connection));
     emitter.onError(
         e -> {
-          log.error("SSE Emitter error for shopId: {}", shopId, e);
-          emitters.remove(shopId);
+          log.debug("SSE 연결 오류 - shopId: {}, 사유: {}", shopId, e.getMessage());
+          remove(connection);
         });
 
-    // 연결 직후, 더미 데이터를 보내 연결이 수립되었음을 클라이언트에게 알림
-    sendToClient(emitter, "connect", "SSE 연결이 성공적으로 완료되었습니다. (shopId: " + shopId + ")");
+    // 연결 직후, 더미 데이터를 보내 연결이 수립되었음을 클라이언트에게 알림 (ID 가 없어 Last-Event-ID 를 바꾸지 않는다)
+    enqueue(
+        connection,
+        new OutboundEvent(
+            null, CONNECT_EVENT, "SSE 연결이 성공적으로 완료되었습니다. (shopId: " + shopId + ")"));
 
+    ShopChannel channel = channels.computeIfAbsent(shopId, id -> new ShopChannel());
+    Long replayAfter = parseEventId(lastEventId);
+    synchronized (channel) {
+      channel.connections.add(connection);
+      if (replayAfter != null) {
+        channel.recent.stream()
+            .filter(event -> event.id() > replayAfter)
+            .forEach(event -> enqueue(connection, event));
+      }
+    }
     return emitter;
   }
 
   /**
-   * 특정 매장(사용자)에게 알림을 보냅니다.
+   * 특정 매장의 모든 구독자(다른 노드 포함)에게 알림을 보냅니다.
    *
    * @param shopId 알림을 받을 매장의 ID
    * @param notification 저장된 알림 객체
    */
   public void send(Long shopId, NotificationResponse notification) {
-    if (emitters.containsKey(shopId)) {
-      SseEmitter emitter = emitters.get(shopId);
-      sendToClient(emitter, "notification", notification);
+    deliverLocal(shopId, notification);
+    try {
+      redisTemplate.convertAndSend(
+          relayChannel,
+          objectMapper.writeValueAsString(
+              NotificationRelayMessage.of(nodeId, shopId, notification)));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("알림 중계 실패 - shopId: {}, 사유: {}", shopId, e.getMessage());
     }
   }
 
-  /** 클라이언트에게 실제 데이터를 전송하는 헬퍼 메서드 */
-  private void sendToClient(SseEmitter emitter, String eventName, Object data) {
+  /** 다른 노드가 중계한 알림을 이 노드의 구독자에게 전달한다. */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    NotificationRelayMessage relay;
     try {
-      emitter.send(
-          SseEmitter.event()
-              .id(String.valueOf(System.currentTimeMillis())) // 이벤트 ID
-              .name(eventName) // 클라이언트가 수신할 이벤트 이름
-              .data(data)); // 실제 전송할 데이터 (JSON으로 변환됨)
+      relay = objectMapper.readValue(message.getBody(), NotificationRelayMessage.class);
     } catch (IOException e) {
-      log.error("SSE 데이터 전송 중 오류 발생: {}", e.getMessage());
-      emitter.complete(); // 오류 발생 시 연결 종료
+      log.warn("알 수 없는 알림 중계 메시지 무시 - 사유: {}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(relay.nodeId())) {
+      return;
+    }
+    deliverLocal(relay.shopId(), relay.toResponse());
+  }
+
+  public int connectionCount(Long shopId) {
+    ShopChannel channel = channels.get(shopId);
+    return channel == null ? 0 : channel.connections.size();
+  }
+
+  // 테스트에서 전송 내용을 확인할 수 있도록 분리
+  SseEmitter createEmitter(long timeout) {
+    return new SseEmitter(timeout);
+  }
+
+  private void deliverLocal(Long shopId, NotificationResponse notification) {
+    OutboundEvent event =
+        new OutboundEvent(notification.getNotificationId(), NOTIFICATION_EVENT, notification);
+    ShopChannel channel = channels.computeIfAbsent(shopId, id -> new ShopChannel());
+
+    // 재연결 구독과 순서가 엇갈리지 않도록 버퍼 기록과 큐 적재를 함께 처리한다 (큐 적재는 블로킹하지 않음)
+    synchronized (channel) {
+      if (event.id() != null) {
+        channel.recent.addLast(event);
+        while (channel.recent.size() > replayBufferSize) {
+          channel.recent.removeFirst();
+        }
+      }
+      channel.connections.forEach(connection -> enqueue(connection, event));
+    }
+  }
+
+  private void enqueue(SseConnection connection, OutboundEvent event) {
+    if (connection.closed.get()) {
+      return;
+    }
+    if (!connection.queue.offer(event)) {
+      // 큐가 가득 차면 가장 오래된 이벤트를 버리고, 계속 밀리는 구독자는 끊어 재연결(재전송)로 따라잡게 한다
+      connection.queue.poll();
+      if (connection.dropped.incrementAndGet() >= maxDroppedEvents) {
+        log.info("느린 SSE 구독자 연결 종료 - shopId: {}", connection.shopId);
+        close(connection);
+        return;
+      }
+      connection.queue.offer(event);
+    }
+    if (connection.scheduled.compareAndSet(false, true)) {
+      writer.execute(() -> drain(connection));
+    }
+  }
+
+  // 연결당 하나의 작업만 큐를 비우므로 이벤트 순서가 유지된다
+  private void drain(SseConnection connection) {
+    try {
+      OutboundEvent event;
+      while (!connection.closed.get() && (event = connection.queue.poll()) != null) {
+        SseEmitter.SseEventBuilder builder =
+            SseEmitter.event().name(event.name()).data(event.data());
+        if (event.id() != null) {
+          builder.id(String.valueOf(event.id()));
+        }
+        connection.emitter.send(builder);
+      }
+    } catch (IOException | IllegalStateException e) {
+      log.debug("SSE 데이터 전송 실패 - shopId: {}, 사유: {}", connection.shopId, e.getMessage());
+      close(connection);
+    } finally {
+      connection.scheduled.set(false);
+      if (!connection.closed.get()
+          && !connection.queue.isEmpty()
+          && connection.scheduled.compareAndSet(false, true)) {
+        writer.execute(() -> drain(connection));
+      }
+    }
+  }
+
+  private void close(SseConnection connection) {
+    remove(connection);
+    connection.emitter.complete();
+  }
+
+  private void remove(SseConnection connection) {
+    connection.closed.set(true);
+    connection.queue.clear();
+    ShopChannel channel = channels.get(connection.shopId);
+    if (channel != null) {
+      channel.connections.remove(connection);
+    }
+  }
+
+  private Long parseEventId(String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.valueOf(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private record OutboundEvent(Long id, String name, Object data) {}
+
+  private static final class ShopChannel {
+    private final Set<SseConnection> connections = ConcurrentHashMap.newKeySet();
+    // 재연결 재전송용 최근 알림 (this 로 동기화)
+    private final Deque<OutboundEvent> recent = new ArrayDeque<>();
+  }
+
+  private static final class SseConnection {
+    private final Long shopId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<OutboundEvent> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    private SseConnection(Long shopId, SseEmitter emitter, int capacity) {
+      this.shopId = shopId;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(capacity);
     }
   }
 }
@@ -0,0 +1,33 @@
+package com.deveagles.be15_deveagles_be.features.sales.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Payments;
+import java.util.Date;
+
+/**
+ * 고객 선불권/횟수권 잔액 원장.
+ *
+ * <p>잔액은 조건부 UPDATE 한 번으로 차감해 동시에 결제해도 0 아래로 내려가거나 차감이 유실되지 않는다. 모든 차감/복원은
+ * customer_membership_history 에 이동 내역(차감량, 이동 후 잔액)으로 쌓인다. 호출하는 쪽의 트랜잭션에 참여한다.
+ */
+public interface PassLedgerService {
+
+  /** 선불권 잔액을 차감하고 사용 이력을 남긴다. 잔액이 부족하면 차감하지 않고 예외를 던진다. */
+  void usePrepaidPass(Long customerPrepaidPassId, int amount, Long salesId, Long paymentsId);
+
+  /** 횟수권 잔여 횟수를 차감하고 사용 이력을 남긴다. 횟수가 부족하면 차감하지 않고 예외를 던진다. */
+  void useSessionPass(Long customerSessionPassId, int count, Long salesId, Long paymentsId);
+
+  /** 결제에 쓴 회원권 잔액을 되돌리고 복원 이력을 남긴다. 회원권 결제가 아니면 아무것도 하지 않는다. */
+  void restore(Long salesId, Payments payment);
+
+  /**
+   * 관리자가 조회한 버전({@code version})의 잔액과 새 잔액의 차이만큼 선불권을 조정하고 조정 이력을 남긴다. 그 사이 결제 등으로 버전이
+   * 바뀌었으면 덮어쓰지 않고 예외를 던진다. 잔액과 유효기간 중 null 인 값은 바꾸지 않는다.
+   */
+  void adjustPrepaidPass(
+      Long customerPrepaidPassId, Long version, Integer remainingAmount, Date expirationDate);
+
+  /** 횟수권 잔여 횟수를 {@link #adjustPrepaidPass} 와 같은 방식으로 조정한다. */
+  void adjustSessionPass(
+      Long customerSessionPassId, Long version, Integer remainingCount, Date expirationDate);
+}
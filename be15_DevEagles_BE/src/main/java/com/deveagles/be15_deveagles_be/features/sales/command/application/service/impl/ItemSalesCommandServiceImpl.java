@@ -1,35 +1,40 @@
 package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
-import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
-import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.dto.request.ItemSalesRequest;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.dto.request.PaymentsInfo;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.service.ItemSalesCommandService;
+import com.deveagles.be15_deveagles_be.features.sales.command.application.service.PassLedgerService;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.*;
-import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.CustomerMembershipHistoryRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.ItemSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.PaymentCompletedEvent;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
 
-  private final CustomerPrepaidPassRepository customerPrepaidPassRepository;
-  private final CustomerSessionPassRepository customerSessionPassRepository;
   private final SalesRepository salesRepository;
   private final PaymentsRepository paymentsRepository;
   private final CustomerRepository customerRepository;
   private final ItemSalesRepository itemSalesRepository;
-  private final CustomerMembershipHistoryRepository customerMembershipHistoryRepository;
+  private final PassLedgerService passLedgerService;
+  private final SalesRollupCommandService salesRollupCommandService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -99,42 +104,17 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
 
       Long savedPaymentsId = payment.getPaymentsId(); // 저장된 결제 ID
 
+      // 회원권 잔액은 원장에서 조건부로 차감한다 (잔액 부족 시 예외로 전체 롤백)
       switch (p.getPaymentsMethod()) {
-        case PREPAID_PASS -> {
-          var pass =
-              customerPrepaidPassRepository
-                  .findById(p.getCustomerPrepaidPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-
-          pass.useAmount(p.getAmount());
-
-          customerMembershipHistoryRepository.save(
-              CustomerMembershipHistory.builder()
-                  .salesId(sales.getSalesId())
-                  .paymentsId(savedPaymentsId)
-                  .customerPrepaidPassId(pass.getCustomerPrepaidPassId())
-                  .build());
-        }
-
-        case SESSION_PASS -> {
-          var pass =
-              customerSessionPassRepository
-                  .findById(p.getCustomerSessionPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-
-          int useCount = p.getUsedCount() != null ? p.getUsedCount() : 1;
-          pass.useCount(useCount);
-
-          customerMembershipHistoryRepository.save(
-              CustomerMembershipHistory.builder()
-                  .salesId(sales.getSalesId())
-                  .paymentsId(savedPaymentsId)
-                  .customerSessionPassId(pass.getCustomerSessionPassId())
-                  .usedCount(useCount)
-                  .build());
-        }
+        case PREPAID_PASS ->
+            passLedgerService.usePrepaidPass(
+                p.getCustomerPrepaidPassId(), p.getAmount(), sales.getSalesId(), savedPaymentsId);
+        case SESSION_PASS ->
+            passLedgerService.useSessionPass(
+                p.getCustomerSessionPassId(),
+                p.getUsedCount() != null ? p.getUsedCount() : 1,
+                sales.getSalesId(),
+                savedPaymentsId);
       }
     }
     // 3. item_sales 저장
@@ -147,7 +127,11 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
             .couponId(request.getCouponId())
             .build());
 
-    // 4. 고객 정보 갱신
+    // 4. 일자별 매출 집계 반영
+    salesRollupCommandService.add(SalesRollupEntry.of(sales, request.getCouponId() != null));
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
+
+    // 5. 고객 정보 갱신
     Customer customer =
         customerRepository
             .findById(request.getCustomerId())
@@ -155,6 +139,20 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
     customer.incrementVisitCount();
     customer.addRevenue(request.getTotalAmount());
     customer.updateRecentVisitDate(request.getSalesDate().toLocalDate());
+
+    // 6. 워크플로우 트리거 이벤트 발행 (커밋 이후 비동기로 평가)
+    eventPublisher.publishEvent(
+        new CustomerVisitEvent(
+            request.getCustomerId(),
+            request.getShopId(),
+            String.valueOf(request.getSecondaryItemId()),
+            request.getSalesDate()));
+    eventPublisher.publishEvent(
+        new PaymentCompletedEvent(
+            request.getCustomerId(),
+            request.getShopId(),
+            request.getTotalAmount().longValue(),
+            request.getSalesDate()));
   }
 
   @Transactional
@@ -166,8 +164,10 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
             .findById(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SALES_NOT_FOUND));
 
-    // 1-1. 수정 전 총금액을 로컬 변수에 저장
+    // 1-1. 수정 전 총금액과 집계 반영값을 로컬 변수에 저장
     int oldTotalAmount = sales.getTotalAmount();
+    LocalDateTime oldSalesDate = sales.getSalesDate();
+    Integer oldDiscountAmount = sales.getDiscountAmount();
 
     // 2. 기존 Payments 조회 및 soft delete + 패스 복원
     List<Payments> oldPayments = paymentsRepository.findAllBySalesId(salesId);
@@ -175,32 +175,8 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
     for (Payments old : oldPayments) {
       old.softDelete();
 
-      // customer_membership_history 기반으로 어떤 패스를 썼는지 확인
-      customerMembershipHistoryRepository
-          .findBySalesIdAndPaymentsId(salesId, old.getPaymentsId())
-          .ifPresent(
-              history -> {
-                if (history.getCustomerPrepaidPassId() != null) {
-                  var pass =
-                      customerPrepaidPassRepository
-                          .findById(history.getCustomerPrepaidPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-                  pass.restoreAmount(old.getAmount());
-                }
-
-                if (history.getCustomerSessionPassId() != null) {
-                  var pass =
-                      customerSessionPassRepository
-                          .findById(history.getCustomerSessionPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-                  pass.restoreCount(history.getUsedCount());
-                }
-
-                // history도 soft delete
-                history.softDelete();
-              });
+      // customer_membership_history 기반으로 사용한 패스를 복원하고 복원 이력을 남긴다
+      passLedgerService.restore(salesId, old);
     }
 
     // 3. Sales 필드 수정
@@ -225,42 +201,17 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
               .build();
       paymentsRepository.save(payment);
 
-      // customer_membership_history 저장용 변수
-      Long customerPrepaidPassId = null;
-      Long customerSessionPassId = null;
-
-      int usedCount = 0;
       switch (p.getPaymentsMethod()) {
-        case PREPAID_PASS -> {
-          var pass =
-              customerPrepaidPassRepository
-                  .findById(p.getCustomerPrepaidPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-          pass.useAmount(p.getAmount());
-          customerPrepaidPassId = pass.getCustomerPrepaidPassId();
-        }
-
-        case SESSION_PASS -> {
-          var pass =
-              customerSessionPassRepository
-                  .findById(p.getCustomerSessionPassId())
-                  .orElseThrow(
-                      () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-          usedCount = p.getUsedCount() != null ? p.getUsedCount() : 1;
-          pass.useCount(usedCount);
-          customerSessionPassId = pass.getCustomerSessionPassId();
-        }
+        case PREPAID_PASS ->
+            passLedgerService.usePrepaidPass(
+                p.getCustomerPrepaidPassId(), p.getAmount(), salesId, payment.getPaymentsId());
+        case SESSION_PASS ->
+            passLedgerService.useSessionPass(
+                p.getCustomerSessionPassId(),
+                p.getUsedCount() != null ? p.getUsedCount() : 1,
+                salesId,
+                payment.getPaymentsId());
       }
-
-      customerMembershipHistoryRepository.save(
-          CustomerMembershipHistory.builder()
-              .salesId(salesId)
-              .paymentsId(payment.getPaymentsId())
-              .customerPrepaidPassId(customerPrepaidPassId)
-              .customerSessionPassId(customerSessionPassId)
-              .usedCount(usedCount)
-              .build());
     }
 
     // 5. ItemSales 수정
@@ -268,12 +219,27 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
         itemSalesRepository
             .findBySalesId(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.ITEMSALES_NOT_FOUND));
+    boolean oldCouponApplied = itemSales.getCouponId() != null;
     itemSales.updateItemSales(
         request.getSecondaryItemId(),
         request.getQuantity(),
         request.getDiscountRate(),
         request.getCouponId());
 
+    // 5-1. 일자별 매출 집계 갱신 (환불된 매출은 이미 집계에서 제외됨)
+    if (!Boolean.TRUE.equals(sales.getIsRefunded())) {
+      salesRollupCommandService.replace(
+          new SalesRollupEntry(
+              sales.getShopId(),
+              oldSalesDate,
+              oldTotalAmount,
+              oldDiscountAmount,
+              oldCouponApplied),
+          SalesRollupEntry.of(sales, request.getCouponId() != null));
+    }
+    // 환불된 매출도 고객, 담당자, 상품 등 통계 결과에 쓰이는 값이 바뀌므로 항상 알린다
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
+
     // 6. 고객 정보 갱신 (금액 차이 반영)
     Customer customer =
         customerRepository
@@ -305,39 +271,18 @@ public class ItemSalesCommandServiceImpl implements ItemSalesCommandService {
 
     for (Payments old : oldPayments) {
       old.softDelete();
-
-      customerMembershipHistoryRepository
-          .findBySalesIdAndPaymentsId(salesId, old.getPaymentsId())
-          .ifPresent(
-              history -> {
-                if (history.getCustomerPrepaidPassId() != null) {
-                  var pass =
-                      customerPrepaidPassRepository
-                          .findById(history.getCustomerPrepaidPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
-                  pass.restoreAmount(old.getAmount());
-                }
-
-                if (history.getCustomerSessionPassId() != null) {
-                  var pass =
-                      customerSessionPassRepository
-                          .findById(history.getCustomerSessionPassId())
-                          .orElseThrow(
-                              () -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
-                  Integer usedCount = history.getUsedCount();
-                  if (usedCount == null) {
-                    throw new BusinessException(ErrorCode.INVALID_MEMBERSHIP_HISTORY);
-                  }
-                  pass.restoreCount(usedCount);
-                }
-
-                history.softDelete();
-              });
+      passLedgerService.restore(salesId, old);
     }
 
     // 3. Sales 환불 처리
     sales.setRefunded(true);
+    boolean couponApplied =
+        itemSalesRepository
+            .findBySalesId(salesId)
+            .map(itemSales -> itemSales.getCouponId() != null)
+            .orElse(false);
+    salesRollupCommandService.refund(SalesRollupEntry.of(sales, couponApplied));
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
 
     // 4. 고객 정보 롤백
     Customer customer =
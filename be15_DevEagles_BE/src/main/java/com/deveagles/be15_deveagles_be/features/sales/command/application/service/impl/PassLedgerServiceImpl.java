@@ -0,0 +1,227 @@
+package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
+import com.deveagles.be15_deveagles_be.features.sales.command.application.service.PassLedgerService;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.CustomerMembershipHistory;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PassMovementType;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Payments;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.CustomerMembershipHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PassLedgerServiceImpl implements PassLedgerService {
+
+  private final CustomerPrepaidPassRepository customerPrepaidPassRepository;
+  private final CustomerSessionPassRepository customerSessionPassRepository;
+  private final CustomerMembershipHistoryRepository customerMembershipHistoryRepository;
+
+  @Override
+  @Transactional
+  public void usePrepaidPass(
+      Long customerPrepaidPassId, int amount, Long salesId, Long paymentsId) {
+    if (customerPrepaidPassId == null) {
+      throw new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND);
+    }
+    if (amount <= 0) {
+      throw new BusinessException(ErrorCode.SALES_PAYMENTSAMOUNT_REQUIRED);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (customerPrepaidPassRepository.deductAmount(customerPrepaidPassId, amount, now) == 0) {
+      // 차감되지 않은 이유가 없는 선불권인지 잔액 부족인지 구분한다
+      remainingAmount(customerPrepaidPassId);
+      throw new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_INSUFFICIENT_AMOUNT);
+    }
+
+    // 차감한 행은 커밋 전까지 이 트랜잭션이 잠그고 있으므로 다시 읽은 잔액이 곧 이동 후 잔액이다
+    customerMembershipHistoryRepository.save(
+        CustomerMembershipHistory.builder()
+            .salesId(salesId)
+            .paymentsId(paymentsId)
+            .customerPrepaidPassId(customerPrepaidPassId)
+            .movementType(PassMovementType.USE)
+            .usedAmount(amount)
+            .remainingAfter(remainingAmount(customerPrepaidPassId))
+            .createdAt(now)
+            .modifiedAt(now)
+            .build());
+  }
+
+  @Override
+  @Transactional
+  public void useSessionPass(Long customerSessionPassId, int count, Long salesId, Long paymentsId) {
+    if (customerSessionPassId == null) {
+      throw new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND);
+    }
+    if (count <= 0) {
+      throw new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_INVALID_COUNT);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (customerSessionPassRepository.deductCount(customerSessionPassId, count, now) == 0) {
+      remainingCount(customerSessionPassId);
+      throw new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_INSUFFICIENT_COUNT);
+    }
+
+    customerMembershipHistoryRepository.save(
+        CustomerMembershipHistory.builder()
+            .salesId(salesId)
+            .paymentsId(paymentsId)
+            .customerSessionPassId(customerSessionPassId)
+            .movementType(PassMovementType.USE)
+            .usedCount(count)
+            .remainingAfter(remainingCount(customerSessionPassId))
+            .createdAt(now)
+            .modifiedAt(now)
+            .build());
+  }
+
+  @Override
+  @Transactional
+  public void restore(Long salesId, Payments payment) {
+    customerMembershipHistoryRepository
+        .findBySalesIdAndPaymentsIdAndMovementTypeAndDeletedAtIsNull(
+            salesId, payment.getPaymentsId(), PassMovementType.USE)
+        .ifPresent(usage -> restore(usage, payment));
+  }
+
+  private void restore(CustomerMembershipHistory usage, Payments payment) {
+    // 회원권 없이 남은 예전 결제 이력은 삭제 표시만 한다
+    if (usage.getCustomerPrepaidPassId() == null && usage.getCustomerSessionPassId() == null) {
+      usage.softDelete();
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    CustomerMembershipHistory.CustomerMembershipHistoryBuilder restored =
+        CustomerMembershipHistory.builder()
+            .salesId(usage.getSalesId())
+            .paymentsId(usage.getPaymentsId())
+            .movementType(PassMovementType.RESTORE)
+            .createdAt(now)
+            .modifiedAt(now);
+
+    if (usage.getCustomerPrepaidPassId() != null) {
+      Long passId = usage.getCustomerPrepaidPassId();
+      // 이동량을 기록하기 전의 이력은 결제 금액만큼 사용한 것으로 본다
+      int amount = usage.getUsedAmount() != null ? usage.getUsedAmount() : payment.getAmount();
+      if (customerPrepaidPassRepository.restoreAmount(passId, amount, now) == 0) {
+        throw new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND);
+      }
+      restored
+          .customerPrepaidPassId(passId)
+          .usedAmount(amount)
+          .remainingAfter(remainingAmount(passId));
+    } else {
+      Long passId = usage.getCustomerSessionPassId();
+      Integer count = usage.getUsedCount();
+      if (count == null) {
+        throw new BusinessException(ErrorCode.INVALID_MEMBERSHIP_HISTORY);
+      }
+      if (customerSessionPassRepository.restoreCount(passId, count, now) == 0) {
+        throw new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND);
+      }
+      restored
+          .customerSessionPassId(passId)
+          .usedCount(count)
+          .remainingAfter(remainingCount(passId));
+    }
+
+    // 사용 이력은 되돌렸다는 표시만 하고, 복원은 새 이력으로 남긴다
+    usage.softDelete();
+    customerMembershipHistoryRepository.save(restored.build());
+  }
+
+  @Override
+  @Transactional
+  public void adjustPrepaidPass(
+      Long customerPrepaidPassId, Long version, Integer remainingAmount, Date expirationDate) {
+    CustomerPrepaidPass pass =
+        customerPrepaidPassRepository
+            .findById(customerPrepaidPassId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
+    // 관리자가 본 잔액이 이미 바뀌었으면 그 값을 기준으로 한 수정은 덮어쓰지 않는다
+    if (!Objects.equals(pass.getVersion(), version)) {
+      throw new BusinessException(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE);
+    }
+
+    int before = pass.getRemainingAmount();
+    int delta = remainingAmount != null ? remainingAmount - before : 0;
+    LocalDateTime now = LocalDateTime.now();
+    // 읽은 뒤 결제가 끼어들면 버전 조건에 걸려 조정되지 않는다
+    if (customerPrepaidPassRepository.adjustAmount(
+            customerPrepaidPassId, version, delta, expirationDate, now)
+        == 0) {
+      throw new BusinessException(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE);
+    }
+
+    if (delta != 0) {
+      customerMembershipHistoryRepository.save(
+          CustomerMembershipHistory.builder()
+              .customerPrepaidPassId(customerPrepaidPassId)
+              .movementType(PassMovementType.ADJUST)
+              .usedAmount(delta)
+              .remainingAfter(before + delta)
+              .createdAt(now)
+              .modifiedAt(now)
+              .build());
+    }
+  }
+
+  @Override
+  @Transactional
+  public void adjustSessionPass(
+      Long customerSessionPassId, Long version, Integer remainingCount, Date expirationDate) {
+    CustomerSessionPass pass =
+        customerSessionPassRepository
+            .findById(customerSessionPassId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
+    if (!Objects.equals(pass.getVersion(), version)) {
+      throw new BusinessException(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE);
+    }
+
+    int before = pass.getRemainingCount();
+    int delta = remainingCount != null ? remainingCount - before : 0;
+    LocalDateTime now = LocalDateTime.now();
+    if (customerSessionPassRepository.adjustCount(
+            customerSessionPassId, version, delta, expirationDate, now)
+        == 0) {
+      throw new BusinessException(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE);
+    }
+
+    if (delta != 0) {
+      customerMembershipHistoryRepository.save(
+          CustomerMembershipHistory.builder()
+              .customerSessionPassId(customerSessionPassId)
+              .movementType(PassMovementType.ADJUST)
+              .usedCount(delta)
+              .remainingAfter(before + delta)
+              .createdAt(now)
+              .modifiedAt(now)
+              .build());
+    }
+  }
+
+  private int remainingAmount(Long customerPrepaidPassId) {
+    return customerPrepaidPassRepository
+        .findRemainingAmountById(customerPrepaidPassId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND));
+  }
+
+  private int remainingCount(Long customerSessionPassId) {
+    return customerSessionPassRepository
+        .findRemainingCountById(customerSessionPassId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND));
+  }
+}
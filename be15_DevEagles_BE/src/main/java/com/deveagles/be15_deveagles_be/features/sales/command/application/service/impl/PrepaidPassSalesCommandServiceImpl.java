@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerPrepaidPassRegistRequest;
@@ -16,11 +17,14 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PrepaidPassSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -32,6 +36,8 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
   private final SalesRepository salesRepository;
   private final PaymentsRepository paymentsRepository;
   private final CustomerPrepaidPassCommandService customerPrepaidPassCommandService;
+  private final SalesRollupCommandService salesRollupCommandService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -69,6 +75,8 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
             .isRefunded(false)
             .build();
     salesRepository.save(sales);
+    salesRollupCommandService.add(SalesRollupEntry.of(sales, false));
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
 
     // PrepaidPassSales 저장
     PrepaidPassSales prepaidPassSales =
@@ -146,6 +154,8 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
         salesRepository
             .findById(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SALES_NOT_FOUND));
+    SalesRollupEntry before = SalesRollupEntry.of(sales, false);
+    Long beforeShopId = sales.getShopId();
 
     sales.update(
         request.getShopId(),
@@ -158,6 +168,14 @@ public class PrepaidPassSalesCommandServiceImpl implements PrepaidPassSalesComma
         request.getTotalAmount(),
         request.getSalesMemo(),
         request.getSalesDate());
+    if (!Boolean.TRUE.equals(sales.getIsRefunded())) {
+      salesRollupCommandService.replace(before, SalesRollupEntry.of(sales, false));
+    }
+    // 환불된 매출도 통계 결과에 쓰이는 값이 바뀌므로 항상 알리고, 매장이 바뀌었으면 이전 매장도 알린다
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
+    if (beforeShopId != null && !beforeShopId.equals(sales.getShopId())) {
+      eventPublisher.publishEvent(new StatisticsDataChangedEvent(beforeShopId));
+    }
 
     prepaidPassSalesRepository.deleteBySalesId(salesId);
     PrepaidPassSales prepaidPassSales =
@@ -1,12 +1,17 @@
 package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.service.SalesCommandService;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Sales;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.ItemSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -14,6 +19,9 @@ import org.springframework.stereotype.Service;
 public class SalesCommandServiceImpl implements SalesCommandService {
 
   private final SalesRepository salesRepository;
+  private final ItemSalesRepository itemSalesRepository;
+  private final SalesRollupCommandService salesRollupCommandService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -28,6 +36,13 @@ public class SalesCommandServiceImpl implements SalesCommandService {
     }
 
     sales.setRefunded(true);
+    boolean couponApplied =
+        itemSalesRepository
+            .findBySalesId(salesId)
+            .map(itemSales -> itemSales.getCouponId() != null)
+            .orElse(false);
+    salesRollupCommandService.refund(SalesRollupEntry.of(sales, couponApplied));
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
   }
 
   @Transactional
@@ -43,5 +58,6 @@ public class SalesCommandServiceImpl implements SalesCommandService {
     }
 
     sales.delete(); // deletedAt = now()
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
   }
 }
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerSessionPassRegistRequest;
@@ -16,11 +17,14 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SessionPassSalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import jakarta.transaction.Transactional;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -32,6 +36,8 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
   private final SalesRepository salesRepository;
   private final PaymentsRepository paymentsRepository;
   private final CustomerSessionPassCommandService customerSessionPassCommandService;
+  private final SalesRollupCommandService salesRollupCommandService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -67,6 +73,8 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
             .isRefunded(false)
             .build();
     salesRepository.save(sales);
+    salesRollupCommandService.add(SalesRollupEntry.of(sales, false));
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
 
     // 2. SessionPassSales 저장
     SessionPassSales sessionPassSales =
@@ -145,6 +153,8 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
         salesRepository
             .findById(salesId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SALES_NOT_FOUND));
+    SalesRollupEntry before = SalesRollupEntry.of(sales, false);
+    Long beforeShopId = sales.getShopId();
 
     sales.update(
         request.getShopId(),
@@ -157,6 +167,14 @@ public class SessionPassSalesCommandServiceImpl implements SessionPassSalesComma
         request.getTotalAmount(),
         request.getSalesMemo(),
         request.getSalesDate());
+    if (!Boolean.TRUE.equals(sales.getIsRefunded())) {
+      salesRollupCommandService.replace(before, SalesRollupEntry.of(sales, false));
+    }
+    // 환불된 매출도 통계 결과에 쓰이는 값이 바뀌므로 항상 알리고, 매장이 바뀌었으면 이전 매장도 알린다
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(sales.getShopId()));
+    if (beforeShopId != null && !beforeShopId.equals(sales.getShopId())) {
+      eventPublisher.publishEvent(new StatisticsDataChangedEvent(beforeShopId));
+    }
 
     // 2. 기존 SessionPassSales 삭제 후 저장
     sessionPassSalesRepository.deleteBySalesId(salesId);
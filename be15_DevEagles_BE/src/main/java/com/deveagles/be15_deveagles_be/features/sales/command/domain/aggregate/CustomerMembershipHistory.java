@@ -17,10 +17,11 @@ public class CustomerMembershipHistory {
   @Column(name = "customer_membership_history_id")
   private Long customerMembershipHistoryId;
 
-  @Column(name = "sales_id", nullable = false)
+  // 관리자 조정(ADJUST) 이력은 매출/결제 없이 남는다
+  @Column(name = "sales_id")
   private Long salesId;
 
-  @Column(name = "payments_id", nullable = false)
+  @Column(name = "payments_id")
   private Long paymentsId;
 
   @Column(name = "customer_prepaid_pass_id")
@@ -32,6 +33,18 @@ public class CustomerMembershipHistory {
   @Column(name = "used_count")
   private Integer usedCount;
 
+  @Enumerated(EnumType.STRING)
+  @Column(name = "movement_type", nullable = false)
+  private PassMovementType movementType;
+
+  // 선불권 차감/복원 금액 (횟수권은 usedCount)
+  @Column(name = "used_amount")
+  private Integer usedAmount;
+
+  // 이 이동 직후의 잔액(선불권) 또는 잔여 횟수(횟수권)
+  @Column(name = "remaining_after")
+  private Integer remainingAfter;
+
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
@@ -41,6 +54,7 @@ public class CustomerMembershipHistory {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
+  /** 이력은 고치지 않고 쌓기만 한다. 되돌린 사용 이력은 삭제 표시만 하고 복원 이력을 따로 남긴다. */
   public void softDelete() {
     this.deletedAt = LocalDateTime.now();
   }
@@ -0,0 +1,7 @@
+package com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate;
+
+public enum PassMovementType {
+  USE, // 결제로 차감
+  RESTORE, // 매출 수정/환불로 복원
+  ADJUST // 관리자가 잔액을 직접 조정 (매출/결제 없음, 이동량은 음수일 수 있다)
+}
@@ -6,6 +6,7 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.application.dt
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.CreateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationStatusRequest;
+import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.response.ReservationStatusChangeResult;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -55,12 +56,14 @@ public class ReservationCommandController {
     return ApiResponse.success(null);
   }
 
-  @Operation(summary = "예약 상태 변경", description = "예약 상태를 변경합니다.")
+  @Operation(
+      summary = "예약 상태 변경",
+      description = "예약 상태를 일괄 변경합니다. 예약별 성공 여부와 실패 사유를 반환합니다.")
   @PutMapping("/status")
-  public ApiResponse<Void> changeReservationStatuses(
+  public ApiResponse<List<ReservationStatusChangeResult>> changeReservationStatuses(
       @AuthenticationPrincipal CustomUser user,
       @RequestBody List<UpdateReservationStatusRequest> requestList) {
-    reservationService.changeReservationStatuses(user.getShopId(), requestList);
-    return ApiResponse.success(null);
+    return ApiResponse.success(
+        reservationService.changeReservationStatuses(user.getShopId(), requestList));
   }
 }
@@ -0,0 +1,17 @@
+package com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.response;
+
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+
+/** 예약 상태 일괄 변경의 예약별 결과. 실패하면 errorCode 와 사유를 담는다. */
+public record ReservationStatusChangeResult(
+    Long reservationId, boolean success, String errorCode, String resultMessage) {
+
+  public static ReservationStatusChangeResult changed(Long reservationId) {
+    return new ReservationStatusChangeResult(reservationId, true, null, null);
+  }
+
+  public static ReservationStatusChangeResult failed(Long reservationId, ErrorCode errorCode) {
+    return new ReservationStatusChangeResult(
+        reservationId, false, errorCode.getCode(), errorCode.getMessage());
+  }
+}
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
+import com.deveagles.be15_deveagles_be.common.events.StaffLeaveChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.*;
@@ -10,6 +11,7 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.domain.reposit
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.RegularLeaveRepository;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class LeaveCommandService {
 
   private final LeaveRepository leaveRepository;
   private final RegularLeaveRepository regularLeaveRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public Long createLeave(Long shopId, CreateLeaveRequest request) {
@@ -30,7 +33,9 @@ public class LeaveCommandService {
             .leaveAt(request.leaveAt())
             .leaveMemo(request.leaveMemo())
             .build();
-    return leaveRepository.save(leave).getLeaveId();
+    Long leaveId = leaveRepository.save(leave).getLeaveId();
+    eventPublisher.publishEvent(new StaffLeaveChangedEvent(shopId));
+    return leaveId;
   }
 
   @Transactional
@@ -41,6 +46,7 @@ public class LeaveCommandService {
             .orElseThrow(() -> new BusinessException(ErrorCode.LEAVE_NOT_FOUND));
 
     leave.update(request.leaveTitle(), request.leaveAt(), request.leaveMemo());
+    eventPublisher.publishEvent(new StaffLeaveChangedEvent(shopId));
   }
 
   @Transactional
@@ -62,7 +68,9 @@ public class LeaveCommandService {
             .regularLeaveMemo(request.regularLeaveMemo())
             .build();
 
-    return regularLeaveRepository.save(regularLeave).getRegularLeaveId();
+    Long regularLeaveId = regularLeaveRepository.save(regularLeave).getRegularLeaveId();
+    eventPublisher.publishEvent(new StaffLeaveChangedEvent(shopId));
+    return regularLeaveId;
   }
 
   @Transactional
@@ -78,6 +86,7 @@ public class LeaveCommandService {
         request.monthlyLeave(),
         request.weeklyLeave(),
         request.regularLeaveMemo());
+    eventPublisher.publishEvent(new StaffLeaveChangedEvent(shopId));
   }
 
   @Transactional
@@ -113,6 +122,7 @@ public class LeaveCommandService {
       }
       regularLeaveRepository.deleteAllInBatch(regularLeaves);
     }
+    eventPublisher.publishEvent(new StaffLeaveChangedEvent(shopId));
   }
 
   @Transactional
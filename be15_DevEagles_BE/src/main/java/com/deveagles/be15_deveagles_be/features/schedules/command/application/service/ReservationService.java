@@ -1,6 +1,9 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
 import com.deveagles.be15_deveagles_be.common.events.ReservationCreatedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationStatusChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationStatusChangedEvent.StatusChange;
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerIdResponse;
@@ -9,15 +12,30 @@ import com.deveagles.be15_deveagles_be.features.schedules.command.application.dt
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.CreateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationStatusRequest;
+import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.response.ReservationStatusChangeResult;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
-import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationDetail;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.LeaveRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.PlanRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.RegularLeaveRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.RegularPlanRepository;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationDetailRepository;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository.ReservationDetailBatchWriter;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -26,14 +44,27 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReservationService {
 
+  // 취소된 예약은 시간을 차지하지 않는다
+  private static final Set<ReservationStatusName> CANCELLED_STATUSES =
+      EnumSet.of(ReservationStatusName.CBC, ReservationStatusName.CBS);
+
   private final ReservationRepository reservationRepository;
   private final ReservationDetailRepository reservationDetailRepository;
+  private final ReservationDetailBatchWriter reservationDetailBatchWriter;
+  private final PlanRepository planRepository;
+  private final LeaveRepository leaveRepository;
+  private final RegularLeaveRepository regularLeaveRepository;
+  private final RegularPlanRepository regularPlanRepository;
   private final CustomerQueryService customerQueryService;
   private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public Long createReservation(CreateReservationRequest request) {
-    // 1. 고객 ID 조회
+    // 1. 담당자 시간 확보
+    claimStaffInterval(
+        request.staffId(), request.reservationStartAt(), request.reservationEndAt(), null);
+
+    // 2. 고객 ID 조회
     Optional<CustomerIdResponse> optionalCustomer =
         customerQueryService.findCustomerIdByPhoneNumber(request.customerPhone(), request.shopId());
 
@@ -47,7 +78,7 @@ public class ReservationService {
       staffMemo = "임시 고객: " + request.customerName() + " / " + request.customerPhone();
     }
 
-    // 2. 예약 엔티티 생성
+    // 3. 예약 엔티티 생성
     Reservation reservation =
         Reservation.builder()
             .staffId(request.staffId())
@@ -62,15 +93,9 @@ public class ReservationService {
 
     reservationRepository.save(reservation);
 
-    // 3. 시술 항목 저장
-    for (Long secondaryItemId : request.secondaryItemIds()) {
-      ReservationDetail detail =
-          ReservationDetail.builder()
-              .reservationId(reservation.getReservationId())
-              .secondaryItemId(secondaryItemId)
-              .build();
-      reservationDetailRepository.save(detail);
-    }
+    // 4. 시술 항목 저장
+    reservationDetailBatchWriter.insertAll(
+        reservation.getReservationId(), request.secondaryItemIds());
 
     ReservationCreatedEvent event =
         new ReservationCreatedEvent(reservation.getShopId(), request.customerName());
@@ -82,6 +107,8 @@ public class ReservationService {
   @Transactional
   public Long createFullReservation(Long shopId, CreateReservationFullRequest request) {
     Long customerId = request.customerId(); // null이면 미등록 고객
+    claimStaffInterval(
+        request.staffId(), request.reservationStartAt(), request.reservationEndAt(), null);
 
     Reservation reservation =
         Reservation.builder()
@@ -96,15 +123,9 @@ public class ReservationService {
             .build();
 
     reservationRepository.save(reservation);
-
-    for (Long secondaryItemId : request.secondaryItemIds()) {
-      ReservationDetail detail =
-          ReservationDetail.builder()
-              .reservationId(reservation.getReservationId())
-              .secondaryItemId(secondaryItemId)
-              .build();
-      reservationDetailRepository.save(detail);
-    }
+    reservationDetailBatchWriter.insertAll(
+        reservation.getReservationId(), request.secondaryItemIds());
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(shopId));
 
     return reservation.getReservationId();
   }
@@ -120,26 +141,26 @@ public class ReservationService {
       throw new BusinessException(ErrorCode.RESERVATION_NOT_FOUND);
     }
 
+    ReservationStatusName status = ReservationStatusName.valueOf(request.reservationStatusName());
+    if (!CANCELLED_STATUSES.contains(status)) {
+      claimStaffInterval(
+          request.staffId(),
+          request.reservationStartAt(),
+          request.reservationEndAt(),
+          reservationId);
+    }
+
     reservation.update(
         request.staffId(),
-        ReservationStatusName.valueOf(request.reservationStatusName()),
+        status,
         request.staffMemo(),
         request.reservationMemo(),
         request.reservationStartAt(),
         request.reservationEndAt());
 
     reservationDetailRepository.deleteByReservationId(reservationId);
-    List<ReservationDetail> newDetails =
-        request.secondaryItemIds().stream()
-            .map(
-                itemId ->
-                    ReservationDetail.builder()
-                        .reservationId(reservationId)
-                        .secondaryItemId(itemId)
-                        .build())
-            .toList();
-
-    reservationDetailRepository.saveAll(newDetails);
+    reservationDetailBatchWriter.insertAll(reservationId, request.secondaryItemIds());
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(shopId));
   }
 
   @Transactional
@@ -154,26 +175,181 @@ public class ReservationService {
     }
 
     reservation.setDeletedAt(LocalDateTime.now());
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(shopId));
   }
 
+  /**
+   * 예약 상태를 일괄 변경하고 예약별 결과를 돌려준다.
+   *
+   * <p>대상을 한 번에 읽어 매장 소유와 결제 완료(PAID) 여부를 메모리에서 검사하고, 통과한 예약은 바꿀 상태별로 UPDATE 한 번씩 반영한다. 실패한
+   * 예약은 결과에만 남고 나머지 변경은 그대로 적용된다. 취소(CBC/CBS)를 되돌리는 예약은 새 예약과 같이 담당자 시간을 확보하고, 겹치면
+   * 실패로 돌려준다. 실제로 바뀐 예약은 {@link ReservationStatusChangedEvent} 하나로 알린다.
+   */
   @Transactional
-  public void changeReservationStatuses(
+  public List<ReservationStatusChangeResult> changeReservationStatuses(
       Long shopId, List<UpdateReservationStatusRequest> requestList) {
+    // 같은 예약이 여러 번 오면 마지막 요청을 따른다
+    Map<Long, ReservationStatusName> targets = new LinkedHashMap<>();
     for (UpdateReservationStatusRequest request : requestList) {
-      Reservation reservation =
-          reservationRepository
-              .findById(request.reservationId())
-              .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+      targets.put(request.reservationId(), request.reservationStatusName());
+    }
+    if (targets.isEmpty()) {
+      return List.of();
+    }
 
-      if (!reservation.getShopId().equals(shopId)) {
-        throw new BusinessException(ErrorCode.RESERVATION_NOT_FOUND);
-      }
+    Map<Long, Reservation> reservations =
+        reservationRepository.findAllById(targets.keySet()).stream()
+            .collect(Collectors.toMap(Reservation::getReservationId, Function.identity()));
+
+    Map<Long, ReservationStatusChangeResult> results = new LinkedHashMap<>();
+    Map<ReservationStatusName, List<Long>> idsByStatus =
+        new EnumMap<>(ReservationStatusName.class);
+    Map<Long, StatusChange> changes = new LinkedHashMap<>();
+    List<Reservation> reclaims = new ArrayList<>();
+    targets.forEach(
+        (reservationId, status) -> {
+          Reservation reservation = reservations.get(reservationId);
+          if (reservation == null
+              || !reservation.getShopId().equals(shopId)
+              || reservation.getDeletedAt() != null) {
+            results.put(
+                reservationId,
+                ReservationStatusChangeResult.failed(
+                    reservationId, ErrorCode.RESERVATION_NOT_FOUND));
+            return;
+          }
+          if (reservation.getReservationStatusName() == ReservationStatusName.PAID) {
+            results.put(
+                reservationId,
+                ReservationStatusChangeResult.failed(
+                    reservationId, ErrorCode.MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION));
+            return;
+          }
+          results.put(reservationId, ReservationStatusChangeResult.changed(reservationId));
+          if (reservation.getReservationStatusName() == status) {
+            return;
+          }
+          if (CANCELLED_STATUSES.contains(reservation.getReservationStatusName())
+              && !CANCELLED_STATUSES.contains(status)) {
+            reclaims.add(reservation);
+            return;
+          }
+          stageStatusChange(reservation, status, idsByStatus, changes);
+        });
 
-      if (reservation.getReservationStatusName() == ReservationStatusName.PAID) {
-        throw new BusinessException(ErrorCode.MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION);
+    // 취소를 되돌리면 다시 시간을 차지하므로 담당자 순서대로 잠가 시간을 확보한다
+    reclaims.sort(Comparator.comparing(Reservation::getStaffId));
+    Map<Long, List<Reservation>> reclaimedByStaff = new HashMap<>();
+    for (Reservation reservation : reclaims) {
+      Long reservationId = reservation.getReservationId();
+      List<Reservation> reclaimed =
+          reclaimedByStaff.computeIfAbsent(reservation.getStaffId(), key -> new ArrayList<>());
+      try {
+        // 같은 요청에서 먼저 되돌린 예약은 아직 DB 에 반영 전이므로 메모리에서 겹침을 본다
+        if (reclaimed.stream().anyMatch(other -> overlaps(other, reservation))) {
+          throw new BusinessException(ErrorCode.RESERVATION_TIME_CONFLICT);
+        }
+        claimStaffInterval(
+            reservation.getStaffId(),
+            reservation.getReservationStartAt(),
+            reservation.getReservationEndAt(),
+            reservationId);
+      } catch (BusinessException e) {
+        results.put(
+            reservationId, ReservationStatusChangeResult.failed(reservationId, e.getErrorCode()));
+        continue;
       }
+      reclaimed.add(reservation);
+      stageStatusChange(reservation, targets.get(reservationId), idsByStatus, changes);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    idsByStatus.forEach(
+        (status, ids) -> {
+          int updated =
+              reservationRepository.updateStatuses(ids, status, ReservationStatusName.PAID, now);
+          if (updated < ids.size()) {
+            // 읽은 뒤 다른 요청이 결제 완료로 바꾼 예약은 건너뛰었으므로 실패로 돌린다
+            for (Reservation reservation : reservationRepository.findAllById(ids)) {
+              if (reservation.getReservationStatusName() != status) {
+                Long reservationId = reservation.getReservationId();
+                results.put(
+                    reservationId,
+                    ReservationStatusChangeResult.failed(
+                        reservationId, ErrorCode.MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION));
+                changes.remove(reservationId);
+              }
+            }
+          }
+        });
+
+    if (!changes.isEmpty()) {
+      eventPublisher.publishEvent(
+          new ReservationStatusChangedEvent(shopId, List.copyOf(changes.values())));
+    }
+    return List.copyOf(results.values());
+  }
 
-      reservation.changeStatus(request.reservationStatusName());
+  private void stageStatusChange(
+      Reservation reservation,
+      ReservationStatusName status,
+      Map<ReservationStatusName, List<Long>> idsByStatus,
+      Map<Long, StatusChange> changes) {
+    Long reservationId = reservation.getReservationId();
+    idsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(reservationId);
+    changes.put(
+        reservationId,
+        new StatusChange(
+            reservationId,
+            reservation.getStaffId(),
+            reservation.getCustomerId(),
+            reservation.getReservationStatusName().name(),
+            status.name()));
+  }
+
+  private boolean overlaps(Reservation a, Reservation b) {
+    return a.getReservationStartAt().isBefore(b.getReservationEndAt())
+        && b.getReservationStartAt().isBefore(a.getReservationEndAt());
+  }
+
+  /**
+   * 담당자의 [startAt, endAt) 를 이 트랜잭션에 확보한다.
+   *
+   * <p>담당자 행을 잠가 같은 담당자의 예약 생성/변경을 노드와 관계없이 DB 에서 직렬화하고, 잠금을 쥔 채 겹치는 예약, 단기 일정, 휴무가 있으면
+   * 거절한다. 정기 휴무와 정기 일정도 구간에 걸친 날짜마다 반복 여부를 따져 함께 확인한다. 겹침 조회가 {@link
+   * Reservation#MAX_DURATION} 만큼만 거슬러 읽으므로 그보다 긴 구간은 받지 않는다. 예약 겹침은 잠금 읽기로 확인하므로 먼저 커밋된
+   * 예약을 놓치지 않는다. 잠금은 커밋/롤백 때 풀린다.
+   */
+  private void claimStaffInterval(
+      Long staffId, LocalDateTime startAt, LocalDateTime endAt, Long excludeReservationId) {
+    if (startAt == null
+        || endAt == null
+        || !startAt.isBefore(endAt)
+        || endAt.isAfter(startAt.plus(Reservation.MAX_DURATION))) {
+      throw new BusinessException(ErrorCode.INVALID_RESERVATION_TIME_RANGE);
+    }
+    if (reservationRepository.lockStaff(staffId).isEmpty()) {
+      throw new BusinessException(ErrorCode.STAFF_NOT_FOUND);
+    }
+    boolean conflict =
+        !reservationRepository
+                .findOverlappingIds(
+                    staffId,
+                    startAt.minus(Reservation.MAX_DURATION),
+                    startAt,
+                    endAt,
+                    excludeReservationId)
+                .isEmpty()
+            || planRepository.existsByStaffIdAndPlanStartAtBeforeAndPlanEndAtAfter(
+                staffId, endAt, startAt)
+            || leaveRepository.existsByStaffIdAndLeaveAtBetween(
+                staffId, startAt.toLocalDate(), endAt.minusNanos(1).toLocalDate())
+            || regularLeaveRepository.findByStaffId(staffId).stream()
+                .anyMatch(regular -> regular.fallsWithin(startAt, endAt))
+            || regularPlanRepository.findByStaffId(staffId).stream()
+                .anyMatch(regular -> regular.overlaps(startAt, endAt));
+    if (conflict) {
+      throw new BusinessException(ErrorCode.RESERVATION_TIME_CONFLICT);
     }
   }
 }
@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationSettingRequest;
@@ -13,6 +15,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReservationSettingCommandService {
   private final ReservationSettingRepository reservationSettingRepository;
   private final ShopCommandService shopCommandService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public void updateReservationSettings(
@@ -76,5 +80,9 @@ public class ReservationSettingCommandService {
 
               shopCommandService.updateReservationTerm(shopId, term);
             });
+
+    // 요일별 설정과 매장 예약 단위가 함께 캐시되므로 한 번에 무효화한다
+    eventPublisher.publishEvent(
+        new ReferenceDataChangedEvent(ReferenceCache.RESERVATION_SETTINGS, shopId));
   }
 }
@@ -1,6 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
@@ -41,4 +43,22 @@ public class RegularLeave {
     this.weeklyLeave = weekly;
     this.regularLeaveMemo = memo;
   }
+
+  /** [startAt, endAt) 에 걸친 날짜 중 하루라도 이 정기 휴무가 반복되면 true. 월 반복이 있으면 요일 반복보다 우선한다. */
+  public boolean fallsWithin(LocalDateTime startAt, LocalDateTime endAt) {
+    LocalDate last = endAt.minusNanos(1).toLocalDate();
+    for (LocalDate date = startAt.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+      if (repeatsOn(date)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean repeatsOn(LocalDate date) {
+    if (monthlyLeave != null) {
+      return monthlyLeave == date.getDayOfMonth();
+    }
+    return weeklyLeave != null && weeklyLeave.ordinal() == date.getDayOfWeek().ordinal();
+  }
 }
@@ -1,6 +1,8 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import lombok.*;
 
@@ -56,4 +58,24 @@ public class RegularPlan {
     this.regularPlanStartAt = start;
     this.regularPlanEndAt = end;
   }
+
+  /** [startAt, endAt) 에 걸친 날짜마다 이 정기 일정이 반복되면 그날의 일정 시간과 겹치는지 본다. 월 반복이 있으면 요일 반복보다 우선한다. */
+  public boolean overlaps(LocalDateTime startAt, LocalDateTime endAt) {
+    LocalDate last = endAt.minusNanos(1).toLocalDate();
+    for (LocalDate date = startAt.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+      if (repeatsOn(date)
+          && date.atTime(regularPlanStartAt).isBefore(endAt)
+          && date.atTime(regularPlanEndAt).isAfter(startAt)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean repeatsOn(LocalDate date) {
+    if (monthlyPlan != null) {
+      return monthlyPlan == date.getDayOfMonth();
+    }
+    return weeklyPlan != null && weeklyPlan.ordinal() == date.getDayOfWeek().ordinal();
+  }
 }
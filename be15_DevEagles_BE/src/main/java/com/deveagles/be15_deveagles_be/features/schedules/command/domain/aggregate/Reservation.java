@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggreg
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import jakarta.persistence.*;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.*;
 
@@ -14,6 +15,9 @@ import lombok.*;
 @Builder
 public class Reservation {
 
+  /** 예약 한 건의 최대 길이. 겹침 조회는 시작 시각이 이 길이만큼 앞선 예약까지만 인덱스 범위로 읽는다. */
+  public static final Duration MAX_DURATION = Duration.ofDays(1);
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "reservation_id")
@@ -1,6 +1,10 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Leave;
+import java.time.LocalDate;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface LeaveRepository extends JpaRepository<Leave, Long> {}
+public interface LeaveRepository extends JpaRepository<Leave, Long> {
+
+  boolean existsByStaffIdAndLeaveAtBetween(Long staffId, LocalDate from, LocalDate to);
+}
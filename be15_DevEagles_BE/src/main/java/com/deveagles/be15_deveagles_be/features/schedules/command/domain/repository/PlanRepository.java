@@ -1,6 +1,11 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Plan;
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface PlanRepository extends JpaRepository<Plan, Long> {}
+public interface PlanRepository extends JpaRepository<Plan, Long> {
+
+  boolean existsByStaffIdAndPlanStartAtBeforeAndPlanEndAtAfter(
+      Long staffId, LocalDateTime endAt, LocalDateTime startAt);
+}
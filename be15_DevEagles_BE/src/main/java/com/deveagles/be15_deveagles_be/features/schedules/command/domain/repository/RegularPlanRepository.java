@@ -1,6 +1,10 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.RegularPlan;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface RegularPlanRepository extends JpaRepository<RegularPlan, Long> {}
+public interface RegularPlanRepository extends JpaRepository<RegularPlan, Long> {
+
+  List<RegularPlan> findByStaffId(Long staffId);
+}
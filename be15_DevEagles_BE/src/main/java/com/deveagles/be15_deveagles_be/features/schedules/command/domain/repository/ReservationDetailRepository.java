@@ -2,7 +2,14 @@ package com.deveagles.be15_deveagles_be.features.schedules.command.domain.reposi
 
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReservationDetailRepository extends JpaRepository<ReservationDetail, Long> {
-  void deleteByReservationId(Long reservationId);
+
+  // 시술 항목은 JDBC 배치로 다시 넣으므로 엔티티를 읽지 않고 바로 지운다
+  @Modifying
+  @Query("DELETE FROM ReservationDetail d WHERE d.reservationId = :reservationId")
+  void deleteByReservationId(@Param("reservationId") Long reservationId);
 }
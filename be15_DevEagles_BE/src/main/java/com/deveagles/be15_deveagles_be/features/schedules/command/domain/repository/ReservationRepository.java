@@ -1,6 +1,65 @@
 package com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository;
 
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {}
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+  /** 담당자 행을 잠가 같은 담당자의 예약 생성/변경을 트랜잭션이 끝날 때까지 직렬화한다. 담당자가 없으면 빈 값. */
+  @Query(
+      value = "SELECT staff_id FROM staff WHERE staff_id = :staffId FOR UPDATE",
+      nativeQuery = true)
+  Optional<Long> lockStaff(@Param("staffId") Long staffId);
+
+  /**
+   * [startAt, endAt) 와 겹치는 담당자의 유효 예약(취소 제외) 하나. 일관 읽기 스냅샷이 아닌 최신 커밋 상태를 보도록 잠금 읽기로 조회한다.
+   *
+   * <p>(staff_id, reservation_start_at) 인덱스 범위로 읽도록 시작 시각 하한(scanFrom)을 받는다. 예약은 {@link
+   * Reservation#MAX_DURATION} 을 넘지 않으므로 호출하는 쪽은 startAt 에서 그만큼 뺀 시각을 넘긴다.
+   */
+  @Query(
+      value =
+          """
+          SELECT r.reservation_id
+            FROM reservation r
+           WHERE r.staff_id = :staffId
+             AND r.reservation_start_at >= :scanFrom
+             AND r.reservation_start_at < :endAt
+             AND r.reservation_end_at > :startAt
+             AND r.reservation_status_name NOT IN ('CBC', 'CBS')
+             AND r.deleted_at IS NULL
+             AND (:excludeId IS NULL OR r.reservation_id <> :excludeId)
+           LIMIT 1
+             FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<Long> findOverlappingIds(
+      @Param("staffId") Long staffId,
+      @Param("scanFrom") LocalDateTime scanFrom,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt,
+      @Param("excludeId") Long excludeId);
+
+  /** ids 예약을 한 번에 status 로 바꾼다. 그 사이 immutableStatus(결제 완료)가 된 예약은 건드리지 않는다. */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      UPDATE Reservation r
+         SET r.reservationStatusName = :status, r.modifiedAt = :now
+       WHERE r.reservationId IN :ids
+         AND r.reservationStatusName <> :immutableStatus
+      """)
+  int updateStatuses(
+      @Param("ids") Collection<Long> ids,
+      @Param("status") ReservationStatusName status,
+      @Param("immutableStatus") ReservationStatusName immutableStatus,
+      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 예약 시술 항목 일괄 저장. IDENTITY 키 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 않으므로 현재 트랜잭션의 커넥션으로 JDBC 배치
+ * INSERT 한다. 예약과 함께 커밋/롤백되도록 트랜잭션 밖 호출은 허용하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ReservationDetailBatchWriter {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO reservation_detail (reservation_id, secondary_item_id) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertAll(Long reservationId, List<Long> secondaryItemIds) {
+    if (secondaryItemIds == null || secondaryItemIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        secondaryItemIds,
+        secondaryItemIds.size(),
+        (ps, secondaryItemId) -> {
+          ps.setLong(1, reservationId);
+          ps.setLong(2, secondaryItemId);
+        });
+  }
+}
@@ -9,6 +9,8 @@ import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.Boo
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationDetailResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationListResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationSearchResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.service.ReservationAvailabilityService;
 import com.deveagles.be15_deveagles_be.features.schedules.query.service.ReservationQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationQueryController {
 
   private final ReservationQueryService reservationQueryService;
+  private final ReservationAvailabilityService reservationAvailabilityService;
 
   @Operation(
       summary = "직원의 예약된 시간 조회",
@@ -39,6 +42,19 @@ public class ReservationQueryController {
     return ResponseEntity.ok(ApiResponse.success(data));
   }
 
+  @Operation(
+      summary = "기간 내 직원별 예약 가능 시간 조회",
+      description = "최대 31일 기간 동안 매장 직원 전체(또는 지정 직원)의 날짜별 예약 가능한 시작 시각을 조회합니다.")
+  @GetMapping("/availability")
+  public ApiResponse<SlotAvailabilityResponse> getAvailability(
+      @AuthenticationPrincipal CustomUser user,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) Long staffId) {
+    return ApiResponse.success(
+        reservationAvailabilityService.getAvailability(user.getShopId(), from, to, staffId));
+  }
+
   @Operation(summary = "예약 신청 목록 조회", description = "매장의 PENDING 상태 예약 신청 목록을 조회합니다.")
   @GetMapping("/requests")
   public ApiResponse<PagedResponse<ReservationListResponse>> findReservationRequests(
@@ -0,0 +1,6 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import java.time.LocalDate;
+
+/** 빈 시간 조회 대상 직원. leftDate 가 있으면 그 다음 날부터는 예약을 받지 않는다. */
+public record AvailableStaffDto(Long staffId, String staffName, LocalDate leftDate) {}
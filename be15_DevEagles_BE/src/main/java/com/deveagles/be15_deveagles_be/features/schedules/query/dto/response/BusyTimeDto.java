@@ -0,0 +1,6 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import java.time.LocalDateTime;
+
+/** 직원의 예약 불가 구간 (예약, 단기 일정). */
+public record BusyTimeDto(Long staffId, LocalDateTime startAt, LocalDateTime endAt) {}
@@ -0,0 +1,12 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.DayOfWeekEnum;
+import java.time.LocalTime;
+
+/** 정기 휴무(startAt, endAt 이 null 이면 하루 전체) 또는 정기 일정. 매월 monthlyDay 일 또는 매주 weeklyDay 에 반복된다. */
+public record RegularScheduleDto(
+    Long staffId,
+    Integer monthlyDay,
+    DayOfWeekEnum weeklyDay,
+    LocalTime startAt,
+    LocalTime endAt) {}
@@ -0,0 +1,12 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** 기간 내 직원별, 날짜별 예약 가능한 시작 시각 ("HH:mm"). slotMinutes 는 매장 예약 단위다. */
+public record SlotAvailabilityResponse(int slotMinutes, List<StaffAvailability> staffs) {
+
+  public record StaffAvailability(Long staffId, String staffName, List<DayAvailability> days) {}
+
+  public record DayAvailability(LocalDate date, List<String> freeTimes) {}
+}
@@ -0,0 +1,32 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.mapper;
+
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.AvailableStaffDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyTimeDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.RegularScheduleDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.StaffLeaveDto;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SlotAvailabilityMapper {
+
+  List<AvailableStaffDto> findAvailableStaffs(
+      @Param("shopId") Long shopId, @Param("staffId") Long staffId, @Param("from") LocalDate from);
+
+  /** [startAt, endAt) 과 겹치는 예약(취소 제외)과 단기 일정. */
+  List<BusyTimeDto> findBusyTimes(
+      @Param("staffIds") List<Long> staffIds,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt,
+      @Param("reservationScanFrom") LocalDateTime reservationScanFrom);
+
+  List<StaffLeaveDto> findLeaves(
+      @Param("staffIds") List<Long> staffIds,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  List<RegularScheduleDto> findRegularSchedules(@Param("staffIds") List<Long> staffIds);
+}
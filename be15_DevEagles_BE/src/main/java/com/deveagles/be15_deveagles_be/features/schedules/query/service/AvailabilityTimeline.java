@@ -0,0 +1,140 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 내 직원별 예약 가능 시간표.
+ *
+ * <p>하루를 예약 단위(slotMinutes) 칸으로 나누고 기간 전체를 날짜 순으로 이어 붙인 비트 위치(day * slotsPerDay + slot)로 다룬다. 영업
+ * 시간은 모든 직원이 공유하는 open 비트로, 예약/일정/휴무로 막힌 칸은 직원별 busy 비트로 표시하고 open - busy 를 빈 칸으로 본다. 한 칸은 구간
+ * 전체가 영업 시간 안이고 어떤 일정과도 겹치지 않을 때만 비어 있다.
+ */
+final class AvailabilityTimeline {
+
+  private static final int MINUTES_PER_DAY = 24 * 60;
+
+  private final LocalDate from;
+  private final int days;
+  private final int slotMinutes;
+  private final int slotsPerDay;
+  private final BitSet open;
+  private final Map<Long, BitSet> busy = new HashMap<>();
+
+  AvailabilityTimeline(LocalDate from, LocalDate to, int slotMinutes) {
+    this.from = from;
+    this.days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+    this.slotMinutes = slotMinutes;
+    // 자정을 넘기는 마지막 자투리 칸은 만들지 않는다
+    this.slotsPerDay = MINUTES_PER_DAY / slotMinutes;
+    this.open = new BitSet(days * slotsPerDay);
+  }
+
+  /** date 의 영업 시간 [start, end) 중 점심시간과 겹치지 않는 칸을 연다. */
+  void open(
+      LocalDate date, LocalTime start, LocalTime end, LocalTime lunchStart, LocalTime lunchEnd) {
+    int day = dayIndex(date);
+    if (day < 0 || start == null || end == null) {
+      return;
+    }
+    int base = day * slotsPerDay;
+    int first = Math.floorDiv(minuteOf(start) + slotMinutes - 1, slotMinutes);
+    int last = Math.min(minuteOf(end) / slotMinutes, slotsPerDay);
+    if (first < last) {
+      open.set(base + first, base + last);
+    }
+    if (lunchStart != null && lunchEnd != null) {
+      int lunchFirstSlot = firstOverlapping(minuteOf(lunchStart));
+      int lunchEndSlot = endOverlapping(minuteOf(lunchEnd));
+      if (lunchFirstSlot < lunchEndSlot) {
+        open.clear(base + lunchFirstSlot, base + lunchEndSlot);
+      }
+    }
+  }
+
+  /** [startAt, endAt) 와 겹치는 칸을 막는다. 여러 날에 걸쳐도 되고 기간 밖은 무시한다. */
+  void block(Long staffId, LocalDateTime startAt, LocalDateTime endAt) {
+    long start = Math.max(0, minutesFromOrigin(startAt));
+    long end = Math.min((long) days * MINUTES_PER_DAY, minutesFromOrigin(endAt));
+    if (start >= end) {
+      return;
+    }
+    BitSet bits = busyOf(staffId);
+    for (long dayStart = start - start % MINUTES_PER_DAY;
+        dayStart < end;
+        dayStart += MINUTES_PER_DAY) {
+      int base = (int) (dayStart / MINUTES_PER_DAY) * slotsPerDay;
+      int firstSlot = firstOverlapping((int) (Math.max(start, dayStart) - dayStart));
+      int endSlot = endOverlapping((int) (Math.min(end, dayStart + MINUTES_PER_DAY) - dayStart));
+      if (firstSlot < endSlot) {
+        bits.set(base + firstSlot, base + endSlot);
+      }
+    }
+  }
+
+  /** date 의 [start, end) 를 막는다. end 가 start 보다 빠르거나 같으면 자정까지로 본다. */
+  void block(Long staffId, LocalDate date, LocalTime start, LocalTime end) {
+    LocalDateTime endAt = end.isAfter(start) ? date.atTime(end) : date.plusDays(1).atStartOfDay();
+    block(staffId, date.atTime(start), endAt);
+  }
+
+  void blockDay(Long staffId, LocalDate date) {
+    int day = dayIndex(date);
+    if (day >= 0) {
+      busyOf(staffId).set(day * slotsPerDay, (day + 1) * slotsPerDay);
+    }
+  }
+
+  /** staffId 의 date 빈 칸 시작 시각 목록 (오름차순). */
+  List<LocalTime> freeSlots(Long staffId, LocalDate date) {
+    int day = dayIndex(date);
+    if (day < 0) {
+      return List.of();
+    }
+    int base = day * slotsPerDay;
+    int end = base + slotsPerDay;
+    BitSet staffBusy = busy.get(staffId);
+    List<LocalTime> slots = new ArrayList<>();
+    for (int i = open.nextSetBit(base); i >= 0 && i < end; i = open.nextSetBit(i + 1)) {
+      if (staffBusy == null || !staffBusy.get(i)) {
+        slots.add(LocalTime.MIDNIGHT.plusMinutes((long) (i - base) * slotMinutes));
+      }
+    }
+    return slots;
+  }
+
+  private BitSet busyOf(Long staffId) {
+    return busy.computeIfAbsent(staffId, id -> new BitSet(days * slotsPerDay));
+  }
+
+  private int dayIndex(LocalDate date) {
+    long day = ChronoUnit.DAYS.between(from, date);
+    return day < 0 || day >= days ? -1 : (int) day;
+  }
+
+  // 그날 minute 분에 시작하는 구간과 겹치는 첫 칸
+  private int firstOverlapping(int minute) {
+    return Math.min(minute / slotMinutes, slotsPerDay);
+  }
+
+  // 그날 minute 분에 끝나는 구간과 겹치는 마지막 칸 다음
+  private int endOverlapping(int minute) {
+    return Math.min(Math.floorDiv(minute + slotMinutes - 1, slotMinutes), slotsPerDay);
+  }
+
+  private long minutesFromOrigin(LocalDateTime time) {
+    return Duration.between(from.atStartOfDay(), time).toMinutes();
+  }
+
+  private static int minuteOf(LocalTime time) {
+    return time.getHour() * 60 + time.getMinute();
+  }
+}
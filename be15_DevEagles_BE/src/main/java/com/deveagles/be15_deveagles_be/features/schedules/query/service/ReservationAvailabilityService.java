@@ -0,0 +1,130 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.AvailableStaffDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyTimeDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.RegularScheduleDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse.DayAvailability;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse.StaffAvailability;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.StaffLeaveDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.SlotAvailabilityMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기간 내 매장 직원 전체의 예약 가능한 시간을 한 번에 계산한다.
+ *
+ * <p>날짜, 직원마다 예약을 따로 읽지 않고 기간 전체의 예약/단기 일정, 휴무, 정기 일정/휴무를 범위 쿼리로 한 번씩 읽어 {@link
+ * AvailabilityTimeline}에 표시한다. 쿼리 수는 기간과 직원 수에 관계없이 네 번이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationAvailabilityService {
+
+  private static final int MAX_RANGE_DAYS = 31;
+  private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+  private final SlotAvailabilityMapper slotAvailabilityMapper;
+  private final ReservationSettingQueryService reservationSettingQueryService;
+
+  /** [from, to] 기간 동안 직원별(staffId 가 있으면 그 직원만) 예약 가능한 시작 시각. */
+  public SlotAvailabilityResponse getAvailability(
+      Long shopId, LocalDate from, LocalDate to, Long staffId) {
+    if (from == null
+        || to == null
+        || to.isBefore(from)
+        || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+      throw new BusinessException(ErrorCode.INVALID_AVAILABILITY_RANGE);
+    }
+    Map<Integer, CustomerReservationSettingResponse> settings =
+        reservationSettingQueryService.getWeeklySettings(shopId);
+    if (settings.isEmpty()) {
+      throw new BusinessException(ErrorCode.RESERVATION_SETTING_NOT_FOUND);
+    }
+    // 예약 단위는 매장 설정이라 요일과 관계없이 같다
+    int slotMinutes = settings.values().iterator().next().reservationTerm();
+    if (slotMinutes <= 0) {
+      throw new BusinessException(ErrorCode.INVALID_RESERVATION_TERM);
+    }
+
+    List<AvailableStaffDto> staffs =
+        slotAvailabilityMapper.findAvailableStaffs(shopId, staffId, from);
+    if (staffs.isEmpty()) {
+      return new SlotAvailabilityResponse(slotMinutes, List.of());
+    }
+    List<Long> staffIds = staffs.stream().map(AvailableStaffDto::staffId).toList();
+
+    AvailabilityTimeline timeline = new AvailabilityTimeline(from, to, slotMinutes);
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      CustomerReservationSettingResponse setting = settings.get(date.getDayOfWeek().getValue());
+      if (setting != null) {
+        timeline.open(
+            date,
+            setting.availableStartTime(),
+            setting.availableEndTime(),
+            setting.lunchStartTime(),
+            setting.lunchEndTime());
+      }
+    }
+
+    LocalDateTime startAt = from.atStartOfDay();
+    LocalDateTime endAt = to.plusDays(1).atStartOfDay();
+    for (BusyTimeDto busy :
+        slotAvailabilityMapper.findBusyTimes(
+            staffIds, startAt, endAt, startAt.minus(Reservation.MAX_DURATION))) {
+      timeline.block(busy.staffId(), busy.startAt(), busy.endAt());
+    }
+    for (StaffLeaveDto leave : slotAvailabilityMapper.findLeaves(staffIds, from, to)) {
+      timeline.blockDay(leave.staffId(), leave.leaveAt());
+    }
+    List<RegularScheduleDto> regulars = slotAvailabilityMapper.findRegularSchedules(staffIds);
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      for (RegularScheduleDto regular : regulars) {
+        if (!repeatsOn(regular, date)) {
+          continue;
+        }
+        if (regular.startAt() == null || regular.endAt() == null) {
+          timeline.blockDay(regular.staffId(), date);
+        } else {
+          timeline.block(regular.staffId(), date, regular.startAt(), regular.endAt());
+        }
+      }
+    }
+
+    List<StaffAvailability> result = new ArrayList<>(staffs.size());
+    for (AvailableStaffDto staff : staffs) {
+      List<DayAvailability> days = new ArrayList<>();
+      for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+        if (staff.leftDate() != null && date.isAfter(staff.leftDate())) {
+          break;
+        }
+        List<String> freeTimes =
+            timeline.freeSlots(staff.staffId(), date).stream()
+                .map(time -> time.format(TIME_FORMAT))
+                .toList();
+        days.add(new DayAvailability(date, freeTimes));
+      }
+      result.add(new StaffAvailability(staff.staffId(), staff.staffName(), days));
+    }
+    return new SlotAvailabilityResponse(slotMinutes, result);
+  }
+
+  private boolean repeatsOn(RegularScheduleDto regular, LocalDate date) {
+    if (regular.monthlyDay() != null) {
+      return regular.monthlyDay() == date.getDayOfMonth();
+    }
+    return regular.weeklyDay() != null
+        && regular.weeklyDay().ordinal() == date.getDayOfWeek().ordinal();
+  }
+}
@@ -1,19 +1,29 @@
 package com.deveagles.be15_deveagles_be.features.schedules.query.service;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.ReservationSettingMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationSettingQueryService {
+
+  private static final TypeReference<Map<Integer, CustomerReservationSettingResponse>>
+      WEEKLY_SETTINGS = new TypeReference<>() {};
+
   private final ReservationSettingMapper reservationSettingMapper;
+  private final ReferenceDataCache referenceDataCache;
 
   public List<ReservationSettingResponse> getReservationSettings(Long shopId) {
     List<ReservationSettingResponse> settings =
@@ -28,6 +38,28 @@ public class ReservationSettingQueryService {
 
   public CustomerReservationSettingResponse getReservationSetting(Long shopId, LocalDate date) {
     int dayOfWeek = date.getDayOfWeek().getValue(); // 월=1 ~ 일=7
-    return reservationSettingMapper.findCustomerReservationSetting(shopId, dayOfWeek);
+    return getWeeklySettings(shopId).get(dayOfWeek);
+  }
+
+  /** 요일(월=1 ~ 일=7)별 예약 설정. 날짜마다 조회되므로 매장의 요일별 설정을 한 번에 읽어 캐시한다. */
+  public Map<Integer, CustomerReservationSettingResponse> getWeeklySettings(Long shopId) {
+    return referenceDataCache.get(
+        ReferenceCache.RESERVATION_SETTINGS,
+        shopId,
+        WEEKLY_SETTINGS,
+        () ->
+            reservationSettingMapper.findSettingsWithUnitByShopId(shopId).stream()
+                .collect(
+                    Collectors.toMap(
+                        ReservationSettingResponse::getAvailableDay, this::toCustomerSetting)));
+  }
+
+  private CustomerReservationSettingResponse toCustomerSetting(ReservationSettingResponse setting) {
+    return new CustomerReservationSettingResponse(
+        setting.getAvailableStartTime(),
+        setting.getAvailableEndTime(),
+        setting.getLunchStartTime(),
+        setting.getLunchEndTime(),
+        setting.getReservationUnitMinutes());
   }
 }
@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.staffsales.command.application.service.impl;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
@@ -22,6 +24,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +36,7 @@ public class IncentiveCommandServiceImpl implements IncentiveCommandService {
   private final ShopRepository shopRepository;
   private final UserRepository userRepository;
   private final IncentiveRepository incentiveRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional(readOnly = true)
@@ -85,6 +89,9 @@ public class IncentiveCommandServiceImpl implements IncentiveCommandService {
             .findByShopId(shopId)
             .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_NOT_FOUNT));
 
+    // 매장 인센티브 on/off 도 적용 인센티브율에 반영되므로 두 경로 모두 캐시를 무효화한다
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceCache.INCENTIVES, shopId));
+
     if (Boolean.FALSE.equals(request.isActive())) {
       shop.setIncentive(false);
       shopRepository.save(shop);
@@ -30,6 +30,17 @@ public interface IncentiveRepository extends JpaRepository<Incentive, Long> {
       @Param("type") ProductType type,
       @Param("staffId") Long staffId);
 
+  @Query(
+      """
+    SELECT i
+    FROM Incentive i
+    JOIN Shop s ON s.shopId = i.shopId
+    WHERE i.shopId = :shopId
+      AND i.isActive = true
+      AND (s.incentiveStatus = true)
+  """)
+  List<Incentive> findActiveIncentivesByShopId(@Param("shopId") Long shopId);
+
   List<Incentive> findByShopId(Long shopId);
 
   List<Incentive> findAllByShopId(Long shopId);
@@ -6,11 +6,15 @@ import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.St
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface StaffSalesQueryRepository {
   List<StaffPaymentsSalesResponse> getSalesByStaff(
       boolean isDetail, Long shopId, Long staffId, LocalDateTime startDate, LocalDateTime endDate);
 
+  Map<Long, List<StaffPaymentsSalesResponse>> getSalesByStaffIds(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate);
+
   List<StaffPaymentsDetailSalesResponse> getDetailSalesByStaff(
       Long staffId, Long shopId, LocalDateTime startDate, LocalDateTime endDate);
 
@@ -9,6 +9,8 @@ import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +22,14 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class StaffSalesQueryRepositoryImpl implements StaffSalesQueryRepository {
 
+  // 직원 매출 요약에 노출되는 카테고리 순서
+  private static final List<ProductType> SUMMARY_CATEGORIES =
+      List.of(
+          ProductType.SERVICE,
+          ProductType.PRODUCT,
+          ProductType.SESSION_PASS,
+          ProductType.PREPAID_PASS);
+
   private final JPAQueryFactory queryFactory;
   private final SalesCalculator salesCalculator;
 
@@ -72,6 +82,185 @@ public class StaffSalesQueryRepositoryImpl implements StaffSalesQueryRepository
     return result;
   }
 
+  @Override
+  public Map<Long, List<StaffPaymentsSalesResponse>> getSalesByStaffIds(
+      Long shopId, List<Long> staffIds, LocalDateTime startDate, LocalDateTime endDate) {
+
+    Map<Long, List<StaffPaymentsSalesResponse>> result = new LinkedHashMap<>();
+    if (staffIds == null || staffIds.isEmpty()) {
+      return result;
+    }
+    staffIds.forEach(staffId -> result.put(staffId, new ArrayList<>()));
+
+    // 카테고리별로 직원 단위 집계 쿼리를 실행한다 (직원 수와 무관하게 쿼리 수 고정)
+    for (ProductType type : SUMMARY_CATEGORIES) {
+      BooleanExpression scope = salesScope(type, shopId, staffIds, startDate, endDate);
+      boolean couponApplicable = type == ProductType.SERVICE || type == ProductType.PRODUCT;
+
+      Map<Long, List<StaffNetSalesResponse>> netSalesByStaff = new HashMap<>();
+      Map<Long, Integer> prepaidByStaff = new HashMap<>();
+      groupPaymentsByStaff(scope, netSalesByStaff, prepaidByStaff);
+
+      Map<Long, Integer> discountByStaff = sumDiscountByStaff(scope);
+      Map<Long, Integer> couponByStaff =
+          couponApplicable ? countCouponsByStaff(scope) : Collections.emptyMap();
+
+      result.forEach(
+          (staffId, list) ->
+              list.add(
+                  assembleSalesResponse(
+                      type.name(),
+                      netSalesByStaff.getOrDefault(staffId, List.of()),
+                      discountByStaff.getOrDefault(staffId, 0),
+                      couponByStaff.getOrDefault(staffId, 0),
+                      prepaidByStaff.getOrDefault(staffId, 0))));
+    }
+
+    return result;
+  }
+
+  // 카테고리에 속한 매출 조건 (getSalesIdsByCategory / getSessionPassSalesIds / getPrepaidPassSalesIds 와 동일)
+  private BooleanExpression salesScope(
+      ProductType type,
+      Long shopId,
+      List<Long> staffIds,
+      LocalDateTime start,
+      LocalDateTime end) {
+    QSales sales = QSales.sales;
+
+    BooleanExpression scope =
+        sales
+            .staffId
+            .in(staffIds)
+            .and(sales.salesDate.between(start, end))
+            .and(sales.deletedAt.isNull())
+            .and(sales.isRefunded.eq(Boolean.FALSE));
+
+    return switch (type) {
+      case SERVICE, PRODUCT -> {
+        QItemSales categoryItemSales = new QItemSales("categoryItemSales");
+        QSecondaryItem secondaryItem = QSecondaryItem.secondaryItem;
+        QPrimaryItem primaryItem = QPrimaryItem.primaryItem;
+
+        yield scope
+            .and(sales.shopId.eq(shopId))
+            .and(
+                JPAExpressions.selectOne()
+                    .from(categoryItemSales)
+                    .join(secondaryItem)
+                    .on(categoryItemSales.secondaryItemId.eq(secondaryItem.secondaryItemId))
+                    .join(primaryItem)
+                    .on(secondaryItem.primaryItemId.eq(primaryItem.primaryItemId))
+                    .where(
+                        categoryItemSales.salesId.eq(sales.salesId),
+                        primaryItem.category.eq(Category.valueOf(type.name())))
+                    .exists());
+      }
+      case SESSION_PASS -> {
+        QSessionPassSales sessionPassSales = QSessionPassSales.sessionPassSales;
+        yield scope.and(
+            JPAExpressions.selectOne()
+                .from(sessionPassSales)
+                .where(sessionPassSales.salesId.eq(sales.salesId))
+                .exists());
+      }
+      case PREPAID_PASS -> {
+        QPrepaidPassSales prepaidPassSales = QPrepaidPassSales.prepaidPassSales;
+        yield scope.and(
+            JPAExpressions.selectOne()
+                .from(prepaidPassSales)
+                .where(prepaidPassSales.salesId.eq(sales.salesId))
+                .exists());
+      }
+    };
+  }
+
+  // 결제 수단별 실매출과 선불권 공제를 한 번에 집계
+  private void groupPaymentsByStaff(
+      BooleanExpression scope,
+      Map<Long, List<StaffNetSalesResponse>> netSalesByStaff,
+      Map<Long, Integer> prepaidByStaff) {
+    QSales sales = QSales.sales;
+    QPayments payments = QPayments.payments;
+
+    List<Tuple> rows =
+        queryFactory
+            .select(sales.staffId, payments.paymentsMethod, payments.amount.sum())
+            .from(payments)
+            .join(sales)
+            .on(payments.salesId.eq(sales.salesId))
+            .where(
+                scope,
+                payments.paymentsMethod.ne(PaymentsMethod.SESSION_PASS),
+                payments
+                    .paymentsMethod
+                    .eq(PaymentsMethod.PREPAID_PASS)
+                    .or(payments.deletedAt.isNull()))
+            .groupBy(sales.staffId, payments.paymentsMethod)
+            .orderBy(sales.staffId.asc(), payments.paymentsMethod.asc())
+            .fetch();
+
+    for (Tuple row : rows) {
+      Long staffId = row.get(sales.staffId);
+      PaymentsMethod method = row.get(payments.paymentsMethod);
+      int amount = Optional.ofNullable(row.get(payments.amount.sum())).orElse(0);
+
+      if (method == PaymentsMethod.PREPAID_PASS) {
+        prepaidByStaff.put(staffId, amount);
+        continue;
+      }
+
+      // 인센티브는 서비스에서 매장 인센티브율을 한 번만 조회해 일괄 계산한다
+      netSalesByStaff
+          .computeIfAbsent(staffId, k -> new ArrayList<>())
+          .add(
+              StaffNetSalesResponse.builder()
+                  .paymentsMethod(method)
+                  .amount(amount)
+                  .incentiveAmount(0)
+                  .build());
+    }
+  }
+
+  private Map<Long, Integer> sumDiscountByStaff(BooleanExpression scope) {
+    QSales sales = QSales.sales;
+
+    Map<Long, Integer> discountByStaff = new HashMap<>();
+    queryFactory
+        .select(sales.staffId, sales.discountAmount.sum())
+        .from(sales)
+        .where(scope, sales.discountAmount.isNotNull())
+        .groupBy(sales.staffId)
+        .fetch()
+        .forEach(
+            row ->
+                discountByStaff.put(
+                    row.get(sales.staffId),
+                    Optional.ofNullable(row.get(sales.discountAmount.sum())).orElse(0)));
+    return discountByStaff;
+  }
+
+  private Map<Long, Integer> countCouponsByStaff(BooleanExpression scope) {
+    QSales sales = QSales.sales;
+    QItemSales itemSales = QItemSales.itemSales;
+
+    Map<Long, Integer> couponByStaff = new HashMap<>();
+    queryFactory
+        .select(sales.staffId, itemSales.count())
+        .from(itemSales)
+        .join(sales)
+        .on(itemSales.salesId.eq(sales.salesId))
+        .where(scope, itemSales.couponId.isNotNull())
+        .groupBy(sales.staffId)
+        .fetch()
+        .forEach(
+            row ->
+                couponByStaff.put(
+                    row.get(sales.staffId),
+                    Optional.ofNullable(row.get(itemSales.count())).map(Long::intValue).orElse(0)));
+    return couponByStaff;
+  }
+
   private StaffPaymentsSalesResponse buildSalesResponse(
       String category,
       List<Long> salesIds,
@@ -153,17 +342,32 @@ public class StaffSalesQueryRepositoryImpl implements StaffSalesQueryRepository
                 payments.paymentsMethod.eq(PaymentsMethod.PREPAID_PASS))
             .fetchOne();
 
+    return assembleSalesResponse(
+        category,
+        netSalesList,
+        Optional.ofNullable(discountSum).orElse(0),
+        couponSum,
+        Optional.ofNullable(prepaidSum).orElse(0));
+  }
+
+  private StaffPaymentsSalesResponse assembleSalesResponse(
+      String category,
+      List<StaffNetSalesResponse> netSalesList,
+      int discountSum,
+      int couponSum,
+      int prepaidSum) {
+
     // 공제 항목 리스트
     List<StaffSalesDeductionsResponse> deductionList =
         List.of(
             StaffSalesDeductionsResponse.builder()
                 .deduction("DISCOUNT")
-                .amount(Optional.ofNullable(discountSum).orElse(0))
+                .amount(discountSum)
                 .build(),
             StaffSalesDeductionsResponse.builder().deduction("COUPON").amount(couponSum).build(),
             StaffSalesDeductionsResponse.builder()
                 .deduction("PREPAID")
-                .amount(Optional.ofNullable(prepaidSum).orElse(0))
+                .amount(prepaidSum)
                 .build());
 
     // 총계 계산
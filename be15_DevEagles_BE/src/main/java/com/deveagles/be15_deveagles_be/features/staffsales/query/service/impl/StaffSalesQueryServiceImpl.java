@@ -8,6 +8,7 @@ import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.SalesTargetQueryRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.StaffSalesQueryRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.StaffSalesQueryService;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.IncentiveRateTable;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
 import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.Staff;
 import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
@@ -39,84 +40,29 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
 
     // 2. 재직 중인 직원 리스트 조회
     List<Staff> staffList = userRepository.findByShopIdAndLeftDateIsNull(shopId);
+    List<Long> staffIds = staffList.stream().map(Staff::getStaffId).toList();
 
-    // 3. 직원별 매출 데이터 생성
+    // 3. 전체 직원의 카테고리별 매출을 집계 쿼리로 한 번에 조회
+    Map<Long, List<StaffPaymentsSalesResponse>> salesByStaff =
+        staffSalesQueryRepository.getSalesByStaffIds(shopId, staffIds, startDate, endDate);
+
+    // 4. 매장 인센티브율 1회 조회
+    IncentiveRateTable incentiveRates = salesCalculator.loadIncentiveRates(shopId);
+
+    // 5. 직원별 매출 데이터 생성
     List<StaffSalesListResponse> result =
         staffList.stream()
             .map(
                 staff -> {
                   List<StaffPaymentsSalesResponse> paymentsSalesList =
-                      staffSalesQueryRepository
-                          .getSalesByStaff(false, shopId, staff.getStaffId(), startDate, endDate)
-                          .stream()
+                      salesByStaff.getOrDefault(staff.getStaffId(), List.of()).stream()
                           .map(
-                              response -> {
-
-                                // 인센티브율 맵 조회
-                                ProductType type = ProductType.valueOf(response.getCategory());
-                                Map<PaymentsMethod, Integer> incentiveRateMap =
-                                    salesCalculator.getEffectiveIncentiveRates(
-                                        shopId, staff.getStaffId(), type);
-
-                                // 실매출 리스트 계산 (PREPAID 제외)
-                                List<StaffNetSalesResponse> netSalesList =
-                                    response.getNetSalesList().stream()
-                                        .filter(
-                                            net ->
-                                                net.getPaymentsMethod()
-                                                    != PaymentsMethod.PREPAID_PASS)
-                                        .map(
-                                            net -> {
-                                              int amount =
-                                                  Optional.ofNullable(net.getAmount()).orElse(0);
-                                              int rate =
-                                                  incentiveRateMap.getOrDefault(
-                                                      net.getPaymentsMethod(), 0);
-                                              int incentiveAmount =
-                                                  (int) Math.floor(amount * (rate / 100.0));
-                                              return StaffNetSalesResponse.builder()
-                                                  .paymentsMethod(net.getPaymentsMethod())
-                                                  .amount(amount)
-                                                  .incentiveAmount(incentiveAmount)
-                                                  .build();
-                                            })
-                                        .toList();
-
-                                // 총 인센티브 합계
-                                int incentiveTotal =
-                                    netSalesList.stream()
-                                        .mapToInt(
-                                            net ->
-                                                Optional.ofNullable(net.getIncentiveAmount())
-                                                    .orElse(0))
-                                        .sum();
-
-                                // 총영업액 = 결제 금액 총합
-                                int grossSalesTotal =
-                                    netSalesList.stream()
-                                        .mapToInt(
-                                            net -> Optional.ofNullable(net.getAmount()).orElse(0))
-                                        .sum();
-
-                                // 공제액 계산
-                                int deductionTotal =
-                                    response.getDeductionList().stream()
-                                        .mapToInt(d -> Optional.ofNullable(d.getAmount()).orElse(0))
-                                        .sum();
-
-                                // 실매출 = 총영업액 - 공제액
-                                int netSalesTotal = grossSalesTotal - deductionTotal;
-
-                                return StaffPaymentsSalesResponse.builder()
-                                    .category(response.getCategory())
-                                    .netSalesList(netSalesList)
-                                    .deductionList(response.getDeductionList())
-                                    .incentiveTotal(incentiveTotal)
-                                    .grossSalesTotal(grossSalesTotal)
-                                    .deductionTotal(deductionTotal)
-                                    .netSalesTotal(netSalesTotal)
-                                    .build();
-                              })
+                              response ->
+                                  applyIncentives(
+                                      response,
+                                      incentiveRates.ratesOf(
+                                          staff.getStaffId(),
+                                          ProductType.valueOf(response.getCategory()))))
                           .toList();
 
                   return StaffSalesListResponse.builder()
@@ -127,12 +73,62 @@ public class StaffSalesQueryServiceImpl implements StaffSalesQueryService {
                 })
             .toList();
 
-    // 4. 전체 요약 계산
-    StaffSalesSummaryResponse summary = salesCalculator.calculateSummary(shopId, result);
+    // 6. 전체 요약 계산
+    StaffSalesSummaryResponse summary = salesCalculator.calculateSummary(result, incentiveRates);
 
     return StaffSalesListResult.builder().staffSalesList(result).totalSummary(summary).build();
   }
 
+  private StaffPaymentsSalesResponse applyIncentives(
+      StaffPaymentsSalesResponse response, Map<PaymentsMethod, Integer> incentiveRateMap) {
+
+    // 실매출 리스트 계산 (PREPAID 제외)
+    List<StaffNetSalesResponse> netSalesList =
+        response.getNetSalesList().stream()
+            .filter(net -> net.getPaymentsMethod() != PaymentsMethod.PREPAID_PASS)
+            .map(
+                net -> {
+                  int amount = Optional.ofNullable(net.getAmount()).orElse(0);
+                  int rate = incentiveRateMap.getOrDefault(net.getPaymentsMethod(), 0);
+                  int incentiveAmount = (int) Math.floor(amount * (rate / 100.0));
+                  return StaffNetSalesResponse.builder()
+                      .paymentsMethod(net.getPaymentsMethod())
+                      .amount(amount)
+                      .incentiveAmount(incentiveAmount)
+                      .build();
+                })
+            .toList();
+
+    // 총 인센티브 합계
+    int incentiveTotal =
+        netSalesList.stream()
+            .mapToInt(net -> Optional.ofNullable(net.getIncentiveAmount()).orElse(0))
+            .sum();
+
+    // 총영업액 = 결제 금액 총합
+    int grossSalesTotal =
+        netSalesList.stream().mapToInt(net -> Optional.ofNullable(net.getAmount()).orElse(0)).sum();
+
+    // 공제액 계산
+    int deductionTotal =
+        response.getDeductionList().stream()
+            .mapToInt(d -> Optional.ofNullable(d.getAmount()).orElse(0))
+            .sum();
+
+    // 실매출 = 총영업액 - 공제액
+    int netSalesTotal = grossSalesTotal - deductionTotal;
+
+    return StaffPaymentsSalesResponse.builder()
+        .category(response.getCategory())
+        .netSalesList(netSalesList)
+        .deductionList(response.getDeductionList())
+        .incentiveTotal(incentiveTotal)
+        .grossSalesTotal(grossSalesTotal)
+        .deductionTotal(deductionTotal)
+        .netSalesTotal(netSalesTotal)
+        .build();
+  }
+
   @Override
   public StaffSalesDetailListResult getStaffDetailSales(
       Long shopId, GetStaffSalesListRequest request) {
@@ -0,0 +1,18 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.Incentive;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+
+/** 캐시에 보관하는 활성 인센티브 한 건. staffId 가 없으면 매장 공통 인센티브다. */
+public record IncentiveRate(
+    Long staffId, ProductType type, PaymentsMethod paymentsMethod, int incentive) {
+
+  public static IncentiveRate from(Incentive incentive) {
+    return new IncentiveRate(
+        incentive.getStaffId(),
+        incentive.getType(),
+        incentive.getPaymentsMethod(),
+        incentive.getIncentive());
+  }
+}
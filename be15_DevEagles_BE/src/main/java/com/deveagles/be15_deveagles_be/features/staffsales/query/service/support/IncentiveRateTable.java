@@ -0,0 +1,45 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.service.support;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/** 매장 단위로 조회한 활성 인센티브를 직원/상품 유형별 적용 인센티브율로 풀어주는 테이블 */
+public class IncentiveRateTable {
+
+  private final Map<ProductType, List<IncentiveRate>> incentivesByType;
+
+  public IncentiveRateTable(List<IncentiveRate> incentives) {
+    this.incentivesByType =
+        incentives.stream()
+            .collect(
+                Collectors.groupingBy(
+                    IncentiveRate::type,
+                    () -> new EnumMap<>(ProductType.class),
+                    Collectors.toList()));
+  }
+
+  public Map<PaymentsMethod, Integer> ratesOf(Long staffId, ProductType type) {
+    return resolve(incentivesByType.getOrDefault(type, List.of()), staffId);
+  }
+
+  // 공통 인센티브를 기본으로 두고 직원별 인센티브로 덮어쓴다
+  private static Map<PaymentsMethod, Integer> resolve(
+      List<IncentiveRate> incentives, Long staffId) {
+    Map<PaymentsMethod, Integer> rateMap = new EnumMap<>(PaymentsMethod.class);
+
+    incentives.stream()
+        .filter(incentive -> incentive.staffId() == null)
+        .forEach(incentive -> rateMap.put(incentive.paymentsMethod(), incentive.incentive()));
+
+    if (staffId != null) {
+      incentives.stream()
+          .filter(incentive -> staffId.equals(incentive.staffId()))
+          .forEach(incentive -> rateMap.put(incentive.paymentsMethod(), incentive.incentive()));
+    }
+    return rateMap;
+  }
+}
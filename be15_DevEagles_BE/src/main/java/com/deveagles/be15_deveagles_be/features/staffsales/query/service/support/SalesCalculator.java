@@ -1,17 +1,19 @@
 package com.deveagles.be15_deveagles_be.features.staffsales.query.service.support;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.SearchMode;
-import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.Incentive;
 import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
 import com.deveagles.be15_deveagles_be.features.staffsales.command.repository.IncentiveRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -19,10 +21,27 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SalesCalculator {
 
+  private static final TypeReference<List<IncentiveRate>> INCENTIVE_RATE_LIST =
+      new TypeReference<>() {};
+
   private final IncentiveRepository incentiveRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   public StaffSalesSummaryResponse calculateSummary(
       Long shopId, List<StaffSalesListResponse> staffSalesList) {
+    return calculateSummary(
+        staffSalesList, (staffId, type) -> getEffectiveIncentiveRates(shopId, staffId, type));
+  }
+
+  // 미리 조회한 인센티브율 테이블로 요약 계산 (직원/카테고리별 재조회 없음)
+  public StaffSalesSummaryResponse calculateSummary(
+      List<StaffSalesListResponse> staffSalesList, IncentiveRateTable incentiveRates) {
+    return calculateSummary(staffSalesList, incentiveRates::ratesOf);
+  }
+
+  private StaffSalesSummaryResponse calculateSummary(
+      List<StaffSalesListResponse> staffSalesList,
+      BiFunction<Long, ProductType, Map<PaymentsMethod, Integer>> rateLookup) {
 
     int totalGrossSales = 0;
     int totalNetSales = 0;
@@ -53,7 +72,7 @@ public class SalesCalculator {
         }
 
         // 인센티브 합산
-        int incentive = calculateTotalIncentive(shopId, staffId, type, payment.getNetSalesList());
+        int incentive = sumIncentive(rateLookup.apply(staffId, type), payment.getNetSalesList());
         totalIncentiveAmount += incentive;
       }
     }
@@ -101,8 +120,11 @@ public class SalesCalculator {
   public int calculateTotalIncentive(
       Long shopId, Long staffId, ProductType type, List<StaffNetSalesResponse> netSalesList) {
 
-    Map<PaymentsMethod, Integer> rateMap = getEffectiveIncentiveRates(shopId, staffId, type);
+    return sumIncentive(getEffectiveIncentiveRates(shopId, staffId, type), netSalesList);
+  }
 
+  private int sumIncentive(
+      Map<PaymentsMethod, Integer> rateMap, List<StaffNetSalesResponse> netSalesList) {
     return netSalesList.stream()
         .mapToInt(
             net -> {
@@ -123,23 +145,20 @@ public class SalesCalculator {
 
   public Map<PaymentsMethod, Integer> getEffectiveIncentiveRates(
       Long shopId, Long staffId, ProductType type) {
+    return loadIncentiveRates(shopId).ratesOf(staffId, type);
+  }
 
-    List<Incentive> incentives =
-        incentiveRepository.findActiveIncentivesByShopIdAndType(shopId, type, staffId);
-
-    Map<PaymentsMethod, Integer> rateMap = new EnumMap<>(PaymentsMethod.class);
-
-    incentives.stream()
-        .filter(incentive -> incentive.getStaffId() == null)
-        .forEach(incentive -> rateMap.put(incentive.getPaymentsMethod(), incentive.getIncentive()));
-
-    if (staffId != null) {
-      incentives.stream()
-          .filter(incentive -> staffId.equals(incentive.getStaffId()))
-          .forEach(
-              incentive -> rateMap.put(incentive.getPaymentsMethod(), incentive.getIncentive()));
-    }
-    return rateMap;
+  // 매장의 활성 인센티브를 한 번에 조회 (기준 데이터 캐시 경유)
+  public IncentiveRateTable loadIncentiveRates(Long shopId) {
+    return new IncentiveRateTable(
+        referenceDataCache.get(
+            ReferenceCache.INCENTIVES,
+            shopId,
+            INCENTIVE_RATE_LIST,
+            () ->
+                incentiveRepository.findActiveIncentivesByShopId(shopId).stream()
+                    .map(IncentiveRate::from)
+                    .toList()));
   }
 
   public int calculateAdjustedTarget(
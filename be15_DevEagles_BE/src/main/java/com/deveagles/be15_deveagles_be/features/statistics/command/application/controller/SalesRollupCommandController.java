@@ -0,0 +1,36 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.controller;
+
+import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Statistics", description = "통계 관련 API")
+@RestController
+@RequestMapping("/statistics/sales/rollup")
+@RequiredArgsConstructor
+public class SalesRollupCommandController {
+
+  private final SalesRollupCommandService salesRollupCommandService;
+
+  @PostMapping("/rebuild")
+  @Operation(summary = "일자별 매출 집계 재구성", description = "기간 내 매출 원본으로 일자별 매출 집계를 다시 생성합니다. (백필용)")
+  public ResponseEntity<ApiResponse<Integer>> rebuild(
+      @AuthenticationPrincipal CustomUser customUser,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    int rebuiltDays =
+        salesRollupCommandService.rebuild(customUser.getShopId(), startDate, endDate);
+    return ResponseEntity.ok(ApiResponse.success(rebuiltDays));
+  }
+}
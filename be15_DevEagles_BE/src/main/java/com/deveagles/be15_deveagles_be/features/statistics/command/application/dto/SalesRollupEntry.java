@@ -0,0 +1,38 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.dto;
+
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Sales;
+import java.time.LocalDateTime;
+
+/**
+ * 매출 1건이 일자별 집계에 기여하는 값. 수정 전 값을 보존해야 하므로 엔티티가 변경되기 전에 스냅샷으로 만든다.
+ *
+ * @param couponApplied 쿠폰이 적용된 매출이면 할인 금액 전체를 쿠폰 할인으로 집계
+ */
+public record SalesRollupEntry(
+    Long shopId,
+    LocalDateTime salesDate,
+    Integer totalAmount,
+    Integer discountAmount,
+    boolean couponApplied) {
+
+  public static SalesRollupEntry of(Sales sales, boolean couponApplied) {
+    return new SalesRollupEntry(
+        sales.getShopId(),
+        sales.getSalesDate(),
+        sales.getTotalAmount(),
+        sales.getDiscountAmount(),
+        couponApplied);
+  }
+
+  public long amount() {
+    return totalAmount != null ? totalAmount : 0L;
+  }
+
+  public long discount() {
+    return discountAmount != null ? discountAmount : 0L;
+  }
+
+  public long couponDiscount() {
+    return couponApplied ? discount() : 0L;
+  }
+}
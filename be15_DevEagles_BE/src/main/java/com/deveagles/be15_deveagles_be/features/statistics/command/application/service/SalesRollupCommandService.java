@@ -0,0 +1,15 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.service;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import java.time.LocalDate;
+
+public interface SalesRollupCommandService {
+
+  void add(SalesRollupEntry entry);
+
+  void replace(SalesRollupEntry before, SalesRollupEntry after);
+
+  void refund(SalesRollupEntry entry);
+
+  int rebuild(Long shopId, LocalDate startDate, LocalDate endDate);
+}
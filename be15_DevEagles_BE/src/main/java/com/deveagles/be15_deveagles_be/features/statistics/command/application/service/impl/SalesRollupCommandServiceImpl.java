@@ -0,0 +1,86 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.service.impl;
+
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailySalesRollupRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 매출 커맨드 트랜잭션 안에서 일자별 매출 집계를 증분 갱신한다. 통계 결과 캐시 무효화 이벤트는 매출 커맨드 서비스가 쓰기마다 직접 발행하고, 여기서는
+ * 원본 매출 변경 없이 집계만 바뀌는 재구성 때만 발행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupCommandServiceImpl implements SalesRollupCommandService {
+
+  private final DailySalesRollupRepository dailySalesRollupRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  @Transactional
+  public void add(SalesRollupEntry entry) {
+    apply(entry, 1, 0);
+  }
+
+  @Override
+  @Transactional
+  public void replace(SalesRollupEntry before, SalesRollupEntry after) {
+    apply(before, -1, 0);
+    apply(after, 1, 0);
+  }
+
+  @Override
+  @Transactional
+  public void refund(SalesRollupEntry entry) {
+    apply(entry, -1, 1);
+  }
+
+  @Override
+  @Transactional
+  public int rebuild(Long shopId, LocalDate startDate, LocalDate endDate) {
+    if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    int deleted = dailySalesRollupRepository.deleteByShopIdAndPeriod(shopId, startDate, endDate);
+    int inserted =
+        dailySalesRollupRepository.insertAggregatedFromSales(
+            shopId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    log.info(
+        "일자별 매출 집계 재구성 완료 - shopId: {}, 기간: {} ~ {}, 삭제: {}, 생성: {}",
+        shopId,
+        startDate,
+        endDate,
+        deleted,
+        inserted);
+    eventPublisher.publishEvent(new StatisticsDataChangedEvent(shopId));
+    return inserted;
+  }
+
+  /**
+   * @param sign 매출 집계 반영 방향 (1: 추가, -1: 차감)
+   * @param refundSign 환불 집계 반영 방향 (1: 환불 추가, 0: 변동 없음)
+   */
+  private void apply(SalesRollupEntry entry, int sign, int refundSign) {
+    if (entry.shopId() == null || entry.salesDate() == null) {
+      return;
+    }
+    dailySalesRollupRepository.upsertDelta(
+        entry.shopId(),
+        entry.salesDate().toLocalDate(),
+        sign * entry.amount(),
+        sign,
+        sign * entry.discount(),
+        sign * entry.couponDiscount(),
+        refundSign * entry.amount(),
+        refundSign);
+  }
+}
@@ -0,0 +1,38 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/** 매장/일자별 매출 집계 (환불 반영). 매출 등록/수정/환불 시 증분 갱신된다. */
+@Entity
+@Table(name = "daily_sales_rollup")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailySalesRollup {
+
+  @EmbeddedId private DailySalesRollupId id;
+
+  @Column(name = "total_amount", nullable = false)
+  private Long totalAmount;
+
+  @Column(name = "transaction_count", nullable = false)
+  private Long transactionCount;
+
+  @Column(name = "discount_amount", nullable = false)
+  private Long discountAmount;
+
+  @Column(name = "coupon_discount_amount", nullable = false)
+  private Long couponDiscountAmount;
+
+  @Column(name = "refunded_amount", nullable = false)
+  private Long refundedAmount;
+
+  @Column(name = "refunded_count", nullable = false)
+  private Long refundedCount;
+
+  @Column(name = "modified_at", nullable = false)
+  private LocalDateTime modifiedAt;
+}
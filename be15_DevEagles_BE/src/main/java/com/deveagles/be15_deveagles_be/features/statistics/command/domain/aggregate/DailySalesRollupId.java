@@ -0,0 +1,21 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.*;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailySalesRollupId implements Serializable {
+
+  @Column(name = "shop_id")
+  private Long shopId;
+
+  @Column(name = "sales_date")
+  private LocalDate salesDate;
+}
@@ -0,0 +1,80 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository;
+
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailySalesRollup;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.DailySalesRollupId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailySalesRollupRepository
+    extends JpaRepository<DailySalesRollup, DailySalesRollupId> {
+
+  /** 일자 행이 없으면 생성하고, 있으면 증감분을 더한다. */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO daily_sales_rollup (shop_id, sales_date, total_amount, transaction_count,"
+              + " discount_amount, coupon_discount_amount, refunded_amount, refunded_count,"
+              + " modified_at)"
+              + " VALUES (:shopId, :salesDate, :totalAmount, :transactionCount, :discountAmount,"
+              + " :couponDiscountAmount, :refundedAmount, :refundedCount, NOW())"
+              + " ON DUPLICATE KEY UPDATE"
+              + " total_amount = total_amount + VALUES(total_amount),"
+              + " transaction_count = transaction_count + VALUES(transaction_count),"
+              + " discount_amount = discount_amount + VALUES(discount_amount),"
+              + " coupon_discount_amount = coupon_discount_amount + VALUES(coupon_discount_amount),"
+              + " refunded_amount = refunded_amount + VALUES(refunded_amount),"
+              + " refunded_count = refunded_count + VALUES(refunded_count),"
+              + " modified_at = NOW()",
+      nativeQuery = true)
+  void upsertDelta(
+      @Param("shopId") Long shopId,
+      @Param("salesDate") LocalDate salesDate,
+      @Param("totalAmount") long totalAmount,
+      @Param("transactionCount") long transactionCount,
+      @Param("discountAmount") long discountAmount,
+      @Param("couponDiscountAmount") long couponDiscountAmount,
+      @Param("refundedAmount") long refundedAmount,
+      @Param("refundedCount") long refundedCount);
+
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM daily_sales_rollup"
+              + " WHERE shop_id = :shopId AND sales_date BETWEEN :startDate AND :endDate",
+      nativeQuery = true)
+  int deleteByShopIdAndPeriod(
+      @Param("shopId") Long shopId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+
+  /** sales 원본을 일자별로 다시 집계해 적재한다. 백필/정합성 복구용. */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO daily_sales_rollup (shop_id, sales_date, total_amount, transaction_count,"
+              + " discount_amount, coupon_discount_amount, refunded_amount, refunded_count,"
+              + " modified_at)"
+              + " SELECT s.shop_id, DATE(s.sales_date),"
+              + " COALESCE(SUM(CASE WHEN s.is_refunded = 0 THEN s.total_amount ELSE 0 END), 0),"
+              + " COALESCE(SUM(CASE WHEN s.is_refunded = 0 THEN 1 ELSE 0 END), 0),"
+              + " COALESCE(SUM(CASE WHEN s.is_refunded = 0"
+              + " THEN COALESCE(s.discount_amount, 0) ELSE 0 END), 0),"
+              + " COALESCE(SUM(CASE WHEN s.is_refunded = 0 AND EXISTS (SELECT 1 FROM item_sales i"
+              + " WHERE i.sales_id = s.sales_id AND i.coupon_id IS NOT NULL)"
+              + " THEN COALESCE(s.discount_amount, 0) ELSE 0 END), 0),"
+              + " COALESCE(SUM(CASE WHEN s.is_refunded = 1 THEN s.total_amount ELSE 0 END), 0),"
+              + " COALESCE(SUM(CASE WHEN s.is_refunded = 1 THEN 1 ELSE 0 END), 0),"
+              + " NOW()"
+              + " FROM sales s"
+              + " WHERE s.shop_id = :shopId AND s.sales_date >= :startAt AND s.sales_date < :endAt"
+              + " GROUP BY s.shop_id, DATE(s.sales_date)",
+      nativeQuery = true)
+  int insertAggregatedFromSales(
+      @Param("shopId") Long shopId,
+      @Param("startAt") LocalDateTime startAt,
+      @Param("endAt") LocalDateTime endAt);
+}
@@ -10,7 +10,11 @@ import com.deveagles.be15_deveagles_be.features.statistics.query.dto.Reservation
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.ReservationSummaryResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.service.StatisticsDashboardService;
 import com.deveagles.be15_deveagles_be.features.statistics.query.service.StatisticsQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,6 +39,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
   private final StatisticsQueryService statisticsQueryService;
+  private final StatisticsDashboardService statisticsDashboardService;
+
+  @GetMapping("/dashboard")
+  @Operation(
+      summary = "통계 대시보드 조회",
+      description =
+          "매출 요약, 일별 매출, 1차 상품 추이, 예약 요약, 시간대별/일별 방문객을 동시에 조회합니다. 제한 시간 안에 끝나지 않은 섹션은 비워 두고"
+              + " 섹션별 상태와 소요 시간을 함께 반환합니다.")
+  public ResponseEntity<ApiResponse<StatisticsDashboardResponse>> getDashboard(
+      @AuthenticationPrincipal CustomUser customUser,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    StatisticsDashboardResponse dashboard =
+        statisticsDashboardService.getDashboard(customUser.getShopId(), startDate, endDate);
+    return ResponseEntity.ok(ApiResponse.success(dashboard));
+  }
 
   @GetMapping("/sales")
   @Operation(summary = "매출 통계 조회", description = "기간별 매출 통계를 조회합니다.")
@@ -164,4 +184,16 @@ public class StatisticsController {
             customUser.getShopId(), startDate, endDate);
     return ResponseEntity.ok(ApiResponse.success(statistics));
   }
+
+  @PostMapping("/visitors/advanced")
+  @Operation(
+      summary = "방문객 구간/차원별 통계 조회",
+      description = "15/30/60분 또는 일 단위 구간별 방문객 수를 성별, 고객등급, 담당 직원, 유입경로별로 나누어 조회합니다.")
+  public ResponseEntity<ApiResponse<List<VisitorStatisticsResponse>>> getVisitorStatistics(
+      @AuthenticationPrincipal CustomUser customUser,
+      @RequestBody VisitorStatisticsRequest request) {
+    List<VisitorStatisticsResponse> statistics =
+        statisticsQueryService.getVisitorStatistics(customUser.getShopId(), request);
+    return ResponseEntity.ok(ApiResponse.success(statistics));
+  }
 }
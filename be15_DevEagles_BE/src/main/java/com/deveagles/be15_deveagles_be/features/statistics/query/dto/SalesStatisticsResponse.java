@@ -1,11 +1,15 @@
 package com.deveagles.be15_deveagles_be.features.statistics.query.dto;
 
 import java.time.LocalDate;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class SalesStatisticsResponse {
   private LocalDate date;
   private long totalSalesAmount;
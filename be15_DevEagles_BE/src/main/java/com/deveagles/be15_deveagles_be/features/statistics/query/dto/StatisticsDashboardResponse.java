@@ -0,0 +1,40 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class StatisticsDashboardResponse {
+  // 각 섹션은 제한 시간 안에 끝나지 않았거나 실패하면 null
+  private SalesSummaryResponse salesSummary;
+  private List<SalesStatisticsResponse> dailySales;
+  private List<AdvancedSalesStatisticsResponse> primaryItemDailyTrend;
+  private ReservationSummaryResponse reservationSummary;
+  private List<HourlyVisitorStatisticsResponse> hourlyVisitors;
+  private List<DailyVisitorStatisticsResponse> dailyVisitors;
+
+  private boolean partial; // 빠진 섹션이 하나라도 있으면 true
+  private Long elapsedMs;
+  private Map<String, SectionMeta> sections; // 섹션 이름별 상태와 소요 시간
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class SectionMeta {
+    private SectionStatus status;
+    private Long elapsedMs;
+  }
+
+  public enum SectionStatus {
+    OK,
+    TIMEOUT,
+    FAILED
+  }
+}
@@ -0,0 +1,37 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class VisitorStatisticsRequest {
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private Bucket bucket;
+  private Dimension dimension;
+  // 시간대 집계(DAY 제외)의 조회 구간 [startTime, endTime), 비어 있으면 09:00 ~ 21:00
+  private LocalTime startTime;
+  private LocalTime endTime;
+
+  @Getter
+  @RequiredArgsConstructor
+  public enum Bucket {
+    MINUTE_15(15),
+    MINUTE_30(30),
+    HOUR(60),
+    DAY(24 * 60);
+
+    private final int minutes;
+  }
+
+  public enum Dimension {
+    GENDER,
+    GRADE,
+    STAFF,
+    CHANNEL
+  }
+}
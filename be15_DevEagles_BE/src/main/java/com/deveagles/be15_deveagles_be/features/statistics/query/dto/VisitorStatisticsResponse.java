@@ -0,0 +1,22 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitorStatisticsResponse {
+  private LocalDate date; // DAY 집계일 때만
+  private LocalTime timeSlot; // 시간대 집계일 때만
+  private String dayOfWeek; // DAY 집계일 때만 (월, 화, ...)
+  private Map<String, Long> visitors; // 차원 값(성별 M/F, 등급/직원/유입경로 ID, 없으면 UNKNOWN)별 방문객 수
+  private Long totalVisitors;
+  private String displayKey;
+}
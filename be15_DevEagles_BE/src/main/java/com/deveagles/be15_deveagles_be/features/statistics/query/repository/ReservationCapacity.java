@@ -0,0 +1,232 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 매장의 예약 가능 슬롯(30분 단위) 수를 계산하는 용량 모델.
+ *
+ * <p>요일별 운영 시간/점심시간으로 만든 주간 템플릿(요일 × 48칸)에 칸 방향 누적합을 두어, 기간 [from, to) 의 특정 칸 범위 용량을 "기간에 든 요일별
+ * 날짜 수 × 그 요일의 칸 범위 합"으로 날짜 수와 관계없이 계산한다. 직원별 용량은 여기서 직원의 휴무를 뺀다. 요일 정기 휴무는 같은 방식으로,
+ * 단기 휴무는 요일별로 정렬해 둔 날짜 배열의 이진 탐색으로, 월 정기 휴무는 기간의 달마다 하루씩 뺀다.
+ *
+ * <p>한 번 만들면 바뀌지 않으므로 여러 요청이 공유한다.
+ */
+final class ReservationCapacity {
+
+  static final int SLOT_MINUTES = 30;
+  static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  static final int SLOTS_PER_HOUR = 60 / SLOT_MINUTES;
+
+  // 요일(0=월 ~ 6=일)별 칸 누적합, slotPrefix[d][s] = 0 ~ s-1 칸 중 열린 칸 수
+  private final int[][] slotPrefix = new int[7][SLOTS_PER_DAY + 1];
+  private final boolean[] operating = new boolean[7];
+  private final Map<Long, StaffLeaves> staffLeaves;
+
+  private ReservationCapacity(Map<Long, StaffLeaves> staffLeaves) {
+    this.staffLeaves = staffLeaves;
+  }
+
+  /** dayOfWeek(1=월 ~ 7=일) 의 영업 시간 [start, end) 중 점심시간과 겹치지 않는 칸. */
+  record WeekdayHours(
+      int dayOfWeek,
+      int startMinute,
+      int endMinute,
+      Integer lunchStartMinute,
+      Integer lunchEndMinute) {}
+
+  /** 직원 휴무. leaveAt 이 있으면 단기 휴무, monthlyDay 나 weeklyDay(1=월 ~ 7=일) 가 있으면 정기 휴무다. */
+  record StaffLeave(Long staffId, LocalDate leaveAt, Integer monthlyDay, Integer weeklyDay) {}
+
+  static ReservationCapacity compile(List<WeekdayHours> hours, List<StaffLeave> leaves) {
+    Map<Long, List<StaffLeave>> byStaff = new HashMap<>();
+    for (StaffLeave leave : leaves) {
+      byStaff.computeIfAbsent(leave.staffId(), id -> new ArrayList<>()).add(leave);
+    }
+    Map<Long, StaffLeaves> compiled = new HashMap<>();
+    byStaff.forEach((staffId, staffLeaves) -> compiled.put(staffId, StaffLeaves.of(staffLeaves)));
+
+    ReservationCapacity capacity = new ReservationCapacity(compiled);
+    for (WeekdayHours day : hours) {
+      capacity.open(day);
+    }
+    return capacity;
+  }
+
+  private void open(WeekdayHours day) {
+    int d = day.dayOfWeek() - 1;
+    boolean[] open = new boolean[SLOTS_PER_DAY];
+    int first = Math.floorDiv(day.startMinute() + SLOT_MINUTES - 1, SLOT_MINUTES);
+    int last = Math.min(day.endMinute() / SLOT_MINUTES, SLOTS_PER_DAY);
+    for (int s = first; s < last; s++) {
+      open[s] = true;
+    }
+    if (day.lunchStartMinute() != null && day.lunchEndMinute() != null) {
+      int lunchFirst = day.lunchStartMinute() / SLOT_MINUTES;
+      int lunchEnd =
+          Math.min(
+              Math.floorDiv(day.lunchEndMinute() + SLOT_MINUTES - 1, SLOT_MINUTES), SLOTS_PER_DAY);
+      for (int s = lunchFirst; s < lunchEnd; s++) {
+        open[s] = false;
+      }
+    }
+    operating[d] = true;
+    for (int s = 0; s < SLOTS_PER_DAY; s++) {
+      slotPrefix[d][s + 1] = slotPrefix[d][s] + (open[s] ? 1 : 0);
+    }
+  }
+
+  /** dayOfWeek(1=월 ~ 7=일) 에 예약 설정이 있는지 여부. */
+  boolean isOperating(int dayOfWeek) {
+    return operating[dayOfWeek - 1];
+  }
+
+  /** [from, to) 의 매장 전체 슬롯 수. */
+  int slots(LocalDate from, LocalDate to) {
+    return slots(null, from, to, 0, SLOTS_PER_DAY);
+  }
+
+  /** [from, to) 의 hour 시 슬롯 수. */
+  int hourSlots(LocalDate from, LocalDate to, int hour) {
+    return slots(null, from, to, hour * SLOTS_PER_HOUR, (hour + 1) * SLOTS_PER_HOUR);
+  }
+
+  /** [from, to) 중 dayOfWeek(1=월 ~ 7=일) 날짜들의 hour 시 슬롯 수. */
+  int weekdayHourSlots(LocalDate from, LocalDate to, int dayOfWeek, int hour) {
+    int d = dayOfWeek - 1;
+    return daysOf(from, to, d) * range(d, hour * SLOTS_PER_HOUR, (hour + 1) * SLOTS_PER_HOUR);
+  }
+
+  /** [from, to) 의 staffId 직원 슬롯 수. 직원 휴무일은 빠진다. */
+  int staffSlots(Long staffId, LocalDate from, LocalDate to) {
+    return slots(staffId, from, to, 0, SLOTS_PER_DAY);
+  }
+
+  /** [from, to) 기간 하루 중 [firstSlot, endSlot) 칸의 슬롯 수. staffId 가 있으면 그 직원의 휴무일을 뺀다. */
+  int slots(Long staffId, LocalDate from, LocalDate to, int firstSlot, int endSlot) {
+    if (!from.isBefore(to) || firstSlot >= endSlot) {
+      return 0;
+    }
+    int[] days = daysPerWeekday(from, to);
+    int total = 0;
+    for (int d = 0; d < 7; d++) {
+      total += days[d] * range(d, firstSlot, endSlot);
+    }
+    StaffLeaves leaves = staffId != null ? staffLeaves.get(staffId) : null;
+    if (leaves != null) {
+      total -= leaves.lostSlots(this, from, to, days, firstSlot, endSlot);
+    }
+    return total;
+  }
+
+  private int range(int d, int firstSlot, int endSlot) {
+    return slotPrefix[d][endSlot] - slotPrefix[d][firstSlot];
+  }
+
+  // [from, to) 에 든 요일(0=월 ~ 6=일)별 날짜 수
+  private static int[] daysPerWeekday(LocalDate from, LocalDate to) {
+    int total = (int) ChronoUnit.DAYS.between(from, to);
+    int first = from.getDayOfWeek().getValue() - 1;
+    int[] days = new int[7];
+    Arrays.fill(days, total / 7);
+    for (int i = 0; i < total % 7; i++) {
+      days[(first + i) % 7]++;
+    }
+    return days;
+  }
+
+  private static int daysOf(LocalDate from, LocalDate to, int d) {
+    return from.isBefore(to) ? daysPerWeekday(from, to)[d] : 0;
+  }
+
+  /** 직원 한 명의 휴무를 요일 정기 휴무, 월 정기 휴무일, 요일별 단기 휴무 날짜(epochDay 오름차순)로 정리한 것. */
+  private record StaffLeaves(boolean[] weeklyOff, int[] monthlyDays, long[][] leaveDays) {
+
+    static StaffLeaves of(List<StaffLeave> leaves) {
+      boolean[] weeklyOff = new boolean[7];
+      Set<Integer> monthly = new TreeSet<>();
+      for (StaffLeave leave : leaves) {
+        if (leave.weeklyDay() != null) {
+          weeklyOff[leave.weeklyDay() - 1] = true;
+        } else if (leave.monthlyDay() != null) {
+          monthly.add(leave.monthlyDay());
+        }
+      }
+      // 정기 휴무와 겹치는 단기 휴무는 두 번 빼지 않도록 여기서 거른다
+      List<Set<Long>> perWeekday = new ArrayList<>();
+      for (int d = 0; d < 7; d++) {
+        perWeekday.add(new HashSet<>());
+      }
+      for (StaffLeave leave : leaves) {
+        LocalDate date = leave.leaveAt();
+        if (date == null) {
+          continue;
+        }
+        int d = date.getDayOfWeek().getValue() - 1;
+        if (!weeklyOff[d] && !monthly.contains(date.getDayOfMonth())) {
+          perWeekday.get(d).add(date.toEpochDay());
+        }
+      }
+      long[][] leaveDays = new long[7][];
+      for (int d = 0; d < 7; d++) {
+        leaveDays[d] = perWeekday.get(d).stream().mapToLong(Long::longValue).sorted().toArray();
+      }
+      return new StaffLeaves(
+          weeklyOff, monthly.stream().mapToInt(Integer::intValue).toArray(), leaveDays);
+    }
+
+    int lostSlots(
+        ReservationCapacity capacity,
+        LocalDate from,
+        LocalDate to,
+        int[] days,
+        int firstSlot,
+        int endSlot) {
+      int[] offDays = new int[7];
+      long fromDay = from.toEpochDay();
+      long toDay = to.toEpochDay();
+      for (int d = 0; d < 7; d++) {
+        if (weeklyOff[d]) {
+          offDays[d] = days[d];
+        } else {
+          offDays[d] = lowerBound(leaveDays[d], toDay) - lowerBound(leaveDays[d], fromDay);
+        }
+      }
+      if (monthlyDays.length > 0) {
+        for (YearMonth month = YearMonth.from(from);
+            !month.atDay(1).isAfter(to.minusDays(1));
+            month = month.plusMonths(1)) {
+          for (int dayOfMonth : monthlyDays) {
+            if (dayOfMonth > month.lengthOfMonth()) {
+              continue;
+            }
+            LocalDate date = month.atDay(dayOfMonth);
+            int d = date.getDayOfWeek().getValue() - 1;
+            if (!date.isBefore(from) && date.isBefore(to) && !weeklyOff[d]) {
+              offDays[d]++;
+            }
+          }
+        }
+      }
+      int lost = 0;
+      for (int d = 0; d < 7; d++) {
+        lost += offDays[d] * capacity.range(d, firstSlot, endSlot);
+      }
+      return lost;
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+      int index = Arrays.binarySearch(sorted, key);
+      return index >= 0 ? index : -index - 1;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.StaffLeaveChangedEvent;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QLeave;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QRegularLeave;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QReservationSetting;
+import com.deveagles.be15_deveagles_be.features.statistics.query.repository.ReservationCapacity.StaffLeave;
+import com.deveagles.be15_deveagles_be.features.statistics.query.repository.ReservationCapacity.WeekdayHours;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장별 예약 용량 모델({@link ReservationCapacity}) 캐시.
+ *
+ * <p>요일별 예약 설정과 직원 단기/정기 휴무를 매장당 세 번의 조회로 읽어 모델을 만들고, 예약 설정이나 휴무가 바뀌면 해당 매장 항목을 무효화한다.
+ * 다른 노드의 변경은 TTL 로 반영된다. 단기 휴무는 최근 {@code leave-history-years} 년과 이후 날짜만 읽으므로, 그보다 오래된 기간의 직원 용량에는
+ * 단기 휴무가 빠지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCapacityCache {
+
+  private final JPAQueryFactory queryFactory;
+  private final QReservationSetting reservationSetting = QReservationSetting.reservationSetting;
+  private final QLeave leave = QLeave.leave;
+  private final QRegularLeave regularLeave = QRegularLeave.regularLeave;
+
+  @Value("${statistics.capacity.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  @Value("${statistics.capacity.leave-history-years:2}")
+  private long leaveHistoryYears;
+
+  private final Map<Long, CachedCapacity> cache = new ConcurrentHashMap<>();
+  private final AtomicLong invalidationVersion = new AtomicLong();
+
+  ReservationCapacity get(Long shopId) {
+    CachedCapacity cached = cache.get(shopId);
+    if (cached != null && !cached.isExpired(ttlSeconds)) {
+      return cached.capacity();
+    }
+
+    long version = invalidationVersion.get();
+    ReservationCapacity loaded = load(shopId);
+
+    // 로딩 중 무효화가 있었다면 캐시에 넣지 않는다
+    if (version == invalidationVersion.get()) {
+      cache.put(shopId, new CachedCapacity(loaded, System.currentTimeMillis()));
+    }
+    return loaded;
+  }
+
+  public void invalidate(Long shopId) {
+    invalidationVersion.incrementAndGet();
+    cache.remove(shopId);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    if (event.cache() == ReferenceCache.RESERVATION_SETTINGS) {
+      log.debug("예약 용량 캐시 무효화 (예약 설정 변경): 매장 ID={}", event.shopId());
+      invalidate(event.shopId());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStaffLeaveChanged(StaffLeaveChangedEvent event) {
+    log.debug("예약 용량 캐시 무효화 (휴무 변경): 매장 ID={}", event.shopId());
+    invalidate(event.shopId());
+  }
+
+  private ReservationCapacity load(Long shopId) {
+    List<WeekdayHours> hours = new ArrayList<>();
+    for (Tuple row :
+        queryFactory
+            .select(
+                reservationSetting.id.availableDay,
+                reservationSetting.availableStartTime,
+                reservationSetting.availableEndTime,
+                reservationSetting.lunchStartTime,
+                reservationSetting.lunchEndTime)
+            .from(reservationSetting)
+            .where(
+                reservationSetting.id.shopId.eq(shopId).and(reservationSetting.deletedAt.isNull()))
+            .fetch()) {
+      LocalTime start = row.get(reservationSetting.availableStartTime);
+      LocalTime end = row.get(reservationSetting.availableEndTime);
+      if (start == null || end == null) {
+        continue;
+      }
+      hours.add(
+          new WeekdayHours(
+              row.get(reservationSetting.id.availableDay),
+              minuteOf(start),
+              minuteOf(end),
+              minuteOf(row.get(reservationSetting.lunchStartTime)),
+              minuteOf(row.get(reservationSetting.lunchEndTime))));
+    }
+
+    List<StaffLeave> leaves = new ArrayList<>();
+    LocalDate leaveFrom = LocalDate.now().minusYears(leaveHistoryYears);
+    queryFactory
+        .select(leave.staffId, leave.leaveAt)
+        .from(leave)
+        .where(leave.shopId.eq(shopId).and(leave.leaveAt.goe(leaveFrom)))
+        .fetch()
+        .forEach(
+            row ->
+                leaves.add(
+                    new StaffLeave(row.get(leave.staffId), row.get(leave.leaveAt), null, null)));
+    queryFactory
+        .select(regularLeave.staffId, regularLeave.monthlyLeave, regularLeave.weeklyLeave)
+        .from(regularLeave)
+        .where(regularLeave.shopId.eq(shopId))
+        .fetch()
+        .forEach(
+            row ->
+                leaves.add(
+                    new StaffLeave(
+                        row.get(regularLeave.staffId),
+                        null,
+                        row.get(regularLeave.monthlyLeave),
+                        row.get(regularLeave.weeklyLeave) != null
+                            ? row.get(regularLeave.weeklyLeave).ordinal() + 1
+                            : null)));
+
+    return ReservationCapacity.compile(hours, leaves);
+  }
+
+  private static Integer minuteOf(LocalTime time) {
+    return time != null ? time.getHour() * 60 + time.getMinute() : null;
+  }
+
+  private record CachedCapacity(ReservationCapacity capacity, long loadedAtMillis) {
+
+    boolean isExpired(long ttlSeconds) {
+      return System.currentTimeMillis() - loadedAtMillis > ttlSeconds * 1000;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 기간 내 예약 시작 시각을 요일 × 30분 칸 격자(int[7][48])에 센 예약 히트맵.
+ *
+ * <p>기간의 예약을 한 번만 읽어 시작 시각을 요일(0=월 ~ 6=일), 칸(분 / 30) 위치에 더해 두고, 30분 칸별, 시간별, 요일 × 시간별 통계는
+ * 모두 이 격자의 합으로 계산한다. 요일은 DB 의 DAYOFWEEK 기준(일요일 시작) 대신 {@link java.time.DayOfWeek} 기준으로 센다.
+ */
+final class ReservationHeatmap {
+
+  static final int SLOT_MINUTES = 30;
+  static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  static final int SLOTS_PER_HOUR = 60 / SLOT_MINUTES;
+
+  private final int[][] reserved = new int[7][SLOTS_PER_DAY];
+  private final int[] weekdayDays = new int[7];
+  private final int totalDays;
+  private int total;
+
+  ReservationHeatmap(LocalDate startDate, LocalDate endDate) {
+    this.totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    // 온전한 주는 요일마다 하루씩, 나머지 날은 시작 요일부터 하루씩 더한다
+    int first = startDate.getDayOfWeek().getValue() - 1;
+    for (int i = 0; i < 7; i++) {
+      weekdayDays[i] = totalDays / 7;
+    }
+    for (int i = 0; i < totalDays % 7; i++) {
+      weekdayDays[(first + i) % 7]++;
+    }
+  }
+
+  /** dayOfWeek(1=월 ~ 7=일) 의 minuteOfDay 분에 시작한 예약 하나를 센다. */
+  void add(int dayOfWeek, int minuteOfDay) {
+    reserved[dayOfWeek - 1][minuteOfDay / SLOT_MINUTES]++;
+    total++;
+  }
+
+  void add(LocalDateTime startAt) {
+    add(startAt.getDayOfWeek().getValue(), startAt.getHour() * 60 + startAt.getMinute());
+  }
+
+  /** 하루 중 slot 번째 30분 칸에 시작한 예약 수 (모든 요일 합). */
+  int slot(int slot) {
+    int sum = 0;
+    for (int[] day : reserved) {
+      sum += day[slot];
+    }
+    return sum;
+  }
+
+  /** hour 시에 시작한 예약 수 (모든 요일 합). */
+  int hour(int hour) {
+    return slot(hour * SLOTS_PER_HOUR) + slot(hour * SLOTS_PER_HOUR + 1);
+  }
+
+  /** dayOfWeek(1=월 ~ 7=일) 의 hour 시에 시작한 예약 수. */
+  int dayHour(int dayOfWeek, int hour) {
+    int[] day = reserved[dayOfWeek - 1];
+    return day[hour * SLOTS_PER_HOUR] + day[hour * SLOTS_PER_HOUR + 1];
+  }
+
+  /** 기간에 포함된 dayOfWeek(1=월 ~ 7=일) 날짜 수. */
+  int days(int dayOfWeek) {
+    return weekdayDays[dayOfWeek - 1];
+  }
+
+  int totalDays() {
+    return totalDays;
+  }
+
+  int total() {
+    return total;
+  }
+}
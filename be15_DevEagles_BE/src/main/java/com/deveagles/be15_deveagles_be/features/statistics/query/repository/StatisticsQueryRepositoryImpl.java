@@ -6,8 +6,8 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Q
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.QItemSales;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.QSales;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QReservation;
-import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.QReservationSetting;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.aggregate.QDailySalesRollup;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.AdvancedSalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
@@ -17,8 +17,13 @@ import com.deveagles.be15_deveagles_be.features.statistics.query.dto.Reservation
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DatePath;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -26,6 +31,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -33,25 +39,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository {
 
+  private static final LocalTime VISITOR_DEFAULT_START_TIME = LocalTime.of(9, 0);
+  private static final LocalTime VISITOR_DEFAULT_END_TIME = LocalTime.of(21, 0);
+
   private final JPAQueryFactory queryFactory;
+  private final ReservationCapacityCache reservationCapacityCache;
   private final QSales sales = QSales.sales;
   private final QItemSales itemSales = QItemSales.itemSales;
   private final QPrimaryItem primaryItem = QPrimaryItem.primaryItem;
   private final QSecondaryItem secondaryItem = QSecondaryItem.secondaryItem;
   private final QCustomer customer = QCustomer.customer;
   private final QReservation reservation = QReservation.reservation;
-  private final QReservationSetting reservationSetting = QReservationSetting.reservationSetting;
+  private final QDailySalesRollup dailySalesRollup = QDailySalesRollup.dailySalesRollup;
+
+  /** 일자별 매출 집계 테이블 사용 여부. 백필 전에는 false로 두어 원본 sales 집계를 사용한다. */
+  @Value("${statistics.sales-rollup.enabled:false}")
+  private boolean salesRollupEnabled;
 
   @Override
   public List<SalesStatisticsResponse> findSalesStatisticsByPeriod(
       Long shopId, LocalDate startDate, LocalDate endDate) {
+    if (salesRollupEnabled) {
+      return findSalesStatisticsFromRollup(shopId, startDate, endDate);
+    }
     return queryFactory
         .select(
             sales.salesDate.year(),
@@ -83,12 +103,41 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
                             tuple.get(0, Integer.class),
                             tuple.get(1, Integer.class),
                             tuple.get(2, Integer.class)))
-                    .totalSalesAmount(tuple.get(3, Integer.class).longValue())
+                    .totalSalesAmount(tuple.get(3, Number.class).longValue())
                     .totalTransactions(tuple.get(4, Long.class))
                     .build())
         .collect(Collectors.toList());
   }
 
+  /** 일자별 매출 집계 테이블 기반 기간별 매출 통계 - 일자당 1행만 읽는다 */
+  private List<SalesStatisticsResponse> findSalesStatisticsFromRollup(
+      Long shopId, LocalDate startDate, LocalDate endDate) {
+    return queryFactory
+        .select(
+            dailySalesRollup.id.salesDate,
+            dailySalesRollup.totalAmount,
+            dailySalesRollup.transactionCount)
+        .from(dailySalesRollup)
+        .where(
+            dailySalesRollup
+                .id
+                .shopId
+                .eq(shopId)
+                .and(dailySalesRollup.id.salesDate.between(startDate, endDate))
+                .and(dailySalesRollup.transactionCount.gt(0L)))
+        .orderBy(dailySalesRollup.id.salesDate.asc())
+        .fetch()
+        .stream()
+        .map(
+            tuple ->
+                SalesStatisticsResponse.builder()
+                    .date(tuple.get(dailySalesRollup.id.salesDate))
+                    .totalSalesAmount(tuple.get(dailySalesRollup.totalAmount))
+                    .totalTransactions(tuple.get(dailySalesRollup.transactionCount))
+                    .build())
+        .collect(Collectors.toList());
+  }
+
   @Override
   public List<AdvancedSalesStatisticsResponse> findAdvancedSalesStatistics(
       Long shopId, StatisticsRequest request) {
@@ -112,6 +161,10 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   /** 시간 기반 통계 - sales 테이블만 사용하여 정확한 집계 */
   private List<AdvancedSalesStatisticsResponse> getTimeBasedStatistics(
       Long shopId, StatisticsRequest request, StatisticsRequest.GroupBy groupBy) {
+    if (salesRollupEnabled) {
+      return getTimeBasedStatisticsFromRollup(shopId, request, groupBy);
+    }
+
     // WHERE 조건 구성
     List<BooleanExpression> whereClauses = new ArrayList<>();
     whereClauses.add(sales.shopId.eq(shopId));
@@ -171,6 +224,69 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
         .collect(Collectors.toList());
   }
 
+  /** 시간 기반 통계 - 일자별 매출 집계 테이블 사용 (그룹 키는 원본 sales 집계와 동일) */
+  private List<AdvancedSalesStatisticsResponse> getTimeBasedStatisticsFromRollup(
+      Long shopId, StatisticsRequest request, StatisticsRequest.GroupBy groupBy) {
+    DatePath<LocalDate> salesDay = dailySalesRollup.id.salesDate;
+
+    List<BooleanExpression> whereClauses = new ArrayList<>();
+    whereClauses.add(dailySalesRollup.id.shopId.eq(shopId));
+    DateRange period = resolveTimeRange(request);
+    if (period != null) {
+      whereClauses.add(salesDay.between(period.startDate(), period.endDate()));
+    }
+
+    StringExpression groupKey;
+    switch (groupBy) {
+      case DAY:
+        groupKey = salesDay.dayOfMonth().stringValue();
+        break;
+      case WEEK:
+        groupKey =
+            Expressions.stringTemplate(
+                "CONCAT({0}, '-', LPAD({1}, 2, '0'))",
+                salesDay.year().stringValue(), salesDay.week().stringValue());
+        break;
+      case MONTH:
+        groupKey =
+            Expressions.stringTemplate(
+                "CONCAT({0}, '-', LPAD({1}, 2, '0'))",
+                salesDay.year().stringValue(), salesDay.month().stringValue());
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid time groupBy: " + groupBy);
+    }
+
+    return queryFactory
+        .select(
+            groupKey,
+            dailySalesRollup.totalAmount.sum().coalesce(0L),
+            dailySalesRollup.transactionCount.sum().coalesce(0L),
+            dailySalesRollup.discountAmount.sum().coalesce(0L),
+            dailySalesRollup.couponDiscountAmount.sum().coalesce(0L))
+        .from(dailySalesRollup)
+        .where(whereClauses.toArray(new BooleanExpression[0]))
+        .groupBy(groupKey)
+        .having(dailySalesRollup.transactionCount.sum().gt(0L))
+        .orderBy(groupKey.asc())
+        .fetch()
+        .stream()
+        .map(
+            tuple ->
+                AdvancedSalesStatisticsResponse.builder()
+                    .date(tuple.get(0, String.class))
+                    .gender(null)
+                    .category(null)
+                    .primaryItemName(null)
+                    .secondaryItemName(null)
+                    .totalSalesAmount(tuple.get(1, Long.class))
+                    .totalTransactions(tuple.get(2, Long.class))
+                    .totalDiscountAmount(tuple.get(3, Long.class))
+                    .totalCouponDiscountAmount(tuple.get(4, Long.class))
+                    .build())
+        .collect(Collectors.toList());
+  }
+
   /** 상품/카테고리 기반 통계 - JOIN 사용하여 상품별 실제 금액 계산 */
   private List<AdvancedSalesStatisticsResponse> getItemBasedStatistics(
       Long shopId, StatisticsRequest request, StatisticsRequest.GroupBy groupBy) {
@@ -287,42 +403,62 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   }
 
   private void handleTimeRange(StatisticsRequest request, List<BooleanExpression> whereClauses) {
+    DateRange period = resolveTimeRange(request);
+    if (period != null) {
+      whereClauses.add(
+          sales.salesDate.between(
+              period.startDate().atStartOfDay(), period.endDate().atTime(LocalTime.MAX)));
+    }
+  }
+
+  /** 조회 기간 계산 (기간 조건이 없으면 null) */
+  private DateRange resolveTimeRange(StatisticsRequest request) {
     LocalDate now = LocalDate.now();
-    if (request.getTimeRange() != null) {
-      switch (request.getTimeRange()) {
-        case LAST_WEEK:
-          whereClauses.add(
-              sales.salesDate.between(now.minusWeeks(1).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case LAST_MONTH:
-          whereClauses.add(
-              sales.salesDate.between(
-                  now.minusMonths(1).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case LAST_6_MONTHS:
-          whereClauses.add(
-              sales.salesDate.between(
-                  now.minusMonths(6).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case LAST_YEAR:
-          whereClauses.add(
-              sales.salesDate.between(now.minusYears(1).atStartOfDay(), now.atTime(LocalTime.MAX)));
-          break;
-        case CUSTOM:
-          if (request.getStartDate() != null && request.getEndDate() != null) {
-            whereClauses.add(
-                sales.salesDate.between(
-                    request.getStartDate().atStartOfDay(),
-                    request.getEndDate().atTime(LocalTime.MAX)));
-          }
-          break;
-      }
+    if (request.getTimeRange() == null) {
+      return null;
+    }
+    switch (request.getTimeRange()) {
+      case LAST_WEEK:
+        return new DateRange(now.minusWeeks(1), now);
+      case LAST_MONTH:
+        return new DateRange(now.minusMonths(1), now);
+      case LAST_6_MONTHS:
+        return new DateRange(now.minusMonths(6), now);
+      case LAST_YEAR:
+        return new DateRange(now.minusYears(1), now);
+      case CUSTOM:
+        if (request.getStartDate() != null && request.getEndDate() != null) {
+          return new DateRange(request.getStartDate(), request.getEndDate());
+        }
+        return null;
+      default:
+        return null;
     }
   }
 
+  private record DateRange(LocalDate startDate, LocalDate endDate) {}
+
   @Override
   public SalesSummaryResponse findSalesSummary(
       Long shopId, LocalDate startDate, LocalDate endDate) {
+    if (salesRollupEnabled) {
+      var rollupStats =
+          queryFactory
+              .select(
+                  dailySalesRollup.totalAmount.sum().coalesce(0L),
+                  dailySalesRollup.transactionCount.sum().coalesce(0L))
+              .from(dailySalesRollup)
+              .where(
+                  dailySalesRollup
+                      .id
+                      .shopId
+                      .eq(shopId)
+                      .and(dailySalesRollup.id.salesDate.between(startDate, endDate)))
+              .fetchOne();
+      return buildSalesSummary(
+          rollupStats.get(0, Long.class), rollupStats.get(1, Long.class), startDate, endDate);
+    }
+
     // Get total sales and transaction count for the period
     var basicStats =
         queryFactory
@@ -341,6 +477,11 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
     Long totalSales = basicStats.get(0, Integer.class).longValue();
     Long totalTransactions = basicStats.get(1, Long.class);
 
+    return buildSalesSummary(totalSales, totalTransactions, startDate, endDate);
+  }
+
+  private SalesSummaryResponse buildSalesSummary(
+      Long totalSales, Long totalTransactions, LocalDate startDate, LocalDate endDate) {
     // Calculate daily average
     long daysBetween = startDate.until(endDate).getDays() + 1;
     double dailyAverage = daysBetween > 0 ? (double) totalSales / daysBetween : 0.0;
@@ -400,7 +541,8 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
       Long shopId, LocalDate startDate, LocalDate endDate) {
 
     // 기간 내 총 가능한 슬롯 수 계산
-    int totalSlots = calculateTotalSlotsForPeriod(shopId, startDate, endDate);
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
+    int totalSlots = capacity.slots(startDate, endDate.plusDays(1));
 
     // 실제 예약된 슬롯 수 계산
     Long reservedCount =
@@ -452,8 +594,14 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
     int peakHourSlots = peakHourReservations != null ? peakHourReservations.intValue() : 0;
     int offPeakHourSlots = reservedSlots - peakHourSlots;
 
-    // 피크 시간대 총 가능 슬롯 수 (8시간 * 2슬롯 * 일수)
-    int totalPeakSlots = (int) (8 * 2 * daysBetween);
+    // 피크 시간대(10시 ~ 18시) 운영 슬롯 수
+    int totalPeakSlots =
+        capacity.slots(
+            null,
+            startDate,
+            endDate.plusDays(1),
+            10 * ReservationCapacity.SLOTS_PER_HOUR,
+            18 * ReservationCapacity.SLOTS_PER_HOUR);
     int totalOffPeakSlots = totalSlots - totalPeakSlots;
 
     BigDecimal peakHourReservationRate =
@@ -484,93 +632,56 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   private List<ReservationStatisticsResponse> getDailyReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
 
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     List<ReservationStatisticsResponse> result = new ArrayList<>();
     LocalDate currentDate = startDate;
 
     while (!currentDate.isAfter(endDate)) {
-      // 해당 날짜의 예약 설정 조회
-      List<Integer> availableDays =
-          queryFactory
-              .select(reservationSetting.id.availableDay)
-              .from(reservationSetting)
-              .where(
-                  reservationSetting
-                      .id
-                      .shopId
-                      .eq(shopId)
-                      .and(reservationSetting.deletedAt.isNull()))
-              .fetch();
-
       int dayOfWeek = currentDate.getDayOfWeek().getValue(); // 1=Monday, 7=Sunday
 
-      if (availableDays.contains(dayOfWeek)) {
-        // 해당 날짜의 운영 시간 조회
-        var setting =
+      if (capacity.isOperating(dayOfWeek)) {
+        // 총 가능한 슬롯 수 계산 (30분 단위)
+        int totalSlots = capacity.slots(currentDate, currentDate.plusDays(1));
+
+        // 해당 날짜의 실제 예약 수 조회
+        Long reservedCount =
             queryFactory
-                .select(
-                    reservationSetting.availableStartTime,
-                    reservationSetting.availableEndTime,
-                    reservationSetting.lunchStartTime,
-                    reservationSetting.lunchEndTime)
-                .from(reservationSetting)
+                .select(reservation.count())
+                .from(reservation)
                 .where(
-                    reservationSetting
-                        .id
+                    reservation
                         .shopId
                         .eq(shopId)
-                        .and(reservationSetting.id.availableDay.eq(dayOfWeek))
-                        .and(reservationSetting.deletedAt.isNull()))
+                        .and(
+                            reservation.reservationStartAt.between(
+                                currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX)))
+                        .and(reservation.deletedAt.isNull())
+                        .and(
+                            reservation.reservationStatusName.notIn(
+                                ReservationStatusName.CBC,
+                                ReservationStatusName.CBS))) // 고객취소, 매장취소 제외
                 .fetchOne();
 
-        if (setting != null) {
-          LocalTime startTime = setting.get(0, LocalTime.class);
-          LocalTime endTime = setting.get(1, LocalTime.class);
-          LocalTime lunchStart = setting.get(2, LocalTime.class);
-          LocalTime lunchEnd = setting.get(3, LocalTime.class);
-
-          // 총 가능한 슬롯 수 계산 (30분 단위)
-          int totalSlots = calculateTotalSlots(startTime, endTime, lunchStart, lunchEnd);
-
-          // 해당 날짜의 실제 예약 수 조회
-          Long reservedCount =
-              queryFactory
-                  .select(reservation.count())
-                  .from(reservation)
-                  .where(
-                      reservation
-                          .shopId
-                          .eq(shopId)
-                          .and(
-                              reservation.reservationStartAt.between(
-                                  currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX)))
-                          .and(reservation.deletedAt.isNull())
-                          .and(
-                              reservation.reservationStatusName.notIn(
-                                  ReservationStatusName.CBC,
-                                  ReservationStatusName.CBS))) // 고객취소, 매장취소 제외
-                  .fetchOne();
-
-          int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
-          int availableSlots = totalSlots - reservedSlots;
-          BigDecimal reservationRate =
-              totalSlots > 0
-                  ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
-                      .setScale(2, RoundingMode.HALF_UP)
-                  : BigDecimal.ZERO;
-
-          result.add(
-              new ReservationStatisticsResponse(
-                  currentDate,
-                  LocalTime.of(0, 0),
-                  totalSlots,
-                  reservedSlots,
-                  availableSlots,
-                  reservationRate,
-                  "DAY",
-                  currentDate.toString(),
-                  null,
-                  null));
-        }
+        int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
+        int availableSlots = totalSlots - reservedSlots;
+        BigDecimal reservationRate =
+            totalSlots > 0
+                ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
+                    .setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        result.add(
+            new ReservationStatisticsResponse(
+                currentDate,
+                LocalTime.of(0, 0),
+                totalSlots,
+                reservedSlots,
+                availableSlots,
+                reservationRate,
+                "DAY",
+                currentDate.toString(),
+                null,
+                null));
       } else {
         // 운영하지 않는 날
         result.add(
@@ -596,6 +707,7 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   private List<ReservationStatisticsResponse> getWeeklyReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
 
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     List<ReservationStatisticsResponse> result = new ArrayList<>();
     LocalDate weekStart = startDate.with(java.time.DayOfWeek.MONDAY);
 
@@ -604,7 +716,7 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
       if (weekEnd.isAfter(endDate)) weekEnd = endDate;
 
       // 해당 주의 총 가능한 슬롯 수 계산
-      int totalSlots = calculateTotalSlotsForPeriod(shopId, weekStart, weekEnd);
+      int totalSlots = capacity.slots(weekStart, weekEnd.plusDays(1));
 
       // 해당 주의 실제 예약 수 조회
       Long reservedCount =
@@ -659,6 +771,7 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   private List<ReservationStatisticsResponse> getMonthlyReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
 
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     List<ReservationStatisticsResponse> result = new ArrayList<>();
     LocalDate monthStart = startDate.withDayOfMonth(1);
 
@@ -667,7 +780,7 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
       if (monthEnd.isAfter(endDate)) monthEnd = endDate;
 
       // 해당 월의 총 가능한 슬롯 수 계산
-      int totalSlots = calculateTotalSlotsForPeriod(shopId, monthStart, monthEnd);
+      int totalSlots = capacity.slots(monthStart, monthEnd.plusDays(1));
 
       // 해당 월의 실제 예약 수 조회
       Long reservedCount =
@@ -722,46 +835,16 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   private List<ReservationStatisticsResponse> getTimeSlotReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
 
+    ReservationHeatmap heatmap = loadReservationHeatmap(shopId, startDate, endDate);
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     List<ReservationStatisticsResponse> result = new ArrayList<>();
-    long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
 
-    // 30분 단위로 하루 48개 슬롯 생성
-    for (int slot = 0; slot < 48; slot++) {
+    // 30분 단위로 하루 48개 슬롯
+    for (int slot = 0; slot < ReservationHeatmap.SLOTS_PER_DAY; slot++) {
       LocalTime timeSlot = LocalTime.of(slot / 2, (slot % 2) * 30);
-      LocalTime timeSlotEnd = timeSlot.plusMinutes(30);
-
-      // 해당 시간대의 예약 수 조회
-      Long reservedCount =
-          queryFactory
-              .select(reservation.count())
-              .from(reservation)
-              .where(
-                  reservation
-                      .shopId
-                      .eq(shopId)
-                      .and(
-                          reservation.reservationStartAt.between(
-                              startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                      .and(reservation.reservationStartAt.hour().eq(timeSlot.getHour()))
-                      .and(
-                          reservation
-                              .reservationStartAt
-                              .minute()
-                              .between(timeSlot.getMinute(), timeSlotEnd.getMinute() - 1))
-                      .and(reservation.deletedAt.isNull())
-                      .and(
-                          reservation.reservationStatusName.notIn(
-                              ReservationStatusName.CBC, ReservationStatusName.CBS)))
-              .fetchOne();
-
-      int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
-      int totalSlots = (int) daysBetween; // 해당 시간대의 총 가능한 슬롯 수
-      int availableSlots = totalSlots - reservedSlots;
-      BigDecimal reservationRate =
-          totalSlots > 0
-              ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
-                  .setScale(2, RoundingMode.HALF_UP)
-              : BigDecimal.ZERO;
+      int reservedSlots = heatmap.slot(slot);
+      // 해당 시간대의 총 가능한 슬롯 수 (운영 시간인 날만)
+      int totalSlots = capacity.slots(null, startDate, endDate.plusDays(1), slot, slot + 1);
 
       result.add(
           new ReservationStatisticsResponse(
@@ -769,8 +852,8 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
               timeSlot,
               totalSlots,
               reservedSlots,
-              availableSlots,
-              reservationRate,
+              totalSlots - reservedSlots,
+              reservationRate(reservedSlots, totalSlots),
               "TIME_SLOT",
               timeSlot.toString(),
               null,
@@ -783,40 +866,15 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   private List<ReservationStatisticsResponse> getHourlyReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
 
+    ReservationHeatmap heatmap = loadReservationHeatmap(shopId, startDate, endDate);
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     List<ReservationStatisticsResponse> result = new ArrayList<>();
-    long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
 
     // 24시간 단위로 집계
     for (int hour = 0; hour < 24; hour++) {
       LocalTime hourSlot = LocalTime.of(hour, 0);
-
-      // 해당 시간대의 예약 수 조회
-      Long reservedCount =
-          queryFactory
-              .select(reservation.count())
-              .from(reservation)
-              .where(
-                  reservation
-                      .shopId
-                      .eq(shopId)
-                      .and(
-                          reservation.reservationStartAt.between(
-                              startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                      .and(reservation.reservationStartAt.hour().eq(hour))
-                      .and(reservation.deletedAt.isNull())
-                      .and(
-                          reservation.reservationStatusName.notIn(
-                              ReservationStatusName.CBC, ReservationStatusName.CBS)))
-              .fetchOne();
-
-      int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
-      int totalSlots = (int) daysBetween * 2; // 시간당 2개 슬롯 (30분 단위)
-      int availableSlots = totalSlots - reservedSlots;
-      BigDecimal reservationRate =
-          totalSlots > 0
-              ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
-                  .setScale(2, RoundingMode.HALF_UP)
-              : BigDecimal.ZERO;
+      int reservedSlots = heatmap.hour(hour);
+      int totalSlots = capacity.hourSlots(startDate, endDate.plusDays(1), hour);
 
       result.add(
           new ReservationStatisticsResponse(
@@ -824,8 +882,8 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
               hourSlot,
               totalSlots,
               reservedSlots,
-              availableSlots,
-              reservationRate,
+              totalSlots - reservedSlots,
+              reservationRate(reservedSlots, totalSlots),
               "HOUR",
               hourSlot.toString(),
               null,
@@ -839,95 +897,58 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
   public List<ReservationStatisticsResponse> findStaffReservationStatistics(
       Long shopId, Long staffId, LocalDate startDate, LocalDate endDate) {
 
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     List<ReservationStatisticsResponse> result = new ArrayList<>();
     LocalDate currentDate = startDate;
 
     while (!currentDate.isAfter(endDate)) {
-      // 해당 날짜의 예약 설정 조회
-      List<Integer> availableDays =
-          queryFactory
-              .select(reservationSetting.id.availableDay)
-              .from(reservationSetting)
-              .where(
-                  reservationSetting
-                      .id
-                      .shopId
-                      .eq(shopId)
-                      .and(reservationSetting.deletedAt.isNull()))
-              .fetch();
-
       int dayOfWeek = currentDate.getDayOfWeek().getValue();
 
-      if (availableDays.contains(dayOfWeek)) {
-        // 해당 날짜의 운영 시간 조회
-        var setting =
+      if (capacity.isOperating(dayOfWeek)) {
+        // 총 가능한 슬롯 수 계산 (30분 단위, 직원 휴무일은 0)
+        int totalSlots = capacity.staffSlots(staffId, currentDate, currentDate.plusDays(1));
+
+        // 해당 날짜의 특정 직원 예약 수 조회
+        Long reservedCount =
             queryFactory
-                .select(
-                    reservationSetting.availableStartTime,
-                    reservationSetting.availableEndTime,
-                    reservationSetting.lunchStartTime,
-                    reservationSetting.lunchEndTime)
-                .from(reservationSetting)
+                .select(reservation.count())
+                .from(reservation)
                 .where(
-                    reservationSetting
-                        .id
+                    reservation
                         .shopId
                         .eq(shopId)
-                        .and(reservationSetting.id.availableDay.eq(dayOfWeek))
-                        .and(reservationSetting.deletedAt.isNull()))
+                        .and(reservation.staffId.eq(staffId))
+                        .and(
+                            reservation.reservationStartAt.between(
+                                currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX)))
+                        .and(reservation.deletedAt.isNull())
+                        .and(
+                            reservation.reservationStatusName.notIn(
+                                ReservationStatusName.CBC,
+                                ReservationStatusName.CBS))) // 고객취소, 매장취소 제외
                 .fetchOne();
 
-        if (setting != null) {
-          LocalTime startTime = setting.get(0, LocalTime.class);
-          LocalTime endTime = setting.get(1, LocalTime.class);
-          LocalTime lunchStart = setting.get(2, LocalTime.class);
-          LocalTime lunchEnd = setting.get(3, LocalTime.class);
-
-          // 총 가능한 슬롯 수 계산 (30분 단위)
-          int totalSlots = calculateTotalSlots(startTime, endTime, lunchStart, lunchEnd);
-
-          // 해당 날짜의 특정 직원 예약 수 조회
-          Long reservedCount =
-              queryFactory
-                  .select(reservation.count())
-                  .from(reservation)
-                  .where(
-                      reservation
-                          .shopId
-                          .eq(shopId)
-                          .and(reservation.staffId.eq(staffId))
-                          .and(
-                              reservation.reservationStartAt.between(
-                                  currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX)))
-                          .and(reservation.deletedAt.isNull())
-                          .and(
-                              reservation.reservationStatusName.notIn(
-                                  ReservationStatusName.CBC,
-                                  ReservationStatusName.CBS))) // 고객취소, 매장취소 제외
-                  .fetchOne();
-
-          int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
-          int availableSlots = totalSlots - reservedSlots;
-          BigDecimal reservationRate =
-              totalSlots > 0
-                  ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
-                      .setScale(2, RoundingMode.HALF_UP)
-                  : BigDecimal.ZERO;
-
-          result.add(
-              new ReservationStatisticsResponse(
-                  currentDate,
-                  LocalTime.of(0, 0),
-                  totalSlots,
-                  reservedSlots,
-                  availableSlots,
-                  reservationRate,
-                  "STAFF",
-                  currentDate.toString(),
-                  staffId,
-                  "직원" + staffId // 실제로는 직원 이름을 조회해야 함
-                  ));
-        }
+        int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
+        int availableSlots = totalSlots - reservedSlots;
+        BigDecimal reservationRate =
+            totalSlots > 0
+                ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
+                    .setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        result.add(
+            new ReservationStatisticsResponse(
+                currentDate,
+                LocalTime.of(0, 0),
+                totalSlots,
+                reservedSlots,
+                availableSlots,
+                reservationRate,
+                "STAFF",
+                currentDate.toString(),
+                staffId,
+                "직원" + staffId // 실제로는 직원 이름을 조회해야 함
+                ));
       } else {
         // 운영하지 않는 날
         result.add(
@@ -975,9 +996,10 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
             .distinct()
             .fetch();
 
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
     for (Long staffId : staffIds) {
-      // 기간 내 총 가능한 슬롯 수 계산
-      int totalSlots = calculateTotalSlotsForPeriod(shopId, startDate, endDate);
+      // 기간 내 총 가능한 슬롯 수 계산 (직원 휴무일 제외)
+      int totalSlots = capacity.staffSlots(staffId, startDate, endDate.plusDays(1));
 
       // 해당 직원의 예약 수 조회
       Long reservedCount =
@@ -1047,10 +1069,57 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
     log.info(
         "요일별 시간대 예약 통계 조회 시작 - shopId: {}, startDate: {}, endDate: {}", shopId, startDate, endDate);
 
-    // 전체 예약 데이터 개수 확인
-    Long totalReservationCount =
+    ReservationHeatmap heatmap = loadReservationHeatmap(shopId, startDate, endDate);
+    ReservationCapacity capacity = reservationCapacityCache.get(shopId);
+    log.debug("기간 내 총 예약 건수: {}", heatmap.total());
+
+    List<ReservationStatisticsResponse> result = new ArrayList<>();
+
+    // 각 요일별로 시간대별 예약율 계산
+    for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) { // 1=Monday, 7=Sunday
+      if (!capacity.isOperating(dayOfWeek)) {
+        log.debug("요일 {} 운영시간 설정 없음", dayOfWeek);
+        continue;
+      }
+
+      String dayOfWeekStr = getDayOfWeekString(dayOfWeek);
+
+      // 9시부터 20시까지 각 시간대별 예약율 계산
+      for (int hour = 9; hour <= 20; hour++) {
+        int reservedSlots = heatmap.dayHour(dayOfWeek, hour);
+        int totalSlots =
+            capacity.weekdayHourSlots(startDate, endDate.plusDays(1), dayOfWeek, hour);
+
+        result.add(
+            new ReservationStatisticsResponse(
+                null, // 날짜는 null로 설정 (요일별 합산 데이터이므로)
+                LocalTime.of(hour, 0), // 시간대
+                totalSlots,
+                reservedSlots,
+                totalSlots - reservedSlots,
+                reservationRate(reservedSlots, totalSlots),
+                "DAY_TIME_SLOT",
+                dayOfWeekStr + "_" + hour + "시", // displayKey: "MON_10시"
+                null, // staffId
+                null, // staffName
+                dayOfWeekStr // dayOfWeek
+                ));
+      }
+    }
+
+    log.info("요일별 시간대 예약 통계 조회 완료 - 결과: {}개 항목", result.size());
+    return result;
+  }
+
+  /**
+   * 기간 내 취소되지 않은 예약의 시작 시각을 한 번에 읽어 요일 × 30분 칸 히트맵으로 센다. 시간대/시간별/요일 × 시간별 통계가 모두 이 한 번의
+   * 조회에서 나온다.
+   */
+  private ReservationHeatmap loadReservationHeatmap(
+      Long shopId, LocalDate startDate, LocalDate endDate) {
+    List<LocalDateTime> startTimes =
         queryFactory
-            .select(reservation.count())
+            .select(reservation.reservationStartAt)
             .from(reservation)
             .where(
                 reservation
@@ -1063,173 +1132,19 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
                     .and(
                         reservation.reservationStatusName.notIn(
                             ReservationStatusName.CBC, ReservationStatusName.CBS)))
-            .fetchOne();
-
-    log.debug("기간 내 총 예약 건수: {}", totalReservationCount != null ? totalReservationCount : 0);
-
-    // 예약 설정 확인
-    Long settingCount =
-        queryFactory
-            .select(reservationSetting.count())
-            .from(reservationSetting)
-            .where(
-                reservationSetting.id.shopId.eq(shopId).and(reservationSetting.deletedAt.isNull()))
-            .fetchOne();
-
-    log.debug("예약 설정 개수: {}", settingCount != null ? settingCount : 0);
-
-    List<ReservationStatisticsResponse> result = new ArrayList<>();
-
-    // 각 요일별로 시간대별 예약율 계산
-    for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) { // 1=Monday, 7=Sunday
-
-      // 해당 요일의 운영 시간 조회
-      log.debug("요일 {} 운영시간 조회 중...", dayOfWeek);
-      var setting =
-          queryFactory
-              .select(
-                  reservationSetting.availableStartTime,
-                  reservationSetting.availableEndTime,
-                  reservationSetting.lunchStartTime,
-                  reservationSetting.lunchEndTime)
-              .from(reservationSetting)
-              .where(
-                  reservationSetting
-                      .id
-                      .shopId
-                      .eq(shopId)
-                      .and(reservationSetting.id.availableDay.eq(dayOfWeek))
-                      .and(reservationSetting.deletedAt.isNull()))
-              .fetchOne();
-
-      if (setting != null) {
-        log.debug(
-            "요일 {} 운영시간 찾음: {} ~ {}",
-            dayOfWeek,
-            setting.get(0, LocalTime.class),
-            setting.get(1, LocalTime.class));
-        LocalTime startTime = setting.get(0, LocalTime.class);
-        LocalTime endTime = setting.get(1, LocalTime.class);
-        LocalTime lunchStart = setting.get(2, LocalTime.class);
-        LocalTime lunchEnd = setting.get(3, LocalTime.class);
-
-        // 9시부터 20시까지 각 시간대별 예약율 계산
-        for (int hour = 9; hour <= 20; hour++) {
-
-          // 해당 요일과 시간대의 총 예약 가능 일수 계산
-          int totalDays = 0;
-          LocalDate currentDate = startDate;
-          while (!currentDate.isAfter(endDate)) {
-            if (currentDate.getDayOfWeek().getValue() == dayOfWeek) {
-              totalDays++;
-            }
-            currentDate = currentDate.plusDays(1);
-          }
-
-          // 해당 요일과 시간대의 실제 예약 수 조회 (요일 조건 추가)
-          Long reservedCount =
-              queryFactory
-                  .select(reservation.count())
-                  .from(reservation)
-                  .where(
-                      reservation
-                          .shopId
-                          .eq(shopId)
-                          .and(
-                              reservation.reservationStartAt.between(
-                                  startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                          .and(reservation.reservationStartAt.hour().eq(hour))
-                          .and(reservation.reservationStartAt.dayOfWeek().eq(dayOfWeek)) // 요일 조건 추가
-                          .and(reservation.deletedAt.isNull())
-                          .and(
-                              reservation.reservationStatusName.notIn(
-                                  ReservationStatusName.CBC, ReservationStatusName.CBS)))
-                  .fetchOne();
-
-          if (hour == 10 && dayOfWeek == 1) {
-            Long allHourReservations =
-                queryFactory
-                    .select(reservation.count())
-                    .from(reservation)
-                    .where(
-                        reservation
-                            .shopId
-                            .eq(shopId)
-                            .and(
-                                reservation.reservationStartAt.between(
-                                    startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                            .and(reservation.reservationStartAt.hour().eq(hour))
-                            .and(reservation.deletedAt.isNull())
-                            .and(
-                                reservation.reservationStatusName.notIn(
-                                    ReservationStatusName.CBC, ReservationStatusName.CBS)))
-                    .fetchOne();
-            log.debug(
-                "{}시 전체 예약 수 (요일 조건 없음): {}",
-                hour,
-                allHourReservations != null ? allHourReservations : 0);
-            log.debug(
-                "{}시 월요일 예약 수 (요일 조건 있음): {}", hour, reservedCount != null ? reservedCount : 0);
-          }
-
-          int reservedSlots = reservedCount != null ? reservedCount.intValue() : 0;
-
-          // 해당 시간대가 운영시간 내인지 확인
-          boolean isOperatingHour =
-              (hour >= startTime.getHour() && hour <= endTime.getHour())
-                  && !(lunchStart != null
-                      && lunchEnd != null
-                      && hour >= lunchStart.getHour()
-                      && hour < lunchEnd.getHour());
-
-          int totalSlots = isOperatingHour ? totalDays * 2 : 0; // 시간당 2개 슬롯 (30분 단위)
-
-          if (hour == 10 && dayOfWeek == 1) { // 월요일 10시만 샘플 로깅
-            log.debug(
-                "샘플 조회 (월요일 10시): totalDays={}, reservedSlots={}, totalSlots={}, isOperatingHour={}",
-                totalDays,
-                reservedSlots,
-                totalSlots,
-                isOperatingHour);
-          }
-          int availableSlots = totalSlots - reservedSlots;
-
-          BigDecimal reservationRate =
-              totalSlots > 0
-                  ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots)
-                      .setScale(2, RoundingMode.HALF_UP)
-                  : BigDecimal.ZERO;
-
-          // 요일 문자열 생성
-          String dayOfWeekStr = getDayOfWeekString(dayOfWeek);
-
-          result.add(
-              new ReservationStatisticsResponse(
-                  null, // 날짜는 null로 설정 (요일별 합산 데이터이므로)
-                  LocalTime.of(hour, 0), // 시간대
-                  totalSlots,
-                  reservedSlots,
-                  availableSlots,
-                  reservationRate,
-                  "DAY_TIME_SLOT",
-                  dayOfWeekStr + "_" + hour + "시", // displayKey: "MON_10시"
-                  null, // staffId
-                  null, // staffName
-                  dayOfWeekStr // dayOfWeek
-                  ));
-        }
-      } else {
-        log.debug("요일 {} 운영시간 설정 없음", dayOfWeek);
-      }
-    }
+            .fetch();
 
-    log.info("요일별 시간대 예약 통계 조회 완료 - 결과: {}개 항목", result.size());
-    if (!result.isEmpty()) {
-      log.debug(
-          "첫 번째 항목: {} = {}%", result.get(0).getDisplayKey(), result.get(0).getReservationRate());
+    ReservationHeatmap heatmap = new ReservationHeatmap(startDate, endDate);
+    for (LocalDateTime startAt : startTimes) {
+      heatmap.add(startAt);
     }
+    return heatmap;
+  }
 
-    return result;
+  private BigDecimal reservationRate(int reservedSlots, int totalSlots) {
+    return totalSlots > 0
+        ? BigDecimal.valueOf(reservedSlots * 100.0 / totalSlots).setScale(2, RoundingMode.HALF_UP)
+        : BigDecimal.ZERO;
   }
 
   /** 요일 숫자를 문자열로 변환 (1=MON, 2=TUE, ..., 7=SUN) */
@@ -1254,234 +1169,129 @@ public class StatisticsQueryRepositoryImpl implements StatisticsQueryRepository
     }
   }
 
-  /** 30분 단위 슬롯 수 계산 */
-  private int calculateTotalSlots(
-      LocalTime startTime, LocalTime endTime, LocalTime lunchStart, LocalTime lunchEnd) {
-    if (startTime == null || endTime == null) {
-      return 0;
-    }
-
-    // 총 운영 시간 계산 (분 단위)
-    int totalMinutes = (int) ChronoUnit.MINUTES.between(startTime, endTime);
-
-    // 점심시간 제외
-    if (lunchStart != null && lunchEnd != null) {
-      int lunchMinutes = (int) ChronoUnit.MINUTES.between(lunchStart, lunchEnd);
-      totalMinutes -= lunchMinutes;
-    }
-
-    // 30분 단위 슬롯 수 계산
-    return totalMinutes / 30;
-  }
-
-  /** 기간 내 총 슬롯 수 계산 */
-  private int calculateTotalSlotsForPeriod(Long shopId, LocalDate startDate, LocalDate endDate) {
-    int totalSlots = 0;
-    LocalDate currentDate = startDate;
-
-    while (!currentDate.isAfter(endDate)) {
-      List<Integer> availableDays =
-          queryFactory
-              .select(reservationSetting.id.availableDay)
-              .from(reservationSetting)
-              .where(
-                  reservationSetting
-                      .id
-                      .shopId
-                      .eq(shopId)
-                      .and(reservationSetting.deletedAt.isNull()))
-              .fetch();
-
-      int dayOfWeek = currentDate.getDayOfWeek().getValue();
-
-      if (availableDays.contains(dayOfWeek)) {
-        var setting =
-            queryFactory
-                .select(
-                    reservationSetting.availableStartTime,
-                    reservationSetting.availableEndTime,
-                    reservationSetting.lunchStartTime,
-                    reservationSetting.lunchEndTime)
-                .from(reservationSetting)
-                .where(
-                    reservationSetting
-                        .id
-                        .shopId
-                        .eq(shopId)
-                        .and(reservationSetting.id.availableDay.eq(dayOfWeek))
-                        .and(reservationSetting.deletedAt.isNull()))
-                .fetchOne();
-
-        if (setting != null) {
-          LocalTime startTime = setting.get(0, LocalTime.class);
-          LocalTime endTime = setting.get(1, LocalTime.class);
-          LocalTime lunchStart = setting.get(2, LocalTime.class);
-          LocalTime lunchEnd = setting.get(3, LocalTime.class);
-
-          totalSlots += calculateTotalSlots(startTime, endTime, lunchStart, lunchEnd);
-        }
-      }
-
-      currentDate = currentDate.plusDays(1);
-    }
-
-    return totalSlots;
-  }
-
   @Override
   public List<HourlyVisitorStatisticsResponse> findHourlyVisitorStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-
-    List<HourlyVisitorStatisticsResponse> result = new ArrayList<>();
-
-    // 시간대별 방문객 수를 성별로 구분하여 조회
-    for (int hour = 9; hour <= 20; hour++) {
-      // 남성 방문객 수 조회
-      Long maleCount =
-          queryFactory
-              .select(reservation.count())
-              .from(reservation)
-              .leftJoin(customer)
-              .on(reservation.customerId.eq(customer.id))
-              .where(
-                  reservation
-                      .shopId
-                      .eq(shopId)
-                      .and(
-                          reservation.reservationStartAt.between(
-                              startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                      .and(reservation.reservationStartAt.hour().eq(hour))
-                      .and(customer.gender.stringValue().eq("M"))
-                      .and(reservation.deletedAt.isNull())
-                      .and(
-                          reservation.reservationStatusName.notIn(
-                              ReservationStatusName.CBC, ReservationStatusName.CBS)))
-              .fetchOne();
-
-      // 여성 방문객 수 조회
-      Long femaleCount =
-          queryFactory
-              .select(reservation.count())
-              .from(reservation)
-              .leftJoin(customer)
-              .on(reservation.customerId.eq(customer.id))
-              .where(
-                  reservation
-                      .shopId
-                      .eq(shopId)
-                      .and(
-                          reservation.reservationStartAt.between(
-                              startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
-                      .and(reservation.reservationStartAt.hour().eq(hour))
-                      .and(customer.gender.stringValue().eq("F"))
-                      .and(reservation.deletedAt.isNull())
-                      .and(
-                          reservation.reservationStatusName.notIn(
-                              ReservationStatusName.CBC, ReservationStatusName.CBS)))
-              .fetchOne();
-
-      long maleVisitors = maleCount != null ? maleCount : 0;
-      long femaleVisitors = femaleCount != null ? femaleCount : 0;
-      long totalVisitors = maleVisitors + femaleVisitors;
-
-      String timeSlot = String.format("%02d:00", hour);
-      String displayTime = hour + "시";
-
-      result.add(
-          new HourlyVisitorStatisticsResponse(
-              hour, timeSlot, maleVisitors, femaleVisitors, totalVisitors, displayTime));
-    }
-
-    return result;
+    // 9시부터 20시까지 시간대별 성별 방문객 수
+    return VisitorBuckets.toHourly(
+        findVisitorStatistics(
+            shopId,
+            startDate,
+            endDate,
+            VisitorStatisticsRequest.Bucket.HOUR,
+            VisitorStatisticsRequest.Dimension.GENDER,
+            VISITOR_DEFAULT_START_TIME,
+            VISITOR_DEFAULT_END_TIME));
   }
 
   @Override
   public List<DailyVisitorStatisticsResponse> findDailyVisitorStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
+    return VisitorBuckets.toDaily(
+        findVisitorStatistics(
+            shopId,
+            startDate,
+            endDate,
+            VisitorStatisticsRequest.Bucket.DAY,
+            VisitorStatisticsRequest.Dimension.GENDER,
+            null,
+            null));
+  }
 
-    List<DailyVisitorStatisticsResponse> result = new ArrayList<>();
-
-    LocalDate currentDate = startDate;
-    while (!currentDate.isAfter(endDate)) {
-      // 남성 방문객 수 조회
-      Long maleCount =
-          queryFactory
-              .select(reservation.count())
-              .from(reservation)
-              .leftJoin(customer)
-              .on(reservation.customerId.eq(customer.id))
-              .where(
-                  reservation
-                      .shopId
-                      .eq(shopId)
-                      .and(
-                          reservation.reservationStartAt.between(
-                              currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX)))
-                      .and(customer.gender.stringValue().eq("M"))
-                      .and(reservation.deletedAt.isNull())
-                      .and(
-                          reservation.reservationStatusName.notIn(
-                              ReservationStatusName.CBC, ReservationStatusName.CBS)))
-              .fetchOne();
-
-      // 여성 방문객 수 조회
-      Long femaleCount =
-          queryFactory
-              .select(reservation.count())
-              .from(reservation)
-              .leftJoin(customer)
-              .on(reservation.customerId.eq(customer.id))
-              .where(
-                  reservation
-                      .shopId
-                      .eq(shopId)
-                      .and(
-                          reservation.reservationStartAt.between(
-                              currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX)))
-                      .and(customer.gender.stringValue().eq("F"))
-                      .and(reservation.deletedAt.isNull())
-                      .and(
-                          reservation.reservationStatusName.notIn(
-                              ReservationStatusName.CBC, ReservationStatusName.CBS)))
-              .fetchOne();
-
-      long maleVisitors = maleCount != null ? maleCount : 0;
-      long femaleVisitors = femaleCount != null ? femaleCount : 0;
-      long totalVisitors = maleVisitors + femaleVisitors;
-
-      String dayOfWeek = getDayOfWeekKorean(currentDate);
-      String displayDate =
-          String.format("%02d/%02d", currentDate.getMonthValue(), currentDate.getDayOfMonth());
-
-      result.add(
-          new DailyVisitorStatisticsResponse(
-              currentDate, dayOfWeek, maleVisitors, femaleVisitors, totalVisitors, displayDate));
-
-      currentDate = currentDate.plusDays(1);
-    }
-
-    return result;
+  @Override
+  public List<VisitorStatisticsResponse> findVisitorStatistics(
+      Long shopId, VisitorStatisticsRequest request) {
+    return findVisitorStatistics(
+        shopId,
+        request.getStartDate(),
+        request.getEndDate(),
+        request.getBucket() != null ? request.getBucket() : VisitorStatisticsRequest.Bucket.HOUR,
+        request.getDimension() != null
+            ? request.getDimension()
+            : VisitorStatisticsRequest.Dimension.GENDER,
+        request.getStartTime() != null ? request.getStartTime() : VISITOR_DEFAULT_START_TIME,
+        request.getEndTime() != null ? request.getEndTime() : VISITOR_DEFAULT_END_TIME);
   }
 
-  private String getDayOfWeekKorean(LocalDate date) {
-    switch (date.getDayOfWeek()) {
-      case MONDAY:
-        return "월";
-      case TUESDAY:
-        return "화";
-      case WEDNESDAY:
-        return "수";
-      case THURSDAY:
-        return "목";
-      case FRIDAY:
-        return "금";
-      case SATURDAY:
-        return "토";
-      case SUNDAY:
-        return "일";
-      default:
-        return "";
+  /**
+   * 방문객 수를 (시, 분 또는 날짜, 차원 값)으로 묶은 집계 쿼리 한 번으로 읽고 구간 접기와 빈 구간 채우기는 {@link VisitorBuckets}에서
+   * 한다. 구간 크기나 차원이 바뀌어도 쿼리 수는 그대로다.
+   */
+  private List<VisitorStatisticsResponse> findVisitorStatistics(
+      Long shopId,
+      LocalDate startDate,
+      LocalDate endDate,
+      VisitorStatisticsRequest.Bucket bucket,
+      VisitorStatisticsRequest.Dimension dimension,
+      LocalTime startTime,
+      LocalTime endTime) {
+
+    Expression<?> dimensionKey =
+        switch (dimension) {
+          case GENDER -> customer.gender;
+          case GRADE -> customer.customerGradeId;
+          case STAFF -> reservation.staffId;
+          case CHANNEL -> customer.channelId;
+        };
+    List<Expression<?>> groupKeys =
+        bucket == VisitorStatisticsRequest.Bucket.DAY
+            ? List.of(
+                reservation.reservationStartAt.year(),
+                reservation.reservationStartAt.month(),
+                reservation.reservationStartAt.dayOfMonth(),
+                dimensionKey)
+            : List.of(
+                reservation.reservationStartAt.hour(),
+                reservation.reservationStartAt.minute(),
+                dimensionKey);
+    List<Expression<?>> selects = new ArrayList<>(groupKeys);
+    selects.add(reservation.count());
+
+    List<Tuple> rows =
+        queryFactory
+            .select(selects.toArray(new Expression<?>[0]))
+            .from(reservation)
+            .leftJoin(customer)
+            .on(reservation.customerId.eq(customer.id))
+            .where(
+                reservation
+                    .shopId
+                    .eq(shopId)
+                    .and(
+                        reservation.reservationStartAt.between(
+                            startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)))
+                    .and(reservation.deletedAt.isNull())
+                    .and(
+                        reservation.reservationStatusName.notIn(
+                            ReservationStatusName.CBC, ReservationStatusName.CBS)))
+            .groupBy(groupKeys.toArray(new Expression<?>[0]))
+            .fetch();
+
+    VisitorBuckets buckets =
+        new VisitorBuckets(
+            bucket,
+            startDate,
+            endDate,
+            startTime,
+            endTime,
+            dimension == VisitorStatisticsRequest.Dimension.GENDER
+                ? List.of(VisitorBuckets.MALE, VisitorBuckets.FEMALE)
+                : List.of());
+    for (Tuple row : rows) {
+      if (bucket == VisitorStatisticsRequest.Bucket.DAY) {
+        LocalDate date =
+            LocalDate.of(
+                row.get(0, Integer.class), row.get(1, Integer.class), row.get(2, Integer.class));
+        buckets.addDay(date, row.get(3, Object.class), row.get(4, Long.class));
+      } else {
+        buckets.addTime(
+            row.get(0, Integer.class),
+            row.get(1, Integer.class),
+            row.get(2, Object.class),
+            row.get(3, Long.class));
+      }
     }
+    return buckets.build();
   }
 
   @Override
@@ -0,0 +1,171 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest.Bucket;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (시각 또는 날짜, 차원 값)별로 묶어 센 방문객 행을 구간별 응답으로 채우는 집계기.
+ *
+ * <p>DB 는 시간대 집계면 (시, 분, 차원 값), 날짜 집계면 (날짜, 차원 값)으로 한 번만 묶어 세고, 15/30/60분 구간으로 접기와 빈 구간 0 채우기는
+ * 여기서 한다. 모든 구간은 같은 차원 값 목록을 갖고, 비어 있는 차원 값은 {@value #UNKNOWN} 으로 센다.
+ */
+final class VisitorBuckets {
+
+  static final String UNKNOWN = "UNKNOWN";
+  static final String MALE = "M";
+  static final String FEMALE = "F";
+
+  // ID 값은 숫자 순, UNKNOWN 은 마지막
+  private static final Comparator<String> KEY_ORDER =
+      Comparator.comparing((String key) -> key.equals(UNKNOWN))
+          .thenComparing(key -> key.chars().allMatch(Character::isDigit) ? key.length() : 0)
+          .thenComparing(Comparator.naturalOrder());
+
+  private final Bucket bucket;
+  private final LocalDate startDate;
+  private final int startMinute;
+  private final int size;
+  private final Map<String, long[]> counts = new LinkedHashMap<>();
+  private final int fixedKeyCount;
+
+  /** fixedKeys 는 데이터가 없어도 항상 응답에 넣을 차원 값이다 (예: 성별 M, F). */
+  VisitorBuckets(
+      Bucket bucket,
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalTime startTime,
+      LocalTime endTime,
+      List<String> fixedKeys) {
+    this.bucket = bucket;
+    this.startDate = startDate;
+    if (bucket == Bucket.DAY) {
+      this.startMinute = 0;
+      // 종료일이 시작일보다 앞서면 구간이 없다
+      this.size = Math.max(0, (int) ChronoUnit.DAYS.between(startDate, endDate) + 1);
+    } else {
+      this.startMinute = minuteOf(startTime);
+      int endMinute = endTime.equals(LocalTime.MIDNIGHT) ? 24 * 60 : minuteOf(endTime);
+      int minutes = bucket.getMinutes();
+      this.size = Math.max(0, Math.floorDiv(endMinute - startMinute + minutes - 1, minutes));
+    }
+    for (String key : fixedKeys) {
+      counts.put(key, new long[size]);
+    }
+    this.fixedKeyCount = counts.size();
+  }
+
+  /** 날짜 집계에 date 의 방문객 수를 더한다. 기간 밖은 무시한다. */
+  void addDay(LocalDate date, Object dimension, long count) {
+    add((int) ChronoUnit.DAYS.between(startDate, date), dimension, count);
+  }
+
+  /** 시간대 집계에 hour:minute 에 시작한 방문객 수를 더한다. 조회 구간 밖은 무시한다. */
+  void addTime(int hour, int minute, Object dimension, long count) {
+    int offset = hour * 60 + minute - startMinute;
+    add(offset < 0 ? -1 : offset / bucket.getMinutes(), dimension, count);
+  }
+
+  private void add(int index, Object dimension, long count) {
+    if (index < 0 || index >= size) {
+      return;
+    }
+    String key = dimension != null ? String.valueOf(dimension) : UNKNOWN;
+    counts.computeIfAbsent(key, k -> new long[size])[index] += count;
+  }
+
+  List<VisitorStatisticsResponse> build() {
+    List<String> keys = new ArrayList<>(counts.keySet());
+    List<String> discovered = keys.subList(fixedKeyCount, keys.size());
+    discovered.sort(KEY_ORDER);
+
+    List<VisitorStatisticsResponse> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Map<String, Long> visitors = new LinkedHashMap<>();
+      long total = 0;
+      for (String key : keys) {
+        long count = counts.get(key)[i];
+        visitors.put(key, count);
+        total += count;
+      }
+      if (bucket == Bucket.DAY) {
+        LocalDate date = startDate.plusDays(i);
+        result.add(
+            new VisitorStatisticsResponse(
+                date,
+                null,
+                dayOfWeekKorean(date),
+                visitors,
+                total,
+                String.format("%02d/%02d", date.getMonthValue(), date.getDayOfMonth())));
+      } else {
+        LocalTime time =
+            LocalTime.MIDNIGHT.plusMinutes(startMinute + (long) i * bucket.getMinutes());
+        result.add(
+            new VisitorStatisticsResponse(null, time, null, visitors, total, time.toString()));
+      }
+    }
+    return result;
+  }
+
+  /** 기존 시간대별 성별 방문객 응답: HOUR 구간, GENDER 차원 결과에서 남녀 수만 쓴다. */
+  static List<HourlyVisitorStatisticsResponse> toHourly(List<VisitorStatisticsResponse> rows) {
+    List<HourlyVisitorStatisticsResponse> result = new ArrayList<>(rows.size());
+    for (VisitorStatisticsResponse row : rows) {
+      int hour = row.getTimeSlot().getHour();
+      long male = row.getVisitors().getOrDefault(MALE, 0L);
+      long female = row.getVisitors().getOrDefault(FEMALE, 0L);
+      result.add(
+          new HourlyVisitorStatisticsResponse(
+              hour, String.format("%02d:00", hour), male, female, male + female, hour + "시"));
+    }
+    return result;
+  }
+
+  /** 기존 일별 성별 방문객 응답: DAY 구간, GENDER 차원 결과에서 남녀 수만 쓴다. */
+  static List<DailyVisitorStatisticsResponse> toDaily(List<VisitorStatisticsResponse> rows) {
+    List<DailyVisitorStatisticsResponse> result = new ArrayList<>(rows.size());
+    for (VisitorStatisticsResponse row : rows) {
+      long male = row.getVisitors().getOrDefault(MALE, 0L);
+      long female = row.getVisitors().getOrDefault(FEMALE, 0L);
+      result.add(
+          new DailyVisitorStatisticsResponse(
+              row.getDate(), row.getDayOfWeek(), male, female, male + female, row.getDisplayKey()));
+    }
+    return result;
+  }
+
+  private static String dayOfWeekKorean(LocalDate date) {
+    switch (date.getDayOfWeek()) {
+      case MONDAY:
+        return "월";
+      case TUESDAY:
+        return "화";
+      case WEDNESDAY:
+        return "수";
+      case THURSDAY:
+        return "목";
+      case FRIDAY:
+        return "금";
+      case SATURDAY:
+        return "토";
+      case SUNDAY:
+        return "일";
+      default:
+        return "";
+    }
+  }
+
+  private static int minuteOf(LocalTime time) {
+    return time.getHour() * 60 + time.getMinute();
+  }
+}
@@ -0,0 +1,9 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.service;
+
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse;
+import java.time.LocalDate;
+
+public interface StatisticsDashboardService {
+
+  StatisticsDashboardResponse getDashboard(Long shopId, LocalDate startDate, LocalDate endDate);
+}
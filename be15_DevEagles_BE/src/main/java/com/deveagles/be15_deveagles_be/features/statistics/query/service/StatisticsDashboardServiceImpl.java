@@ -0,0 +1,176 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.service;
+
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.AdvancedSalesStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.ReservationSummaryResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse.SectionMeta;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse.SectionStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 통계 화면의 섹션(매출 요약, 일별 매출, 1차 상품 추이, 예약 요약, 시간대별/일별 방문객)을 한 번에 조회한다.
+ *
+ * <p>섹션은 서로 독립이므로 크기가 정해진 전용 풀에서 동시에 실행하고, 모든 섹션이 같은 제한 시간을 공유한다. 제한 시간 안에 끝나지 않거나 실패한 섹션은
+ * 비워 두고 나머지를 그대로 돌려주며, 섹션별 상태와 소요 시간은 응답의 sections 에 담는다. 응답 시간은 가장 느린 섹션(최대 제한 시간)에 맞춰진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsDashboardServiceImpl implements StatisticsDashboardService {
+
+  private final StatisticsQueryService statisticsQueryService;
+
+  @Value("${statistics.dashboard.parallelism:8}")
+  private int parallelism;
+
+  @Value("${statistics.dashboard.queue-capacity:200}")
+  private int queueCapacity;
+
+  @Value("${statistics.dashboard.section-timeout-ms:3000}")
+  private long sectionTimeoutMs;
+
+  private ThreadPoolTaskExecutor executor;
+
+  @PostConstruct
+  void init() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(parallelism);
+    executor.setMaxPoolSize(parallelism);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("statistics-dashboard-");
+    executor.initialize();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public StatisticsDashboardResponse getDashboard(
+      Long shopId, LocalDate startDate, LocalDate endDate) {
+    long startedAt = System.nanoTime();
+
+    Section<SalesSummaryResponse> salesSummary =
+        submit(
+            "salesSummary",
+            () -> statisticsQueryService.getSalesSummary(shopId, startDate, endDate));
+    Section<List<SalesStatisticsResponse>> dailySales =
+        submit(
+            "dailySales",
+            () -> statisticsQueryService.getSalesStatistics(shopId, startDate, endDate));
+    Section<List<AdvancedSalesStatisticsResponse>> primaryItemDailyTrend =
+        submit(
+            "primaryItemDailyTrend",
+            () -> statisticsQueryService.getPrimaryItemDailyTrend(shopId, startDate, endDate));
+    Section<ReservationSummaryResponse> reservationSummary =
+        submit(
+            "reservationSummary",
+            () -> statisticsQueryService.getReservationSummary(shopId, startDate, endDate));
+    Section<List<HourlyVisitorStatisticsResponse>> hourlyVisitors =
+        submit(
+            "hourlyVisitors",
+            () -> statisticsQueryService.getHourlyVisitorStatistics(shopId, startDate, endDate));
+    Section<List<DailyVisitorStatisticsResponse>> dailyVisitors =
+        submit(
+            "dailyVisitors",
+            () -> statisticsQueryService.getDailyVisitorStatistics(shopId, startDate, endDate));
+
+    long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+    Map<String, SectionMeta> sections = new LinkedHashMap<>();
+    StatisticsDashboardResponse response = new StatisticsDashboardResponse();
+    response.setSalesSummary(salesSummary.await(deadline, sections, shopId));
+    response.setDailySales(dailySales.await(deadline, sections, shopId));
+    response.setPrimaryItemDailyTrend(primaryItemDailyTrend.await(deadline, sections, shopId));
+    response.setReservationSummary(reservationSummary.await(deadline, sections, shopId));
+    response.setHourlyVisitors(hourlyVisitors.await(deadline, sections, shopId));
+    response.setDailyVisitors(dailyVisitors.await(deadline, sections, shopId));
+
+    response.setSections(sections);
+    response.setPartial(
+        sections.values().stream().anyMatch(meta -> meta.getStatus() != SectionStatus.OK));
+    response.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    return response;
+  }
+
+  private <T> Section<T> submit(String name, Supplier<T> query) {
+    Section<T> section = new Section<>(name, System.nanoTime());
+    try {
+      section.future =
+          CompletableFuture.supplyAsync(
+              () -> {
+                // 큐에서 기다리다 이미 시간 초과로 버려진 섹션은 조회하지 않는다
+                if (section.future != null && section.future.isDone()) {
+                  return null;
+                }
+                try {
+                  return query.get();
+                } finally {
+                  section.finishedAt = System.nanoTime();
+                }
+              },
+              executor);
+    } catch (RejectedExecutionException e) {
+      section.future = CompletableFuture.failedFuture(e);
+    }
+    return section;
+  }
+
+  private static final class Section<T> {
+
+    private final String name;
+    private final long submittedAt;
+    private volatile CompletableFuture<T> future;
+    private volatile long finishedAt;
+
+    private Section(String name, long submittedAt) {
+      this.name = name;
+      this.submittedAt = submittedAt;
+    }
+
+    // 결과를 반환하고 상태를 sections 에 기록한다. 끝나지 않았거나 실패했으면 null
+    T await(long deadline, Map<String, SectionMeta> sections, Long shopId) {
+      try {
+        T value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        sections.put(name, new SectionMeta(SectionStatus.OK, elapsedMs(finishedAt)));
+        return value;
+      } catch (TimeoutException e) {
+        // 실행 중인 JDBC 호출을 인터럽트하지 않고 결과만 버린다
+        future.cancel(false);
+        sections.put(name, new SectionMeta(SectionStatus.TIMEOUT, elapsedMs(System.nanoTime())));
+        log.warn("통계 대시보드 섹션 시간 초과: 매장 ID={}, 섹션={}", shopId, name);
+      } catch (ExecutionException e) {
+        sections.put(name, new SectionMeta(SectionStatus.FAILED, elapsedMs(System.nanoTime())));
+        log.warn("통계 대시보드 섹션 조회 실패: 매장 ID={}, 섹션={}", shopId, name, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        sections.put(name, new SectionMeta(SectionStatus.FAILED, elapsedMs(System.nanoTime())));
+      }
+      return null;
+    }
+
+    private long elapsedMs(long until) {
+      return TimeUnit.NANOSECONDS.toMillis(until - submittedAt);
+    }
+  }
+}
@@ -9,6 +9,8 @@ import com.deveagles.be15_deveagles_be.features.statistics.query.dto.Reservation
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsResponse;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -42,6 +44,9 @@ public interface StatisticsQueryService {
   List<DailyVisitorStatisticsResponse> getDailyVisitorStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate);
 
+  List<VisitorStatisticsResponse> getVisitorStatistics(
+      Long shopId, VisitorStatisticsRequest request);
+
   List<AdvancedSalesStatisticsResponse> getPrimaryItemDailyTrend(
       Long shopId, LocalDate startDate, LocalDate endDate);
 }
@@ -1,5 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.statistics.query.service;
 
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.AdvancedSalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
@@ -9,83 +11,192 @@ import com.deveagles.be15_deveagles_be.features.statistics.query.dto.Reservation
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.repository.StatisticsQueryRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 통계 조회 서비스. 모든 결과는 {@link StatisticsResultCache}를 거쳐, 매출/예약 데이터가 바뀌지 않은 매장의 같은 요청은 다시 계산하지 않는다.
+ *
+ * <p>캐시 조회는 트랜잭션 밖에서 하고, 캐시에 없을 때만 리포지토리의 읽기 전용 트랜잭션에서 계산하므로 캐시 적중 요청은 DB 커넥션을 잡지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class StatisticsQueryServiceImpl implements StatisticsQueryService {
 
+  private static final TypeReference<List<SalesStatisticsResponse>> SALES_LIST =
+      new TypeReference<>() {};
+  private static final TypeReference<List<AdvancedSalesStatisticsResponse>> ADVANCED_SALES_LIST =
+      new TypeReference<>() {};
+  private static final TypeReference<SalesSummaryResponse> SALES_SUMMARY = new TypeReference<>() {};
+  private static final TypeReference<List<ReservationStatisticsResponse>> RESERVATION_LIST =
+      new TypeReference<>() {};
+  private static final TypeReference<ReservationSummaryResponse> RESERVATION_SUMMARY =
+      new TypeReference<>() {};
+  private static final TypeReference<List<HourlyVisitorStatisticsResponse>> HOURLY_VISITOR_LIST =
+      new TypeReference<>() {};
+  private static final TypeReference<List<DailyVisitorStatisticsResponse>> DAILY_VISITOR_LIST =
+      new TypeReference<>() {};
+  private static final TypeReference<List<VisitorStatisticsResponse>> VISITOR_LIST =
+      new TypeReference<>() {};
+
   private final StatisticsQueryRepository statisticsQueryRepository;
+  private final StatisticsResultCache statisticsResultCache;
 
   @Override
   public List<SalesStatisticsResponse> getSalesStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findSalesStatisticsByPeriod(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "sales",
+        period(startDate, endDate),
+        SALES_LIST,
+        () -> statisticsQueryRepository.findSalesStatisticsByPeriod(shopId, startDate, endDate));
   }
 
   @Override
   public List<AdvancedSalesStatisticsResponse> getAdvancedSalesStatistics(
       Long shopId, StatisticsRequest request) {
-    return statisticsQueryRepository.findAdvancedSalesStatistics(shopId, request);
+    return statisticsResultCache.get(
+        shopId,
+        "sales-advanced",
+        relativeToToday(request),
+        ADVANCED_SALES_LIST,
+        () -> statisticsQueryRepository.findAdvancedSalesStatistics(shopId, request));
   }
 
   @Override
   public SalesSummaryResponse getSalesSummary(Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findSalesSummary(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "sales-summary",
+        period(startDate, endDate),
+        SALES_SUMMARY,
+        () -> statisticsQueryRepository.findSalesSummary(shopId, startDate, endDate));
   }
 
   @Override
   public List<ReservationStatisticsResponse> getReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findReservationStatisticsByPeriod(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "reservations",
+        period(startDate, endDate),
+        RESERVATION_LIST,
+        () ->
+            statisticsQueryRepository.findReservationStatisticsByPeriod(
+                shopId, startDate, endDate));
   }
 
   @Override
   public List<ReservationStatisticsResponse> getAdvancedReservationStatistics(
       Long shopId, ReservationRequest request) {
-    return statisticsQueryRepository.findAdvancedReservationStatistics(shopId, request);
+    return statisticsResultCache.get(
+        shopId,
+        "reservations-advanced",
+        relativeToToday(request),
+        RESERVATION_LIST,
+        () -> statisticsQueryRepository.findAdvancedReservationStatistics(shopId, request));
   }
 
   @Override
   public ReservationSummaryResponse getReservationSummary(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findReservationSummary(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "reservations-summary",
+        period(startDate, endDate),
+        RESERVATION_SUMMARY,
+        () -> statisticsQueryRepository.findReservationSummary(shopId, startDate, endDate));
   }
 
   @Override
   public List<ReservationStatisticsResponse> getStaffReservationStatistics(
       Long shopId, Long staffId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findStaffReservationStatistics(
-        shopId, staffId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "reservations-staff",
+        Arrays.asList(staffId, startDate, endDate),
+        RESERVATION_LIST,
+        () ->
+            statisticsQueryRepository.findStaffReservationStatistics(
+                shopId, staffId, startDate, endDate));
   }
 
   @Override
   public List<ReservationStatisticsResponse> getAllStaffReservationStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findAllStaffReservationStatistics(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "reservations-all-staff",
+        period(startDate, endDate),
+        RESERVATION_LIST,
+        () ->
+            statisticsQueryRepository.findAllStaffReservationStatistics(
+                shopId, startDate, endDate));
   }
 
   @Override
   public List<HourlyVisitorStatisticsResponse> getHourlyVisitorStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findHourlyVisitorStatistics(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "visitors-hourly",
+        period(startDate, endDate),
+        HOURLY_VISITOR_LIST,
+        () -> statisticsQueryRepository.findHourlyVisitorStatistics(shopId, startDate, endDate));
   }
 
   @Override
   public List<DailyVisitorStatisticsResponse> getDailyVisitorStatistics(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findDailyVisitorStatistics(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "visitors-daily",
+        period(startDate, endDate),
+        DAILY_VISITOR_LIST,
+        () -> statisticsQueryRepository.findDailyVisitorStatistics(shopId, startDate, endDate));
+  }
+
+  @Override
+  public List<VisitorStatisticsResponse> getVisitorStatistics(
+      Long shopId, VisitorStatisticsRequest request) {
+    if (request.getStartDate() == null
+        || request.getEndDate() == null
+        || request.getEndDate().isBefore(request.getStartDate())) {
+      throw new BusinessException(ErrorCode.INVALID_STATISTICS_PERIOD);
+    }
+    return statisticsResultCache.get(
+        shopId,
+        "visitors-advanced",
+        request,
+        VISITOR_LIST,
+        () -> statisticsQueryRepository.findVisitorStatistics(shopId, request));
   }
 
   @Override
   public List<AdvancedSalesStatisticsResponse> getPrimaryItemDailyTrend(
       Long shopId, LocalDate startDate, LocalDate endDate) {
-    return statisticsQueryRepository.findPrimaryItemDailyTrend(shopId, startDate, endDate);
+    return statisticsResultCache.get(
+        shopId,
+        "sales-primary-item-daily-trend",
+        period(startDate, endDate),
+        ADVANCED_SALES_LIST,
+        () -> statisticsQueryRepository.findPrimaryItemDailyTrend(shopId, startDate, endDate));
+  }
+
+  private static List<Object> period(LocalDate startDate, LocalDate endDate) {
+    return Arrays.asList(startDate, endDate);
+  }
+
+  // 최근 1주/1개월 같은 기간 조건은 오늘 기준이므로 날짜가 바뀌면 다른 요청으로 본다
+  private static List<Object> relativeToToday(Object request) {
+    return Arrays.asList(request, LocalDate.now());
   }
 }
@@ -0,0 +1,240 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.service;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationCreatedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationStatusChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.StaffLeaveChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 통계 조회 결과 캐시. 키는 (매장, 엔드포인트, 매장 데이터 버전, 정규화한 요청)이다.
+ *
+ * <p>매장 데이터 버전은 Redis 카운터로, 매출/예약 커맨드가 {@link StatisticsDataChangedEvent}(예약 생성/상태 변경은 기존 예약
+ * 이벤트)를 발행하면 커밋 이후 1 올린다. 버전이 키에 들어가므로 쓰기가 있으면 이전 결과는 다시 읽히지 않고 TTL 로 사라진다. 조회마다 버전을
+ * Redis 에서 읽어 노드 간에도 정확히 무효화되며, 결과 자체는 노드 로컬 맵(L1), Redis JSON(L2), 계산 순으로 찾는다. 같은 키를 동시에
+ * 계산하려는 요청은 먼저 온 요청의 결과를 함께 기다린다.
+ *
+ * <p>고객 정보(성별, 등급, 유입경로) 수정처럼 버전을 올리지 않는 변경은 TTL 만큼 늦게 반영된다. Redis 를 쓸 수 없으면 캐시 없이 계산한다. 반환
+ * 값은 여러 요청이 공유하므로 호출하는 쪽에서 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class StatisticsResultCache {
+
+  private static final String KEY_PREFIX = "STATS:";
+  private static final String VERSION_KEY_PREFIX = "STATS:VERSION:";
+
+  // 통계 결과에 들어가는 기준 데이터
+  private static final Set<ReferenceCache> STATISTICS_REFERENCES =
+      EnumSet.of(
+          ReferenceCache.RESERVATION_SETTINGS,
+          ReferenceCache.PRIMARY_ITEMS,
+          ReferenceCache.SECONDARY_ITEMS);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  @Value("${statistics.result-cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${statistics.result-cache.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  @Value("${statistics.result-cache.l1-max-entries:2000}")
+  private int l1MaxEntries;
+
+  private Cache<String, Object> entries;
+
+  public StatisticsResultCache(
+      RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    // 응답 DTO 마다 getter/생성자 모양이 달라 필드 기준으로 직렬화한다
+    this.objectMapper =
+        objectMapper
+            .copy()
+            .setVisibility(PropertyAccessor.GETTER, Visibility.NONE)
+            .setVisibility(PropertyAccessor.IS_GETTER, Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  }
+
+  @PostConstruct
+  void init() {
+    entries =
+        Caffeine.newBuilder()
+            .maximumSize(l1MaxEntries)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+  }
+
+  /**
+   * @param endpoint 결과 종류 (예: sales-summary)
+   * @param request 결과를 결정하는 요청 값 전체. 비어 있는 필드는 빠진 것과 같게 취급한다
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(
+      Long shopId, String endpoint, Object request, TypeReference<T> type, Supplier<T> loader) {
+    if (!enabled || shopId == null) {
+      return loader.get();
+    }
+    String version = readVersion(shopId);
+    if (version == null) {
+      return loader.get();
+    }
+    String key = KEY_PREFIX + shopId + ":" + endpoint + ":" + version + ":" + digest(request);
+
+    Object cached = entries.getIfPresent(key);
+    if (cached != null) {
+      return (T) cached;
+    }
+
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+    if (running != null) {
+      try {
+        return (T) running.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+
+    try {
+      T value = readRemote(key, type);
+      if (value == null) {
+        value = loader.get();
+        if (value != null) {
+          writeRemote(key, value);
+        }
+      }
+      if (value != null) {
+        entries.put(key, value);
+      }
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  /** 매장 데이터 버전을 올려 그 매장의 모든 통계 결과를 무효화한다. */
+  public void bumpVersion(Long shopId) {
+    if (shopId == null) {
+      return;
+    }
+    try {
+      Long version = redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + shopId);
+      if (version != null && version == 1L) {
+        // 버전 키가 사라졌다가 다시 생긴 경우 예전에 쓰인 작은 버전을 재사용하지 않도록 시각으로 올린다
+        redisTemplate
+            .opsForValue()
+            .set(VERSION_KEY_PREFIX + shopId, String.valueOf(System.currentTimeMillis()));
+      }
+    } catch (RuntimeException e) {
+      log.warn("통계 결과 캐시 버전 갱신 실패 - 매장ID: {}, 사유: {}", shopId, e.getMessage());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatisticsDataChanged(StatisticsDataChangedEvent event) {
+    bumpVersion(event.shopId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReservationCreated(ReservationCreatedEvent event) {
+    bumpVersion(event.shopId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+    bumpVersion(event.shopId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStaffLeaveChanged(StaffLeaveChangedEvent event) {
+    bumpVersion(event.shopId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    if (STATISTICS_REFERENCES.contains(event.cache())) {
+      bumpVersion(event.shopId());
+    }
+  }
+
+  private String readVersion(Long shopId) {
+    String key = VERSION_KEY_PREFIX + shopId;
+    try {
+      String version = redisTemplate.opsForValue().get(key);
+      if (version == null) {
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        version = redisTemplate.opsForValue().get(key);
+      }
+      return version;
+    } catch (RuntimeException e) {
+      log.warn("통계 결과 캐시 버전 조회 실패 - 매장ID: {}, 사유: {}", shopId, e.getMessage());
+      return null;
+    }
+  }
+
+  private String digest(Object request) {
+    try {
+      byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+      return UUID.nameUUIDFromBytes(json).toString();
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("통계 요청을 캐시 키로 바꿀 수 없습니다.", e);
+    }
+  }
+
+  private <T> T readRemote(String key, TypeReference<T> type) {
+    try {
+      String json = redisTemplate.opsForValue().get(key);
+      return json == null ? null : objectMapper.readValue(json, type);
+    } catch (JsonProcessingException | RuntimeException e) {
+      // Redis 장애나 저장 형식 변경 시에는 다시 계산한다
+      log.warn("통계 결과 캐시 조회 실패 - 키: {}, 사유: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeRemote(String key, Object value) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("통계 결과 캐시 저장 실패 - 키: {}, 사유: {}", key, e.getMessage());
+    }
+  }
+}
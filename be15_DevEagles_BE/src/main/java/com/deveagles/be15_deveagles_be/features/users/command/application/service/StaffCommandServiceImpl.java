@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.users.command.application.service;
 
+import com.deveagles.be15_deveagles_be.common.events.StaffAuthChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.domain.aggregate.AccessAuth;
@@ -21,6 +22,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +40,7 @@ public class StaffCommandServiceImpl implements StaffCommandService {
   private final PasswordEncoder passwordEncoder;
   private final UserCommandService userCommandService;
   private final FileCommandService fileCommandService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -152,6 +155,9 @@ public class StaffCommandServiceImpl implements StaffCommandService {
       }
       accessAuthRepository.save(auth);
     }
+
+    // 인증 사용자 캐시 무효화 (직원 정보/권한 변경)
+    eventPublisher.publishEvent(new StaffAuthChangedEvent(findStaff.getStaffId()));
   }
 
   private StaffInfoResponse buildStaffInfoResponse(
@@ -2,6 +2,7 @@ package com.deveagles.be15_deveagles_be.features.users.command.application.servi
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.deveagles.be15_deveagles_be.common.events.StaffAuthChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
@@ -17,6 +18,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +32,7 @@ public class UserCommandServiceImpl implements UserCommandService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final AmazonS3 amazonS3;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Value("${cloud.aws.s3.bucket}")
   private String bucket;
@@ -94,6 +97,7 @@ public class UserCommandServiceImpl implements UserCommandService {
       findStaff.setEncodedPassword(passwordEncoder.encode(request.password()));
 
     Staff staff = userRepository.save(findStaff);
+    publishAuthChanged(findStaff);
 
     return buildAccountResponse(staff);
   }
@@ -128,7 +132,10 @@ public class UserCommandServiceImpl implements UserCommandService {
     if (!request.staffName().isEmpty()) findStaff.patchName(request.staffName());
     if (!request.grade().isEmpty()) findStaff.patchGrade(request.grade());
 
-    return buildProfileResponse(userRepository.save(findStaff));
+    Staff staff = userRepository.save(findStaff);
+    publishAuthChanged(findStaff);
+
+    return buildProfileResponse(staff);
   }
 
   @Override
@@ -143,6 +150,12 @@ public class UserCommandServiceImpl implements UserCommandService {
     staff.setEncodedPassword(passwordEncoder.encode(request.password()));
 
     userRepository.save(staff);
+    publishAuthChanged(staff);
+  }
+
+  // 인증 사용자 캐시 무효화 (커밋 이후)
+  private void publishAuthChanged(Staff staff) {
+    eventPublisher.publishEvent(new StaffAuthChangedEvent(staff.getStaffId()));
   }
 
   @Override
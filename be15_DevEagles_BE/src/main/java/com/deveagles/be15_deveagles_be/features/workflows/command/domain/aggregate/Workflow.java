@@ -109,6 +109,16 @@ public class Workflow {
   @Column(name = "next_scheduled_at")
   private LocalDateTime nextScheduledAt;
 
+  // 실행 선점(lease) - 다중 노드 중복 실행 방지, 조건부 UPDATE 로만 갱신
+  @Column(name = "lease_owner", length = 100, insertable = false, updatable = false)
+  private String leaseOwner;
+
+  @Column(name = "lease_until", insertable = false, updatable = false)
+  private LocalDateTime leaseUntil;
+
+  @Column(name = "last_trigger_slot", insertable = false, updatable = false)
+  private LocalDateTime lastTriggerSlot;
+
   // 메타데이터
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
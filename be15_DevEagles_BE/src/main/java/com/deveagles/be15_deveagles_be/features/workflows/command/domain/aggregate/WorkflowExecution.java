@@ -44,6 +44,16 @@ public class WorkflowExecution {
   @Column(name = "action_type", nullable = false, length = 50)
   private String actionType;
 
+  @Column(name = "run_kind", length = 20)
+  private String runKind; // AUDIENCE, TRIGGERED
+
+  // 실행 선점(lease) - 생성 시에만 기록하고 이후에는 조건부 UPDATE 로만 갱신
+  @Column(name = "lease_owner", length = 100, updatable = false)
+  private String leaseOwner;
+
+  @Column(name = "lease_until", updatable = false)
+  private LocalDateTime leaseUntil;
+
   @Column(name = "target_count")
   private Integer targetCount; // 대상 고객 수
 
@@ -55,6 +65,13 @@ public class WorkflowExecution {
   @Builder.Default
   private Integer failureCount = 0;
 
+  @Column(name = "last_processed_customer_id")
+  private Long lastProcessedCustomerId; // 청크 처리 재개 지점
+
+  @Column(name = "processed_count")
+  @Builder.Default
+  private Integer processedCount = 0;
+
   @Column(name = "error_message", length = 1000)
   private String errorMessage;
 
@@ -103,6 +120,30 @@ public class WorkflowExecution {
     this.targetCount = targetCount;
   }
 
+  /** 한 청크 처리 결과를 누적하고 재개 지점을 갱신합니다. */
+  public void recordChunkProgress(
+      Long lastCustomerId, int chunkSize, int chunkSuccessCount, int chunkFailureCount) {
+    this.lastProcessedCustomerId = lastCustomerId;
+    this.processedCount = (processedCount != null ? processedCount : 0) + chunkSize;
+    this.targetCount = processedCount;
+    this.successCount = (successCount != null ? successCount : 0) + chunkSuccessCount;
+    this.failureCount = (failureCount != null ? failureCount : 0) + chunkFailureCount;
+  }
+
+  /** 조건부 UPDATE 로 선점/연장한 lease 를 메모리 상태에 반영합니다. (저장 시 lease 컬럼은 쓰지 않음) */
+  public void holdLease(String owner, LocalDateTime until) {
+    this.leaseOwner = owner;
+    this.leaseUntil = until;
+  }
+
+  public boolean isLeaseExpired(LocalDateTime now) {
+    return leaseUntil == null || leaseUntil.isBefore(now);
+  }
+
+  public boolean isRunning() {
+    return "RUNNING".equals(executionStatus);
+  }
+
   public boolean isCompleted() {
     return "SUCCESS".equals(executionStatus)
         || "FAILED".equals(executionStatus)
@@ -27,6 +27,12 @@ public interface WorkflowExecutionRepository {
 
   Optional<WorkflowExecution> findLatestByWorkflowId(Long workflowId);
 
+  Optional<WorkflowExecution> findRunningByWorkflowIdAndRunKind(Long workflowId, String runKind);
+
+  boolean claimLease(Long executionId, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+  boolean renewLease(Long executionId, String owner, LocalDateTime leaseUntil);
+
   long countByWorkflowId(Long workflowId);
 
   long countSuccessfulByWorkflowId(Long workflowId);
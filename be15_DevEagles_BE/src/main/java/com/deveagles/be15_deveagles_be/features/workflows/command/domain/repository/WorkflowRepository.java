@@ -25,6 +25,18 @@ public interface WorkflowRepository {
 
   List<Workflow> findByTriggerTypeAndShopId(String triggerType, Long shopId);
 
+  boolean claimScheduled(
+      Long workflowId, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+  boolean claimTriggerSlot(
+      Long workflowId,
+      String owner,
+      LocalDateTime slot,
+      LocalDateTime now,
+      LocalDateTime leaseUntil);
+
+  void releaseClaim(Long workflowId, String owner);
+
   boolean existsByTitleAndShopId(String title, Long shopId);
 
   boolean existsByTitleAndShopIdAndIdNot(String title, Long shopId, Long excludeId);
@@ -0,0 +1,17 @@
+package com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo;
+
+import lombok.Getter;
+
+@Getter
+public enum ExecutionRunKind {
+  AUDIENCE("AUDIENCE", "대상 고객 일괄 실행"),
+  TRIGGERED("TRIGGERED", "이벤트 트리거 단건 실행");
+
+  private final String code;
+  private final String displayName;
+
+  ExecutionRunKind(String code, String displayName) {
+    this.code = code;
+    this.displayName = displayName;
+  }
+}
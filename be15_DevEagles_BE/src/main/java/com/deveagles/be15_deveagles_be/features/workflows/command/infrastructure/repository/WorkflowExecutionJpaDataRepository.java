@@ -5,6 +5,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WorkflowExecutionJpaDataRepository extends JpaRepository<WorkflowExecution, Long> {
 
@@ -22,9 +25,42 @@ public interface WorkflowExecutionJpaDataRepository extends JpaRepository<Workfl
 
   Optional<WorkflowExecution> findFirstByWorkflowIdOrderByCreatedAtDesc(Long workflowId);
 
+  Optional<WorkflowExecution>
+      findFirstByWorkflowIdAndExecutionStatusAndRunKindOrderByCreatedAtDesc(
+          Long workflowId, String status, String runKind);
+
   long countByWorkflowId(Long workflowId);
 
   long countByWorkflowIdAndExecutionStatus(Long workflowId, String status);
 
   long countByShopIdAndCreatedAtBetween(Long shopId, LocalDateTime start, LocalDateTime end);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE WorkflowExecution e
+         SET e.leaseOwner = :owner, e.leaseUntil = :leaseUntil
+       WHERE e.id = :id
+         AND e.executionStatus = 'RUNNING'
+         AND (e.leaseUntil IS NULL OR e.leaseUntil < :now)
+      """)
+  int claimLease(
+      @Param("id") Long id,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE WorkflowExecution e
+         SET e.leaseUntil = :leaseUntil
+       WHERE e.id = :id
+         AND e.executionStatus = 'RUNNING'
+         AND e.leaseOwner = :owner
+      """)
+  int renewLease(
+      @Param("id") Long id,
+      @Param("owner") String owner,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
 }
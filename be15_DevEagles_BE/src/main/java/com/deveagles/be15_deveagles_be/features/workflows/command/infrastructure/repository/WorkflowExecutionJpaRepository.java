@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
@@ -65,6 +66,26 @@ public class WorkflowExecutionJpaRepository implements WorkflowExecutionReposito
     return dataRepository.findFirstByWorkflowIdOrderByCreatedAtDesc(workflowId);
   }
 
+  @Override
+  public Optional<WorkflowExecution> findRunningByWorkflowIdAndRunKind(
+      Long workflowId, String runKind) {
+    return dataRepository.findFirstByWorkflowIdAndExecutionStatusAndRunKindOrderByCreatedAtDesc(
+        workflowId, "RUNNING", runKind);
+  }
+
+  @Override
+  @Transactional
+  public boolean claimLease(
+      Long executionId, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+    return dataRepository.claimLease(executionId, owner, now, leaseUntil) == 1;
+  }
+
+  @Override
+  @Transactional
+  public boolean renewLease(Long executionId, String owner, LocalDateTime leaseUntil) {
+    return dataRepository.renewLease(executionId, owner, leaseUntil) == 1;
+  }
+
   @Override
   public long countByWorkflowId(Long workflowId) {
     return dataRepository.countByWorkflowId(workflowId);
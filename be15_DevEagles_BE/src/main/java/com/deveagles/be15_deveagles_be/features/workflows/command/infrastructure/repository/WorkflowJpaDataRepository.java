@@ -8,6 +8,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WorkflowJpaDataRepository
     extends JpaRepository<Workflow, Long>, JpaSpecificationExecutor<Workflow> {
@@ -40,4 +43,49 @@ public interface WorkflowJpaDataRepository
       String triggerCategory, Long shopId);
 
   Page<Workflow> findByShopIdAndDeletedAtIsNull(Long shopId, Pageable pageable);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE Workflow w
+         SET w.leaseOwner = :owner, w.leaseUntil = :leaseUntil
+       WHERE w.id = :id
+         AND w.isActive = true
+         AND w.deletedAt IS NULL
+         AND w.nextScheduledAt <= :now
+         AND (w.leaseUntil IS NULL OR w.leaseUntil < :now)
+      """)
+  int claimScheduled(
+      @Param("id") Long id,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE Workflow w
+         SET w.leaseOwner = :owner, w.leaseUntil = :leaseUntil, w.lastTriggerSlot = :slot
+       WHERE w.id = :id
+         AND w.isActive = true
+         AND w.deletedAt IS NULL
+         AND (w.lastTriggerSlot IS NULL OR w.lastTriggerSlot < :slot)
+         AND (w.leaseUntil IS NULL OR w.leaseUntil < :now)
+      """)
+  int claimTriggerSlot(
+      @Param("id") Long id,
+      @Param("owner") String owner,
+      @Param("slot") LocalDateTime slot,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE Workflow w
+         SET w.leaseOwner = NULL, w.leaseUntil = NULL
+       WHERE w.id = :id
+         AND w.leaseOwner = :owner
+      """)
+  int releaseClaim(@Param("id") Long id, @Param("owner") String owner);
 }
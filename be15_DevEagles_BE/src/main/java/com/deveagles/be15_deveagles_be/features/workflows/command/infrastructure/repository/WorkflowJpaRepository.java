@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
@@ -60,6 +61,30 @@ public class WorkflowJpaRepository implements WorkflowRepository {
     return dataRepository.findByTriggerTypeAndShopIdAndDeletedAtIsNull(triggerType, shopId);
   }
 
+  @Override
+  @Transactional
+  public boolean claimScheduled(
+      Long workflowId, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+    return dataRepository.claimScheduled(workflowId, owner, now, leaseUntil) == 1;
+  }
+
+  @Override
+  @Transactional
+  public boolean claimTriggerSlot(
+      Long workflowId,
+      String owner,
+      LocalDateTime slot,
+      LocalDateTime now,
+      LocalDateTime leaseUntil) {
+    return dataRepository.claimTriggerSlot(workflowId, owner, slot, now, leaseUntil) == 1;
+  }
+
+  @Override
+  @Transactional
+  public void releaseClaim(Long workflowId, String owner) {
+    dataRepository.releaseClaim(workflowId, owner);
+  }
+
   @Override
   public boolean existsByTitleAndShopId(String title, Long shopId) {
     return dataRepository.existsByTitleAndShopIdAndDeletedAtIsNull(title, shopId);
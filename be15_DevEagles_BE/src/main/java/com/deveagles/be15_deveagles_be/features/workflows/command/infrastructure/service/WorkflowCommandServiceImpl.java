@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.workflows.command.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.common.events.WorkflowDefinitionChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.workflows.command.application.dto.request.CreateWorkflowCommand;
@@ -10,6 +11,7 @@ import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggrega
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
   private final WorkflowRepository workflowRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public Long createWorkflow(CreateWorkflowCommand command) {
@@ -29,6 +32,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     Workflow workflow = buildWorkflowFromCommand(command);
     Workflow savedWorkflow = workflowRepository.save(workflow);
+    publishDefinitionChanged(savedWorkflow);
 
     log.info("워크플로우 생성 완료: ID={}, 제목={}", savedWorkflow.getId(), savedWorkflow.getTitle());
     return savedWorkflow.getId();
@@ -47,6 +51,7 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     updateWorkflowFromCommand(workflow, command);
     workflowRepository.save(workflow);
+    publishDefinitionChanged(workflow);
 
     log.info("워크플로우 수정 완료: ID={}, 새 제목={}", workflow.getId(), workflow.getTitle());
   }
@@ -61,10 +66,17 @@ public class WorkflowCommandServiceImpl implements WorkflowCommandService {
 
     workflow.softDelete();
     workflowRepository.save(workflow);
+    publishDefinitionChanged(workflow);
 
     log.info("워크플로우 삭제 완료: ID={}", workflow.getId());
   }
 
+  // 트리거 정의 캐시 무효화 (커밋 이후)
+  private void publishDefinitionChanged(Workflow workflow) {
+    eventPublisher.publishEvent(
+        new WorkflowDefinitionChangedEvent(workflow.getShopId(), workflow.getId()));
+  }
+
   private void validateWorkflowTitleNotExists(String title, Long shopId) {
     if (workflowRepository.existsByTitleAndShopId(title, shopId)) {
       throw new BusinessException(ErrorCode.WORKFLOW_TITLE_ALREADY_EXISTS);
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.workflows.execution.application.service;
 
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerAudienceCursor;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService.ActionExecutionResult;
@@ -9,4 +10,8 @@ public interface ActionExecutorService {
 
   ActionExecutionResult executeAction(
       Workflow workflow, List<Long> targetCustomerIds, WorkflowExecution execution);
+
+  /** 커서가 소진될 때까지 청크 단위로 액션을 실행하고, 청크마다 실행 진행 상황을 저장합니다. */
+  ActionExecutionResult executeActionInChunks(
+      Workflow workflow, CustomerAudienceCursor cursor, WorkflowExecution execution);
 }
@@ -0,0 +1,14 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.application.service;
+
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WorkflowDispatcher {
+
+  /** nextScheduledAt 이 도래한 워크플로우를 매장별 큐에 넣고 비동기로 실행한다. */
+  int dispatchScheduled(List<Workflow> workflows);
+
+  /** 트리거 슬롯(예: 매일 09:00) 단위로 워크플로우를 실행한다. 슬롯당 한 노드만 실행한다. */
+  int dispatchTriggerSlot(List<Workflow> workflows, LocalDateTime slot);
+}
@@ -1,5 +1,6 @@
 package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
 
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerAudienceCursor;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
@@ -24,6 +25,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
   private final MessageServiceAdapter messageService;
   private final CouponServiceAdapter couponService;
   private final NotificationServiceAdapter notificationService;
+  private final WorkflowExecutionLease workflowExecutionLease;
 
   @Override
   public ActionExecutionResult executeAction(
@@ -62,27 +64,60 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     }
   }
 
+  @Override
+  public ActionExecutionResult executeActionInChunks(
+      Workflow workflow, CustomerAudienceCursor cursor, WorkflowExecution execution) {
+    boolean singleShot = ActionType.SYSTEM_NOTIFICATION.getCode().equals(workflow.getActionType());
+    if (singleShot && execution.getProcessedCount() != null && execution.getProcessedCount() > 0) {
+      // 재개된 실행에서 이미 발송한 시스템 알림은 다시 보내지 않습니다.
+      return new ActionExecutionResult(execution.getSuccessCount(), execution.getFailureCount());
+    }
+
+    List<Long> chunk = cursor.next();
+    while (!chunk.isEmpty()) {
+      // 발송 전에 lease 를 연장한다. 그 사이 다른 실행이 넘겨받았다면 같은 고객에게 두 번 보내지 않도록 멈춘다
+      workflowExecutionLease.renew(execution);
+      ActionExecutionResult result = executeAction(workflow, chunk, execution);
+      execution.recordChunkProgress(
+          cursor.getLastCustomerId(),
+          chunk.size(),
+          result.getSuccessCount(),
+          result.getFailureCount());
+      // 청크마다 커밋해 두어야 노드 장애 후 다른 노드가 재개 지점부터 이어서 실행할 수 있습니다.
+      workflowExecutionRepository.save(execution);
+
+      log.info(
+          "청크 처리 완료: 워크플로우 ID={}, 누적 처리={}명, 재개 지점 고객 ID={}",
+          workflow.getId(),
+          execution.getProcessedCount(),
+          execution.getLastProcessedCustomerId());
+
+      if (singleShot) {
+        // 시스템 알림은 대상 고객 수와 무관하게 매장에 한 번만 발송합니다.
+        break;
+      }
+      chunk = cursor.next();
+    }
+
+    return new ActionExecutionResult(execution.getSuccessCount(), execution.getFailureCount());
+  }
+
   private ActionExecutionResult executeMessageOnlyAction(
       ActionConfig actionConfig, List<Long> customerIds, Workflow workflow) {
     log.info("메시지 전용 액션 실행: 템플릿 ID={}", actionConfig.getMessageTemplateId());
 
-    int successCount = 0;
-    int failureCount = 0;
-
-    for (Long customerId : customerIds) {
-      try {
-        boolean success = executeSmsAction(customerId, actionConfig, workflow.getShopId());
-        if (success) {
-          successCount++;
-        } else {
-          failureCount++;
-        }
-      } catch (Exception e) {
-        log.error("메시지 발송 실패: 고객 ID={}, 오류={}", customerId, e.getMessage());
-        failureCount++;
-      }
+    String templateId = actionConfig.getMessageTemplateId();
+    if (templateId == null) {
+      log.warn("SMS 액션에 templateId가 없습니다. shopId: {}", workflow.getShopId());
+      return new ActionExecutionResult(0, customerIds.size());
     }
 
+    // 청크 전체를 한 번의 발송 요청으로 보냅니다.
+    int successCount =
+        messageService.sendMessages(
+            customerIds, workflow.getShopId(), templateId, actionConfig.getSendTime());
+    int failureCount = customerIds.size() - successCount;
+
     log.info("메시지 전용 액션 완료: 성공={}, 실패={}", successCount, failureCount);
     return new ActionExecutionResult(successCount, failureCount);
   }
@@ -94,28 +129,26 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         actionConfig.getCouponId(),
         actionConfig.getMessageTemplateId());
 
-    int successCount = 0;
-    int failureCount = 0;
-
     if (!isValidCoupon(actionConfig.getCouponId(), workflow.getShopId())) {
       log.error("유효하지 않은 쿠폰: 쿠폰 ID={}, 매장 ID={}", actionConfig.getCouponId(), workflow.getShopId());
       return new ActionExecutionResult(0, customerIds.size());
     }
 
-    for (Long customerId : customerIds) {
-      try {
-        boolean success = executeAlimtalkAction(customerId, actionConfig, workflow.getShopId());
-        if (success) {
-          successCount++;
-        } else {
-          failureCount++;
-        }
-      } catch (Exception e) {
-        log.error("쿠폰+메시지 발송 실패: 고객 ID={}, 오류={}", customerId, e.getMessage());
-        failureCount++;
-      }
+    String templateId = actionConfig.getMessageTemplateId();
+    if (templateId == null) {
+      log.warn("알림톡 액션에 templateId가 없습니다. shopId: {}", workflow.getShopId());
+      return new ActionExecutionResult(0, customerIds.size());
     }
 
+    int successCount =
+        messageService.sendCouponMessages(
+            customerIds,
+            workflow.getShopId(),
+            templateId,
+            actionConfig.getCouponId(),
+            actionConfig.getSendTime());
+    int failureCount = customerIds.size() - successCount;
+
     log.info("쿠폰+메시지 액션 완료: 성공={}, 실패={}", successCount, failureCount);
     return new ActionExecutionResult(successCount, failureCount);
   }
@@ -139,30 +172,6 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     }
   }
 
-  private boolean executeSmsAction(Long customerId, ActionConfig action, Long shopId) {
-    String templateId = action.getMessageTemplateId();
-
-    if (templateId == null) {
-      log.warn("SMS 액션에 templateId가 없습니다. customerId: {}, shopId: {}", customerId, shopId);
-      return false;
-    }
-
-    return messageService.sendMessage(customerId, shopId, templateId, action.getSendTime());
-  }
-
-  private boolean executeAlimtalkAction(Long customerId, ActionConfig action, Long shopId) {
-    String templateId = action.getMessageTemplateId();
-    String couponId = action.getCouponId();
-
-    if (templateId == null) {
-      log.warn("알림톡 액션에 templateId가 없습니다. customerId: {}, shopId: {}", customerId, shopId);
-      return false;
-    }
-
-    return messageService.sendCouponMessage(
-        customerId, shopId, templateId, couponId, action.getSendTime());
-  }
-
   private boolean executeNotificationAction(ActionConfig action, Long shopId) {
     String title = action.getNotificationTitle();
     String content = action.getNotificationContent();
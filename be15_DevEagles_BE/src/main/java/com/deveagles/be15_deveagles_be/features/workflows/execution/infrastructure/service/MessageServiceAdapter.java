@@ -1,8 +1,7 @@
 package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
 
-import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
-import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.SmsRequest;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageCommandService;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageKind;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
@@ -11,7 +10,6 @@ import com.deveagles.be15_deveagles_be.features.messages.query.service.MessageTe
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,121 +21,55 @@ public class MessageServiceAdapter {
 
   private final MessageCommandService messageCommandService;
   private final MessageTemplateQueryService messageTemplateQueryService;
-  private final CustomerQueryService customerQueryService;
 
-  public boolean sendMessage(Long customerId, Long shopId, String templateId, LocalTime sendTime) {
-    try {
-      // 고객 정보 조회
-      Optional<CustomerDetailResponse> customerOpt =
-          customerQueryService.getCustomerDetail(customerId, shopId);
-      if (customerOpt.isEmpty()) {
-        log.warn("고객을 찾을 수 없습니다. customerId: {}", customerId);
-        return false;
-      }
-      CustomerDetailResponse customer = customerOpt.get();
-
-      // 템플릿 조회
-      Long tId = Long.parseLong(templateId);
-      var template = messageTemplateQueryService.findOne(shopId, tId);
-      if (template == null) {
-        log.warn("메시지 템플릿을 찾을 수 없습니다. templateId: {}, shopId: {}", templateId, shopId);
-        return false;
-      }
-
-      // 발송 시간에 따른 발송 타입 결정
-      MessageSendingType sendingType =
-          sendTime != null ? MessageSendingType.RESERVATION : MessageSendingType.IMMEDIATE;
-
-      // 예약 발송인 경우 오늘 날짜의 지정된 시간으로 설정
-      LocalDateTime scheduledTime =
-          sendTime != null
-              ? LocalDateTime.of(LocalDateTime.now().toLocalDate(), sendTime)
-              : LocalDateTime.now();
-
-      log.info(
-          "메시지 발송 설정 - customerId: {}, sendingType: {}, scheduledTime: {}",
-          customerId,
-          sendingType,
-          scheduledTime);
-
-      // SMS 요청 생성
-      SmsRequest smsRequest =
-          new SmsRequest(
-              List.of(customerId),
-              template.getTemplateContent(),
-              MessageType.SMS,
-              sendingType,
-              scheduledTime,
-              tId,
-              false,
-              null,
-              null,
-              MessageKind.advertising,
-              null,
-              null);
-
-      // 메시지 발송
-      var results = messageCommandService.sendSms(shopId, smsRequest);
-      return !results.isEmpty() && results.get(0).success();
+  /**
+   * 대상 고객 전체에 같은 템플릿을 한 번의 발송 요청으로 보낸다. 메시지는 발송 엔진이 치환된 내용별로 묶어 전송하며, 접수/발송에 성공한 건수를
+   * 반환한다.
+   */
+  public int sendMessages(
+      List<Long> customerIds, Long shopId, String templateId, LocalTime sendTime) {
+    return sendTemplateToAll(customerIds, shopId, templateId, null, sendTime);
+  }
 
-    } catch (Exception e) {
-      log.error(
-          "메시지 발송 실패 - customerId: {}, templateId: {}, shopId: {}",
-          customerId,
-          templateId,
-          shopId,
-          e);
-      return false;
-    }
+  public int sendCouponMessages(
+      List<Long> customerIds,
+      Long shopId,
+      String templateId,
+      String couponCode,
+      LocalTime sendTime) {
+    return sendTemplateToAll(customerIds, shopId, templateId, couponCode, sendTime);
   }
 
-  public boolean sendCouponMessage(
-      Long customerId, Long shopId, String templateId, String couponCode, LocalTime sendTime) {
+  private int sendTemplateToAll(
+      List<Long> customerIds,
+      Long shopId,
+      String templateId,
+      String couponCode,
+      LocalTime sendTime) {
+    if (customerIds.isEmpty()) {
+      return 0;
+    }
     try {
-      // 고객 정보 조회
-      Optional<CustomerDetailResponse> customerOpt =
-          customerQueryService.getCustomerDetail(customerId, shopId);
-      if (customerOpt.isEmpty()) {
-        log.warn("고객을 찾을 수 없습니다. customerId: {}", customerId);
-        return false;
-      }
-      CustomerDetailResponse customer = customerOpt.get();
-
-      // 템플릿 조회
       Long tId = Long.parseLong(templateId);
       var template = messageTemplateQueryService.findOne(shopId, tId);
       if (template == null) {
         log.warn("메시지 템플릿을 찾을 수 없습니다. templateId: {}, shopId: {}", templateId, shopId);
-        return false;
+        return 0;
       }
 
-      // 템플릿 내용에 쿠폰 정보 추가
       String content = template.getTemplateContent();
       if (couponCode != null) {
         content = content.replace("{{couponCode}}", couponCode);
       }
 
-      // 발송 시간에 따른 발송 타입 결정
       MessageSendingType sendingType =
           sendTime != null ? MessageSendingType.RESERVATION : MessageSendingType.IMMEDIATE;
-
-      // 예약 발송인 경우 오늘 날짜의 지정된 시간으로 설정
       LocalDateTime scheduledTime =
-          sendTime != null
-              ? LocalDateTime.of(LocalDateTime.now().toLocalDate(), sendTime)
-              : LocalDateTime.now();
+          sendTime != null ? LocalDateTime.of(LocalDateTime.now().toLocalDate(), sendTime) : null;
 
-      log.info(
-          "쿠폰 메시지 발송 설정 - customerId: {}, couponCode: {}, sendingType: {}, scheduledTime: {}",
-          customerId,
-          couponCode,
-          sendingType,
-          scheduledTime);
-
-      // SMS 요청 생성
       SmsRequest smsRequest =
           new SmsRequest(
-              List.of(customerId),
+              customerIds,
               content,
               MessageType.SMS,
               sendingType,
@@ -150,19 +82,27 @@ public class MessageServiceAdapter {
               null,
               null);
 
-      // 메시지 발송
-      var results = messageCommandService.sendSms(shopId, smsRequest);
-      return !results.isEmpty() && results.get(0).success();
+      // 매장에 없는 고객 등 실패한 수신자는 건너뛰고 나머지 발송 건수만 센다
+      List<MessageSendResult> results = messageCommandService.sendSms(shopId, smsRequest);
+      int sent = (int) results.stream().filter(MessageSendResult::success).count();
+      if (sent < results.size()) {
+        log.warn(
+            "메시지 일괄 발송 일부 실패 - 대상 {}명 중 {}건 실패, templateId: {}, shopId: {}",
+            customerIds.size(),
+            results.size() - sent,
+            templateId,
+            shopId);
+      }
+      return sent;
 
     } catch (Exception e) {
       log.error(
-          "쿠폰 메시지 발송 실패 - customerId: {}, templateId: {}, couponCode: {}, shopId: {}",
-          customerId,
+          "메시지 일괄 발송 실패 - 대상 {}명, templateId: {}, shopId: {}",
+          customerIds.size(),
           templateId,
-          couponCode,
           shopId,
           e);
-      return false;
+      return 0;
     }
   }
 }
@@ -0,0 +1,226 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowDispatcher;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장별 큐 + 라운드로빈으로 워크플로우를 고정 크기 워커 풀에 분배한다.
+ *
+ * <p>한 매장이 동시에 점유할 수 있는 워커 수를 제한해 대형 매장이 다른 매장을 지연시키지 않도록 하고, 실행 직전
+ * workflow 행을 조건부 UPDATE 로 선점(lease)해 여러 노드가 같은 워크플로우를 중복 실행하지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShopFairWorkflowDispatcher implements WorkflowDispatcher {
+
+  private final WorkflowRepository workflowRepository;
+  private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowExecutionMetrics workflowExecutionMetrics;
+
+  @Value("${workflow.scheduler.pool-size:8}")
+  private int poolSize;
+
+  @Value("${workflow.scheduler.max-concurrent-per-shop:2}")
+  private int maxConcurrentPerShop;
+
+  @Value("${workflow.scheduler.lease-seconds:600}")
+  private long leaseSeconds;
+
+  @Value("${workflow.scheduler.node-id:}")
+  private String nodeId;
+
+  private ThreadPoolTaskExecutor executor;
+
+  // 아래 상태는 모두 this 로 동기화
+  private final Map<Long, Deque<WorkflowTask>> shopQueues = new HashMap<>();
+  private final Map<Long, Integer> runningByShop = new HashMap<>();
+  private final Deque<Long> readyShops = new ArrayDeque<>();
+  private int running;
+
+  // 이 노드에서 대기/실행 중인 워크플로우 (다음 틱의 중복 적재 방지)
+  private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+  @PostConstruct
+  void init() {
+    if (nodeId == null || nodeId.isBlank()) {
+      nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setThreadNamePrefix("workflow-exec-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    log.info(
+        "워크플로우 디스패처 초기화: nodeId={}, poolSize={}, maxConcurrentPerShop={}",
+        nodeId,
+        poolSize,
+        maxConcurrentPerShop);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public int dispatchScheduled(List<Workflow> workflows) {
+    return enqueueAll(
+        workflows.stream()
+            .map(
+                workflow ->
+                    new WorkflowTask(
+                        workflow.getId(),
+                        workflow.getShopId(),
+                        workflow.getNextScheduledAt(),
+                        null))
+            .toList());
+  }
+
+  @Override
+  public int dispatchTriggerSlot(List<Workflow> workflows, LocalDateTime slot) {
+    return enqueueAll(
+        workflows.stream()
+            .map(workflow -> new WorkflowTask(workflow.getId(), workflow.getShopId(), slot, slot))
+            .toList());
+  }
+
+  private synchronized int enqueueAll(List<WorkflowTask> tasks) {
+    int accepted = 0;
+    for (WorkflowTask task : tasks) {
+      if (!inFlight.add(task.workflowId())) {
+        continue;
+      }
+      shopQueues.computeIfAbsent(task.shopId(), k -> new ArrayDeque<>()).add(task);
+      markReady(task.shopId());
+      workflowExecutionMetrics.recordQueued(task.shopId());
+      accepted++;
+    }
+    pump();
+    return accepted;
+  }
+
+  // 여유 워커가 있는 동안 준비된 매장을 라운드로빈으로 하나씩 꺼내 실행
+  private void pump() {
+    while (running < poolSize && !readyShops.isEmpty()) {
+      Long shopId = readyShops.poll();
+      Deque<WorkflowTask> queue = shopQueues.get(shopId);
+      WorkflowTask task = queue.poll();
+
+      running++;
+      runningByShop.merge(shopId, 1, Integer::sum);
+      markReady(shopId);
+
+      executor.execute(
+          () -> {
+            try {
+              run(task);
+            } finally {
+              onComplete(task);
+            }
+          });
+    }
+  }
+
+  private synchronized void onComplete(WorkflowTask task) {
+    running--;
+    runningByShop.computeIfPresent(task.shopId(), (k, count) -> count > 1 ? count - 1 : null);
+    inFlight.remove(task.workflowId());
+    markReady(task.shopId());
+    pump();
+  }
+
+  private void markReady(Long shopId) {
+    Deque<WorkflowTask> queue = shopQueues.get(shopId);
+    if (queue == null || queue.isEmpty()) {
+      shopQueues.remove(shopId);
+      return;
+    }
+    if (runningByShop.getOrDefault(shopId, 0) < maxConcurrentPerShop
+        && !readyShops.contains(shopId)) {
+      readyShops.add(shopId);
+    }
+  }
+
+  private void run(WorkflowTask task) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+
+    boolean claimed =
+        task.isTriggerSlot()
+            ? workflowRepository.claimTriggerSlot(
+                task.workflowId(), nodeId, task.slot(), now, leaseUntil)
+            : workflowRepository.claimScheduled(task.workflowId(), nodeId, now, leaseUntil);
+
+    if (!claimed) {
+      log.debug("다른 노드가 선점했거나 실행 대상이 아닙니다: workflowId={}", task.workflowId());
+      workflowExecutionMetrics.recordSkipped(task.shopId());
+      return;
+    }
+
+    workflowExecutionMetrics.recordStarted(task.shopId(), task.dueAt(), now);
+    long startedNanos = System.nanoTime();
+    boolean success = false;
+    try {
+      // 선점 이후 최신 상태로 다시 읽어 실행
+      Optional<Workflow> workflow = workflowRepository.findById(task.workflowId());
+      if (workflow.isPresent()) {
+        workflowExecutionService.executeWorkflow(workflow.get());
+      }
+      success = true;
+    } catch (Exception e) {
+      log.error("워크플로우 실행 중 오류 발생: ID={}, 오류={}", task.workflowId(), e.getMessage(), e);
+    } finally {
+      workflowExecutionMetrics.recordFinished(
+          task.shopId(), success, (System.nanoTime() - startedNanos) / 1_000_000);
+      releaseQuietly(task.workflowId());
+    }
+  }
+
+  private void releaseQuietly(Long workflowId) {
+    try {
+      workflowRepository.releaseClaim(workflowId, nodeId);
+    } catch (Exception e) {
+      // 해제에 실패해도 lease 만료 후 다른 노드가 이어받는다
+      log.warn("워크플로우 선점 해제 실패: ID={}, 오류={}", workflowId, e.getMessage());
+    }
+  }
+
+  private String resolveHostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      return "workflow-node";
+    }
+  }
+
+  private record WorkflowTask(
+      Long workflowId, Long shopId, LocalDateTime dueAt, LocalDateTime slot) {
+
+    boolean isTriggerSlot() {
+      return slot != null;
+    }
+  }
+}
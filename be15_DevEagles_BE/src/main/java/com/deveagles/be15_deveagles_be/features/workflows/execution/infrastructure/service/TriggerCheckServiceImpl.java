@@ -4,19 +4,34 @@ import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.Cus
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
-import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.TriggerConfig;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.TriggerDefinitionCache.TriggerDefinition;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 고객 방문/등록/결제 이벤트를 커밋 이후 버퍼에 모아 매장·고객 단위로 병합한 뒤, 별도 스레드에서 일괄 평가한다.
+ *
+ * <p>배치마다 고객 정보는 한 번만 조회하고, 트리거 정의는 {@link TriggerDefinitionCache} 의 파싱된 설정을 사용한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -24,168 +39,214 @@ public class TriggerCheckServiceImpl implements TriggerCheckService {
 
   private final WorkflowRepository workflowRepository;
   private final WorkflowExecutionService workflowExecutionService;
-  private final ObjectMapper objectMapper;
   private final CustomerQueryService customerQueryService;
+  private final TriggerDefinitionCache triggerDefinitionCache;
+
+  @Value("${workflow.trigger.flush-interval-ms:500}")
+  private long flushIntervalMs;
+
+  @Value("${workflow.trigger.max-pending:10000}")
+  private int maxPending;
+
+  private final Map<PendingKey, PendingTrigger> pending = new ConcurrentHashMap<>();
+  private ScheduledExecutorService flusher;
+
+  @PostConstruct
+  void init() {
+    flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "workflow-trigger-flusher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    flusher.scheduleWithFixedDelay(
+        this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    flusher.shutdown();
+    flushQuietly();
+  }
 
-  @EventListener
+  @TransactionalEventListener(fallbackExecution = true)
   @Override
   public void onCustomerVisit(CustomerVisitEvent event) {
-    log.debug("고객 방문 이벤트 처리: 고객 ID={}, 매장 ID={}", event.getCustomerId(), event.getShopId());
-
-    try {
-      checkVisitCycleTriggers(event);
-      checkBirthdayTriggers(event);
-
-    } catch (Exception e) {
-      log.error("고객 방문 트리거 처리 중 오류: 고객 ID={}, 오류={}", event.getCustomerId(), e.getMessage(), e);
-    }
+    log.debug("고객 방문 이벤트 수신: 고객 ID={}, 매장 ID={}", event.getCustomerId(), event.getShopId());
+    buffer(event.getShopId(), event.getCustomerId(), trigger -> trigger.visited = true);
   }
 
-  @EventListener
+  @TransactionalEventListener(fallbackExecution = true)
   @Override
   public void onCustomerRegistration(CustomerRegistrationEvent event) {
-    log.debug("고객 등록 이벤트 처리: 고객 ID={}, 매장 ID={}", event.getCustomerId(), event.getShopId());
-
-    try {
-      List<Workflow> newCustomerWorkflows =
-          workflowRepository.findByTriggerTypeAndShopId("new-customer-followup", event.getShopId());
-
-      for (Workflow workflow : newCustomerWorkflows) {
-        if (workflow.canExecute()) {
-          log.info(
-              "신규 고객 팔로업 워크플로우 실행: 워크플로우 ID={}, 고객 ID={}", workflow.getId(), event.getCustomerId());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
-      }
-
-    } catch (Exception e) {
-      log.error("고객 등록 트리거 처리 중 오류: 고객 ID={}, 오류={}", event.getCustomerId(), e.getMessage(), e);
-    }
+    log.debug("고객 등록 이벤트 수신: 고객 ID={}, 매장 ID={}", event.getCustomerId(), event.getShopId());
+    buffer(event.getShopId(), event.getCustomerId(), trigger -> trigger.registered = true);
   }
 
-  @EventListener
+  @TransactionalEventListener(fallbackExecution = true)
   @Override
   public void onPaymentCompleted(PaymentCompletedEvent event) {
     log.debug(
-        "결제 완료 이벤트 처리: 고객 ID={}, 매장 ID={}, 금액={}",
+        "결제 완료 이벤트 수신: 고객 ID={}, 매장 ID={}, 금액={}",
         event.getCustomerId(),
         event.getShopId(),
         event.getAmount());
+    buffer(event.getShopId(), event.getCustomerId(), trigger -> trigger.paid = true);
+  }
 
-    try {
-      checkAmountMilestoneTriggers(event);
+  private void buffer(Long shopId, Long customerId, Consumer<PendingTrigger> mark) {
+    if (shopId == null || customerId == null) {
+      return;
+    }
 
+    pending.compute(
+        new PendingKey(shopId, customerId),
+        (key, existing) -> {
+          PendingTrigger trigger = existing != null ? existing : new PendingTrigger();
+          mark.accept(trigger);
+          return trigger;
+        });
+
+    // 버퍼가 가득 차면 주기를 기다리지 않고 바로 비운다
+    if (pending.size() >= maxPending) {
+      flusher.execute(this::flushQuietly);
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
     } catch (Exception e) {
-      log.error("결제 완료 트리거 처리 중 오류: 고객 ID={}, 오류={}", event.getCustomerId(), e.getMessage(), e);
+      log.error("트리거 배치 처리 중 오류: {}", e.getMessage(), e);
     }
   }
 
-  private void checkVisitCycleTriggers(CustomerVisitEvent event) {
-    List<Workflow> visitCycleWorkflows =
-        workflowRepository.findByTriggerTypeAndShopId("visit-cycle", event.getShopId());
+  synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
 
-    for (Workflow workflow : visitCycleWorkflows) {
-      if (!workflow.canExecute()) continue;
+    Map<Long, Map<Long, PendingTrigger>> batchByShop = new LinkedHashMap<>();
+    for (PendingKey key : new ArrayList<>(pending.keySet())) {
+      PendingTrigger trigger = pending.remove(key);
+      if (trigger != null) {
+        batchByShop
+            .computeIfAbsent(key.shopId(), k -> new LinkedHashMap<>())
+            .put(key.customerId(), trigger);
+      }
+    }
 
-      try {
-        TriggerConfig triggerConfig = parseTriggerConfig(workflow.getTriggerConfig());
+    batchByShop.forEach(this::evaluateShop);
+  }
 
-        // 고객 정보 조회하여 실제 방문 패턴 확인
-        Optional<CustomerDetailResponse> customerOpt =
-            customerQueryService.getCustomerDetail(event.getCustomerId(), event.getShopId());
-        if (customerOpt.isEmpty()) {
-          log.warn("고객 정보를 찾을 수 없습니다. customerId: {}", event.getCustomerId());
-          continue;
-        }
+  private void evaluateShop(Long shopId, Map<Long, PendingTrigger> triggersByCustomer) {
+    Map<String, List<TriggerDefinition>> definitions;
+    try {
+      definitions = triggerDefinitionCache.getDefinitions(shopId);
+    } catch (Exception e) {
+      log.error("트리거 정의 조회 중 오류: 매장 ID={}, 오류={}", shopId, e.getMessage(), e);
+      return;
+    }
+    if (definitions.isEmpty()) {
+      return;
+    }
 
-        CustomerDetailResponse customer = customerOpt.get();
-        boolean shouldTrigger = checkVisitCycle(customer, triggerConfig.getVisitCycleDays());
+    triggersByCustomer.forEach(
+        (customerId, trigger) -> {
+          try {
+            evaluateCustomer(shopId, customerId, trigger, definitions);
+          } catch (Exception e) {
+            log.error("트리거 평가 중 오류: 고객 ID={}, 오류={}", customerId, e.getMessage(), e);
+          }
+        });
+  }
 
-        if (shouldTrigger) {
-          log.info(
-              "방문 주기 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 방문 횟수={}회",
-              workflow.getId(),
-              event.getCustomerId(),
-              customer.getVisitCount());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
+  private void evaluateCustomer(
+      Long shopId,
+      Long customerId,
+      PendingTrigger trigger,
+      Map<String, List<TriggerDefinition>> definitions) {
 
-      } catch (Exception e) {
-        log.error("방문 주기 트리거 체크 중 오류: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
+    if (trigger.registered) {
+      for (TriggerDefinition definition : definitionsOf(definitions, "new-customer-followup")) {
+        log.info("신규 고객 팔로업 워크플로우 실행: 워크플로우 ID={}, 고객 ID={}", definition.workflowId(), customerId);
+        execute(definition, customerId);
       }
     }
-  }
 
-  private void checkBirthdayTriggers(CustomerVisitEvent event) {
-    List<Workflow> birthdayWorkflows =
-        workflowRepository.findByTriggerTypeAndShopId("birthday", event.getShopId());
+    List<TriggerDefinition> visitCycle =
+        trigger.visited ? definitionsOf(definitions, "visit-cycle") : List.of();
+    List<TriggerDefinition> birthday =
+        trigger.visited ? definitionsOf(definitions, "birthday") : List.of();
+    List<TriggerDefinition> amountMilestone =
+        trigger.paid ? definitionsOf(definitions, "amount-milestone") : List.of();
 
-    for (Workflow workflow : birthdayWorkflows) {
-      if (!workflow.canExecute()) continue;
-
-      try {
-        TriggerConfig triggerConfig = parseTriggerConfig(workflow.getTriggerConfig());
-
-        // 고객 정보 조회하여 생일 확인
-        Optional<CustomerDetailResponse> customerOpt =
-            customerQueryService.getCustomerDetail(event.getCustomerId(), event.getShopId());
-        if (customerOpt.isEmpty() || customerOpt.get().getBirthdate() == null) {
-          continue;
-        }
+    if (visitCycle.isEmpty() && birthday.isEmpty() && amountMilestone.isEmpty()) {
+      return;
+    }
 
-        CustomerDetailResponse customer = customerOpt.get();
-        boolean shouldTrigger =
-            checkBirthdayApproaching(
-                customer.getBirthdate(), triggerConfig.getBirthdayDaysBefore());
+    // 고객 정보는 배치당 한 번만 조회
+    Optional<CustomerDetailResponse> customerOpt =
+        customerQueryService.getCustomerDetail(customerId, shopId);
+    if (customerOpt.isEmpty()) {
+      log.warn("고객 정보를 찾을 수 없습니다. customerId: {}", customerId);
+      return;
+    }
+    CustomerDetailResponse customer = customerOpt.get();
+
+    for (TriggerDefinition definition : visitCycle) {
+      if (checkVisitCycle(customer, definition.config().getVisitCycleDays())) {
+        log.info(
+            "방문 주기 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 방문 횟수={}회",
+            definition.workflowId(),
+            customerId,
+            customer.getVisitCount());
+        execute(definition, customerId);
+      }
+    }
 
-        if (shouldTrigger) {
-          log.info(
-              "생일 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 생일={}",
-              workflow.getId(),
-              event.getCustomerId(),
-              customer.getBirthdate());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
+    for (TriggerDefinition definition : birthday) {
+      if (checkBirthdayApproaching(
+          customer.getBirthdate(), definition.config().getBirthdayDaysBefore())) {
+        log.info(
+            "생일 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 생일={}",
+            definition.workflowId(),
+            customerId,
+            customer.getBirthdate());
+        execute(definition, customerId);
+      }
+    }
 
-      } catch (Exception e) {
-        log.error("생일 트리거 체크 중 오류: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
+    for (TriggerDefinition definition : amountMilestone) {
+      if (checkAmountMilestone(
+          customer.getTotalRevenue(), definition.config().getAmountMilestone())) {
+        log.info(
+            "누적 금액 마일스톤 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 누적매출={}원",
+            definition.workflowId(),
+            customerId,
+            customer.getTotalRevenue());
+        execute(definition, customerId);
       }
     }
   }
 
-  private void checkAmountMilestoneTriggers(PaymentCompletedEvent event) {
-    List<Workflow> amountWorkflows =
-        workflowRepository.findByTriggerTypeAndShopId("amount-milestone", event.getShopId());
-
-    for (Workflow workflow : amountWorkflows) {
-      if (!workflow.canExecute()) continue;
-
-      try {
-        TriggerConfig triggerConfig = parseTriggerConfig(workflow.getTriggerConfig());
-
-        // 고객 정보 조회하여 누적 매출 확인
-        Optional<CustomerDetailResponse> customerOpt =
-            customerQueryService.getCustomerDetail(event.getCustomerId(), event.getShopId());
-        if (customerOpt.isEmpty()) {
-          continue;
-        }
-
-        CustomerDetailResponse customer = customerOpt.get();
-        boolean shouldTrigger =
-            checkAmountMilestone(customer.getTotalRevenue(), triggerConfig.getAmountMilestone());
-
-        if (shouldTrigger) {
-          log.info(
-              "누적 금액 마일스톤 트리거 실행: 워크플로우 ID={}, 고객 ID={}, 누적매출={}원",
-              workflow.getId(),
-              event.getCustomerId(),
-              customer.getTotalRevenue());
-          workflowExecutionService.executeTriggeredWorkflow(workflow, event.getCustomerId());
-        }
+  private List<TriggerDefinition> definitionsOf(
+      Map<String, List<TriggerDefinition>> definitions, String triggerType) {
+    return definitions.getOrDefault(triggerType, List.of());
+  }
 
-      } catch (Exception e) {
-        log.error("누적 금액 마일스톤 트리거 체크 중 오류: 워크플로우 ID={}, 오류={}", workflow.getId(), e.getMessage());
-      }
+  // 실행 통계가 갱신되므로 캐시된 정의가 아닌 최신 워크플로우로 실행
+  private void execute(TriggerDefinition definition, Long customerId) {
+    try {
+      workflowRepository
+          .findById(definition.workflowId())
+          .filter(Workflow::canExecute)
+          .ifPresent(
+              workflow -> workflowExecutionService.executeTriggeredWorkflow(workflow, customerId));
+    } catch (Exception e) {
+      log.error(
+          "트리거 워크플로우 실행 중 오류: 워크플로우 ID={}, 오류={}", definition.workflowId(), e.getMessage());
     }
   }
 
@@ -228,15 +289,12 @@ public class TriggerCheckServiceImpl implements TriggerCheckService {
     return totalRevenue >= amountMilestone;
   }
 
-  private TriggerConfig parseTriggerConfig(String triggerConfigJson) {
-    try {
-      if (triggerConfigJson == null || triggerConfigJson.trim().isEmpty()) {
-        return TriggerConfig.builder().build();
-      }
-      return objectMapper.readValue(triggerConfigJson, TriggerConfig.class);
-    } catch (Exception e) {
-      log.error("트리거 설정 파싱 오류: {}, JSON={}", e.getMessage(), triggerConfigJson);
-      return TriggerConfig.builder().build();
-    }
+  private record PendingKey(Long shopId, Long customerId) {}
+
+  // 같은 배치 안에서 매장·고객별로 병합된 이벤트 (pending.compute 안에서만 변경)
+  private static class PendingTrigger {
+    private boolean visited;
+    private boolean registered;
+    private boolean paid;
   }
 }
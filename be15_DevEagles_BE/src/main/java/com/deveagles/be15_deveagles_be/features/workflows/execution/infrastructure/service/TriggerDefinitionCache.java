@@ -0,0 +1,98 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.common.events.WorkflowDefinitionChangedEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.TriggerConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장별 실행 가능한 워크플로우의 트리거 정의를 트리거 설정 JSON 을 미리 파싱한 상태로 보관한다.
+ *
+ * <p>워크플로우 생성/수정/삭제 시 해당 매장 항목을 무효화하며, 다른 노드의 변경은 TTL 로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TriggerDefinitionCache {
+
+  private final WorkflowRepository workflowRepository;
+  private final ObjectMapper objectMapper;
+
+  @Value("${workflow.trigger.definition-ttl-seconds:300}")
+  private long ttlSeconds;
+
+  private final Map<Long, CachedDefinitions> cache = new ConcurrentHashMap<>();
+  private final AtomicLong invalidationVersion = new AtomicLong();
+
+  public Map<String, List<TriggerDefinition>> getDefinitions(Long shopId) {
+    CachedDefinitions cached = cache.get(shopId);
+    if (cached != null && !cached.isExpired(ttlSeconds)) {
+      return cached.byTriggerType();
+    }
+
+    long version = invalidationVersion.get();
+    Map<String, List<TriggerDefinition>> loaded = load(shopId);
+
+    // 로딩 중 무효화가 있었다면 캐시에 넣지 않는다
+    if (version == invalidationVersion.get()) {
+      cache.put(shopId, new CachedDefinitions(loaded, System.currentTimeMillis()));
+    }
+    return loaded;
+  }
+
+  public void invalidate(Long shopId) {
+    invalidationVersion.incrementAndGet();
+    cache.remove(shopId);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onWorkflowDefinitionChanged(WorkflowDefinitionChangedEvent event) {
+    log.debug("트리거 정의 캐시 무효화: 매장 ID={}, 워크플로우 ID={}", event.shopId(), event.workflowId());
+    invalidate(event.shopId());
+  }
+
+  private Map<String, List<TriggerDefinition>> load(Long shopId) {
+    return workflowRepository.findAllByShopIdAndIsActiveTrue(shopId).stream()
+        .filter(Workflow::canExecute)
+        .map(
+            workflow ->
+                new TriggerDefinition(
+                    workflow.getId(),
+                    workflow.getTriggerType(),
+                    parseTriggerConfig(workflow.getTriggerConfig())))
+        .collect(Collectors.groupingBy(TriggerDefinition::triggerType));
+  }
+
+  private TriggerConfig parseTriggerConfig(String triggerConfigJson) {
+    try {
+      if (triggerConfigJson == null || triggerConfigJson.trim().isEmpty()) {
+        return TriggerConfig.builder().build();
+      }
+      return objectMapper.readValue(triggerConfigJson, TriggerConfig.class);
+    } catch (Exception e) {
+      log.error("트리거 설정 파싱 오류: {}, JSON={}", e.getMessage(), triggerConfigJson);
+      return TriggerConfig.builder().build();
+    }
+  }
+
+  public record TriggerDefinition(Long workflowId, String triggerType, TriggerConfig config) {}
+
+  private record CachedDefinitions(
+      Map<String, List<TriggerDefinition>> byTriggerType, long loadedAtMillis) {
+
+    boolean isExpired(long ttlSeconds) {
+      return System.currentTimeMillis() - loadedAtMillis > ttlSeconds * 1000;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대상 고객 일괄 실행(workflow_execution 행)의 선점(lease).
+ *
+ * <p>실행을 만든 쪽이 생성 시점에 lease 를 쥐고 청크마다 연장한다. 노드 장애로 lease 가 만료된 실행만 다른 실행이 조건부 UPDATE 로
+ * 넘겨받아 재개 지점부터 이어서 처리하며, 살아 있는 lease 는 가로채지 않는다. lease 시간은 한 청크 발송 시간보다 길어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkflowExecutionLease {
+
+  private final WorkflowExecutionRepository workflowExecutionRepository;
+
+  @Value("${workflow.execution.lease-seconds:300}")
+  private long leaseSeconds;
+
+  /** 실행마다 고유한 lease 소유자 */
+  public String newOwner() {
+    return UUID.randomUUID().toString();
+  }
+
+  public LocalDateTime expiresAt(LocalDateTime now) {
+    return now.plusSeconds(leaseSeconds);
+  }
+
+  /** lease 가 만료된 실행을 넘겨받는다. 다른 실행이 먼저 가져갔거나 아직 살아 있으면 false */
+  public boolean takeOver(WorkflowExecution execution, String owner) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime until = expiresAt(now);
+    if (!workflowExecutionRepository.claimLease(execution.getId(), owner, now, until)) {
+      return false;
+    }
+    execution.holdLease(owner, until);
+    return true;
+  }
+
+  /** 쥐고 있는 lease 를 연장한다. 그 사이 다른 실행이 넘겨받았으면 {@link LeaseLostException} */
+  public void renew(WorkflowExecution execution) {
+    if (execution.getLeaseOwner() == null) {
+      return;
+    }
+    LocalDateTime until = expiresAt(LocalDateTime.now());
+    if (!workflowExecutionRepository.renewLease(
+        execution.getId(), execution.getLeaseOwner(), until)) {
+      throw new LeaseLostException(execution.getId());
+    }
+    execution.holdLease(execution.getLeaseOwner(), until);
+  }
+
+  /** lease 를 잃은 실행은 진행 상황을 더 저장하지 않고 멈춘다. */
+  public static class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(Long executionId) {
+      super("워크플로우 실행 lease 를 다른 실행이 넘겨받았습니다: 실행 ID=" + executionId);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response.WorkflowExecutionMetricsResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/** 매장별 워크플로우 실행 처리량/지연 지표 (노드 로컬, 인메모리) */
+@Component
+public class WorkflowExecutionMetrics {
+
+  private final Map<Long, ShopMetrics> metricsByShop = new ConcurrentHashMap<>();
+  private final long startedAtMillis = System.currentTimeMillis();
+
+  public void recordQueued(Long shopId) {
+    shop(shopId).queued.incrementAndGet();
+  }
+
+  public void recordStarted(Long shopId, LocalDateTime dueAt, LocalDateTime startedAt) {
+    ShopMetrics metrics = shop(shopId);
+    metrics.queued.decrementAndGet();
+    metrics.running.incrementAndGet();
+
+    long lagMillis =
+        dueAt == null ? 0L : Math.max(0L, Duration.between(dueAt, startedAt).toMillis());
+    metrics.lagSum.add(lagMillis);
+    metrics.lagSamples.increment();
+    metrics.lastLag.set(lagMillis);
+    metrics.maxLag.accumulateAndGet(lagMillis, Math::max);
+  }
+
+  public void recordFinished(Long shopId, boolean success, long durationMillis) {
+    ShopMetrics metrics = shop(shopId);
+    metrics.running.decrementAndGet();
+    (success ? metrics.completed : metrics.failed).increment();
+    metrics.durationSum.add(durationMillis);
+    metrics.lastCompletedAt = LocalDateTime.now();
+  }
+
+  // 다른 노드가 이미 선점했거나 실행 조건이 사라진 경우
+  public void recordSkipped(Long shopId) {
+    ShopMetrics metrics = shop(shopId);
+    metrics.queued.decrementAndGet();
+    metrics.skipped.increment();
+  }
+
+  public WorkflowExecutionMetricsResponse snapshot(Long shopId) {
+    ShopMetrics metrics = metricsByShop.getOrDefault(shopId, new ShopMetrics());
+
+    long completed = metrics.completed.sum();
+    long failed = metrics.failed.sum();
+    long finished = completed + failed;
+    long lagSamples = metrics.lagSamples.sum();
+    double elapsedMinutes =
+        Math.max(1.0, (System.currentTimeMillis() - startedAtMillis) / 60_000.0);
+
+    return WorkflowExecutionMetricsResponse.builder()
+        .shopId(shopId)
+        .queuedCount(Math.max(0, metrics.queued.get()))
+        .runningCount(Math.max(0, metrics.running.get()))
+        .completedCount(completed)
+        .failedCount(failed)
+        .skippedCount(metrics.skipped.sum())
+        .throughputPerMinute(finished / elapsedMinutes)
+        .averageLagMillis(lagSamples == 0 ? 0L : metrics.lagSum.sum() / lagSamples)
+        .maxLagMillis(metrics.maxLag.get())
+        .lastLagMillis(metrics.lastLag.get())
+        .averageDurationMillis(finished == 0 ? 0L : metrics.durationSum.sum() / finished)
+        .lastCompletedAt(metrics.lastCompletedAt)
+        .build();
+  }
+
+  private ShopMetrics shop(Long shopId) {
+    return metricsByShop.computeIfAbsent(shopId, id -> new ShopMetrics());
+  }
+
+  private static class ShopMetrics {
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder lagSum = new LongAdder();
+    private final LongAdder lagSamples = new LongAdder();
+    private final AtomicLong maxLag = new AtomicLong();
+    private final AtomicLong lastLag = new AtomicLong();
+    private final LongAdder durationSum = new LongAdder();
+    private volatile LocalDateTime lastCompletedAt;
+  }
+}
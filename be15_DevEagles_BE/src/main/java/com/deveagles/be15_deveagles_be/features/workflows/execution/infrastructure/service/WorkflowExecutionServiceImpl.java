@@ -1,24 +1,29 @@
 package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
 
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerAudienceCursor;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.ExecutionRunKind;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.vo.ExecutionStatus;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.ActionExecutorService;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowExecutionLease.LeaseLostException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -31,9 +36,18 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
   private final WorkflowExecutionRepository workflowExecutionRepository;
   private final CustomerQueryService customerQueryService;
   private final ActionExecutorService actionExecutorService;
+  private final WorkflowExecutionLease workflowExecutionLease;
   private final ObjectMapper objectMapper;
 
+  @Value("${workflow.audience.chunk-size:500}")
+  private int audienceChunkSize;
+
+  /**
+   * 대상 고객을 청크 단위로 처리하며 청크마다 진행 상황을 커밋해야 하므로 하나의 트랜잭션으로 묶지 않습니다. 각 저장은 리포지토리
+   * 트랜잭션으로 개별 커밋됩니다.
+   */
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void executeWorkflow(Workflow workflow) {
     log.info("워크플로우 실행 시작: ID={}, 제목={}", workflow.getId(), workflow.getTitle());
 
@@ -46,15 +60,36 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
       return;
     }
 
-    WorkflowExecution execution = createExecution(workflow);
+    WorkflowExecution execution = acquireExecution(workflow);
+    if (execution == null) {
+      log.info("같은 워크플로우의 대상 고객 실행이 진행 중이라 건너뜁니다: ID={}", workflow.getId());
+      return;
+    }
 
     try {
-      execution.start();
-      workflowExecutionRepository.save(execution);
+      if (execution.isRunning()) {
+        log.info(
+            "중단된 워크플로우 실행 재개: 실행 ID={}, 처리={}명, 재개 지점 고객 ID={}",
+            execution.getId(),
+            execution.getProcessedCount(),
+            execution.getLastProcessedCustomerId());
+      } else {
+        execution.start();
+        execution.setTargetCount(0);
+        workflowExecutionRepository.save(execution);
+      }
 
-      List<Long> targetCustomerIds = filterTargetCustomerIds(workflow);
+      CustomerAudienceCursor cursor =
+          new CustomerAudienceCursor(
+              customerQueryService,
+              buildSearchQuery(workflow),
+              execution.getLastProcessedCustomerId(),
+              audienceChunkSize);
 
-      if (targetCustomerIds.isEmpty()) {
+      ActionExecutionResult result =
+          actionExecutorService.executeActionInChunks(workflow, cursor, execution);
+
+      if (execution.getProcessedCount() == null || execution.getProcessedCount() == 0) {
         log.info("대상 고객이 없어 워크플로우 실행을 건너뜁니다: ID={}", workflow.getId());
         execution.complete();
         execution.updateCounts(0, 0);
@@ -62,13 +97,6 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
         return;
       }
 
-      log.info("대상 고객 {}명에 대해 워크플로우 실행: ID={}", targetCustomerIds.size(), workflow.getId());
-      execution.setTargetCount(targetCustomerIds.size());
-
-      ActionExecutionResult result =
-          actionExecutorService.executeAction(workflow, targetCustomerIds, execution);
-
-      execution.updateCounts(result.getSuccessCount(), result.getFailureCount());
       execution.complete();
 
       workflow.recordExecution(result.getSuccessCount() > 0);
@@ -79,11 +107,15 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
       workflowExecutionRepository.save(execution);
 
       log.info(
-          "워크플로우 실행 완료: ID={}, 성공={}, 실패={}",
+          "워크플로우 실행 완료: ID={}, 대상={}명, 성공={}, 실패={}",
           workflow.getId(),
+          execution.getProcessedCount(),
           result.getSuccessCount(),
           result.getFailureCount());
 
+    } catch (LeaseLostException e) {
+      // 실행 행은 넘겨받은 쪽이 갱신하므로 여기서는 저장하지 않는다
+      log.warn("워크플로우 실행 중단: ID={}, 사유={}", workflow.getId(), e.getMessage());
     } catch (Exception e) {
       log.error("워크플로우 실행 중 오류 발생: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
       execution.fail(e.getMessage());
@@ -103,7 +135,8 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
       return;
     }
 
-    WorkflowExecution execution = createExecution(workflow);
+    WorkflowExecution execution =
+        createExecution(workflow, ExecutionRunKind.TRIGGERED).build();
 
     try {
       execution.start();
@@ -133,14 +166,34 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
     }
   }
 
-  private WorkflowExecution createExecution(Workflow workflow) {
+  /**
+   * 대상 고객 실행을 선점합니다. 장애로 중단되어 lease 가 만료된 같은 종류의 실행이 있으면 넘겨받아 재개 지점부터 이어서 처리하고, lease 가
+   * 살아 있는 실행이 있으면 가로채지 않고 null 을 반환합니다. 트리거 단건 실행은 재개 대상이 아닙니다.
+   */
+  private WorkflowExecution acquireExecution(Workflow workflow) {
+    String leaseOwner = workflowExecutionLease.newOwner();
+    Optional<WorkflowExecution> running =
+        workflowExecutionRepository.findRunningByWorkflowIdAndRunKind(
+            workflow.getId(), ExecutionRunKind.AUDIENCE.getCode());
+    if (running.isPresent()) {
+      WorkflowExecution execution = running.get();
+      return workflowExecutionLease.takeOver(execution, leaseOwner) ? execution : null;
+    }
+    return createExecution(workflow, ExecutionRunKind.AUDIENCE)
+        .leaseOwner(leaseOwner)
+        .leaseUntil(workflowExecutionLease.expiresAt(LocalDateTime.now()))
+        .build();
+  }
+
+  private WorkflowExecution.WorkflowExecutionBuilder createExecution(
+      Workflow workflow, ExecutionRunKind runKind) {
     return WorkflowExecution.builder()
         .workflowId(workflow.getId())
         .shopId(workflow.getShopId())
         .executionStatus(ExecutionStatus.SCHEDULED.getCode())
         .triggerType(workflow.getTriggerType())
         .actionType(workflow.getActionType())
-        .build();
+        .runKind(runKind.getCode());
   }
 
   private void scheduleNextExecution(Workflow workflow) {
@@ -160,13 +213,6 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
     }
   }
 
-  private List<Long> filterTargetCustomerIds(Workflow workflow) {
-    CustomerSearchQuery query = buildSearchQuery(workflow);
-    return customerQueryService.advancedSearch(query).getContent().stream()
-        .map(result -> result.customerId())
-        .collect(Collectors.toList());
-  }
-
   private CustomerSearchQuery buildSearchQuery(Workflow workflow) {
     List<Long> customerGradeIds = parseCustomerGrades(workflow.getTargetCustomerGrades());
     List<String> tagIds = parseTags(workflow.getTargetTags());
@@ -184,8 +230,8 @@ public class WorkflowExecutionServiceImpl implements WorkflowExecutionService {
         workflow.getExcludeRecentMessageReceivers(),
         workflow.getRecentMessagePeriodDays(),
         false, // 삭제된 고객 제외
-        0, // 페이지
-        1000, // 최대 1000명
+        0, // 페이징은 커서가 담당
+        0,
         "createdAt",
         "DESC");
   }
@@ -2,9 +2,11 @@ package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastruct
 
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
 import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
-import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowDispatcher;
 import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowScheduler;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +19,7 @@ import org.springframework.stereotype.Component;
 public class WorkflowSchedulerImpl implements WorkflowScheduler {
 
   private final WorkflowRepository workflowRepository;
-  private final WorkflowExecutionService workflowExecutionService;
+  private final WorkflowDispatcher workflowDispatcher;
 
   @Scheduled(fixedDelay = 60000)
   @Override
@@ -33,16 +35,8 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
         return;
       }
 
-      log.info("{}개의 스케줄된 워크플로우를 실행합니다.", scheduledWorkflows.size());
-
-      for (Workflow workflow : scheduledWorkflows) {
-        try {
-          log.info("워크플로우 실행 시작: ID={}, 제목={}", workflow.getId(), workflow.getTitle());
-          workflowExecutionService.executeWorkflow(workflow);
-        } catch (Exception e) {
-          log.error("워크플로우 실행 중 오류 발생: ID={}, 오류={}", workflow.getId(), e.getMessage(), e);
-        }
-      }
+      int dispatched = workflowDispatcher.dispatchScheduled(scheduledWorkflows);
+      log.info("{}개의 스케줄된 워크플로우 중 {}개를 실행 큐에 넣었습니다.", scheduledWorkflows.size(), dispatched);
 
     } catch (Exception e) {
       log.error("스케줄된 워크플로우 체크 중 오류 발생: {}", e.getMessage(), e);
@@ -55,21 +49,7 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
     log.info("일일 트리거 체크 시작");
 
     try {
-      List<Workflow> birthdayWorkflows = workflowRepository.findByTriggerType("birthday");
-      for (Workflow workflow : birthdayWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
-
-      List<Workflow> anniversaryWorkflows =
-          workflowRepository.findByTriggerType("first-visit-anniversary");
-      for (Workflow workflow : anniversaryWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
-
+      dispatchTriggerSlot(List.of("birthday", "first-visit-anniversary"));
       log.info("일일 트리거 체크 완료");
 
     } catch (Exception e) {
@@ -83,24 +63,26 @@ public class WorkflowSchedulerImpl implements WorkflowScheduler {
     log.debug("주기적 트리거 체크 시작");
 
     try {
-      List<Workflow> visitCycleWorkflows = workflowRepository.findByTriggerType("visit-cycle");
-      for (Workflow workflow : visitCycleWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
-
-      List<Workflow> churnRiskWorkflows = workflowRepository.findByTriggerType("churn-risk-high");
-      for (Workflow workflow : churnRiskWorkflows) {
-        if (workflow.canExecute()) {
-          workflowExecutionService.executeWorkflow(workflow);
-        }
-      }
-
+      dispatchTriggerSlot(List.of("visit-cycle", "churn-risk-high"));
       log.debug("주기적 트리거 체크 완료");
 
     } catch (Exception e) {
       log.error("주기적 트리거 체크 중 오류 발생: {}", e.getMessage(), e);
     }
   }
+
+  // 크론 실행 시각(정각)을 슬롯으로 사용해 노드 간 같은 슬롯의 중복 실행을 막는다
+  private void dispatchTriggerSlot(List<String> triggerTypes) {
+    LocalDateTime slot = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+    List<Workflow> workflows = new ArrayList<>();
+    for (String triggerType : triggerTypes) {
+      workflowRepository.findByTriggerType(triggerType).stream()
+          .filter(Workflow::canExecute)
+          .forEach(workflows::add);
+    }
+
+    int dispatched = workflowDispatcher.dispatchTriggerSlot(workflows, slot);
+    log.info("트리거 슬롯 {} - {}개의 워크플로우를 실행 큐에 넣었습니다.", slot, dispatched);
+  }
 }
@@ -0,0 +1,34 @@
+package com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkflowExecutionMetricsResponse {
+
+  private Long shopId;
+
+  // 현재 노드의 대기/실행 중 워크플로우 수
+  private Integer queuedCount;
+  private Integer runningCount;
+
+  // 누적 처리량
+  private Long completedCount;
+  private Long failedCount;
+  private Long skippedCount;
+  private Double throughputPerMinute;
+
+  // 예정 시각 대비 실제 실행 시작 지연
+  private Long averageLagMillis;
+  private Long maxLagMillis;
+  private Long lastLagMillis;
+
+  private Long averageDurationMillis;
+  private LocalDateTime lastCompletedAt;
+}
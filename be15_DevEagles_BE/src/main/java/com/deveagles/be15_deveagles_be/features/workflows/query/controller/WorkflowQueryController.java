@@ -2,7 +2,9 @@ package com.deveagles.be15_deveagles_be.features.workflows.query.controller;
 
 import com.deveagles.be15_deveagles_be.common.dto.ApiResponse;
 import com.deveagles.be15_deveagles_be.common.dto.PagedResponse;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowExecutionMetrics;
 import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.request.WorkflowSearchRequest;
+import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response.WorkflowExecutionMetricsResponse;
 import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response.WorkflowQueryResponse;
 import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response.WorkflowStatsResponse;
 import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response.WorkflowSummaryResponse;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class WorkflowQueryController {
 
   private final WorkflowQueryService workflowQueryService;
+  private final WorkflowExecutionMetrics workflowExecutionMetrics;
 
   @Operation(summary = "워크플로우 상세 조회", description = "워크플로우 ID로 상세 정보를 조회합니다.")
   @ApiResponses({
@@ -117,6 +120,27 @@ public class WorkflowQueryController {
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
+  @Operation(
+      summary = "워크플로우 실행 지표 조회",
+      description = "현재 노드에서 집계한 매장의 워크플로우 실행 처리량과 지연 지표를 조회합니다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "실행 지표 조회 성공",
+        content =
+            @Content(schema = @Schema(implementation = WorkflowExecutionMetricsResponse.class)))
+  })
+  @GetMapping("/execution-metrics")
+  public ResponseEntity<ApiResponse<WorkflowExecutionMetricsResponse>> getExecutionMetrics(
+      @Parameter(description = "매장 ID", required = true) @RequestParam Long shopId) {
+
+    log.info("워크플로우 실행 지표 조회 요청 - shopId: {}", shopId);
+
+    WorkflowExecutionMetricsResponse response = workflowExecutionMetrics.snapshot(shopId);
+
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
   @Operation(summary = "트리거 카테고리별 워크플로우 조회", description = "특정 트리거 카테고리에 속하는 워크플로우 목록을 조회합니다.")
   @GetMapping("/trigger-category/{triggerCategory}")
   public ResponseEntity<ApiResponse<List<WorkflowSummaryResponse>>> getWorkflowsByTriggerCategory(
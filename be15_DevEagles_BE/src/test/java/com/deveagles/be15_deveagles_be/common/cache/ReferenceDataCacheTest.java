@@ -0,0 +1,177 @@
+package com.deveagles.be15_deveagles_be.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("기준 데이터 2단 캐시 테스트")
+class ReferenceDataCacheTest {
+
+  private static final String CHANNEL = "reference-cache:invalidate";
+  private static final String KEY = "REF:tags:1";
+  private static final TypeReference<List<Sample>> SAMPLE_LIST = new TypeReference<>() {};
+
+  private RedisTemplate<String, String> redisTemplate;
+  private ValueOperations<String, String> valueOperations;
+  private ReferenceDataCache cache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    MockEnvironment environment =
+        new MockEnvironment().withProperty("cache.reference.ttl-seconds.tags", "120");
+    cache =
+        new ReferenceDataCache(
+            redisTemplate,
+            mock(RedisMessageListenerContainer.class),
+            environment,
+            new ObjectMapper());
+    ReflectionTestUtils.setField(cache, "l1MaxEntries", 100);
+    ReflectionTestUtils.setField(cache, "invalidationChannel", CHANNEL);
+    cache.init();
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("처음 조회는 DB 를 읽어 Redis 에 TTL 과 함께 저장하고, 다음 조회는 로컬에서 응답한다")
+  void 로컬_캐시_적중() {
+    // when
+    List<Sample> first = get(1L);
+    List<Sample> second = get(1L);
+
+    // then
+    assertThat(first).containsExactly(new Sample(1L, "VIP"));
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    verify(valueOperations, times(1)).get(KEY);
+    verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofSeconds(120)));
+  }
+
+  @Test
+  @DisplayName("로컬에 없고 Redis 에 있으면 DB 를 읽지 않는다")
+  void Redis_캐시_적중() {
+    // given
+    given(valueOperations.get(KEY)).willReturn("[{\"id\":2,\"name\":\"단골\"}]");
+
+    // when
+    List<Sample> result = get(1L);
+
+    // then
+    assertThat(result).containsExactly(new Sample(2L, "단골"));
+    assertThat(loads).hasValue(0);
+    verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시에도 DB 값으로 응답한다")
+  void Redis_장애시_DB_조회() {
+    // given
+    given(valueOperations.get(KEY)).willThrow(new IllegalStateException("connection refused"));
+
+    // when
+    List<Sample> result = get(1L);
+
+    // then
+    assertThat(result).containsExactly(new Sample(1L, "VIP"));
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("무효화하면 로컬/Redis 항목을 지우고 다른 노드에 알린다")
+  void 무효화_전파() {
+    // given
+    get(1L);
+
+    // when
+    cache.evict(ReferenceCache.TAGS, 1L);
+    get(1L);
+
+    // then
+    assertThat(loads).hasValue(2);
+    verify(redisTemplate).delete(KEY);
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("|TAGS|1"));
+  }
+
+  @Test
+  @DisplayName("다른 노드의 무효화 메시지는 로컬 항목을 지우고, 자기 노드가 보낸 메시지는 무시한다")
+  void 무효화_메시지_수신() {
+    // given
+    get(1L);
+    String nodeId = (String) ReflectionTestUtils.getField(cache, "nodeId");
+
+    // when
+    cache.onMessage(message(nodeId + "|TAGS|1"), null);
+    get(1L);
+    cache.onMessage(message("other-node|TAGS|1"), null);
+    get(1L);
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("캐시별 적중/미스/무효화 통계를 집계한다")
+  void 통계_집계() {
+    // given
+    get(1L);
+    get(1L);
+    get(1L);
+    cache.evict(ReferenceCache.TAGS, 1L);
+
+    // when
+    ReferenceCacheStats stats =
+        cache.stats().stream()
+            .filter(s -> s.cacheName().equals("tags"))
+            .findFirst()
+            .orElseThrow();
+
+    // then
+    assertThat(stats.l1Hits()).isEqualTo(2);
+    assertThat(stats.misses()).isEqualTo(1);
+    assertThat(stats.evictions()).isEqualTo(1);
+    assertThat(stats.size()).isZero();
+    assertThat(stats.ttlSeconds()).isEqualTo(120);
+    assertThat(stats.hitRate()).isCloseTo(2.0 / 3, offset(0.001));
+  }
+
+  private List<Sample> get(Long shopId) {
+    return cache.get(
+        ReferenceCache.TAGS,
+        shopId,
+        SAMPLE_LIST,
+        () -> {
+          loads.incrementAndGet();
+          return List.of(new Sample(1L, "VIP"));
+        });
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage(
+        CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  record Sample(Long id, String name) {}
+}
@@ -0,0 +1,166 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 실제 {@link JwtAuthenticationFilter} 의 요청당 인증 비용을 캐시가 비어 있을 때(매 요청 Redis 블랙리스트 조회 + 직원 조회, 캐시 도입 전
+ * 경로)와 채워져 있을 때로 비교한다. Redis 와 직원 조회는 고정 지연을 주는 가짜로 대신한다. 기본 test 태스크에서는 제외되며 {@code
+ * ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("JWT 인증 필터 요청당 비용 벤치마크")
+class JwtAuthenticationBenchmarkTest {
+
+  private static final int USERS = 50;
+  private static final int REQUESTS = 2_000;
+  private static final int WARMUP = 200;
+  private static final long REDIS_LATENCY_NANOS = 300_000;
+  private static final long STAFF_LOOKUP_LATENCY_NANOS = 1_000_000;
+
+  private final AtomicInteger redisCalls = new AtomicInteger();
+  private final AtomicInteger staffLookups = new AtomicInteger();
+
+  private JwtTokenProvider jwtTokenProvider;
+  private RedisTemplate<String, String> redisTemplate;
+  private UserDetailsService userDetailsService;
+  private List<String> tokens;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(mock(UserRepository.class));
+    ReflectionTestUtils.setField(
+        jwtTokenProvider,
+        "jwtSecret",
+        Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 600_000L);
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtRefreshExpiration", 600_000L);
+    jwtTokenProvider.init();
+
+    redisTemplate = mock(RedisTemplate.class);
+    given(redisTemplate.hasKey(anyString()))
+        .willAnswer(
+            invocation -> {
+              redisCalls.incrementAndGet();
+              LockSupport.parkNanos(REDIS_LATENCY_NANOS);
+              return false;
+            });
+    userDetailsService =
+        username -> {
+          staffLookups.incrementAndGet();
+          LockSupport.parkNanos(STAFF_LOOKUP_LATENCY_NANOS);
+          return CustomUser.builder()
+              .userId((long) username.hashCode())
+              .shopId(1L)
+              .username(username)
+              .build();
+        };
+
+    tokens = new ArrayList<>();
+    for (int i = 0; i < USERS; i++) {
+      tokens.add(jwtTokenProvider.createToken("staff" + i));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("캐시가 비어 있을 때와 채워져 있을 때의 요청당 인증 시간")
+  void 콜드_웜_캐시_비교() throws Exception {
+    // given
+    // TTL 0 이면 모든 요청이 캐시를 지나쳐 Redis 와 직원 조회를 한다
+    JwtAuthenticationFilter cold = filter(0L, 0L);
+    JwtAuthenticationFilter warm = filter(60L, 5L);
+    run(cold, WARMUP);
+    run(warm, WARMUP);
+    redisCalls.set(0);
+    staffLookups.set(0);
+
+    // when
+    long coldNanos = run(cold, REQUESTS);
+    int coldRedisCalls = redisCalls.getAndSet(0);
+    int coldStaffLookups = staffLookups.getAndSet(0);
+    long warmNanos = run(warm, REQUESTS);
+    int warmRedisCalls = redisCalls.get();
+    int warmStaffLookups = staffLookups.get();
+
+    // then
+    System.out.printf(
+        "[benchmark] jwt auth (%d requests, %d users, redis %dus, staff lookup %dus):"
+            + " cold cache %.1f us/request (redis=%d, staff=%d) | warm cache %.1f us/request"
+            + " (redis=%d, staff=%d)%n",
+        REQUESTS,
+        USERS,
+        REDIS_LATENCY_NANOS / 1_000,
+        STAFF_LOOKUP_LATENCY_NANOS / 1_000,
+        coldNanos / 1_000.0 / REQUESTS,
+        coldRedisCalls,
+        coldStaffLookups,
+        warmNanos / 1_000.0 / REQUESTS,
+        warmRedisCalls,
+        warmStaffLookups);
+
+    assertThat(coldRedisCalls).isEqualTo(REQUESTS);
+    assertThat(coldStaffLookups).isEqualTo(REQUESTS);
+    // 워밍업에서 모든 사용자가 캐시에 들어갔다
+    assertThat(warmStaffLookups).isZero();
+  }
+
+  private JwtAuthenticationFilter filter(long principalTtlSeconds, long negativeTtlSeconds) {
+    AuthPrincipalCache authPrincipalCache =
+        new AuthPrincipalCache(redisTemplate, mock(RedisMessageListenerContainer.class));
+    ReflectionTestUtils.setField(authPrincipalCache, "ttlSeconds", principalTtlSeconds);
+    ReflectionTestUtils.setField(authPrincipalCache, "maxEntries", 10_000);
+    ReflectionTestUtils.setField(
+        authPrincipalCache, "invalidationChannel", "auth-principal-cache:invalidate");
+    authPrincipalCache.init();
+
+    TokenBlacklist tokenBlacklist = new TokenBlacklist(redisTemplate);
+    ReflectionTestUtils.setField(tokenBlacklist, "negativeTtlSeconds", negativeTtlSeconds);
+    ReflectionTestUtils.setField(tokenBlacklist, "maxEntries", 100_000);
+    tokenBlacklist.init();
+
+    return new JwtAuthenticationFilter(
+        jwtTokenProvider, userDetailsService, authPrincipalCache, tokenBlacklist);
+  }
+
+  private long run(JwtAuthenticationFilter filter, int requests) throws Exception {
+    long start = System.nanoTime();
+    for (int i = 0; i < requests; i++) {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/customers");
+      request.addHeader("Authorization", "Bearer " + tokens.get(i % USERS));
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      filter.doFilter(request, response, new MockFilterChain());
+      assertThat(response.getStatus()).isEqualTo(200);
+      SecurityContextHolder.clearContext();
+    }
+    return System.nanoTime() - start;
+  }
+}
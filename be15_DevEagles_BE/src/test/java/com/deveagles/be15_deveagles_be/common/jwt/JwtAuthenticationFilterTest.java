@@ -0,0 +1,224 @@
+package com.deveagles.be15_deveagles_be.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.events.StaffAuthChangedEvent;
+import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
+import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.Staff;
+import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.StaffStatus;
+import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("JWT 인증 필터 테스트")
+class JwtAuthenticationFilterTest {
+
+  private static final String LOGIN_ID = "owner01";
+  private static final String CHANNEL = "auth-principal-cache:invalidate";
+
+  private RedisTemplate<String, String> redisTemplate;
+  private UserDetailsService userDetailsService;
+  private JwtTokenProvider jwtTokenProvider;
+  private AuthPrincipalCache authPrincipalCache;
+  private TokenBlacklist tokenBlacklist;
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    userDetailsService = mock(UserDetailsService.class);
+    UserRepository userRepository = mock(UserRepository.class);
+
+    jwtTokenProvider = new JwtTokenProvider(userRepository);
+    ReflectionTestUtils.setField(
+        jwtTokenProvider,
+        "jwtSecret",
+        Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 60_000L);
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtRefreshExpiration", 600_000L);
+    jwtTokenProvider.init();
+
+    authPrincipalCache =
+        new AuthPrincipalCache(redisTemplate, mock(RedisMessageListenerContainer.class));
+    ReflectionTestUtils.setField(authPrincipalCache, "ttlSeconds", 60L);
+    ReflectionTestUtils.setField(authPrincipalCache, "maxEntries", 100);
+    ReflectionTestUtils.setField(authPrincipalCache, "invalidationChannel", CHANNEL);
+    authPrincipalCache.init();
+
+    tokenBlacklist = new TokenBlacklist(redisTemplate);
+    ReflectionTestUtils.setField(tokenBlacklist, "negativeTtlSeconds", 5L);
+    ReflectionTestUtils.setField(tokenBlacklist, "maxEntries", 100);
+    tokenBlacklist.init();
+
+    filter =
+        new JwtAuthenticationFilter(
+            jwtTokenProvider, userDetailsService, authPrincipalCache, tokenBlacklist);
+
+    given(userRepository.findStaffByLoginId(LOGIN_ID))
+        .willReturn(
+            Optional.of(
+                Staff.builder()
+                    .staffId(1L)
+                    .shopId(1L)
+                    .loginId(LOGIN_ID)
+                    .staffName("점장")
+                    .grade("점장")
+                    .staffStatus(StaffStatus.OWNER)
+                    .build()));
+    given(userDetailsService.loadUserByUsername(LOGIN_ID))
+        .willReturn(CustomUser.builder().userId(1L).shopId(1L).username(LOGIN_ID).build());
+    given(redisTemplate.hasKey(anyString())).willReturn(false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("같은 토큰의 연속 요청은 직원 조회와 블랙리스트 조회를 다시 하지 않는다")
+  void 인증정보_캐시() throws Exception {
+    // given
+    String token = jwtTokenProvider.createToken(LOGIN_ID);
+
+    // when
+    MockHttpServletResponse first = doFilter(token);
+    SecurityContextHolder.clearContext();
+    MockHttpServletResponse second = doFilter(token);
+
+    // then
+    assertThat(first.getStatus()).isEqualTo(200);
+    assertThat(second.getStatus()).isEqualTo(200);
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+        .isInstanceOf(CustomUser.class);
+    verify(userDetailsService, times(1)).loadUserByUsername(LOGIN_ID);
+    verify(redisTemplate, times(1)).hasKey(anyString());
+  }
+
+  @Test
+  @DisplayName("직원 정보가 바뀌면 다음 요청에서 사용자 정보를 다시 읽는다")
+  void 직원변경시_캐시_무효화() throws Exception {
+    // given
+    String token = jwtTokenProvider.createToken(LOGIN_ID);
+    doFilter(token);
+
+    // when
+    authPrincipalCache.onStaffAuthChanged(new StaffAuthChangedEvent(1L));
+    doFilter(token);
+
+    // then
+    verify(userDetailsService, times(2)).loadUserByUsername(LOGIN_ID);
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("|1"));
+  }
+
+  @Test
+  @DisplayName("다른 노드의 직원 변경 메시지를 받으면 다음 요청에서 사용자 정보를 다시 읽는다")
+  void 다른노드_직원변경시_캐시_무효화() throws Exception {
+    // given
+    String token = jwtTokenProvider.createToken(LOGIN_ID);
+    doFilter(token);
+
+    // when
+    authPrincipalCache.onMessage(message("other-node|1"), null);
+    doFilter(token);
+
+    // then
+    verify(userDetailsService, times(2)).loadUserByUsername(LOGIN_ID);
+    verify(redisTemplate, never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("다른 직원의 변경 메시지는 캐시된 사용자 정보를 지우지 않는다")
+  void 다른직원_변경_메시지_무시() throws Exception {
+    // given
+    String token = jwtTokenProvider.createToken(LOGIN_ID);
+    doFilter(token);
+
+    // when
+    authPrincipalCache.onMessage(message("other-node|2"), null);
+    doFilter(token);
+
+    // then
+    verify(userDetailsService, times(1)).loadUserByUsername(LOGIN_ID);
+  }
+
+  @Test
+  @DisplayName("로그아웃한 토큰은 로컬에서 바로 차단한다")
+  @SuppressWarnings("unchecked")
+  void 로그아웃_토큰_차단() throws Exception {
+    // given
+    String token = jwtTokenProvider.createToken(LOGIN_ID);
+    doFilter(token);
+    given(redisTemplate.opsForValue()).willReturn(mock(ValueOperations.class));
+
+    // when
+    tokenBlacklist.blacklist(token, Duration.ofMinutes(1));
+    MockHttpServletResponse response = doFilter(token);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(401);
+    verify(redisTemplate, times(1)).hasKey(anyString());
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰으로는 API 에 접근할 수 없다")
+  void 리프레시토큰_차단() throws Exception {
+    // given
+    String refreshToken = jwtTokenProvider.createRefreshToken(LOGIN_ID);
+
+    // when
+    MockHttpServletResponse response = doFilter(refreshToken);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(401);
+    verifyNoInteractions(userDetailsService);
+  }
+
+  @Test
+  @DisplayName("위조된 토큰은 401 로 거절한다")
+  void 위조토큰_거절() throws Exception {
+    // given
+    String token = jwtTokenProvider.createToken(LOGIN_ID);
+    String forged = token.substring(0, token.lastIndexOf('.') + 1) + "forged-signature";
+
+    // when
+    MockHttpServletResponse response = doFilter(forged);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(401);
+    verifyNoInteractions(redisTemplate, userDetailsService);
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage(
+        CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private MockHttpServletResponse doFilter(String token) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/customers");
+    request.addHeader("Authorization", "Bearer " + token);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.common.jwt.JwtTokenProvider;
+import com.deveagles.be15_deveagles_be.common.jwt.TokenBlacklist;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.CheckEmailRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.EmailVerifyRequest;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.dto.request.LoginRequest;
@@ -52,6 +53,8 @@ public class AuthServiceImplTest {
 
   @Mock private MailService mailService;
 
+  @Mock private TokenBlacklist tokenBlacklist;
+
   private AuthServiceImpl authService;
 
   @BeforeEach
@@ -63,7 +66,8 @@ public class AuthServiceImplTest {
             jwtTokenProvider,
             refreshTokenService,
             redisTemplate,
-            mailService);
+            mailService,
+            tokenBlacklist);
   }
 
   @Test
@@ -199,7 +203,6 @@ public class AuthServiceImplTest {
     String accessToken = "accessToken123";
     String username = "user01";
     long remainMillis = 300000L; // 5분
-    Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     Mockito.when(jwtTokenProvider.validateToken(refreshToken)).thenReturn(true);
     Mockito.when(jwtTokenProvider.getUsernameFromJWT(refreshToken)).thenReturn(username);
     Mockito.when(jwtTokenProvider.getRemainingExpiration(accessToken)).thenReturn(remainMillis);
@@ -212,8 +215,7 @@ public class AuthServiceImplTest {
     Mockito.verify(jwtTokenProvider).getUsernameFromJWT(refreshToken);
     Mockito.verify(refreshTokenService).deleteRefreshToken(username);
     Mockito.verify(jwtTokenProvider).getRemainingExpiration(accessToken);
-    Mockito.verify(valueOperations)
-        .set("BL:" + accessToken, "logout", Duration.ofMillis(remainMillis));
+    Mockito.verify(tokenBlacklist).blacklist(accessToken, Duration.ofMillis(remainMillis));
   }
 
   @Test
@@ -12,6 +12,7 @@ import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.Ch
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatRoom;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
 import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatRoomRepository;
+import com.deveagles.be15_deveagles_be.features.chat.command.infrastructure.ChatMessageBroadcaster;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.dto.response.GetShopResponse;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
 import java.time.LocalDateTime;
@@ -21,7 +22,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class ChatRoomServiceImplTest {
@@ -34,7 +34,7 @@ class ChatRoomServiceImplTest {
 
   @Mock private ShopCommandService shopCommandService;
 
-  @Mock private SimpMessagingTemplate messagingTemplate;
+  @Mock private ChatMessageBroadcaster chatMessageBroadcaster;
 
   @Test
   void createChatRoom_성공() {
@@ -101,8 +101,7 @@ class ChatRoomServiceImplTest {
     // then
     verify(chatRoomRepository).findById(roomId);
     verify(chatMessageRepository).save(any());
-    verify(messagingTemplate)
-        .convertAndSend(eq("/sub/chatroom/" + roomId), any(ChatMessageResponse.class));
+    verify(chatMessageBroadcaster).broadcast(eq(roomId), any(ChatMessageResponse.class));
   }
 
   @Test
@@ -123,7 +122,7 @@ class ChatRoomServiceImplTest {
     verify(chatRoomRepository).findById(roomId);
     verify(chatRoomRepository).save(any());
     verify(chatMessageRepository).save(any());
-    verify(messagingTemplate).convertAndSend(eq("/sub/chatroom/" + roomId), any(ChatMessage.class));
+    verify(chatMessageBroadcaster).broadcast(eq(roomId), any(ChatMessage.class));
 
     assertFalse(chatRoom.isAiActive());
     assertEquals(17L, chatRoom.getAssignedStaffId());
@@ -0,0 +1,128 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 채팅 fan-out 부하 테스트: 두 노드에 나눠 접속한 수천 개 세션이 한 채팅방을 구독한 상태에서 메시지 하나가 모든 세션의 아웃바운드 채널에 도달하기까지의
+ * 지연(p50/p99)을 잰다. 노드마다 실제 simple broker 를 띄우고 중계는 {@link InMemoryChatRelay}로 대신한다. 기본 test 태스크에서는
+ * 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+class ChatFanOutLoadTest {
+
+  private static final String ROOM_ID = "load-room";
+  private static final int SESSIONS_PER_NODE = 2_500;
+  private static final int WARMUP = 50;
+  private static final int MESSAGES = 500;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AtomicReference<CountDownLatch> delivered = new AtomicReference<>();
+  private final AtomicInteger deliveries = new AtomicInteger();
+  private final List<SimpleBrokerMessageHandler> brokers = new ArrayList<>();
+  private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    brokers.forEach(SimpleBrokerMessageHandler::stop);
+    executors.forEach(ThreadPoolTaskExecutor::shutdown);
+  }
+
+  @Test
+  @DisplayName("두 노드 5,000 세션 채팅방 fan-out 지연")
+  void fanOutLatency() throws Exception {
+    InMemoryChatRelay relay = new InMemoryChatRelay();
+    ChatMessageBroadcaster nodeA = startNode("a", relay);
+    startNode("b", relay);
+    int totalSessions = SESSIONS_PER_NODE * 2;
+
+    for (int i = 0; i < WARMUP; i++) {
+      publishAndAwait(nodeA, totalSessions, i);
+    }
+    deliveries.set(0);
+
+    long[] latencies = new long[MESSAGES];
+    for (int i = 0; i < MESSAGES; i++) {
+      latencies[i] = publishAndAwait(nodeA, totalSessions, i);
+    }
+    Arrays.sort(latencies);
+
+    System.out.printf(
+        "[benchmark] chat fan-out (%d sessions on 2 nodes, %d messages):"
+            + " p50=%.2fms, p99=%.2fms, max=%.2fms%n",
+        totalSessions,
+        MESSAGES,
+        latencies[MESSAGES / 2] / 1_000_000.0,
+        latencies[(int) (MESSAGES * 0.99)] / 1_000_000.0,
+        latencies[MESSAGES - 1] / 1_000_000.0);
+    assertThat(deliveries.get()).isEqualTo(totalSessions * MESSAGES);
+  }
+
+  private long publishAndAwait(ChatMessageBroadcaster broadcaster, int expected, int seq)
+      throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(expected);
+    delivered.set(latch);
+    long start = System.nanoTime();
+    broadcaster.broadcast(ROOM_ID, Map.of("seq", seq, "content", "부하 테스트 메시지"));
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    return System.nanoTime() - start;
+  }
+
+  // 노드 하나: 인바운드/브로커 채널 + simple broker + 병렬 아웃바운드 채널(세션 전송 흉내)
+  private ChatMessageBroadcaster startNode(String node, ChatRelay relay) {
+    ThreadPoolTaskExecutor outboundExecutor = new ThreadPoolTaskExecutor();
+    outboundExecutor.setCorePoolSize(4);
+    outboundExecutor.setMaxPoolSize(4);
+    outboundExecutor.setThreadNamePrefix("outbound-" + node + "-");
+    outboundExecutor.initialize();
+    executors.add(outboundExecutor);
+
+    ExecutorSubscribableChannel inbound = new ExecutorSubscribableChannel();
+    ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel(outboundExecutor);
+    ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    outbound.subscribe(
+        message -> {
+          deliveries.incrementAndGet();
+          delivered.get().countDown();
+        });
+
+    SimpleBrokerMessageHandler broker =
+        new SimpleBrokerMessageHandler(inbound, outbound, brokerChannel, List.of("/sub"));
+    broker.start();
+    brokers.add(broker);
+
+    for (int i = 0; i < SESSIONS_PER_NODE; i++) {
+      SimpMessageHeaderAccessor accessor =
+          SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+      accessor.setSessionId(node + "-session-" + i);
+      accessor.setSubscriptionId("sub-0");
+      accessor.setDestination("/sub/chatroom/" + ROOM_ID);
+      broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    ChatMessageBroadcaster broadcaster =
+        new ChatMessageBroadcaster(new SimpMessagingTemplate(brokerChannel), objectMapper, relay);
+    broadcaster.init();
+    return broadcaster;
+  }
+}
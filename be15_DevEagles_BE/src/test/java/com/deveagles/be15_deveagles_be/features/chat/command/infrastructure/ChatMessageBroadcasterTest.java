@@ -0,0 +1,85 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.application.dto.response.ChatMessageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@DisplayName("채팅 메시지 노드 간 중계 테스트")
+class ChatMessageBroadcasterTest {
+
+  private static final String ROOM_ID = "room123";
+  private static final String DESTINATION = "/sub/chatroom/" + ROOM_ID;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private SimpMessagingTemplate nodeATemplate;
+  private SimpMessagingTemplate nodeBTemplate;
+  private ChatMessageBroadcaster nodeA;
+
+  @BeforeEach
+  void setUp() {
+    // 두 노드가 하나의 중계 채널을 공유한다
+    InMemoryChatRelay relay = new InMemoryChatRelay();
+    nodeATemplate = mock(SimpMessagingTemplate.class);
+    nodeBTemplate = mock(SimpMessagingTemplate.class);
+    nodeA = new ChatMessageBroadcaster(nodeATemplate, objectMapper, relay);
+    ChatMessageBroadcaster nodeB = new ChatMessageBroadcaster(nodeBTemplate, objectMapper, relay);
+    nodeA.init();
+    nodeB.init();
+  }
+
+  @Test
+  @DisplayName("메시지는 보낸 노드와 다른 노드의 구독자 모두에게 한 번씩 전달된다")
+  void broadcast_deliversToEveryNodeOnce() {
+    // given
+    ChatMessageResponse payload =
+        ChatMessageResponse.builder()
+            .messageId("msg1")
+            .chatroomId(ROOM_ID)
+            .senderName("고객")
+            .content("안녕하세요")
+            .isCustomer(true)
+            .build();
+
+    // when
+    nodeA.broadcast(ROOM_ID, payload);
+
+    // then
+    assertThat(sentPayload(nodeATemplate)).contains("\"content\":\"안녕하세요\"");
+    assertThat(sentPayload(nodeBTemplate)).isEqualTo(sentPayload(nodeATemplate));
+  }
+
+  @Test
+  @DisplayName("중계가 실패해도 보낸 노드의 구독자에게는 전달된다")
+  void broadcast_deliversLocallyWhenRelayFails() {
+    // given
+    ChatRelay failingRelay = mock(ChatRelay.class);
+    doThrow(new IllegalStateException("Redis 연결 실패")).when(failingRelay).publish(any());
+    ChatMessageBroadcaster broadcaster =
+        new ChatMessageBroadcaster(nodeATemplate, objectMapper, failingRelay);
+
+    // when
+    broadcaster.broadcast(ROOM_ID, "메시지");
+
+    // then
+    assertThat(sentPayload(nodeATemplate)).isEqualTo("\"메시지\"");
+  }
+
+  // 노드마다 정확히 한 번 전송됐는지 확인하고 전송된 JSON 을 반환
+  private String sentPayload(SimpMessagingTemplate template) {
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+    verify(template, times(1)).send(eq(DESTINATION), captor.capture());
+    return new String(captor.getValue().getPayload(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,173 @@
+package com.deveagles.be15_deveagles_be.features.chat.command.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.aggregate.ChatMessage;
+import com.deveagles.be15_deveagles_be.features.chat.command.domain.repository.ChatMessageRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("채팅 메시지 write-behind 저장 테스트")
+class ChatMessageWriterTest {
+
+  private final List<Integer> insertedBatchSizes = Collections.synchronizedList(new ArrayList<>());
+  // 첫 일괄 저장을 이 래치가 열릴 때까지 멈춰 큐에 메시지가 쌓이게 한다
+  private final CountDownLatch insertGate = new CountDownLatch(1);
+  private final CountDownLatch firstInsertStarted = new CountDownLatch(1);
+  private ChatMessageRepository chatMessageRepository;
+  private ChatMessageWriter chatMessageWriter;
+
+  @BeforeEach
+  void setUp() {
+    chatMessageRepository = mock(ChatMessageRepository.class);
+    chatMessageWriter = new ChatMessageWriter(chatMessageRepository);
+    ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 100);
+    ReflectionTestUtils.setField(chatMessageWriter, "batchSize", 50);
+    ReflectionTestUtils.setField(chatMessageWriter, "pollIntervalMillis", 10L);
+    ReflectionTestUtils.setField(chatMessageWriter, "enqueueTimeoutMillis", 10L);
+    ReflectionTestUtils.setField(chatMessageWriter, "maxAttempts", 2);
+    ReflectionTestUtils.setField(chatMessageWriter, "retryBackoffMillis", 1L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    insertGate.countDown();
+    chatMessageWriter.shutdown();
+  }
+
+  @Test
+  @DisplayName("저장이 밀리는 동안 쌓인 메시지는 한 번의 insert 로 저장되고, 기록 후에 future 가 완료된다")
+  void persist_groupsQueuedMessagesIntoBulkInsert() throws Exception {
+    // given
+    stubGatedInsert();
+    chatMessageWriter.init();
+
+    // when
+    CompletableFuture<Void> first = chatMessageWriter.persist(message());
+    assertThat(firstInsertStarted.await(1, TimeUnit.SECONDS)).isTrue();
+    List<CompletableFuture<Void>> queued = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      queued.add(chatMessageWriter.persist(message()));
+    }
+    assertThat(queued).noneMatch(CompletableFuture::isDone);
+    insertGate.countDown();
+
+    // then
+    CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+    assertThat(first).isDone();
+    assertThat(insertedBatchSizes).containsExactly(1, 10);
+    assertThat(chatMessageWriter.stats().persisted()).isEqualTo(11);
+    assertThat(chatMessageWriter.stats().queueDepth()).isZero();
+  }
+
+  @Test
+  @DisplayName("일괄 저장이 실패하면 건별 저장으로 재시도한다")
+  void persist_fallsBackToSingleSaves() throws Exception {
+    // given
+    when(chatMessageRepository.insert(anyIterable()))
+        .thenThrow(new IllegalStateException("Mongo 연결 실패"));
+    chatMessageWriter.init();
+    ChatMessage message = message();
+
+    // when
+    chatMessageWriter.persist(message).get(1, TimeUnit.SECONDS);
+
+    // then
+    verify(chatMessageRepository).save(message);
+    assertThat(chatMessageWriter.stats().failed()).isZero();
+  }
+
+  @Test
+  @DisplayName("재시도까지 실패하면 future 가 예외로 완료되고 실패 건수가 늘어난다")
+  void persist_failsAfterMaxAttempts() throws Exception {
+    // given
+    when(chatMessageRepository.insert(anyIterable()))
+        .thenThrow(new IllegalStateException("Mongo 연결 실패"));
+    when(chatMessageRepository.save(any(ChatMessage.class)))
+        .thenThrow(new IllegalStateException("Mongo 연결 실패"));
+    chatMessageWriter.init();
+
+    // when
+    CompletableFuture<Void> result = chatMessageWriter.persist(message());
+
+    // then
+    assertThat(result).failsWithin(1, TimeUnit.SECONDS);
+    verify(chatMessageRepository, times(2)).save(any(ChatMessage.class));
+    assertThat(chatMessageWriter.stats().failed()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("종료할 때 큐에 남은 메시지를 모두 저장한다")
+  void shutdown_flushesPendingMessages() throws Exception {
+    // given
+    stubGatedInsert();
+    chatMessageWriter.init();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    futures.add(chatMessageWriter.persist(message()));
+    assertThat(firstInsertStarted.await(1, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 5; i++) {
+      futures.add(chatMessageWriter.persist(message()));
+    }
+
+    // when
+    new Thread(
+            () -> {
+              sleep(50);
+              insertGate.countDown();
+            })
+        .start();
+    chatMessageWriter.shutdown();
+
+    // then
+    assertThat(futures).allMatch(CompletableFuture::isDone);
+    assertThat(insertedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(6);
+  }
+
+  private void stubGatedInsert() {
+    doAnswer(
+            invocation -> {
+              Iterable<?> batch = invocation.getArgument(0);
+              List<Object> messages = new ArrayList<>();
+              batch.forEach(messages::add);
+              firstInsertStarted.countDown();
+              insertGate.await();
+              insertedBatchSizes.add(messages.size());
+              return messages;
+            })
+        .when(chatMessageRepository)
+        .insert(anyIterable());
+  }
+
+  private ChatMessage message() {
+    return ChatMessage.builder()
+        .id(new ObjectId().toHexString())
+        .chatroomId("room123")
+        .sender(ChatMessage.Sender.builder().id(1L).name("고객").build())
+        .content("안녕하세요")
+        .isCustomer(true)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
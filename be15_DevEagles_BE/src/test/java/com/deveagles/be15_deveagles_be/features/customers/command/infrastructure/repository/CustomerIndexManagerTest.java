@@ -0,0 +1,121 @@
+package com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager.VersionedDocument;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException.FailureDetails;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+@DisplayName("고객 검색 인덱스 관리 테스트")
+class CustomerIndexManagerTest {
+
+  private static final String BUILDING = "customers_v20250101000000";
+
+  private ElasticsearchOperations elasticsearchOperations;
+  private IndexOperations reindexAliasOps;
+  private CustomerIndexManager customerIndexManager;
+
+  @BeforeEach
+  void setUp() {
+    elasticsearchOperations = mock(ElasticsearchOperations.class);
+    reindexAliasOps = mock(IndexOperations.class);
+    given(
+            elasticsearchOperations.indexOps(
+                IndexCoordinates.of(CustomerIndexManager.REINDEX_ALIAS)))
+        .willReturn(reindexAliasOps);
+    customerIndexManager = new CustomerIndexManager(elasticsearchOperations);
+  }
+
+  @Test
+  @DisplayName("문서는 지정한 외부 버전과 함께 bulk 색인한다")
+  void 외부_버전_색인() {
+    // when
+    customerIndexManager.bulkIndex(BUILDING, List.of(new VersionedDocument(document(1L), 42L)));
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<IndexQuery>> queries = ArgumentCaptor.forClass(List.class);
+    verify(elasticsearchOperations).bulkIndex(queries.capture(), eq(IndexCoordinates.of(BUILDING)));
+    assertThat(queries.getValue())
+        .extracting(IndexQuery::getId, IndexQuery::getVersion)
+        .containsExactly(tuple("1_1", 42L));
+  }
+
+  @Test
+  @DisplayName("버전 충돌은 더 새로운 문서가 이미 있는 것이므로 실패로 보지 않는다")
+  void 버전_충돌_무시() {
+    // given
+    given(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+        .willThrow(
+            new BulkFailureException(
+                "bulk 실패",
+                Map.of(
+                    "1_1", new FailureDetails(409, "version_conflict_engine_exception"),
+                    "1_2", new FailureDetails(429, "es_rejected_execution_exception"))));
+
+    // when
+    Set<String> failed =
+        customerIndexManager.bulkIndex(
+            BUILDING,
+            List.of(
+                new VersionedDocument(document(1L), CustomerIndexManager.SNAPSHOT_VERSION),
+                new VersionedDocument(document(2L), CustomerIndexManager.SNAPSHOT_VERSION)));
+
+    // then
+    assertThat(failed).containsExactly("1_2");
+  }
+
+  @Test
+  @DisplayName("재색인 alias 가 가리키는 인덱스를 ES 에서 조회해 쓰기 대상에 넣는다")
+  void 재색인_인덱스_조회() {
+    // given
+    given(reindexAliasOps.exists()).willReturn(true);
+    given(reindexAliasOps.getAliases(CustomerIndexManager.REINDEX_ALIAS))
+        .willReturn(Map.of(BUILDING, Set.<AliasData>of()));
+
+    // when
+    List<String> targets = customerIndexManager.liveWriteTargets();
+
+    // then
+    assertThat(targets).containsExactly(CustomerIndexManager.ALIAS, BUILDING);
+  }
+
+  @Test
+  @DisplayName("재색인 중이 아니면 alias 에만 쓴다")
+  void 평상시_alias_만() {
+    // given
+    given(reindexAliasOps.exists()).willReturn(false);
+
+    // when
+    List<String> targets = customerIndexManager.liveWriteTargets();
+
+    // then
+    assertThat(targets).containsExactly(CustomerIndexManager.ALIAS);
+  }
+
+  private CustomerDocument document(Long customerId) {
+    return CustomerDocument.builder()
+        .id(CustomerDocument.documentId(1L, customerId))
+        .customerId(customerId)
+        .shopId(1L)
+        .customerName("고객" + customerId)
+        .build();
+  }
+}
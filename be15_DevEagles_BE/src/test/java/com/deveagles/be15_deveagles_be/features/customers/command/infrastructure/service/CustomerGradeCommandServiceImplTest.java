@@ -7,11 +7,14 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.CreateCustomerGradeRequest;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.UpdateCustomerGradeRequest;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,12 +22,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("고객등급 커맨드 서비스 테스트")
 class CustomerGradeCommandServiceImplTest {
 
   @Mock private CustomerGradeRepository customerGradeRepository;
+  @Mock private CustomerSearchOutboxWriter customerSearchOutboxWriter;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private CustomerGradeCommandServiceImpl customerGradeCommandService;
 
@@ -58,6 +64,9 @@ class CustomerGradeCommandServiceImplTest {
 
     then(customerGradeRepository).should().existsByCustomerGradeNameAndShopId(gradeName, shopId);
     then(customerGradeRepository).should().save(any(CustomerGrade.class));
+    then(eventPublisher)
+        .should()
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.CUSTOMER_GRADES, shopId));
   }
 
   @Test
@@ -112,6 +121,7 @@ class CustomerGradeCommandServiceImplTest {
     // then
     then(customerGradeRepository).should().findByIdAndShopId(gradeId, shopId);
     then(customerGradeRepository).should().existsByCustomerGradeNameAndShopId(newGradeName, shopId);
+    then(customerSearchOutboxWriter).should().enqueueByGrade(gradeId);
   }
 
   @Test
@@ -197,6 +207,7 @@ class CustomerGradeCommandServiceImplTest {
     // then
     then(customerGradeRepository).should().findByIdAndShopId(gradeId, shopId);
     then(customerGradeRepository).should(never()).existsByCustomerGradeNameAndShopId(any(), any());
+    then(customerSearchOutboxWriter).should(never()).enqueueByGrade(any());
   }
 
   @Test
@@ -220,6 +231,10 @@ class CustomerGradeCommandServiceImplTest {
     // then
     then(customerGradeRepository).should().findById(gradeId);
     then(customerGradeRepository).should().delete(existingGrade);
+    then(customerSearchOutboxWriter).should().enqueueByGrade(gradeId);
+    then(eventPublisher)
+        .should()
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.CUSTOMER_GRADES, 1L));
   }
 
   @Test
@@ -7,6 +7,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.CreateTagRequest;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.request.UpdateTagRequest;
@@ -19,12 +21,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("태그 커맨드 서비스 테스트")
 class TagCommandServiceImplTest {
 
   @Mock private TagRepository tagRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private TagCommandServiceImpl tagCommandService;
 
@@ -51,6 +55,9 @@ class TagCommandServiceImplTest {
 
     then(tagRepository).should().existsByTagNameAndShopId(tagName, shopId);
     then(tagRepository).should().save(any(Tag.class));
+    then(eventPublisher)
+        .should()
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.TAGS, shopId));
   }
 
   @Test
@@ -185,6 +192,9 @@ class TagCommandServiceImplTest {
     // then
     then(tagRepository).should().findById(tagId);
     then(tagRepository).should().delete(existingTag);
+    then(eventPublisher)
+        .should()
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.TAGS, 1L));
   }
 
   @Test
@@ -0,0 +1,179 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerElasticsearchRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchResult;
+import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerDetailQueryRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerListQueryRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerReindexService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 고객 10만 명 매장에서 실제 {@link CustomerQueryServiceImpl#advancedSearch} 로 깊은 페이지를 OFFSET 으로 읽을 때와 이전 페이지
+ * 마지막 고객을 커서로 넘겨 읽을 때를 비교한다. 두 방식 모두 같은 COUNT 쿼리를 포함하며, 같은 위치의 페이지가 같은 고객인지 확인한다. 운영과
+ * 같은 실행 계획을 보도록 Testcontainers MariaDB 에서 돌리며, 기본 test 태스크에서는 제외되고 {@code ./gradlew benchmark}로
+ * 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, CustomerSearchOutboxWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("고객 고급 검색 페이징 벤치마크")
+class CustomerAdvancedSearchBenchmarkTest {
+
+  @Container @ServiceConnection
+  static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+  private static final Long SHOP_ID = 1L;
+  private static final int SHOP_COUNT = 3;
+  private static final int CUSTOMERS_PER_SHOP = 100_000;
+  private static final int PAGE_SIZE = 20;
+  private static final int[] PAGES = {0, 100, 1_000, 4_000};
+  private static final int WARMUP = 5;
+  private static final int ITERATIONS = 20;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private JPAQueryFactory queryFactory;
+
+  private CustomerQueryServiceImpl customerQueryService;
+
+  @BeforeEach
+  void setUp() {
+    customerQueryService =
+        new CustomerQueryServiceImpl(
+            mock(CustomerJpaRepository.class),
+            mock(CustomerRepository.class),
+            mock(CustomerElasticsearchRepository.class),
+            mock(CustomerDetailQueryRepository.class),
+            mock(CustomerListQueryRepository.class),
+            queryFactory,
+            mock(CustomerReindexService.class),
+            mock(CustomerSearchIndex.class));
+  }
+
+  @Test
+  @DisplayName("고객 10만 명 매장의 깊은 페이지: OFFSET vs 커서")
+  void OFFSET_커서_비교() {
+    // given
+    seed();
+
+    // when & then
+    for (int page : PAGES) {
+      compare("createdAt", "DESC", page);
+      compare("customerName", "ASC", page);
+    }
+  }
+
+  private void compare(String sortBy, String direction, int page) {
+    Long cursor = null;
+    if (page > 0) {
+      List<Long> previous = ids(search(page - 1, null, sortBy, direction));
+      cursor = previous.get(previous.size() - 1);
+    }
+    Long cursorId = cursor;
+    PagedResult<CustomerSearchResult> offset = search(page, null, sortBy, direction);
+    PagedResult<CustomerSearchResult> keyset = search(0, cursorId, sortBy, direction);
+    assertThat(ids(offset)).hasSize(PAGE_SIZE).isEqualTo(ids(keyset));
+
+    long offsetNanos = time(() -> search(page, null, sortBy, direction));
+    long keysetNanos = time(() -> search(0, cursorId, sortBy, direction));
+    System.out.printf(
+        "[benchmark] advanced search %s %s page %d (total=%d): OFFSET avg=%.2fms,"
+            + " cursor avg=%.2fms, speedup=%.1fx%n",
+        sortBy,
+        direction,
+        page,
+        offset.getPagination().getTotalItems(),
+        offsetNanos / 1_000_000.0,
+        keysetNanos / 1_000_000.0,
+        (double) offsetNanos / Math.max(keysetNanos, 1));
+  }
+
+  private PagedResult<CustomerSearchResult> search(
+      int page, Long cursor, String sortBy, String direction) {
+    return customerQueryService.advancedSearch(
+        new CustomerSearchQuery(
+            SHOP_ID, null, null, null, null, null, null, null, null, null, null, null, page,
+            PAGE_SIZE, sortBy, direction, cursor));
+  }
+
+  private List<Long> ids(PagedResult<CustomerSearchResult> result) {
+    return result.getContent().stream().map(CustomerSearchResult::customerId).toList();
+  }
+
+  /** 워밍업 후 평균 실행 시간(ns) */
+  private long time(Supplier<?> call) {
+    for (int i = 0; i < WARMUP; i++) {
+      call.get();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      call.get();
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  // 매장 3곳에 고객 10만 명씩, 두 명씩 같은 등록일과 1000명마다 같은 이름을 주고 97명 중 1명은 삭제 고객으로 둔다
+  private void seed() {
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_customer_shop_created ON customer (shop_id, created_at, customer_id)");
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_customer_shop_name ON customer (shop_id, customer_name, customer_id)");
+    for (long shopId = 1; shopId <= SHOP_COUNT; shopId++) {
+      for (int g = 0; g < 3; g++) {
+        jdbcTemplate.update(
+            "INSERT INTO customer_grade (customer_grade_id, shop_id, customer_grade_name,"
+                + " discount_rate) VALUES (?, ?, ?, 0)",
+            shopId * 10 + g,
+            shopId,
+            "등급" + g);
+      }
+    }
+    jdbcTemplate.update(
+        "INSERT INTO customer (customer_id, customer_grade_id, shop_id, staff_id, customer_name,"
+            + " phone_number, visit_count, total_revenue, recent_visit_date, birthdate,"
+            + " noshow_count, gender, marketing_consent, notification_consent, created_at,"
+            + " modified_at, deleted_at)"
+            + " SELECT seq, (1 + seq % ?) * 10 + seq % 3, 1 + seq % ?, 1,"
+            + " CONCAT('고객', (seq DIV ?) % 1000), CONCAT('010', LPAD(seq, 8, '0')), 0, 0,"
+            + " '2024-06-01', '1990-01-01', 0, IF(seq % 2 = 0, 'F', 'M'), FALSE, FALSE,"
+            + " TIMESTAMP('2020-01-01') + INTERVAL ((seq DIV ?) DIV 2) MINUTE,"
+            + " TIMESTAMP('2020-01-01') + INTERVAL ((seq DIV ?) DIV 2) MINUTE,"
+            + " IF((seq DIV ?) % 97 = 0, NOW(), NULL)"
+            + " FROM seq_1_to_"
+            + (SHOP_COUNT * CUSTOMERS_PER_SHOP),
+        SHOP_COUNT,
+        SHOP_COUNT,
+        SHOP_COUNT,
+        SHOP_COUNT,
+        SHOP_COUNT,
+        SHOP_COUNT);
+  }
+}
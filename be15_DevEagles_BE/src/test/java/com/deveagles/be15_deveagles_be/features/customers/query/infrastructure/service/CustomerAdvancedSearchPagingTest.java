@@ -0,0 +1,210 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.common.dto.PagedResult;
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerElasticsearchRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchResult;
+import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerDetailQueryRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerListQueryRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerReindexService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 고객 고급 검색의 COUNT 프로젝션과 키셋 페이징을 H2 에 고객을 넣고 실제 쿼리로 확인한다. 정렬 값이 같은 고객, 삭제된 고객, 다른 매장 고객을 섞어
+ * 커서로 이어 읽은 페이지가 OFFSET 페이지와 같은지 본다.
+ */
+@DataJpaTest
+@ActiveProfiles("jpatest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, CustomerSearchOutboxWriter.class})
+@DisplayName("고객 고급 검색 페이징 테스트")
+class CustomerAdvancedSearchPagingTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final Long OTHER_SHOP_ID = 2L;
+  private static final int CUSTOMER_COUNT = 57;
+  private static final int DELETED_COUNT = 3;
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private JPAQueryFactory queryFactory;
+
+  private CustomerQueryServiceImpl customerQueryService;
+
+  @BeforeEach
+  void setUp() {
+    seed();
+    customerQueryService =
+        new CustomerQueryServiceImpl(
+            mock(CustomerJpaRepository.class),
+            mock(CustomerRepository.class),
+            mock(CustomerElasticsearchRepository.class),
+            mock(CustomerDetailQueryRepository.class),
+            mock(CustomerListQueryRepository.class),
+            queryFactory,
+            mock(CustomerReindexService.class),
+            mock(CustomerSearchIndex.class));
+  }
+
+  @Test
+  @DisplayName("전체 건수는 삭제 고객과 다른 매장 고객을 제외하고 센다")
+  void 전체_건수() {
+    // when
+    PagedResult<CustomerSearchResult> result =
+        customerQueryService.advancedSearch(query(0, null, "createdAt", "DESC"));
+
+    // then
+    assertThat(result.getPagination().getTotalItems()).isEqualTo(CUSTOMER_COUNT);
+    assertThat(result.getPagination().getTotalPages()).isEqualTo(6);
+    assertThat(result.getContent()).hasSize(PAGE_SIZE);
+  }
+
+  @Test
+  @DisplayName("등록일 내림차순 - 커서로 이어 읽은 페이지가 OFFSET 페이지와 같다")
+  void 등록일_키셋_OFFSET_동일() {
+    assertKeysetMatchesOffset("createdAt", "DESC");
+  }
+
+  @Test
+  @DisplayName("이름 오름차순 - 같은 이름이 페이지 경계에 걸려도 누락/중복 없이 이어진다")
+  void 이름_키셋_OFFSET_동일() {
+    assertKeysetMatchesOffset("customerName", "ASC");
+  }
+
+  @Test
+  @DisplayName("페이지 행에 등급명이 채워진다")
+  void 등급명_채움() {
+    // when
+    PagedResult<CustomerSearchResult> result =
+        customerQueryService.advancedSearch(query(0, null, "createdAt", "DESC"));
+
+    // then
+    assertThat(result.getContent())
+        .allSatisfy(
+            row ->
+                assertThat(row.customerGradeName())
+                    .isEqualTo("등급" + (row.customerGradeId() % 10)));
+  }
+
+  @Test
+  @DisplayName("다른 매장 고객을 커서로 넘기면 고객 없음 예외")
+  void 다른_매장_커서_예외() {
+    // given
+    Long otherShopCustomerId = 1_000L;
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                customerQueryService.advancedSearch(
+                    query(0, otherShopCustomerId, "createdAt", "DESC")))
+        .isInstanceOf(BusinessException.class)
+        .extracting(e -> ((BusinessException) e).getErrorCode())
+        .isEqualTo(ErrorCode.CUSTOMER_NOT_FOUND);
+  }
+
+  private void assertKeysetMatchesOffset(String sortBy, String direction) {
+    List<Long> offsetIds = new ArrayList<>();
+    for (int page = 0; page * PAGE_SIZE < CUSTOMER_COUNT; page++) {
+      offsetIds.addAll(
+          ids(customerQueryService.advancedSearch(query(page, null, sortBy, direction))));
+    }
+
+    List<Long> keysetIds = new ArrayList<>();
+    Long cursor = null;
+    while (true) {
+      List<Long> page =
+          ids(customerQueryService.advancedSearch(query(0, cursor, sortBy, direction)));
+      if (page.isEmpty()) {
+        break;
+      }
+      keysetIds.addAll(page);
+      cursor = page.get(page.size() - 1);
+    }
+
+    assertThat(offsetIds).hasSize(CUSTOMER_COUNT).doesNotHaveDuplicates();
+    assertThat(keysetIds).containsExactlyElementsOf(offsetIds);
+  }
+
+  private List<Long> ids(PagedResult<CustomerSearchResult> result) {
+    return result.getContent().stream().map(CustomerSearchResult::customerId).toList();
+  }
+
+  private CustomerSearchQuery query(int page, Long cursor, String sortBy, String direction) {
+    return new CustomerSearchQuery(
+        SHOP_ID, null, null, null, null, null, null, null, null, null, null, null, page,
+        PAGE_SIZE, sortBy, direction, cursor);
+  }
+
+  private void seed() {
+    for (long shopId = SHOP_ID; shopId <= OTHER_SHOP_ID; shopId++) {
+      for (int g = 0; g < 3; g++) {
+        jdbcTemplate.update(
+            "INSERT INTO customer_grade (customer_grade_id, shop_id, customer_grade_name,"
+                + " discount_rate) VALUES (?, ?, ?, 0)",
+            shopId * 10 + g,
+            shopId,
+            "등급" + g);
+      }
+    }
+
+    // 5명씩 같은 등록일, 7명씩 같은 이름을 줘서 정렬 값이 같은 고객이 페이지 경계에 걸리게 한다
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+    for (int i = 1; i <= CUSTOMER_COUNT + DELETED_COUNT; i++) {
+      insertCustomer(
+          i,
+          SHOP_ID,
+          "고객" + (i % 7),
+          base.plusHours(i / 5),
+          i > CUSTOMER_COUNT ? base.plusDays(30) : null);
+    }
+    for (int i = 0; i < 10; i++) {
+      insertCustomer(1_000L + i, OTHER_SHOP_ID, "고객" + i, base, null);
+    }
+  }
+
+  private void insertCustomer(
+      long customerId, Long shopId, String name, LocalDateTime createdAt, LocalDateTime deletedAt) {
+    jdbcTemplate.update(
+        "INSERT INTO customer (customer_id, customer_grade_id, shop_id, staff_id, customer_name,"
+            + " phone_number, visit_count, total_revenue, recent_visit_date, birthdate,"
+            + " noshow_count, gender, marketing_consent, notification_consent, created_at,"
+            + " modified_at, deleted_at) VALUES (?, ?, ?, 1, ?, ?, 0, 0, ?, ?, 0, ?, FALSE, FALSE,"
+            + " ?, ?, ?)",
+        customerId,
+        shopId * 10 + customerId % 3,
+        shopId,
+        name,
+        String.format("010%08d", customerId),
+        Date.valueOf(LocalDate.of(2024, 6, 1)),
+        Date.valueOf(LocalDate.of(1990, 1, 1)),
+        customerId % 2 == 0 ? "F" : "M",
+        Timestamp.valueOf(createdAt),
+        Timestamp.valueOf(createdAt),
+        deletedAt != null ? Timestamp.valueOf(deletedAt) : null);
+  }
+}
@@ -2,15 +2,19 @@ package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.CustomerGradeResponse;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,9 +31,17 @@ import org.springframework.data.domain.Pageable;
 class CustomerGradeQueryServiceImplTest {
 
   @Mock private CustomerGradeRepository customerGradeRepository;
+  @Mock private ReferenceDataCache referenceDataCache;
 
   @InjectMocks private CustomerGradeQueryServiceImpl customerGradeQueryService;
 
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(referenceDataCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+  }
+
   @Test
   @DisplayName("고객등급 단건 조회 성공")
   void getCustomerGrade_Success() {
@@ -38,8 +50,8 @@ class CustomerGradeQueryServiceImplTest {
     Long shopId = 2L;
     CustomerGrade grade = createTestCustomerGrade(gradeId, "VIP", 10);
 
-    given(customerGradeRepository.findByIdAndShopId(gradeId, shopId))
-        .willReturn(Optional.of(grade));
+    given(customerGradeRepository.findByShopId(shopId))
+        .willReturn(List.of(createTestCustomerGrade(9L, "일반", 0), grade));
 
     // when
     CustomerGradeResponse response = customerGradeQueryService.getCustomerGrade(gradeId, shopId);
@@ -49,7 +61,7 @@ class CustomerGradeQueryServiceImplTest {
     assertThat(response.getCustomerGradeName()).isEqualTo("VIP");
     assertThat(response.getDiscountRate()).isEqualTo(10);
 
-    then(customerGradeRepository).should().findByIdAndShopId(gradeId, shopId);
+    then(customerGradeRepository).should().findByShopId(shopId);
   }
 
   @Test
@@ -58,14 +70,15 @@ class CustomerGradeQueryServiceImplTest {
     // given
     Long gradeId = 1L;
     Long shopId = 2L;
-    given(customerGradeRepository.findByIdAndShopId(gradeId, shopId)).willReturn(Optional.empty());
+    given(customerGradeRepository.findByShopId(shopId))
+        .willReturn(List.of(createTestCustomerGrade(9L, "일반", 0)));
 
     // when & then
     assertThatThrownBy(() -> customerGradeQueryService.getCustomerGrade(gradeId, shopId))
         .isInstanceOf(BusinessException.class)
         .hasMessageContaining("고객등급을 찾을 수 없습니다.");
 
-    then(customerGradeRepository).should().findByIdAndShopId(gradeId, shopId);
+    then(customerGradeRepository).should().findByShopId(shopId);
   }
 
   @Test
@@ -21,6 +21,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +43,7 @@ class CustomerQueryServiceImplTest {
   @Mock private CustomerDetailQueryRepository customerDetailQueryRepository;
   @Mock private CustomerListQueryRepository customerListQueryRepository;
   @Mock private JPAQueryFactory queryFactory;
+  @Mock private CustomerSearchIndex customerSearchIndex;
   @Mock private JPAQuery<Tuple> jpaQuery;
   @Mock private JPAQuery<String> jpaStringQuery;
 
@@ -309,6 +311,41 @@ class CustomerQueryServiceImplTest {
     then(elasticsearchRepository).should().autocomplete(shopId, prefix);
   }
 
+  @Test
+  @DisplayName("자동완성은 메모리 인덱스가 있으면 Elasticsearch 를 조회하지 않는다")
+  void autocomplete_ServedFromIndex() {
+    // given
+    String prefix = "홍";
+    Long shopId = 1L;
+
+    given(customerSearchIndex.autocomplete(shopId, prefix, 10))
+        .willReturn(Optional.of(List.of("홍길동 (01012345678)")));
+
+    // when
+    List<String> suggestions = customerQueryService.autocomplete(prefix, shopId);
+
+    // then
+    assertThat(suggestions).containsExactly("홍길동 (01012345678)");
+    then(elasticsearchRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("키워드 건수는 메모리 인덱스에서 세고, 인덱스를 쓸 수 없으면 Elasticsearch 로 센다")
+  void countByKeyword_IndexThenElasticsearch() {
+    // given
+    Long shopId = 1L;
+
+    given(customerSearchIndex.count(shopId, "5678")).willReturn(OptionalLong.of(42L));
+    given(customerSearchIndex.count(shopId, "홍길동")).willReturn(OptionalLong.empty());
+    given(elasticsearchRepository.searchByNameOrPhoneNumber(shopId, "홍길동"))
+        .willReturn(List.of(createTestCustomerDocument()));
+
+    // when & then
+    assertThat(customerQueryService.countByKeyword("5678", shopId)).isEqualTo(42L);
+    assertThat(customerQueryService.countByKeyword("홍길동", shopId)).isEqualTo(1L);
+    then(elasticsearchRepository).should().searchByNameOrPhoneNumber(shopId, "홍길동");
+  }
+
   @Test
   @DisplayName("자동완성 검색 실패시 빈 목록 반환")
   void autocomplete_FailureReturnsEmptyList() {
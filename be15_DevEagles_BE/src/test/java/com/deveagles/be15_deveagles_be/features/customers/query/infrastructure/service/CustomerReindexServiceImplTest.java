@@ -0,0 +1,157 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager.VersionedDocument;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.ReindexStatus;
+import com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service.CustomerReindexServiceImpl.ReindexTask;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("고객 재색인 작업 테스트")
+class CustomerReindexServiceImplTest {
+
+  private static final String INDEX = "customers_v20250101000000";
+
+  private CustomerJpaRepository customerJpaRepository;
+  private CustomerGradeRepository customerGradeRepository;
+  private CustomerIndexManager customerIndexManager;
+  private CustomerReindexServiceImpl reindexService;
+
+  @BeforeEach
+  void setUp() {
+    customerJpaRepository = mock(CustomerJpaRepository.class);
+    customerGradeRepository = mock(CustomerGradeRepository.class);
+    customerIndexManager = mock(CustomerIndexManager.class);
+
+    reindexService =
+        new CustomerReindexServiceImpl(
+            customerJpaRepository, customerGradeRepository, customerIndexManager);
+    ReflectionTestUtils.setField(reindexService, "batchSize", 2);
+    ReflectionTestUtils.setField(reindexService, "parallelism", 2);
+    reindexService.init();
+
+    given(customerIndexManager.createVersionedIndex()).willReturn(INDEX);
+    given(customerJpaRepository.findDistinctShopIds()).willReturn(List.of(1L, 2L));
+    given(customerJpaRepository.countByDeletedAtIsNull()).willReturn(4L);
+    given(customerGradeRepository.findByShopId(anyLong()))
+        .willReturn(List.of(CustomerGrade.builder().id(10L).customerGradeName("VIP").build()));
+
+    // 매장 1: 3명 (배치 2 + 1), 매장 2: 1명
+    givenBatch(1L, 0L, 1L, 2L);
+    givenBatch(1L, 2L, 3L);
+    givenBatch(2L, 0L, 4L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    reindexService.shutdown();
+  }
+
+  @Test
+  @DisplayName("모든 매장을 키셋으로 읽어 새 인덱스에 색인하고 alias 를 전환한다")
+  void 재색인_성공() {
+    // given
+    given(customerIndexManager.bulkIndex(eq(INDEX), anyList())).willReturn(Set.of());
+    ReindexTask task = new ReindexTask("task-1");
+
+    // when
+    reindexService.run(task);
+
+    // then
+    ReindexStatus status = task.toStatus();
+    assertThat(status.getStatus()).isEqualTo("COMPLETED");
+    assertThat(status.getReadCount()).isEqualTo(4L);
+    assertThat(status.getWrittenCount()).isEqualTo(4L);
+    assertThat(status.getFailedCount()).isZero();
+    assertThat(status.getCompletedShops()).isEqualTo(2);
+    assertThat(status.getTargetIndex()).isEqualTo(INDEX);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<VersionedDocument>> captor = ArgumentCaptor.forClass(List.class);
+    verify(customerIndexManager, times(3)).bulkIndex(eq(INDEX), captor.capture());
+    assertThat(captor.getAllValues().stream().flatMap(List::stream))
+        .allSatisfy(
+            doc -> {
+              assertThat(doc.document().getCustomerGradeName()).isEqualTo("VIP");
+              assertThat(doc.version()).isEqualTo(CustomerIndexManager.SNAPSHOT_VERSION);
+            });
+
+    verify(customerIndexManager).refresh(INDEX);
+    verify(customerIndexManager).switchAlias(INDEX);
+    verify(customerIndexManager, never()).deleteIndex(any());
+  }
+
+  @Test
+  @DisplayName("색인 실패 문서가 있으면 alias 를 전환하지 않고 새 인덱스를 지운다")
+  void 색인_실패시_기존_인덱스_유지() {
+    // given
+    given(customerIndexManager.bulkIndex(eq(INDEX), anyList()))
+        .willReturn(Set.of(), Set.of("1_3"), Set.of());
+    ReindexTask task = new ReindexTask("task-2");
+
+    // when
+    reindexService.run(task);
+
+    // then
+    ReindexStatus status = task.toStatus();
+    assertThat(status.getStatus()).isEqualTo("FAILED");
+    assertThat(status.getFailedCount()).isEqualTo(1L);
+    assertThat(status.getErrorMessage()).contains("1건");
+    verify(customerIndexManager, never()).switchAlias(any());
+    verify(customerIndexManager).deleteIndex(INDEX);
+  }
+
+  @Test
+  @DisplayName("진행 중인 작업은 처리 속도로 남은 시간을 추정한다")
+  void 진행중_상태_ETA() {
+    // given
+    ReindexTask task = new ReindexTask("task-3");
+    ReflectionTestUtils.setField(task, "totalCount", 100L);
+    ((AtomicLong) ReflectionTestUtils.getField(task, "written")).set(50);
+
+    // when
+    ReindexStatus status = task.toStatus();
+
+    // then
+    assertThat(status.getStatus()).isEqualTo("RUNNING");
+    assertThat(status.getProcessedCount()).isEqualTo(50L);
+    assertThat(status.getEstimatedRemainingSeconds()).isNotNull().isGreaterThanOrEqualTo(0L);
+  }
+
+  private void givenBatch(Long shopId, Long afterId, Long... ids) {
+    List<Customer> customers = Arrays.stream(ids).map(id -> customer(shopId, id)).toList();
+    given(
+            customerJpaRepository.findByShopIdAndDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(
+                shopId, afterId, Limit.of(2)))
+        .willReturn(customers);
+  }
+
+  private Customer customer(Long shopId, Long id) {
+    Customer customer = mock(Customer.class);
+    given(customer.getId()).willReturn(id);
+    given(customer.getShopId()).willReturn(shopId);
+    given(customer.getCustomerName()).willReturn("고객" + id);
+    given(customer.getPhoneNumber()).willReturn("0100000000" + id);
+    given(customer.getCustomerGradeId()).willReturn(10L);
+    return customer;
+  }
+}
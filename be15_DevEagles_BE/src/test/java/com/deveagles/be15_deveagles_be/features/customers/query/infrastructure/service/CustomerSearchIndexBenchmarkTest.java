@@ -0,0 +1,211 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerElasticsearchRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchResult;
+import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerDetailQueryRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.repository.CustomerListQueryRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerReindexService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Elasticsearch 장애 시 실제 {@link CustomerQueryServiceImpl} 의 고객 키워드 검색을 두 경로로 잰다. 하나는 메모리 인덱스를 쓸 수
+ * 없을 때의 JPA {@code LIKE %keyword%} 폴백이고, 다른 하나는 실제 {@link CustomerSearchIndex} 가 DB 에서 만든 매장 인덱스로
+ * 고객 ID 를 찾아 PK 로 다시 읽는 경로다. 두 경로의 결과가 같은지 확인하고 시간은 출력만 한다. 기본 test 태스크에서는 제외되며 {@code
+ * ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("jpatest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, CustomerSearchOutboxWriter.class})
+@DisplayName("고객 키워드 검색 폴백 벤치마크")
+class CustomerSearchIndexBenchmarkTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final int CUSTOMERS_PER_SHOP = 100_000;
+  private static final int WARMUP = 5;
+  private static final int ITERATIONS = 20;
+  private static final String[] KEYWORDS = {"김민", "서연", "5678", "01012", "이"};
+  private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+  private static final String[] GIVEN_NAMES = {
+    "민준", "서연", "도윤", "하은", "시우", "지유", "예준", "서윤", "주원", "민서", "하준", "지민"
+  };
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private JPAQueryFactory queryFactory;
+
+  private CustomerQueryServiceImpl jpaFallbackService;
+  private CustomerQueryServiceImpl indexedService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    seed();
+
+    // 메모리 인덱스를 쓸 수 없는 노드: 검색이 JPA LIKE 폴백으로 간다
+    CustomerSearchIndex unavailableIndex = mock(CustomerSearchIndex.class);
+    given(unavailableIndex.search(anyLong(), anyString())).willReturn(Optional.empty());
+    jpaFallbackService = service(unavailableIndex);
+
+    CustomerSearchIndex customerSearchIndex =
+        new CustomerSearchIndex(
+            queryFactory,
+            mock(RedisTemplate.class),
+            mock(RedisMessageListenerContainer.class),
+            new ObjectMapper());
+    ReflectionTestUtils.setField(customerSearchIndex, "enabled", true);
+    ReflectionTestUtils.setField(customerSearchIndex, "maxShops", 200);
+    ReflectionTestUtils.setField(customerSearchIndex, "rebuildIntervalSeconds", 3_600L);
+    indexedService = service(customerSearchIndex);
+  }
+
+  @Test
+  @DisplayName("10만 고객 매장 키워드 검색: JPA LIKE 폴백 vs 메모리 인덱스")
+  void JPA_폴백_메모리_인덱스_비교() {
+    // given
+    long indexLoadStart = System.nanoTime();
+    indexedService.countByKeyword(KEYWORDS[0], SHOP_ID);
+    long indexLoadMillis = (System.nanoTime() - indexLoadStart) / 1_000_000;
+
+    // when & then
+    for (String keyword : KEYWORDS) {
+      List<Long> jpaIds = ids(jpaFallbackService.searchByKeyword(keyword, SHOP_ID));
+      assertThat(jpaIds).isNotEmpty();
+      assertThat(ids(indexedService.searchByKeyword(keyword, SHOP_ID)))
+          .containsExactlyInAnyOrderElementsOf(jpaIds);
+      assertThat(indexedService.countByKeyword(keyword, SHOP_ID)).isEqualTo(jpaIds.size());
+    }
+
+    long jpaSearchNanos = time(() -> searchAll(jpaFallbackService));
+    long indexedSearchNanos = time(() -> searchAll(indexedService));
+    long indexedCountNanos =
+        time(
+            () -> {
+              for (String keyword : KEYWORDS) {
+                indexedService.countByKeyword(keyword, SHOP_ID);
+              }
+              return null;
+            });
+    System.out.printf(
+        "[benchmark] customers/shop=%d, index load=%dms, per keyword: JPA LIKE search"
+            + " avg=%.3fms, index search avg=%.3fms, index count avg=%.3fms, speedup=%.1fx%n",
+        CUSTOMERS_PER_SHOP,
+        indexLoadMillis,
+        jpaSearchNanos / KEYWORDS.length / 1_000_000.0,
+        indexedSearchNanos / KEYWORDS.length / 1_000_000.0,
+        indexedCountNanos / KEYWORDS.length / 1_000_000.0,
+        (double) jpaSearchNanos / Math.max(indexedSearchNanos, 1));
+  }
+
+  private CustomerQueryServiceImpl service(CustomerSearchIndex customerSearchIndex) {
+    CustomerElasticsearchRepository elasticsearchRepository =
+        mock(CustomerElasticsearchRepository.class);
+    given(elasticsearchRepository.searchByNameOrPhoneNumber(anyLong(), anyString()))
+        .willThrow(new RuntimeException("Elasticsearch 연결 실패"));
+    return new CustomerQueryServiceImpl(
+        mock(CustomerJpaRepository.class),
+        mock(CustomerRepository.class),
+        elasticsearchRepository,
+        mock(CustomerDetailQueryRepository.class),
+        mock(CustomerListQueryRepository.class),
+        queryFactory,
+        mock(CustomerReindexService.class),
+        customerSearchIndex);
+  }
+
+  private Object searchAll(CustomerQueryServiceImpl service) {
+    for (String keyword : KEYWORDS) {
+      service.searchByKeyword(keyword, SHOP_ID);
+    }
+    return null;
+  }
+
+  private List<Long> ids(List<CustomerSearchResult> results) {
+    return results.stream().map(CustomerSearchResult::customerId).toList();
+  }
+
+  /** 워밍업 후 평균 실행 시간(ns) */
+  private long time(Supplier<?> call) {
+    for (int i = 0; i < WARMUP; i++) {
+      call.get();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      call.get();
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  // 매장 1곳에 무작위 이름/전화번호 고객 10만 명과, 검색에서 빠져야 하는 다른 매장 고객과 삭제 고객을 넣는다
+  private void seed() {
+    Random random = new Random(42);
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 9, 0));
+    List<Object[]> rows = new ArrayList<>();
+    for (long id = 1; id <= CUSTOMERS_PER_SHOP + 2_000; id++) {
+      boolean otherShop = id > CUSTOMERS_PER_SHOP + 1_000;
+      boolean deleted = !otherShop && id > CUSTOMERS_PER_SHOP;
+      rows.add(
+          new Object[] {
+            id,
+            otherShop ? 2L : SHOP_ID,
+            FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]
+                + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)],
+            String.format("010%08d", random.nextInt(100_000_000)),
+            Date.valueOf(LocalDate.of(2024, 6, 1)),
+            Date.valueOf(LocalDate.of(1990, 1, 1)),
+            id % 2 == 0 ? "F" : "M",
+            createdAt,
+            createdAt,
+            deleted ? createdAt : null
+          });
+      if (rows.size() == 10_000) {
+        insertCustomers(rows);
+        rows.clear();
+      }
+    }
+    insertCustomers(rows);
+  }
+
+  private void insertCustomers(List<Object[]> rows) {
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO customer (customer_id, customer_grade_id, shop_id, staff_id, customer_name,"
+            + " phone_number, visit_count, total_revenue, recent_visit_date, birthdate,"
+            + " noshow_count, gender, marketing_consent, notification_consent, created_at,"
+            + " modified_at, deleted_at) VALUES (?, 1, ?, 1, ?, ?, 0, 0, ?, ?, 0, ?, FALSE, FALSE,"
+            + " ?, ?, ?)",
+        rows);
+  }
+}
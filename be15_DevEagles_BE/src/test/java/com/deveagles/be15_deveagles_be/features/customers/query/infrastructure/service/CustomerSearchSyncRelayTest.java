@@ -0,0 +1,220 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerGrade;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.CustomerSearchOutbox;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerGradeRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerSearchOutboxRepository;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerIndexManager.VersionedDocument;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerJpaRepository;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDocument;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerSearchSyncMetricsResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("고객 검색 아웃박스 릴레이 테스트")
+class CustomerSearchSyncRelayTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final String ALIAS = CustomerIndexManager.ALIAS;
+
+  private CustomerSearchOutboxRepository outboxRepository;
+  private CustomerJpaRepository customerJpaRepository;
+  private CustomerIndexManager customerIndexManager;
+  private CustomerSearchSyncMetrics metrics;
+  private CustomerSearchIndex customerSearchIndex;
+  private CustomerSearchSyncRelay relay;
+
+  private final LocalDateTime changedAt = LocalDateTime.now().minusSeconds(3);
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository = mock(CustomerSearchOutboxRepository.class);
+    customerJpaRepository = mock(CustomerJpaRepository.class);
+    CustomerGradeRepository customerGradeRepository = mock(CustomerGradeRepository.class);
+    customerIndexManager = mock(CustomerIndexManager.class);
+    metrics = new CustomerSearchSyncMetrics(outboxRepository);
+    customerSearchIndex = mock(CustomerSearchIndex.class);
+
+    relay =
+        new CustomerSearchSyncRelay(
+            outboxRepository,
+            customerJpaRepository,
+            customerGradeRepository,
+            customerIndexManager,
+            metrics,
+            customerSearchIndex);
+    ReflectionTestUtils.setField(relay, "batchSize", 100);
+    ReflectionTestUtils.setField(relay, "retryBaseSeconds", 5L);
+    ReflectionTestUtils.setField(relay, "retryMaxSeconds", 600L);
+
+    given(customerIndexManager.liveWriteTargets()).willReturn(List.of(ALIAS));
+    given(customerGradeRepository.findAllById(any()))
+        .willReturn(List.of(CustomerGrade.builder().id(10L).customerGradeName("VIP").build()));
+  }
+
+  @Test
+  @DisplayName("같은 고객의 여러 변경은 문서 하나로 병합해 bulk 색인하고 아웃박스를 모두 지운다")
+  void 고객별_병합_색인() {
+    // given
+    List<CustomerSearchOutbox> entries = List.of(outbox(1L, 1L), outbox(2L, 2L), outbox(3L, 1L));
+    givenBatch(entries);
+    given(customerJpaRepository.findAllById(any()))
+        .willReturn(List.of(customer(1L, "변경된 이름"), customer(2L, "고객2")));
+    given(customerIndexManager.bulkIndex(eq(ALIAS), anyList())).willReturn(Set.of());
+
+    // when
+    int relayed = relay.relayBatch();
+
+    // then
+    assertThat(relayed).isEqualTo(3);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<VersionedDocument>> documents = ArgumentCaptor.forClass(List.class);
+    verify(customerIndexManager, times(1)).bulkIndex(eq(ALIAS), documents.capture());
+    assertThat(documents.getValue())
+        .extracting(doc -> doc.document().getId(), VersionedDocument::version)
+        .containsExactly(tuple("1_1", 3L), tuple("1_2", 2L));
+    CustomerDocument merged = documents.getValue().get(0).document();
+    assertThat(merged.getCustomerName()).isEqualTo("변경된 이름");
+    assertThat(merged.getCustomerGradeName()).isEqualTo("VIP");
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<CustomerSearchIndex.Change>> indexChanges =
+        ArgumentCaptor.forClass(List.class);
+    verify(customerSearchIndex).apply(indexChanges.capture());
+    assertThat(indexChanges.getValue())
+        .extracting(
+            CustomerSearchIndex.Change::customerId, CustomerSearchIndex.Change::customerName)
+        .containsExactly(tuple(1L, "변경된 이름"), tuple(2L, "고객2"));
+
+    verify(outboxRepository).deleteAllInBatch(entries);
+    verify(outboxRepository, never()).saveAll(any());
+
+    CustomerSearchSyncMetricsResponse snapshot = metrics.snapshot();
+    assertThat(snapshot.getRelayedCount()).isEqualTo(2L);
+    assertThat(snapshot.getCoalescedCount()).isEqualTo(1L);
+    assertThat(snapshot.getMaxLagMillis()).isGreaterThanOrEqualTo(3_000L);
+  }
+
+  @Test
+  @DisplayName("재색인 중이면 다른 노드가 시작한 재색인 인덱스에도 같은 버전으로 쓴다")
+  void 재색인_인덱스_함께_반영() {
+    // given
+    String building = "customers_v20250101000000";
+    given(customerIndexManager.liveWriteTargets()).willReturn(List.of(ALIAS, building));
+    givenBatch(List.of(outbox(7L, 1L)));
+    given(customerJpaRepository.findAllById(any())).willReturn(List.of(customer(1L, "고객1")));
+    given(customerIndexManager.bulkIndex(anyString(), anyList())).willReturn(Set.of());
+
+    // when
+    int relayed = relay.relayBatch();
+
+    // then
+    assertThat(relayed).isEqualTo(1);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<VersionedDocument>> documents = ArgumentCaptor.forClass(List.class);
+    verify(customerIndexManager).bulkIndex(eq(building), documents.capture());
+    assertThat(documents.getValue()).extracting(VersionedDocument::version).containsExactly(7L);
+    verify(customerIndexManager).bulkIndex(eq(ALIAS), anyList());
+  }
+
+  @Test
+  @DisplayName("DB에서 사라진 고객은 검색 문서를 삭제한다")
+  void 물리삭제_고객_문서_삭제() {
+    // given
+    givenBatch(List.of(outbox(1L, 5L)));
+    given(customerJpaRepository.findAllById(any())).willReturn(List.of());
+
+    // when
+    relay.relayBatch();
+
+    // then
+    verify(customerIndexManager).deleteDocument(ALIAS, "1_5");
+    verify(outboxRepository).deleteAllInBatch(anyList());
+    verify(customerSearchIndex).apply(List.of(CustomerSearchIndex.Change.removed(SHOP_ID, 5L)));
+  }
+
+  @Test
+  @DisplayName("색인에 실패한 고객은 마지막 변경만 남겨 백오프 후 재시도한다")
+  void 실패시_백오프_재시도() {
+    // given
+    CustomerSearchOutbox older = outbox(1L, 1L);
+    CustomerSearchOutbox latest = outbox(2L, 1L);
+    CustomerSearchOutbox other = outbox(3L, 2L);
+    givenBatch(List.of(older, latest, other));
+    given(customerJpaRepository.findAllById(any()))
+        .willReturn(List.of(customer(1L, "고객1"), customer(2L, "고객2")));
+    given(customerIndexManager.bulkIndex(eq(ALIAS), anyList())).willReturn(Set.of("1_1"));
+
+    // when
+    int relayed = relay.relayBatch();
+
+    // then
+    assertThat(relayed).isEqualTo(2);
+    verify(outboxRepository).deleteAllInBatch(List.of(older, other));
+    verify(outboxRepository).saveAll(List.of(latest));
+    assertThat(latest.getAttempts()).isEqualTo(1);
+    assertThat(latest.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(4));
+    assertThat(metrics.snapshot().getFailedCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 실패할 때마다 두 배로 늘고 상한을 넘지 않는다")
+  void 지수_백오프_상한() {
+    // given
+    CustomerSearchOutbox entry = outbox(1L, 1L);
+    LocalDateTime now = LocalDateTime.now();
+
+    // when & then
+    entry.scheduleRetry(now, 5, 600);
+    assertThat(entry.getNextAttemptAt()).isEqualTo(now.plusSeconds(5));
+    entry.scheduleRetry(now, 5, 600);
+    assertThat(entry.getNextAttemptAt()).isEqualTo(now.plusSeconds(10));
+    for (int i = 0; i < 30; i++) {
+      entry.scheduleRetry(now, 5, 600);
+    }
+    assertThat(entry.getNextAttemptAt()).isEqualTo(now.plusSeconds(600));
+  }
+
+  private void givenBatch(List<CustomerSearchOutbox> entries) {
+    given(
+            outboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(LocalDateTime.class), eq(Limit.of(100))))
+        .willReturn(entries);
+  }
+
+  private CustomerSearchOutbox outbox(Long id, Long customerId) {
+    return CustomerSearchOutbox.builder()
+        .id(id)
+        .customerId(customerId)
+        .shopId(SHOP_ID)
+        .createdAt(changedAt)
+        .nextAttemptAt(changedAt)
+        .build();
+  }
+
+  private Customer customer(Long id, String name) {
+    Customer customer = mock(Customer.class);
+    given(customer.getId()).willReturn(id);
+    given(customer.getShopId()).willReturn(SHOP_ID);
+    given(customer.getCustomerName()).willReturn(name);
+    given(customer.getPhoneNumber()).willReturn("0100000000" + id);
+    given(customer.getCustomerGradeId()).willReturn(10L);
+    return customer;
+  }
+}
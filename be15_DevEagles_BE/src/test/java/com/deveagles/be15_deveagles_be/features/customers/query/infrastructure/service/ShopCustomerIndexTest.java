@@ -0,0 +1,89 @@
+package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("매장 고객 메모리 검색 인덱스 테스트")
+class ShopCustomerIndexTest {
+
+  private ShopCustomerIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ShopCustomerIndex();
+    index.upsert(1L, "홍길동", "01012345678");
+    index.upsert(2L, "김길순", "01098765432");
+    index.upsert(3L, "Kim Minsu", "01055556666");
+    index.upsert(4L, "홍길", "01012340000");
+  }
+
+  @Test
+  @DisplayName("이름 중간 글자와 한 글자 검색어로 찾는다")
+  void search_nameInfix() {
+    assertThat(index.search("길동")).containsExactly(1L);
+    assertThat(index.search("길")).containsExactly(1L, 2L, 4L);
+    assertThat(index.search("홍길")).containsExactly(1L, 4L);
+    assertThat(index.search("minsu")).containsExactly(3L);
+    assertThat(index.search("박")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("전화번호는 하이픈을 무시하고 숫자 부분 문자열로 찾는다")
+  void search_phoneDigits() {
+    assertThat(index.search("1234")).containsExactly(1L, 4L);
+    assertThat(index.search("010-1234-5678")).containsExactly(1L);
+    assertThat(index.search("5555")).containsExactly(3L);
+    assertThat(index.count("010")).isEqualTo(4);
+    assertThat(index.count("99")).isZero();
+  }
+
+  @Test
+  @DisplayName("자동완성은 앞부분이 일치하는 고객을 최근 등록 순으로 돌려준다")
+  void autocomplete_prefixNewestFirst() {
+    assertThat(index.autocomplete("홍", 10))
+        .containsExactly("홍길 (01012340000)", "홍길동 (01012345678)");
+    assertThat(index.autocomplete("길", 10)).isEmpty();
+    assertThat(index.autocomplete("0109", 10)).containsExactly("김길순 (01098765432)");
+    assertThat(index.autocomplete("010", 2)).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("수정하면 이전 이름으로는 찾지 않고, 삭제하면 결과에서 빠진다")
+  void upsertAndRemove() {
+    // when
+    index.upsert(1L, "홍길서", "01011112222");
+    index.remove(2L);
+
+    // then
+    assertThat(index.search("길동")).isEmpty();
+    assertThat(index.search("길서")).containsExactly(1L);
+    assertThat(index.search("1234")).containsExactly(4L);
+    assertThat(index.search("길")).containsExactly(4L, 1L);
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("지운 슬롯이 쌓이면 살아 있는 고객만으로 다시 만든다")
+  void compacted_keepsLiveCustomers() {
+    // given
+    for (int round = 0; round < 3; round++) {
+      for (long id = 100; id < 1_100; id++) {
+        index.upsert(id, "고객" + id, String.format("010%08d", id));
+      }
+    }
+
+    // when
+    assertThat(index.needsCompaction()).isTrue();
+    ShopCustomerIndex compacted = index.compacted();
+
+    // then
+    assertThat(compacted.needsCompaction()).isFalse();
+    assertThat(compacted.size()).isEqualTo(index.size());
+    assertThat(compacted.count("고객")).isEqualTo(1_000);
+    assertThat(compacted.search("00000999")).containsExactly(999L);
+    assertThat(compacted.estimatedBytes()).isLessThan(index.estimatedBytes());
+  }
+}
@@ -2,15 +2,19 @@ package com.deveagles.be15_deveagles_be.features.customers.query.infrastructure.
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.customers.command.application.dto.response.TagResponse;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Tag;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.TagRepository;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,8 +32,17 @@ class TagQueryServiceImplTest {
 
   @Mock private TagRepository tagRepository;
 
+  @Mock private ReferenceDataCache referenceDataCache;
+
   @InjectMocks private TagQueryServiceImpl tagQueryService;
 
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(referenceDataCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+  }
+
   @Test
   @DisplayName("태그 단건 조회 성공")
   void getTag_Success() {
@@ -38,7 +51,8 @@ class TagQueryServiceImplTest {
     Long shopId = 2L;
     Tag tag = createTestTag(tagId, "VIP고객", "#FF0000");
 
-    given(tagRepository.findByIdAndShopId(tagId, shopId)).willReturn(Optional.of(tag));
+    given(tagRepository.findByShopId(shopId))
+        .willReturn(List.of(createTestTag(9L, "신규고객", "#00FF00"), tag));
 
     // when
     TagResponse response = tagQueryService.getTag(tagId, shopId);
@@ -48,7 +62,7 @@ class TagQueryServiceImplTest {
     assertThat(response.getTagName()).isEqualTo("VIP고객");
     assertThat(response.getColorCode()).isEqualTo("#FF0000");
 
-    then(tagRepository).should().findByIdAndShopId(tagId, shopId);
+    then(tagRepository).should().findByShopId(shopId);
   }
 
   @Test
@@ -57,14 +71,15 @@ class TagQueryServiceImplTest {
     // given
     Long tagId = 1L;
     Long shopId = 2L;
-    given(tagRepository.findByIdAndShopId(tagId, shopId)).willReturn(Optional.empty());
+    given(tagRepository.findByShopId(shopId))
+        .willReturn(List.of(createTestTag(9L, "신규고객", "#00FF00")));
 
     // when & then
     assertThatThrownBy(() -> tagQueryService.getTag(tagId, shopId))
         .isInstanceOf(BusinessException.class)
         .hasMessageContaining("태그를 찾을 수 없습니다.");
 
-    then(tagRepository).should().findByIdAndShopId(tagId, shopId);
+    then(tagRepository).should().findByShopId(shopId);
   }
 
   @Test
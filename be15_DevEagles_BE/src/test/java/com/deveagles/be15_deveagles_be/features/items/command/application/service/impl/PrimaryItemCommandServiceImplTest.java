@@ -3,6 +3,8 @@ package com.deveagles.be15_deveagles_be.features.items.command.application.servi
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.items.command.application.dto.request.PrimaryItemRequest;
@@ -18,12 +20,14 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 class PrimaryItemCommandServiceImplTest {
 
   private PrimaryItemRepository primaryItemRepository;
   private ShopRepository shopRepository;
   private SecondaryItemRepository secondaryItemRepository;
+  private ApplicationEventPublisher eventPublisher;
   private PrimaryItemCommandServiceImpl primaryItemCommandService;
 
   @BeforeEach
@@ -31,9 +35,10 @@ class PrimaryItemCommandServiceImplTest {
     primaryItemRepository = mock(PrimaryItemRepository.class);
     secondaryItemRepository = mock(SecondaryItemRepository.class);
     shopRepository = mock(ShopRepository.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
     primaryItemCommandService =
         new PrimaryItemCommandServiceImpl(
-            primaryItemRepository, secondaryItemRepository, shopRepository);
+            primaryItemRepository, secondaryItemRepository, shopRepository, eventPublisher);
   }
 
   @Test
@@ -49,6 +54,8 @@ class PrimaryItemCommandServiceImplTest {
     primaryItemCommandService.registerPrimaryItem(request);
 
     verify(primaryItemRepository, times(1)).save(any(PrimaryItem.class));
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.PRIMARY_ITEMS, 1L));
   }
 
   @Test
@@ -152,6 +159,7 @@ class PrimaryItemCommandServiceImplTest {
     PrimaryItem item =
         PrimaryItem.builder()
             .primaryItemId(id)
+            .shopId(Shop.builder().shopId(1L).build())
             .primaryItemName("컷트")
             .category(Category.SERVICE)
             .build();
@@ -186,6 +194,10 @@ class PrimaryItemCommandServiceImplTest {
     verify(primaryItemRepository).save(item);
     verify(secondaryItemRepository).save(secondary1);
     verify(secondaryItemRepository).save(secondary2);
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.PRIMARY_ITEMS, 1L));
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.SECONDARY_ITEMS, 1L));
   }
 
   @Test
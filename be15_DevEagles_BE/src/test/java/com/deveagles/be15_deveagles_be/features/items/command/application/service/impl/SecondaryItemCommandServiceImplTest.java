@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.items.command.application.dto.request.SecondaryItemRegistRequest;
@@ -15,22 +17,28 @@ import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.P
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
+import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Shop;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 class SecondaryItemCommandServiceImplTest {
 
   private PrimaryItemRepository primaryItemRepository;
   private SecondaryItemRepository secondaryItemRepository;
+  private ApplicationEventPublisher eventPublisher;
   private SecondaryItemCommandServiceImpl service;
 
   @BeforeEach
   void setUp() {
     primaryItemRepository = mock(PrimaryItemRepository.class);
     secondaryItemRepository = mock(SecondaryItemRepository.class);
-    service = new SecondaryItemCommandServiceImpl(primaryItemRepository, secondaryItemRepository);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    service =
+        new SecondaryItemCommandServiceImpl(
+            primaryItemRepository, secondaryItemRepository, eventPublisher);
   }
 
   @Test
@@ -44,7 +52,11 @@ class SecondaryItemCommandServiceImplTest {
     request.setTimeTaken(60);
 
     PrimaryItem primaryItem =
-        PrimaryItem.builder().primaryItemId(1L).category(Category.SERVICE).build();
+        PrimaryItem.builder()
+            .primaryItemId(1L)
+            .shopId(Shop.builder().shopId(1L).build())
+            .category(Category.SERVICE)
+            .build();
     when(primaryItemRepository.findById(1L)).thenReturn(Optional.of(primaryItem));
 
     // when
@@ -52,6 +64,8 @@ class SecondaryItemCommandServiceImplTest {
 
     // then
     verify(secondaryItemRepository, times(1)).save(any(SecondaryItem.class));
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.SECONDARY_ITEMS, 1L));
   }
 
   @Test
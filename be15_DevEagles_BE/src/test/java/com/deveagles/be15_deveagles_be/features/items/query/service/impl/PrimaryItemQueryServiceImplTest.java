@@ -3,12 +3,14 @@ package com.deveagles.be15_deveagles_be.features.items.query.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.Category;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.PrimaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.PrimaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.query.dto.response.PrimaryItemResponse;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -18,12 +20,15 @@ import org.mockito.MockitoAnnotations;
 class PrimaryItemQueryServiceImplTest {
 
   @Mock private PrimaryItemRepository primaryItemRepository;
+  @Mock private ReferenceDataCache referenceDataCache;
 
   @InjectMocks private PrimaryItemQueryServiceImpl primaryItemQueryService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(referenceDataCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
   }
 
   @Test
@@ -3,11 +3,13 @@ package com.deveagles.be15_deveagles_be.features.items.query.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.aggregate.SecondaryItem;
 import com.deveagles.be15_deveagles_be.features.items.command.domain.repository.SecondaryItemRepository;
 import com.deveagles.be15_deveagles_be.features.items.query.dto.response.SecondaryItemResponse;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -17,12 +19,15 @@ import org.mockito.MockitoAnnotations;
 class SecondaryItemQueryServiceImplTest {
 
   @Mock private SecondaryItemRepository secondaryItemRepository;
+  @Mock private ReferenceDataCache referenceDataCache;
 
   @InjectMocks private SecondaryItemQueryServiceImpl secondaryItemQueryService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(referenceDataCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
   }
 
   @Test
@@ -72,4 +77,26 @@ class SecondaryItemQueryServiceImplTest {
 
     verify(secondaryItemRepository, times(1)).findAllByShopId(shopId);
   }
+
+  @Test
+  void getActiveSecondaryItems_shouldFilterCachedShopItems() {
+    // given
+    Long shopId = 1L;
+    SecondaryItem active =
+        SecondaryItem.builder().secondaryItemId(1L).secondaryItemName("히피펌").isActive(true).build();
+    SecondaryItem inactive =
+        SecondaryItem.builder()
+            .secondaryItemId(2L)
+            .secondaryItemName("볼륨매직")
+            .isActive(false)
+            .build();
+    when(secondaryItemRepository.findAllByShopId(shopId)).thenReturn(List.of(active, inactive));
+
+    // when
+    List<SecondaryItemResponse> result = secondaryItemQueryService.getActiveSecondaryItems(shopId);
+
+    // then
+    assertThat(result).extracting(SecondaryItemResponse::getSecondaryItemId).containsExactly(1L);
+    verify(secondaryItemRepository, never()).findAllByShopIdAndIsActiveTrue(any());
+  }
 }
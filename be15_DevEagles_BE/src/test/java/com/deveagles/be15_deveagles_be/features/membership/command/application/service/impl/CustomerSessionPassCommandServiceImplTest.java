@@ -1,18 +1,15 @@
 package com.deveagles.be15_deveagles_be.features.membership.command.application.service.impl;
 
-import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
-import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerSessionPassRegistRequest;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.dto.request.CustomerSessionPassUpdateRequest;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
 import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
+import com.deveagles.be15_deveagles_be.features.sales.command.application.service.PassLedgerService;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,12 +17,15 @@ import org.junit.jupiter.api.Test;
 class CustomerSessionPassCommandServiceImplTest {
 
   private CustomerSessionPassRepository customerSessionPassRepository;
+  private PassLedgerService passLedgerService;
   private CustomerSessionPassCommandServiceImpl service;
 
   @BeforeEach
   void setUp() {
     customerSessionPassRepository = mock(CustomerSessionPassRepository.class);
-    service = new CustomerSessionPassCommandServiceImpl(customerSessionPassRepository);
+    passLedgerService = mock(PassLedgerService.class);
+    service =
+        new CustomerSessionPassCommandServiceImpl(customerSessionPassRepository, passLedgerService);
   }
 
   @Test
@@ -49,42 +49,21 @@ class CustomerSessionPassCommandServiceImplTest {
   }
 
   @Test
-  @DisplayName("성공: 고객 횟수권 수정")
-  void updateCustomerSessionPass_success() {
+  @DisplayName("성공: 고객 횟수권 수정은 조회한 버전과 함께 원장 조정으로 넘긴다")
+  void updateCustomerSessionPass_adjustsLedger() {
     // given
-    Long passId = 1L;
     CustomerSessionPassUpdateRequest request = new CustomerSessionPassUpdateRequest();
-    request.setCustomerSessionPassId(passId);
+    request.setCustomerSessionPassId(1L);
     request.setRemainingCount(5);
-    request.setExpirationDate(new Date());
-
-    CustomerSessionPass pass = mock(CustomerSessionPass.class);
-    when(customerSessionPassRepository.findById(passId)).thenReturn(Optional.of(pass));
+    Date expirationDate = new Date();
+    request.setExpirationDate(expirationDate);
+    request.setVersion(3L);
 
     // when
     service.updateCustomerSessionPass(request);
 
     // then
-    verify(pass, times(1)).setRemainingCount(5);
-    verify(pass, times(1)).setExpirationDate(any(Date.class));
-    verify(pass, times(1)).setModifiedAt(any());
-    verify(customerSessionPassRepository, times(1)).save(pass);
-  }
-
-  @Test
-  @DisplayName("실패: 고객 횟수권이 존재하지 않음")
-  void updateCustomerSessionPass_notFound() {
-    // given
-    Long passId = 999L;
-    CustomerSessionPassUpdateRequest request = new CustomerSessionPassUpdateRequest();
-    request.setCustomerSessionPassId(passId);
-
-    when(customerSessionPassRepository.findById(passId)).thenReturn(Optional.empty());
-
-    // when & then
-    BusinessException ex =
-        assertThrows(BusinessException.class, () -> service.updateCustomerSessionPass(request));
-
-    assertEquals(ErrorCode.CUSTOMERSESSIONPASS_NOT_FOUND, ex.getErrorCode());
+    verify(passLedgerService).adjustSessionPass(1L, 3L, 5, expirationDate);
+    verify(customerSessionPassRepository, never()).save(any());
   }
 }
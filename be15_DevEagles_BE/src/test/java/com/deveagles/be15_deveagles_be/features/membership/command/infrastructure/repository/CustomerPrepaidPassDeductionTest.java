@@ -0,0 +1,139 @@
+package com.deveagles.be15_deveagles_be.features.membership.command.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 선불권 잔액 조건부 차감 UPDATE 를 H2 에서 실제 리포지토리로 실행해 잔액이 음수가 되지 않고 동시 차감이 유실되지 않는지 확인한다. 동시성 테스트는 스레드마다
+ * 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("jpatest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, CustomerSearchOutboxWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("선불권 잔액 조건부 차감 테스트")
+class CustomerPrepaidPassDeductionTest {
+
+  private static final long PASS_ID = 1L;
+
+  @Autowired private CustomerPrepaidPassRepository customerPrepaidPassRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM customer_prepaid_pass");
+  }
+
+  @Test
+  @DisplayName("잔액이 차감액보다 적으면 차감하지 않고 0을 반환한다")
+  void 잔액_부족시_거절() {
+    // given
+    insertPass(100);
+
+    // when
+    List<Integer> updated = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      updated.add(inTransaction(() -> deduct(30)));
+    }
+
+    // then
+    assertThat(updated).containsExactly(1, 1, 1, 0);
+    assertThat(customerPrepaidPassRepository.findRemainingAmountById(PASS_ID)).contains(10);
+    assertThat(version()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 차감해도 차감액이 유실되지 않고 잔액이 음수가 되지 않는다")
+  void 동시_차감_정합성() throws Exception {
+    // given
+    int initialAmount = 2_000;
+    int amount = 7;
+    int threads = 8;
+    int attemptsPerThread = 50;
+    insertPass(initialAmount);
+
+    // when
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                start.await();
+                int succeeded = 0;
+                for (int i = 0; i < attemptsPerThread; i++) {
+                  succeeded += inTransaction(() -> deduct(amount));
+                }
+                return succeeded;
+              }));
+    }
+    start.countDown();
+    int succeeded = 0;
+    for (Future<Integer> future : futures) {
+      succeeded += future.get();
+    }
+    executor.shutdown();
+
+    // then
+    // 시도액(8 * 50 * 7 = 2,800)이 잔액보다 많으므로 잔액이 차감액 미만이 될 때까지 정확히 차감된다
+    assertThat(succeeded).isEqualTo(initialAmount / amount);
+    assertThat(customerPrepaidPassRepository.findRemainingAmountById(PASS_ID))
+        .contains(initialAmount - succeeded * amount);
+    assertThat(version()).isEqualTo((long) succeeded);
+  }
+
+  private int deduct(int amount) {
+    return customerPrepaidPassRepository.deductAmount(PASS_ID, amount, LocalDateTime.now());
+  }
+
+  private int inTransaction(IntSupplier work) {
+    return new TransactionTemplate(transactionManager).execute(status -> work.getAsInt());
+  }
+
+  private void insertPass(int remainingAmount) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.update(
+        "INSERT INTO customer_prepaid_pass (customer_prepaid_pass_id, customer_id,"
+            + " prepaid_pass_id, remaining_amount, created_at, modified_at, version)"
+            + " VALUES (?, 1, 1, ?, ?, ?, 0)",
+        PASS_ID,
+        remainingAmount,
+        now,
+        now);
+  }
+
+  private Long version() {
+    return jdbcTemplate.queryForObject(
+        "SELECT version FROM customer_prepaid_pass WHERE customer_prepaid_pass_id = ?",
+        Long.class,
+        PASS_ID);
+  }
+}
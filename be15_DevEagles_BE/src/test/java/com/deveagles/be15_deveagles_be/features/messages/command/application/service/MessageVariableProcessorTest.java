@@ -0,0 +1,120 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageVariable;
+import com.deveagles.be15_deveagles_be.features.messages.query.repository.MessageVariableQueryRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("메시지 변수 치환 테스트")
+class MessageVariableProcessorTest {
+
+  private static final Long SHOP_ID = 1L;
+
+  private MessageVariableQueryRepository messageVariableQueryRepository;
+  private MessageVariableProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    messageVariableQueryRepository = mock(MessageVariableQueryRepository.class);
+    processor = new MessageVariableProcessor(messageVariableQueryRepository);
+  }
+
+  @Test
+  @DisplayName("템플릿은 한 번만 파싱해 캐시하고 쓰인 변수만 보고한다")
+  void 템플릿_컴파일_캐시() {
+    // when
+    CompiledMessageTemplate first = processor.compile("#{고객명}님, #{고객등급} 혜택 안내 #{쿠폰}");
+    CompiledMessageTemplate second = processor.compile("#{고객명}님, #{고객등급} 혜택 안내 #{쿠폰}");
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(first.variables())
+        .containsExactlyInAnyOrder(MessageVariable.CUSTOMER_NAME, MessageVariable.CUSTOMER_GRADE);
+  }
+
+  @Test
+  @DisplayName("수신자별 본문을 한 번의 조회로 만들고 값이 없는 키는 원문을 남긴다")
+  void 수신자별_일괄_치환() {
+    // given
+    given(
+            messageVariableQueryRepository.findVariableValues(
+                List.of(1L, 2L), SHOP_ID, Set.of(MessageVariable.CUSTOMER_NAME)))
+        .willReturn(Map.of(1L, Map.of("고객명", "홍길동"), 2L, Map.of("고객명", "")));
+
+    // when
+    Map<Long, String> rendered =
+        processor.renderAll("안녕하세요 #{고객명}님 #{쿠폰}", List.of(1L, 2L), SHOP_ID);
+
+    // then
+    assertThat(rendered)
+        .containsEntry(1L, "안녕하세요 홍길동님 #{쿠폰}")
+        .containsEntry(2L, "안녕하세요 님 #{쿠폰}");
+    verify(messageVariableQueryRepository, times(1)).findVariableValues(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("변수가 없는 본문은 고객 존재 여부만 확인하고 원문을 그대로 쓴다")
+  void 변수없는_본문() {
+    // given
+    given(messageVariableQueryRepository.findVariableValues(List.of(1L), SHOP_ID, Set.of()))
+        .willReturn(Map.of(1L, Map.of()));
+
+    // when
+    Map<Long, String> rendered = processor.renderAll("오늘 휴무입니다", List.of(1L), SHOP_ID);
+
+    // then
+    assertThat(rendered).containsEntry(1L, "오늘 휴무입니다");
+  }
+
+  @Test
+  @DisplayName("매장에 없는 고객은 빼고 나머지 수신자 본문을 만든다")
+  void 없는_고객_제외() {
+    // given
+    given(messageVariableQueryRepository.findVariableValues(anyCollection(), eq(SHOP_ID), anySet()))
+        .willReturn(Map.of(1L, Map.of("고객명", "홍길동")));
+
+    // when
+    Map<Long, String> rendered = processor.renderAll("#{고객명}님", List.of(1L, 99L), SHOP_ID);
+
+    // then
+    assertThat(rendered).containsOnly(entry(1L, "홍길동님"));
+  }
+
+  @Test
+  @DisplayName("단건 payload 는 매장에 없는 고객이면 예외를 던진다")
+  void 단건_없는_고객_예외() {
+    // given
+    given(messageVariableQueryRepository.findVariableValues(anyCollection(), eq(SHOP_ID), anySet()))
+        .willReturn(Map.of());
+
+    // when & then
+    assertThatThrownBy(() -> processor.buildPayload(99L, SHOP_ID))
+        .isInstanceOf(BusinessException.class)
+        .extracting(e -> ((BusinessException) e).getErrorCode())
+        .isEqualTo(ErrorCode.CUSTOMER_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("닫히지 않은 변수 표기는 문자 그대로 둔다")
+  void 닫히지않은_변수() {
+    // when
+    String resolved = processor.resolveVariables("#{고객명}님 #{미완성", Map.of("고객명", "홍길동"));
+
+    // then
+    assertThat(resolved).isEqualTo("홍길동님 #{미완성");
+    verifyNoInteractions(messageVariableQueryRepository);
+  }
+}
@@ -6,15 +6,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
-import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.SmsRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSettingsCommandService;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageVariableProcessor;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.SmsDispatchService;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.*;
-import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.SmsRepository;
-import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.CoolSmsClient;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandService;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -34,9 +36,8 @@ class MessageCommandServiceImplTest {
   @InjectMocks private MessageCommandServiceImpl messageCommandService;
 
   @Mock private ShopCommandService shopCommandService;
-  @Mock private CustomerQueryService customerQueryService;
-  @Mock private MessageSettingRepository messageSettingRepository;
-  @Mock private CoolSmsClient coolSmsClient;
+  @Mock private MessageSettingsCommandService messageSettingsCommandService;
+  @Mock private SmsDispatchService smsDispatchService;
   @Mock private SmsRepository smsRepository;
   @Mock private MessageVariableProcessor messageVariableProcessor;
 
@@ -46,7 +47,6 @@ class MessageCommandServiceImplTest {
     // given
     Long shopId = 1L;
     List<Long> customerIds = List.of(1L, 2L);
-    List<String> phoneNumbers = List.of("01011112222", "01033334444");
 
     SmsRequest request =
         new SmsRequest(
@@ -63,20 +63,17 @@ class MessageCommandServiceImplTest {
             13L,
             14L);
 
-    MessageSettings settings =
-        MessageSettings.builder()
-            .shopId(shopId)
+    MessageSettingResponse settings =
+        MessageSettingResponse.builder()
             .senderNumber("07000000000")
             .point(1000L)
             .canAlimtalk(true)
             .build();
 
     // validateShopExists()는 void → stub 없이 호출만 되게 둠 (when 제거)
-    when(customerQueryService.getCustomerPhoneNumbers(anyList())).thenReturn(phoneNumbers);
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.of(settings));
-    when(messageVariableProcessor.buildPayload(anyLong(), eq(shopId)))
-        .thenReturn(Map.of("고객명", "홍길동"));
-    when(messageVariableProcessor.resolveVariables(anyString(), anyMap())).thenReturn("안녕하세요 홍길동");
+    when(messageSettingsCommandService.findSettings(shopId)).thenReturn(Optional.of(settings));
+    when(messageVariableProcessor.renderAll("안녕하세요 #{고객명}", customerIds, shopId))
+        .thenReturn(Map.of(1L, "안녕하세요 홍길동", 2L, "안녕하세요 홍길동"));
 
     List<Sms> saved =
         List.of(
@@ -86,7 +83,7 @@ class MessageCommandServiceImplTest {
 
     List<MessageSendResult> sendResults =
         List.of(new MessageSendResult(true, "성공", 1L), new MessageSendResult(true, "성공", 2L));
-    when(coolSmsClient.sendMany(any(), any(), anyList())).thenReturn(sendResults);
+    when(smsDispatchService.dispatch(saved)).thenReturn(sendResults);
 
     // when
     List<MessageSendResult> result = messageCommandService.sendSms(shopId, request);
@@ -94,7 +91,7 @@ class MessageCommandServiceImplTest {
     // then
     assertThat(result).hasSize(2);
     assertThat(result).allMatch(MessageSendResult::success);
-    verify(coolSmsClient, times(1)).sendMany(any(), any(), anyList());
+    verify(smsDispatchService, times(1)).dispatch(saved);
     verify(shopCommandService).validateShopExists(shopId); // 호출 여부만 검증
   }
 
@@ -119,19 +116,16 @@ class MessageCommandServiceImplTest {
             null,
             null);
 
-    when(customerQueryService.getCustomerPhoneNumbers(any())).thenReturn(List.of("01022223333"));
-    when(messageSettingRepository.findByShopId(shopId))
+    when(messageSettingsCommandService.findSettings(shopId))
         .thenReturn(
             Optional.of(
-                MessageSettings.builder()
-                    .shopId(shopId)
+                MessageSettingResponse.builder()
                     .senderNumber("07012345678")
                     .canAlimtalk(true)
                     .point(100L)
                     .build()));
-    when(messageVariableProcessor.buildPayload(anyLong(), eq(shopId)))
-        .thenReturn(Map.of("고객명", "신사임당"));
-    when(messageVariableProcessor.resolveVariables(anyString(), anyMap())).thenReturn("예약 발송 신사임당");
+    when(messageVariableProcessor.renderAll("예약 발송 #{고객명}", List.of(100L), shopId))
+        .thenReturn(Map.of(100L, "예약 발송 신사임당"));
 
     List<Sms> saved = List.of(Sms.builder().messageId(3L).messageContent("예약 발송 신사임당").build());
     when(smsRepository.saveAll(anyList())).thenReturn(saved);
@@ -143,7 +137,89 @@ class MessageCommandServiceImplTest {
     assertThat(result).hasSize(1);
     assertThat(result.get(0).success()).isTrue();
     assertThat(result.get(0).resultMessage()).isEqualTo("예약 등록 완료");
-    verifyNoInteractions(coolSmsClient);
+    verifyNoInteractions(smsDispatchService);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  @DisplayName("매장에 없는 고객이 섞여도 나머지 고객에게 발송하고 없는 고객은 실패로 남긴다")
+  void sendSms_skipsMissingCustomer() {
+    // given
+    Long shopId = 1L;
+    List<Long> customerIds = List.of(1L, 99L, 2L);
+    SmsRequest request =
+        new SmsRequest(
+            customerIds,
+            "안녕하세요 #{고객명}",
+            MessageType.SMS,
+            MessageSendingType.IMMEDIATE,
+            null,
+            null,
+            false,
+            null,
+            null,
+            MessageKind.advertising,
+            null,
+            null);
+
+    when(messageSettingsCommandService.findSettings(shopId))
+        .thenReturn(Optional.of(MessageSettingResponse.builder().build()));
+    when(messageVariableProcessor.renderAll("안녕하세요 #{고객명}", customerIds, shopId))
+        .thenReturn(Map.of(1L, "안녕하세요 홍길동", 2L, "안녕하세요 신사임당"));
+    List<Sms> saved =
+        List.of(
+            Sms.builder().messageId(1L).customerId(1L).build(),
+            Sms.builder().messageId(2L).customerId(2L).build());
+    when(smsRepository.saveAll(anyList())).thenReturn(saved);
+    when(smsDispatchService.dispatch(saved))
+        .thenReturn(
+            List.of(new MessageSendResult(true, "성공", 1L), new MessageSendResult(true, "성공", 2L)));
+
+    // when
+    List<MessageSendResult> result = messageCommandService.sendSms(shopId, request);
+
+    // then
+    ArgumentCaptor<List<Sms>> captor = ArgumentCaptor.forClass(List.class);
+    verify(smsRepository).saveAll(captor.capture());
+    assertThat(captor.getValue()).extracting(Sms::getCustomerId).containsExactly(1L, 2L);
+    assertThat(result).hasSize(3);
+    assertThat(result).filteredOn(MessageSendResult::success).hasSize(2);
+    assertThat(result)
+        .filteredOn(r -> !r.success())
+        .singleElement()
+        .satisfies(r -> assertThat(r.resultMessage()).contains("99"));
+  }
+
+  @Test
+  @DisplayName("모든 고객이 매장에 없으면 고객 없음 예외")
+  void sendSms_fail_allCustomersMissing() {
+    // given
+    Long shopId = 1L;
+    SmsRequest request =
+        new SmsRequest(
+            List.of(99L),
+            "내용",
+            MessageType.SMS,
+            MessageSendingType.IMMEDIATE,
+            null,
+            null,
+            false,
+            null,
+            null,
+            MessageKind.announcement,
+            null,
+            null);
+
+    when(messageSettingsCommandService.findSettings(shopId))
+        .thenReturn(Optional.of(MessageSettingResponse.builder().build()));
+    when(messageVariableProcessor.renderAll("내용", List.of(99L), shopId)).thenReturn(Map.of());
+
+    // when & then
+    assertThatThrownBy(() -> messageCommandService.sendSms(shopId, request))
+        .isInstanceOf(BusinessException.class)
+        .extracting(e -> ((BusinessException) e).getErrorCode())
+        .isEqualTo(ErrorCode.CUSTOMER_NOT_FOUND);
+    verify(smsRepository, never()).saveAll(anyList());
   }
 
   @Test
@@ -166,7 +242,7 @@ class MessageCommandServiceImplTest {
             null,
             null);
 
-    when(messageSettingRepository.findByShopId(shopId)).thenReturn(Optional.empty());
+    when(messageSettingsCommandService.findSettings(shopId)).thenReturn(Optional.empty());
 
     // expect
     assertThatThrownBy(() -> messageCommandService.sendSms(shopId, request))
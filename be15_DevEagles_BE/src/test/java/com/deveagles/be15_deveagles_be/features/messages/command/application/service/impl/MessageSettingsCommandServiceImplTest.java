@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.request.MessageSettingRequest;
 import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
@@ -11,12 +14,15 @@ import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregat
 import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.MessageSettingRepository;
 import com.deveagles.be15_deveagles_be.features.shops.command.application.service.ShopCommandServiceImpl;
 import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MessageSettingsService 단위 테스트")
@@ -26,9 +32,18 @@ class MessageSettingsCommandServiceImplTest {
 
   @Mock private MessageSettingRepository messageSettingRepository;
   @Mock private ShopCommandServiceImpl shopCommandServiceImpl;
+  @Mock private ReferenceDataCache referenceDataCache;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   private final Long shopId = 1L;
 
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(referenceDataCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+  }
+
   @Test
   @DisplayName("기본 설정 생성 - 이미 존재하면 예외 발생")
   void createDefault_shouldThrowException_whenSettingsExist() {
@@ -58,6 +73,8 @@ class MessageSettingsCommandServiceImplTest {
 
     assertEquals(shopId, result);
     verify(messageSettingRepository).save(any(MessageSettings.class));
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.MESSAGE_SETTINGS, shopId));
   }
 
   @Test
@@ -114,6 +131,8 @@ class MessageSettingsCommandServiceImplTest {
     assertEquals("01099998888", settings.getSenderNumber());
     assertTrue(settings.isCanAlimtalk());
     assertEquals(800L, settings.getPoint());
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.MESSAGE_SETTINGS, shopId));
   }
 
   @Test
@@ -0,0 +1,233 @@
+package com.deveagles.be15_deveagles_be.features.messages.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.SmsSendUnit;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSendResult;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.dto.response.MessageSettingResponse;
+import com.deveagles.be15_deveagles_be.features.messages.command.application.service.MessageSettingsCommandService;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageDeliveryStatus;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.MessageSendingType;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.aggregate.Sms;
+import com.deveagles.be15_deveagles_be.features.messages.command.domain.repository.SmsRepository;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.SmsDispatchGateway;
+import com.deveagles.be15_deveagles_be.features.messages.command.infrastructure.StubSmsClient;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("문자 발송 엔진 테스트")
+class SmsDispatchServiceImplTest {
+
+  private static final String SENDER = "0212345678";
+
+  private SmsRepository smsRepository;
+  private CustomerQueryService customerQueryService;
+  private MessageSettingsCommandService messageSettingsCommandService;
+  private StubSmsClient smsClient;
+  private SmsDispatchGateway gateway;
+  private SmsDispatchServiceImpl dispatchService;
+
+  @BeforeEach
+  void setUp() {
+    smsRepository = mock(SmsRepository.class);
+    customerQueryService = mock(CustomerQueryService.class);
+    messageSettingsCommandService = mock(MessageSettingsCommandService.class);
+
+    smsClient = new StubSmsClient();
+    gateway = new SmsDispatchGateway(smsClient);
+    ReflectionTestUtils.setField(gateway, "concurrency", 2);
+    ReflectionTestUtils.setField(gateway, "ratePerSecond", 0d);
+    ReflectionTestUtils.setField(gateway, "maxPerRequest", 2);
+    ReflectionTestUtils.invokeMethod(gateway, "init");
+
+    dispatchService =
+        new SmsDispatchServiceImpl(
+            smsRepository, customerQueryService, messageSettingsCommandService, gateway);
+    ReflectionTestUtils.setField(dispatchService, "claimBatchSize", 100);
+    ReflectionTestUtils.setField(dispatchService, "claimSeconds", 300L);
+    ReflectionTestUtils.setField(dispatchService, "nodeId", "node-1");
+
+    given(messageSettingsCommandService.findSettings(1L))
+        .willReturn(Optional.of(MessageSettingResponse.builder().senderNumber(SENDER).build()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.invokeMethod(gateway, "shutdown");
+  }
+
+  @Test
+  @DisplayName("같은 발신번호와 내용의 메시지는 묶어서 발송사 요청 크기로 나눠 보낸다")
+  void 발신번호_내용별_묶음_발송() {
+    // given
+    List<Sms> messages =
+        List.of(
+            sms(1L, 1L, 11L, "공지"),
+            sms(2L, 1L, 12L, "개인 안내"),
+            sms(3L, 1L, 13L, "공지"),
+            sms(4L, 1L, 14L, "공지"));
+    givenPhones(11L, 12L, 13L, 14L);
+
+    // when
+    List<MessageSendResult> results = dispatchService.dispatch(messages);
+
+    // then
+    assertThat(results).hasSize(4).allMatch(MessageSendResult::success);
+    assertThat(smsClient.getRequests()).hasSize(3);
+    assertThat(smsClient.getRequests())
+        .filteredOn(request -> request.content().equals("공지"))
+        .flatExtracting(StubSmsClient.SentRequest::units)
+        .extracting(SmsSendUnit::messageId)
+        .containsExactlyInAnyOrder(1L, 3L, 4L);
+    assertThat(smsClient.getRequests()).allMatch(request -> request.units().size() <= 2);
+
+    verify(smsRepository)
+        .recordResult(
+            argThat(ids -> ids.size() == 4),
+            eq(MessageDeliveryStatus.SENT),
+            any(LocalDateTime.class),
+            eq(MessageDeliveryStatus.PENDING));
+    verify(smsRepository, never())
+        .recordResult(anyList(), eq(MessageDeliveryStatus.FAIL), any(), any());
+  }
+
+  @Test
+  @DisplayName("발신번호 미설정 매장이나 수신 고객이 없는 메시지는 해당 메시지만 실패 처리한다")
+  void 일부_메시지만_실패() {
+    // given
+    given(messageSettingsCommandService.findSettings(2L)).willReturn(Optional.empty());
+    List<Sms> messages =
+        List.of(sms(1L, 1L, 11L, "안내"), sms(2L, 2L, 21L, "안내"), sms(3L, 1L, 99L, "안내"));
+    givenPhones(11L, 21L);
+    smsClient.failFor("01000000011");
+
+    // when
+    List<MessageSendResult> results = dispatchService.dispatch(messages);
+
+    // then
+    assertThat(results)
+        .extracting(MessageSendResult::messageId, MessageSendResult::resultMessage)
+        .containsExactlyInAnyOrder(
+            tuple(1L, "발송 실패"), tuple(2L, "발신번호 미설정"), tuple(3L, "수신 고객 없음"));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Long>> failedIds = ArgumentCaptor.forClass(List.class);
+    verify(smsRepository)
+        .recordResult(
+            failedIds.capture(),
+            eq(MessageDeliveryStatus.FAIL),
+            isNull(),
+            eq(MessageDeliveryStatus.PENDING));
+    assertThat(failedIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
+  @Test
+  @DisplayName("예약 메시지는 선점한 건만 조회해 발송하고 선점 건수를 반환한다")
+  void 예약_메시지_선점_발송() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+    given(
+            smsRepository.findClaimableIds(
+                MessageSendingType.RESERVATION,
+                MessageDeliveryStatus.PENDING,
+                now,
+                Limit.of(100)))
+        .willReturn(List.of(1L, 2L, 3L));
+    given(
+            smsRepository.claim(
+                eq(List.of(1L, 2L, 3L)),
+                startsWith("node-1:"),
+                eq(MessageDeliveryStatus.PENDING),
+                eq(now),
+                eq(now.plusSeconds(300))))
+        .willReturn(2);
+    given(
+            smsRepository.findAllByMessageIdInAndClaimedBy(
+                eq(List.of(1L, 2L, 3L)), startsWith("node-1:")))
+        .willReturn(List.of(sms(1L, 1L, 11L, "예약"), sms(3L, 1L, 13L, "예약")));
+    givenPhones(11L, 13L);
+
+    // when
+    int claimed = dispatchService.dispatchDueReservations(now);
+
+    // then
+    assertThat(claimed).isEqualTo(2);
+    ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+    verify(smsRepository).claim(anyList(), token.capture(), any(), any(), any());
+    verify(smsRepository).findAllByMessageIdInAndClaimedBy(List.of(1L, 2L, 3L), token.getValue());
+    assertThat(smsClient.getRequests())
+        .flatExtracting(StubSmsClient.SentRequest::units)
+        .extracting(SmsSendUnit::messageId)
+        .containsExactlyInAnyOrder(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("다른 노드가 모두 선점했으면 발송하지 않고 0을 반환한다")
+  void 선점_실패시_발송하지_않음() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+    given(smsRepository.findClaimableIds(any(), any(), any(), any())).willReturn(List.of(1L));
+    given(smsRepository.claim(anyList(), anyString(), any(), any(), any())).willReturn(0);
+
+    // when
+    int claimed = dispatchService.dispatchDueReservations(now);
+
+    // then
+    assertThat(claimed).isZero();
+    verify(smsRepository, never()).findAllByMessageIdInAndClaimedBy(any(), any());
+    assertThat(smsClient.getRequests()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("발송사 요청은 설정한 동시 요청 수를 넘지 않는다")
+  void 동시_요청수_제한() {
+    // given
+    smsClient.setLatencyMillis(50);
+    List<Sms> messages =
+        LongStream.rangeClosed(1, 12).mapToObj(id -> sms(id, 1L, 10L + id, "공지")).toList();
+    givenPhones(LongStream.rangeClosed(11, 22).boxed().toArray(Long[]::new));
+
+    // when
+    List<MessageSendResult> results = dispatchService.dispatch(messages);
+
+    // then
+    assertThat(results).hasSize(12).allMatch(MessageSendResult::success);
+    assertThat(smsClient.getRequests()).hasSize(6);
+    assertThat(smsClient.getMaxInFlight()).isLessThanOrEqualTo(2);
+  }
+
+  private void givenPhones(Long... customerIds) {
+    Map<Long, String> phones = new HashMap<>();
+    for (Long customerId : customerIds) {
+      phones.put(customerId, String.format("010%08d", customerId));
+    }
+    given(customerQueryService.getCustomerPhoneNumberMap(anyCollection())).willReturn(phones);
+  }
+
+  private Sms sms(Long messageId, Long shopId, Long customerId, String content) {
+    return Sms.builder()
+        .messageId(messageId)
+        .shopId(shopId)
+        .customerId(customerId)
+        .messageContent(content)
+        .messageDeliveryStatus(MessageDeliveryStatus.PENDING)
+        .messageSendingType(MessageSendingType.RESERVATION)
+        .build();
+  }
+}
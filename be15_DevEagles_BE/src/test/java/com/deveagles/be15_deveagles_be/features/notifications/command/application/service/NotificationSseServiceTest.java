@@ -1,77 +1,192 @@
 package com.deveagles.be15_deveagles_be.features.notifications.command.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.features.notifications.command.application.dto.NotificationRelayMessage;
 import com.deveagles.be15_deveagles_be.features.notifications.command.domain.aggregate.NotificationType;
 import com.deveagles.be15_deveagles_be.features.notifications.query.application.dto.NotificationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Spy;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-@ExtendWith(MockitoExtension.class)
+@DisplayName("SSE 알림 허브 테스트")
 class NotificationSseServiceTest {
 
-  @InjectMocks private NotificationSseService notificationSseService;
+  private static final String CHANNEL = "notification:relay";
 
-  // SseEmitter는 실제 객체를 사용하되, 특정 메서드 호출을 감시하기 위해 @Spy 사용
-  @Spy private SseEmitter mockEmitter = new SseEmitter();
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final List<SseEmitter> emitters = new ArrayList<>();
+  // 설정하면 새 연결의 전송이 이 래치가 열릴 때까지 멈춘다 (느린 구독자 재현)
+  private CountDownLatch sendGate;
+  private RedisTemplate<String, String> redisTemplate;
+  private NotificationSseService notificationSseService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    notificationSseService =
+        new NotificationSseService(
+            redisTemplate, mock(RedisMessageListenerContainer.class), objectMapper) {
+          @Override
+          SseEmitter createEmitter(long timeout) {
+            SseEmitter emitter = mock(SseEmitter.class);
+            if (sendGate != null) {
+              blockSends(emitter, sendGate);
+            }
+            emitters.add(emitter);
+            return emitter;
+          }
+        };
+    ReflectionTestUtils.setField(notificationSseService, "timeoutMillis", 60_000L);
+    ReflectionTestUtils.setField(notificationSseService, "queueCapacity", 8);
+    ReflectionTestUtils.setField(notificationSseService, "maxDroppedEvents", 4);
+    ReflectionTestUtils.setField(notificationSseService, "replayBufferSize", 10);
+    ReflectionTestUtils.setField(notificationSseService, "writerPoolSize", 2);
+    ReflectionTestUtils.setField(notificationSseService, "relayChannel", CHANNEL);
+    notificationSseService.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificationSseService.shutdown();
+  }
 
   @Test
-  @DisplayName("SSE 구독 성공 테스트")
-  void subscribe_success() {
+  @DisplayName("같은 매장의 여러 탭이 모두 알림을 받는다")
+  void send_toAllConnectionsOfShop() throws IOException {
     // given
-    final Long shopId = 1L;
+    notificationSseService.subscribe(1L);
+    notificationSseService.subscribe(1L);
+    notificationSseService.subscribe(2L);
+
+    // when
+    notificationSseService.send(1L, notification(101L));
+
+    // then
+    assertThat(notificationSseService.connectionCount(1L)).isEqualTo(2);
+    assertThat(receivedIds(emitters.get(0), 2)).containsExactly(101L);
+    assertThat(receivedIds(emitters.get(1), 2)).containsExactly(101L);
+    assertThat(receivedIds(emitters.get(2), 1)).isEmpty();
+  }
 
+  @Test
+  @DisplayName("알림은 Redis 채널로 다른 노드에 중계된다")
+  void send_relaysToOtherNodes() {
     // when
-    SseEmitter emitter = notificationSseService.subscribe(shopId);
+    notificationSseService.send(1L, notification(101L));
 
     // then
-    assertThat(emitter).isNotNull();
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), contains("\"notificationId\":101"));
   }
 
   @Test
-  @DisplayName("알림 발송 성공 테스트")
-  void send_notification_success() throws IOException {
+  @DisplayName("다른 노드가 중계한 알림은 전달하고, 자기 노드가 보낸 중계는 무시한다")
+  void onMessage_deliversRelayFromOtherNode() throws IOException {
     // given
-    final Long shopId = 1L;
-    // 구독자가 있는 상황을 가정하여 emitters 맵에 직접 추가
-    notificationSseService.subscribe(shopId);
+    notificationSseService.subscribe(1L);
+    String nodeId = (String) ReflectionTestUtils.getField(notificationSseService, "nodeId");
 
-    NotificationResponse notification =
-        new NotificationResponse(
-            101L, "테스트 알림", "내용입니다.", NotificationType.RESERVATION, false, LocalDateTime.now());
+    // when
+    notificationSseService.onMessage(relay(nodeId, notification(101L)), null);
+    notificationSseService.onMessage(relay("other-node", notification(102L)), null);
+
+    // then
+    assertThat(receivedIds(emitters.get(0), 2)).containsExactly(102L);
+  }
+
+  @Test
+  @DisplayName("재연결 시 Last-Event-ID 이후의 알림을 다시 보낸다")
+  void subscribe_replaysAfterLastEventId() throws IOException {
+    // given
+    notificationSseService.send(1L, notification(1L));
+    notificationSseService.send(1L, notification(2L));
+    notificationSseService.send(1L, notification(3L));
 
     // when
-    notificationSseService.send(shopId, notification);
+    notificationSseService.subscribe(1L, "1");
+
+    // then
+    assertThat(receivedIds(emitters.get(0), 3)).containsExactly(2L, 3L);
   }
 
   @Test
-  @DisplayName("구독하지 않은 사용자에게는 알림이 발송되지 않음")
-  void send_notification_fail_when_not_subscribed() throws IOException {
+  @DisplayName("전송이 밀려 큐에서 버린 이벤트가 한도에 이르면 연결을 끊는다")
+  void send_disconnectsSlowConsumer() throws Exception {
     // given
-    final Long subscribedShopId = 1L;
-    final Long unsubscribedShopId = 2L;
+    ReflectionTestUtils.setField(notificationSseService, "queueCapacity", 1);
+    ReflectionTestUtils.setField(notificationSseService, "maxDroppedEvents", 2);
+    sendGate = new CountDownLatch(1);
+    notificationSseService.subscribe(1L);
+    SseEmitter emitter = emitters.get(0);
 
-    // 1번 매장만 구독
-    notificationSseService.subscribe(subscribedShopId);
+    try {
+      // when
+      for (long id = 1; id <= 4; id++) {
+        notificationSseService.send(1L, notification(id));
+      }
 
-    NotificationResponse notification =
-        new NotificationResponse(
-            102L,
-            "테스트 알림",
-            "구독 안한 사람에게 가는 내용",
-            NotificationType.NOTICE,
-            false,
-            LocalDateTime.now());
+      // then
+      verify(emitter, timeout(1000)).complete();
+      assertThat(notificationSseService.connectionCount(1L)).isZero();
+    } finally {
+      sendGate.countDown();
+    }
+  }
 
-    // when
-    // 구독하지 않은 2번 매장에게 알림 발송 시도
-    notificationSseService.send(unsubscribedShopId, notification);
+  // 연결 이벤트를 포함한 전송 횟수만큼 기다린 뒤, 전송된 알림 ID 를 순서대로 반환
+  private List<Long> receivedIds(SseEmitter emitter, int expectedSends) throws IOException {
+    ArgumentCaptor<SseEmitter.SseEventBuilder> captor =
+        ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+    verify(emitter, timeout(1000).times(expectedSends)).send(captor.capture());
+    return captor.getAllValues().stream()
+        .flatMap(builder -> builder.build().stream())
+        .map(ResponseBodyEmitter.DataWithMediaType::getData)
+        .filter(NotificationResponse.class::isInstance)
+        .map(data -> ((NotificationResponse) data).getNotificationId())
+        .toList();
+  }
+
+  private void blockSends(SseEmitter emitter, CountDownLatch gate) {
+    try {
+      doAnswer(
+              invocation -> {
+                gate.await();
+                return null;
+              })
+          .when(emitter)
+          .send(any(SseEmitter.SseEventBuilder.class));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private DefaultMessage relay(String nodeId, NotificationResponse notification)
+      throws IOException {
+    return new DefaultMessage(
+        CHANNEL.getBytes(StandardCharsets.UTF_8),
+        objectMapper.writeValueAsBytes(NotificationRelayMessage.of(nodeId, 1L, notification)));
+  }
+
+  private NotificationResponse notification(Long id) {
+    return new NotificationResponse(
+        id, "테스트 알림", "내용입니다.", NotificationType.RESERVATION, false, LocalDateTime.now());
   }
 }
@@ -3,59 +3,62 @@ package com.deveagles.be15_deveagles_be.features.sales.command.application.servi
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.aggregate.Customer;
 import com.deveagles.be15_deveagles_be.features.customers.command.domain.repository.CustomerRepository;
-import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
-import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.dto.request.ItemSalesRequest;
 import com.deveagles.be15_deveagles_be.features.sales.command.application.dto.request.PaymentsInfo;
+import com.deveagles.be15_deveagles_be.features.sales.command.application.service.PassLedgerService;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.ItemSales;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Payments;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Sales;
-import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.CustomerMembershipHistoryRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.ItemSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.PaymentCompletedEvent;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 class ItemSalesCommandServiceImplTest {
 
-  private CustomerPrepaidPassRepository prepaidRepository;
-  private CustomerSessionPassRepository sessionRepository;
   private SalesRepository salesRepository;
   private PaymentsRepository paymentsRepository;
   private CustomerRepository customerRepository;
   private ItemSalesRepository itemSalesRepository;
   private ItemSalesCommandServiceImpl service;
-  private CustomerMembershipHistoryRepository customerMembershipHistoryRepository;
+  private PassLedgerService passLedgerService;
+  private SalesRollupCommandService salesRollupCommandService;
+  private ApplicationEventPublisher eventPublisher;
 
   @BeforeEach
   void setUp() {
-    prepaidRepository = mock(CustomerPrepaidPassRepository.class);
-    sessionRepository = mock(CustomerSessionPassRepository.class);
     salesRepository = mock(SalesRepository.class);
     paymentsRepository = mock(PaymentsRepository.class);
     customerRepository = mock(CustomerRepository.class);
     itemSalesRepository = mock(ItemSalesRepository.class);
-    customerMembershipHistoryRepository = mock(CustomerMembershipHistoryRepository.class);
+    passLedgerService = mock(PassLedgerService.class);
+    salesRollupCommandService = mock(SalesRollupCommandService.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
 
     service =
         new ItemSalesCommandServiceImpl(
-            prepaidRepository,
-            sessionRepository,
             salesRepository,
             paymentsRepository,
             customerRepository,
             itemSalesRepository,
-            customerMembershipHistoryRepository);
+            passLedgerService,
+            salesRollupCommandService,
+            eventPublisher);
   }
 
   @Test
@@ -96,10 +99,50 @@ class ItemSalesCommandServiceImplTest {
     verify(salesRepository).save(any());
     verify(paymentsRepository).save(any());
     verify(itemSalesRepository).save(any());
+    verify(salesRollupCommandService).add(any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(req.getShopId()));
+    verify(eventPublisher).publishEvent(any(CustomerVisitEvent.class));
+    verify(eventPublisher).publishEvent(any(PaymentCompletedEvent.class));
     verify(customer).incrementVisitCount();
     verify(customer).addRevenue(req.getTotalAmount());
   }
 
+  @Test
+  @DisplayName("성공: 선불권/횟수권 결제는 원장에서 차감한다")
+  void registItemSales_deductsPassesThroughLedger() {
+    // given
+    ItemSalesRequest req = validRequest();
+    req.setPayments(
+        List.of(
+            new PaymentsInfo(PaymentsMethod.PREPAID_PASS, 5000, 11L, null, null),
+            new PaymentsInfo(PaymentsMethod.SESSION_PASS, 4000, null, 22L, 2)));
+    when(customerRepository.findById(req.getCustomerId()))
+        .thenReturn(Optional.of(mock(Customer.class)));
+
+    // when
+    service.registItemSales(req);
+
+    // then
+    verify(passLedgerService).usePrepaidPass(eq(11L), eq(5000), any(), any());
+    verify(passLedgerService).useSessionPass(eq(22L), eq(2), any(), any());
+  }
+
+  @Test
+  @DisplayName("실패: 선불권 잔액 부족")
+  void registItemSales_failsWhenPrepaidPassInsufficient() {
+    // given
+    ItemSalesRequest req = validRequest();
+    req.setPayments(List.of(new PaymentsInfo(PaymentsMethod.PREPAID_PASS, 9000, 11L, null, null)));
+    doThrow(new BusinessException(ErrorCode.CUSTOMERPREPAIDPASS_INSUFFICIENT_AMOUNT))
+        .when(passLedgerService)
+        .usePrepaidPass(eq(11L), eq(9000), any(), any());
+
+    // when & then
+    assertThrowsWithCode(
+        () -> service.registItemSales(req), ErrorCode.CUSTOMERPREPAIDPASS_INSUFFICIENT_AMOUNT);
+    verify(itemSalesRepository, never()).save(any());
+  }
+
   private ItemSalesRequest validRequest() {
     ItemSalesRequest req = new ItemSalesRequest();
     req.setShopId(1L);
@@ -134,10 +177,9 @@ class ItemSalesCommandServiceImplTest {
     Payments oldPayment = mock(Payments.class);
     ItemSales itemSales = mock(ItemSales.class);
 
+    when(sales.getShopId()).thenReturn(4L);
     when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
     when(paymentsRepository.findAllBySalesId(salesId)).thenReturn(List.of(oldPayment));
-    when(customerMembershipHistoryRepository.findBySalesIdAndPaymentsId(anyLong(), anyLong()))
-        .thenReturn(Optional.empty()); // history 없이 진행
     when(itemSalesRepository.findBySalesId(salesId)).thenReturn(Optional.of(itemSales));
     when(customerRepository.findById(req.getCustomerId())).thenReturn(Optional.of(customer));
 
@@ -157,12 +199,39 @@ class ItemSalesCommandServiceImplTest {
             req.getSalesMemo(),
             req.getSalesDate());
     verify(paymentsRepository).save(any());
+    verify(passLedgerService).restore(salesId, oldPayment);
     verify(itemSales)
         .updateItemSales(
             req.getSecondaryItemId(), req.getQuantity(), req.getDiscountRate(), req.getCouponId());
+    verify(salesRollupCommandService).replace(any(), any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
     verify(customer).addRevenue(anyInt());
   }
 
+  @Test
+  @DisplayName("성공: 환불된 매출 수정은 집계를 바꾸지 않지만 통계 변경은 알린다")
+  void updateRefundedItemSalesPublishesStatisticsChange() {
+    // given
+    long salesId = 1L;
+    ItemSalesRequest req = validRequest();
+    Sales sales = mock(Sales.class);
+
+    when(sales.getIsRefunded()).thenReturn(true);
+    when(sales.getShopId()).thenReturn(4L);
+    when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
+    when(itemSalesRepository.findBySalesId(salesId))
+        .thenReturn(Optional.of(mock(ItemSales.class)));
+    when(customerRepository.findById(req.getCustomerId()))
+        .thenReturn(Optional.of(mock(Customer.class)));
+
+    // when
+    service.updateItemSales(salesId, req);
+
+    // then
+    verify(salesRollupCommandService, never()).replace(any(), any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
+  }
+
   @Test
   @DisplayName("성공: 환불")
   void successRefundItemSales() {
@@ -175,17 +244,20 @@ class ItemSalesCommandServiceImplTest {
     when(sales.getIsRefunded()).thenReturn(false);
     when(sales.getCustomerId()).thenReturn(2L);
     when(sales.getTotalAmount()).thenReturn(9000);
+    when(sales.getShopId()).thenReturn(4L);
     when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
     when(paymentsRepository.findAllBySalesId(salesId)).thenReturn(List.of(oldPayment));
-    when(customerMembershipHistoryRepository.findBySalesIdAndPaymentsId(anyLong(), anyLong()))
-        .thenReturn(Optional.empty());
     when(customerRepository.findById(2L)).thenReturn(Optional.of(customer));
 
     // when
     service.refundItemSales(salesId);
 
     // then
+    verify(oldPayment).softDelete();
+    verify(passLedgerService).restore(salesId, oldPayment);
     verify(sales).setRefunded(true);
+    verify(salesRollupCommandService).refund(any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
     verify(customer).subtractRevenue(9000);
   }
 }
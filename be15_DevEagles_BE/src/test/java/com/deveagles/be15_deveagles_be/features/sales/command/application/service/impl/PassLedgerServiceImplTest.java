@@ -0,0 +1,267 @@
+package com.deveagles.be15_deveagles_be.features.sales.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerPrepaidPass;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.aggregate.CustomerSessionPass;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerPrepaidPassRepository;
+import com.deveagles.be15_deveagles_be.features.membership.command.domain.repository.CustomerSessionPassRepository;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.CustomerMembershipHistory;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PassMovementType;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Payments;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.CustomerMembershipHistoryRepository;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PassLedgerServiceImplTest {
+
+  private CustomerPrepaidPassRepository prepaidRepository;
+  private CustomerSessionPassRepository sessionRepository;
+  private CustomerMembershipHistoryRepository historyRepository;
+  private PassLedgerServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    prepaidRepository = mock(CustomerPrepaidPassRepository.class);
+    sessionRepository = mock(CustomerSessionPassRepository.class);
+    historyRepository = mock(CustomerMembershipHistoryRepository.class);
+    service = new PassLedgerServiceImpl(prepaidRepository, sessionRepository, historyRepository);
+  }
+
+  @Test
+  @DisplayName("성공: 선불권 차감 후 차감액과 이동 후 잔액을 이력에 남긴다")
+  void usePrepaidPass_recordsMovement() {
+    // given
+    when(prepaidRepository.deductAmount(eq(1L), eq(3000), any())).thenReturn(1);
+    when(prepaidRepository.findRemainingAmountById(1L)).thenReturn(Optional.of(7000));
+
+    // when
+    service.usePrepaidPass(1L, 3000, 10L, 20L);
+
+    // then
+    CustomerMembershipHistory history = savedHistory();
+    assertThat(history.getMovementType()).isEqualTo(PassMovementType.USE);
+    assertThat(history.getCustomerPrepaidPassId()).isEqualTo(1L);
+    assertThat(history.getUsedAmount()).isEqualTo(3000);
+    assertThat(history.getRemainingAfter()).isEqualTo(7000);
+    assertThat(history.getSalesId()).isEqualTo(10L);
+    assertThat(history.getPaymentsId()).isEqualTo(20L);
+  }
+
+  @Test
+  @DisplayName("실패: 선불권 잔액 부족이면 이력을 남기지 않는다")
+  void usePrepaidPass_insufficient() {
+    // given
+    when(prepaidRepository.deductAmount(eq(1L), eq(3000), any())).thenReturn(0);
+    when(prepaidRepository.findRemainingAmountById(1L)).thenReturn(Optional.of(1000));
+
+    // when & then
+    BusinessException ex =
+        assertThrows(BusinessException.class, () -> service.usePrepaidPass(1L, 3000, 10L, 20L));
+    assertEquals(ErrorCode.CUSTOMERPREPAIDPASS_INSUFFICIENT_AMOUNT, ex.getErrorCode());
+    verify(historyRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("실패: 없는 선불권")
+  void usePrepaidPass_notFound() {
+    // given
+    when(prepaidRepository.deductAmount(eq(1L), eq(3000), any())).thenReturn(0);
+    when(prepaidRepository.findRemainingAmountById(1L)).thenReturn(Optional.empty());
+
+    // when & then
+    BusinessException ex =
+        assertThrows(BusinessException.class, () -> service.usePrepaidPass(1L, 3000, 10L, 20L));
+    assertEquals(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND, ex.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("실패: 횟수권 잔여 횟수 부족")
+  void useSessionPass_insufficient() {
+    // given
+    when(sessionRepository.deductCount(eq(2L), eq(2), any())).thenReturn(0);
+    when(sessionRepository.findRemainingCountById(2L)).thenReturn(Optional.of(1));
+
+    // when & then
+    BusinessException ex =
+        assertThrows(BusinessException.class, () -> service.useSessionPass(2L, 2, 10L, 20L));
+    assertEquals(ErrorCode.CUSTOMERSESSIONPASS_INSUFFICIENT_COUNT, ex.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("성공: 복원하면 사용 이력은 삭제 표시하고 복원 이력을 새로 남긴다")
+  void restore_appendsRestoreMovement() {
+    // given
+    CustomerMembershipHistory usage =
+        CustomerMembershipHistory.builder()
+            .salesId(10L)
+            .paymentsId(20L)
+            .customerSessionPassId(2L)
+            .movementType(PassMovementType.USE)
+            .usedCount(2)
+            .build();
+    Payments payment = mock(Payments.class);
+    when(payment.getPaymentsId()).thenReturn(20L);
+    when(historyRepository.findBySalesIdAndPaymentsIdAndMovementTypeAndDeletedAtIsNull(
+            10L, 20L, PassMovementType.USE))
+        .thenReturn(Optional.of(usage));
+    when(sessionRepository.restoreCount(eq(2L), eq(2), any())).thenReturn(1);
+    when(sessionRepository.findRemainingCountById(2L)).thenReturn(Optional.of(5));
+
+    // when
+    service.restore(10L, payment);
+
+    // then
+    assertThat(usage.getDeletedAt()).isNotNull();
+    CustomerMembershipHistory restored = savedHistory();
+    assertThat(restored.getMovementType()).isEqualTo(PassMovementType.RESTORE);
+    assertThat(restored.getCustomerSessionPassId()).isEqualTo(2L);
+    assertThat(restored.getUsedCount()).isEqualTo(2);
+    assertThat(restored.getRemainingAfter()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("성공: 관리자 수정은 조회한 버전의 잔액과의 차이를 조정 이력으로 남긴다")
+  void adjustPrepaidPass_recordsDelta() {
+    // given
+    CustomerPrepaidPass pass = prepaidPass(3L, 10000);
+    Date expirationDate = new Date();
+    when(prepaidRepository.adjustAmount(eq(1L), eq(3L), eq(-3000), eq(expirationDate), any()))
+        .thenReturn(1);
+
+    // when
+    service.adjustPrepaidPass(1L, 3L, 7000, expirationDate);
+
+    // then
+    CustomerMembershipHistory history = savedHistory();
+    assertThat(history.getMovementType()).isEqualTo(PassMovementType.ADJUST);
+    assertThat(history.getCustomerPrepaidPassId()).isEqualTo(1L);
+    assertThat(history.getUsedAmount()).isEqualTo(-3000);
+    assertThat(history.getRemainingAfter()).isEqualTo(7000);
+    assertThat(history.getSalesId()).isNull();
+    assertThat(history.getPaymentsId()).isNull();
+    verify(prepaidRepository, never()).save(pass);
+  }
+
+  @Test
+  @DisplayName("성공: 유효기간만 바꾸면 잔액은 그대로 두고 이력을 남기지 않는다")
+  void adjustPrepaidPass_expirationOnly() {
+    // given
+    prepaidPass(3L, 10000);
+    Date expirationDate = new Date();
+    when(prepaidRepository.adjustAmount(eq(1L), eq(3L), eq(0), eq(expirationDate), any()))
+        .thenReturn(1);
+
+    // when
+    service.adjustPrepaidPass(1L, 3L, null, expirationDate);
+
+    // then
+    verify(historyRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("실패: 조회 이후 결제로 버전이 바뀌었으면 덮어쓰지 않는다")
+  void adjustPrepaidPass_versionMoved() {
+    // given
+    prepaidPass(4L, 7000);
+
+    // when & then
+    BusinessException ex =
+        assertThrows(
+            BusinessException.class, () -> service.adjustPrepaidPass(1L, 3L, 7000, null));
+    assertEquals(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE, ex.getErrorCode());
+    verify(prepaidRepository, never()).adjustAmount(any(), any(), anyInt(), any(), any());
+    verify(historyRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("실패: 읽은 뒤 조정 전에 버전이 바뀌면 다시 시도하지 않고 실패한다")
+  void adjustPrepaidPass_versionMovedBeforeUpdate() {
+    // given
+    prepaidPass(3L, 10000);
+    when(prepaidRepository.adjustAmount(eq(1L), eq(3L), eq(-3000), any(), any())).thenReturn(0);
+
+    // when & then
+    BusinessException ex =
+        assertThrows(
+            BusinessException.class, () -> service.adjustPrepaidPass(1L, 3L, 7000, null));
+    assertEquals(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE, ex.getErrorCode());
+    verify(prepaidRepository, times(1)).findById(1L);
+    verify(prepaidRepository, times(1)).adjustAmount(any(), any(), anyInt(), any(), any());
+    verify(historyRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("실패: 없는 선불권은 조정하지 않는다")
+  void adjustPrepaidPass_notFound() {
+    // given
+    when(prepaidRepository.findById(1L)).thenReturn(Optional.empty());
+
+    // when & then
+    BusinessException ex =
+        assertThrows(
+            BusinessException.class, () -> service.adjustPrepaidPass(1L, 3L, 7000, null));
+    assertEquals(ErrorCode.CUSTOMERPREPAIDPASS_NOT_FOUND, ex.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("성공: 횟수권 관리자 수정도 차이만큼 조정 이력을 남긴다")
+  void adjustSessionPass_recordsDelta() {
+    // given
+    CustomerSessionPass pass = mock(CustomerSessionPass.class);
+    when(pass.getVersion()).thenReturn(2L);
+    when(pass.getRemainingCount()).thenReturn(3);
+    when(sessionRepository.findById(2L)).thenReturn(Optional.of(pass));
+    when(sessionRepository.adjustCount(eq(2L), eq(2L), eq(2), any(), any())).thenReturn(1);
+
+    // when
+    service.adjustSessionPass(2L, 2L, 5, null);
+
+    // then
+    CustomerMembershipHistory history = savedHistory();
+    assertThat(history.getMovementType()).isEqualTo(PassMovementType.ADJUST);
+    assertThat(history.getCustomerSessionPassId()).isEqualTo(2L);
+    assertThat(history.getUsedCount()).isEqualTo(2);
+    assertThat(history.getRemainingAfter()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("실패: 횟수권도 버전이 바뀌었으면 덮어쓰지 않는다")
+  void adjustSessionPass_versionMoved() {
+    // given
+    CustomerSessionPass pass = mock(CustomerSessionPass.class);
+    when(pass.getVersion()).thenReturn(3L);
+    when(sessionRepository.findById(2L)).thenReturn(Optional.of(pass));
+
+    // when & then
+    BusinessException ex =
+        assertThrows(BusinessException.class, () -> service.adjustSessionPass(2L, 2L, 5, null));
+    assertEquals(ErrorCode.CUSTOMERPASS_CONCURRENT_UPDATE, ex.getErrorCode());
+    verify(sessionRepository, never()).adjustCount(any(), any(), anyInt(), any(), any());
+  }
+
+  private CustomerPrepaidPass prepaidPass(Long version, int remainingAmount) {
+    CustomerPrepaidPass pass = mock(CustomerPrepaidPass.class);
+    when(pass.getVersion()).thenReturn(version);
+    when(pass.getRemainingAmount()).thenReturn(remainingAmount);
+    when(prepaidRepository.findById(1L)).thenReturn(Optional.of(pass));
+    return pass;
+  }
+
+  private CustomerMembershipHistory savedHistory() {
+    ArgumentCaptor<CustomerMembershipHistory> captor =
+        ArgumentCaptor.forClass(CustomerMembershipHistory.class);
+    verify(historyRepository).save(captor.capture());
+    return captor.getValue();
+  }
+}
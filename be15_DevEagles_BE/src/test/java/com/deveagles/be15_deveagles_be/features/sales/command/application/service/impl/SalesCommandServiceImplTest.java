@@ -3,10 +3,15 @@ package com.deveagles.be15_deveagles_be.features.sales.command.application.servi
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.ItemSales;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.Sales;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.ItemSalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +20,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 class SalesCommandServiceImplTest {
 
   @Mock private SalesRepository salesRepository;
+  @Mock private ItemSalesRepository itemSalesRepository;
+  @Mock private SalesRollupCommandService salesRollupCommandService;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private SalesCommandServiceImpl salesCommandService;
 
@@ -34,6 +43,7 @@ class SalesCommandServiceImplTest {
     Long salesId = 1L;
     Sales sales = mock(Sales.class);
     when(sales.isRefunded()).thenReturn(false);
+    when(sales.getShopId()).thenReturn(4L);
     when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
 
     // when
@@ -41,6 +51,28 @@ class SalesCommandServiceImplTest {
 
     // then
     verify(sales).setRefunded(true);
+    verify(salesRollupCommandService)
+        .refund(argThat((SalesRollupEntry entry) -> !entry.couponApplied()));
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
+  }
+
+  @Test
+  @DisplayName("성공: 쿠폰이 적용된 매출 환불은 쿠폰 할인도 집계에서 뺀다")
+  void refundSales_couponApplied() {
+    // given
+    Long salesId = 1L;
+    Sales sales = mock(Sales.class);
+    when(sales.isRefunded()).thenReturn(false);
+    when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
+    ItemSales itemSales = mock(ItemSales.class);
+    when(itemSales.getCouponId()).thenReturn(9L);
+    when(itemSalesRepository.findBySalesId(salesId)).thenReturn(Optional.of(itemSales));
+
+    // when
+    salesCommandService.refundSales(salesId);
+
+    // then
+    verify(salesRollupCommandService).refund(argThat(SalesRollupEntry::couponApplied));
   }
 
   @Test
@@ -78,6 +110,7 @@ class SalesCommandServiceImplTest {
     Long salesId = 1L;
     Sales sales = mock(Sales.class);
     when(sales.getDeletedAt()).thenReturn(null);
+    when(sales.getShopId()).thenReturn(3L);
     when(salesRepository.findById(salesId)).thenReturn(Optional.of(sales));
 
     // when
@@ -85,6 +118,7 @@ class SalesCommandServiceImplTest {
 
     // then
     verify(sales).delete(); // soft delete가 호출됐는지 확인
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(3L));
   }
 
   @Test
@@ -3,6 +3,7 @@ package com.deveagles.be15_deveagles_be.features.sales.command.application.servi
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.membership.command.application.service.CustomerSessionPassCommandService;
@@ -16,12 +17,14 @@ import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.S
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.PaymentsRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SalesRepository;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.repository.SessionPassSalesRepository;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 class SessionPassSalesCommandServiceImplTest {
 
@@ -31,6 +34,8 @@ class SessionPassSalesCommandServiceImplTest {
   private SessionPassSalesCommandServiceImpl service;
   private SessionPassRepository sessionPassRepository;
   private CustomerSessionPassCommandService customerSessionPassCommandService;
+  private SalesRollupCommandService salesRollupCommandService;
+  private ApplicationEventPublisher eventPublisher;
 
   @BeforeEach
   void setUp() {
@@ -39,6 +44,8 @@ class SessionPassSalesCommandServiceImplTest {
     paymentsRepository = mock(PaymentsRepository.class);
     sessionPassRepository = mock(SessionPassRepository.class);
     customerSessionPassCommandService = mock(CustomerSessionPassCommandService.class);
+    salesRollupCommandService = mock(SalesRollupCommandService.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
 
     service =
         new SessionPassSalesCommandServiceImpl(
@@ -46,7 +53,9 @@ class SessionPassSalesCommandServiceImplTest {
             sessionPassRepository,
             salesRepository,
             paymentsRepository,
-            customerSessionPassCommandService);
+            customerSessionPassCommandService,
+            salesRollupCommandService,
+            eventPublisher);
   }
 
   // ===== 등록 테스트 =====
@@ -100,6 +109,7 @@ class SessionPassSalesCommandServiceImplTest {
     verify(sessionPassSalesRepository).save(any());
     verify(paymentsRepository).save(any());
     verify(customerSessionPassCommandService).registCustomerSessionPass(any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
   }
 
   // ===== 수정 테스트 =====
@@ -121,6 +131,8 @@ class SessionPassSalesCommandServiceImplTest {
     Sales salesMock = mock(Sales.class);
 
     when(salesRepository.findById(salesId)).thenReturn(Optional.of(salesMock));
+    // 다른 매장(9)에서 요청 매장(4)으로 옮긴다
+    when(salesMock.getShopId()).thenReturn(9L, 4L);
 
     service.updateSessionPassSales(salesId, request);
 
@@ -141,6 +153,23 @@ class SessionPassSalesCommandServiceImplTest {
     verify(sessionPassSalesRepository).save(any());
     verify(paymentsRepository).deleteBySalesId(salesId);
     verify(paymentsRepository, times(1)).save(any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(9L));
+  }
+
+  @Test
+  @DisplayName("성공: 수정 - 환불된 매출은 집계를 건드리지 않지만 통계 변경은 알린다")
+  void updateRefundedSalesPublishesStatisticsChange() {
+    Long salesId = 1L;
+    Sales salesMock = mock(Sales.class);
+    when(salesRepository.findById(salesId)).thenReturn(Optional.of(salesMock));
+    when(salesMock.getShopId()).thenReturn(4L);
+    when(salesMock.getIsRefunded()).thenReturn(true);
+
+    service.updateSessionPassSales(salesId, validRequest());
+
+    verify(salesRollupCommandService, never()).replace(any(), any());
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(4L));
   }
 
   // ===== 유틸 =====
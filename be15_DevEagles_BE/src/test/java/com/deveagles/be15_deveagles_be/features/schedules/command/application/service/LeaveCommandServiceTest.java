@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.StaffLeaveChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.*;
@@ -16,11 +17,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 
 public class LeaveCommandServiceTest {
 
   @Mock private LeaveRepository leaveRepository;
   @Mock private RegularLeaveRepository regularLeaveRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private LeaveCommandService leaveCommandService;
 
   private final Long shopId = 1L;
@@ -41,6 +44,7 @@ public class LeaveCommandServiceTest {
 
     assertThat(result).isEqualTo(100L);
     verify(leaveRepository).save(any());
+    verify(eventPublisher).publishEvent(new StaffLeaveChangedEvent(shopId));
   }
 
   @Test
@@ -141,6 +145,7 @@ public class LeaveCommandServiceTest {
 
     verify(leaveRepository).deleteAllInBatch(leaveList);
     verify(regularLeaveRepository).deleteAllInBatch(regularList);
+    verify(eventPublisher).publishEvent(new StaffLeaveChangedEvent(shopId));
   }
 
   @Test
@@ -0,0 +1,198 @@
+package com.deveagles.be15_deveagles_be.features.schedules.command.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.CreateReservationFullRequest;
+import com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository.ReservationDetailBatchWriter;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 여러 스레드가 같은 담당자들에게 동시에 {@link ReservationService#createFullReservation} 으로 예약을 넣어도 겹치는 예약이 저장되지
+ * 않는지 확인하고 예약 처리량을 출력한다. 담당자 행 잠금과 잠금 읽기 겹침 확인이 실제로 직렬화되는지 보려면 {@code SELECT ... FOR
+ * UPDATE} 를 따르는 DB 가 필요하므로 Testcontainers MariaDB 에서 돌린다. 스레드마다 서비스 트랜잭션으로 커밋하므로 테스트 트랜잭션은
+ * 쓰지 않는다. 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+  QueryDslConfig.class,
+  CustomerSearchOutboxWriter.class,
+  ReservationService.class,
+  ReservationDetailBatchWriter.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("담당자 동시 예약 스트레스 테스트")
+class ReservationBookingConcurrencyStressTest {
+
+  @Container @ServiceConnection
+  static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+  private static final Long SHOP_ID = 1L;
+  private static final int THREADS = 16;
+  private static final int ATTEMPTS_PER_THREAD = 200;
+  private static final int STAFFS = 4;
+  // 하루 10:00 부터 30분 간격 시작 시각 20개, 예약 길이 60분이라 이웃 시작 시각끼리도 겹친다
+  private static final int START_SLOTS = 20;
+  private static final int DAYS = 5;
+  private static final int DURATION_MINUTES = 60;
+  private static final List<Long> ITEMS = List.of(1L, 2L, 3L);
+  private static final LocalDateTime FIRST_OPEN = LocalDateTime.of(2026, 11, 2, 10, 0);
+
+  @Autowired private ReservationService reservationService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean private CustomerQueryService customerQueryService;
+
+  @BeforeEach
+  void setUp() {
+    // 겹침 조회가 기대하는 운영 인덱스
+    jdbcTemplate.execute(
+        "CREATE INDEX IF NOT EXISTS idx_reservation_staff_start"
+            + " ON reservation (staff_id, reservation_start_at)");
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (long staffId = 1; staffId <= STAFFS; staffId++) {
+      jdbcTemplate.update(
+          "INSERT INTO staff (staff_id, shop_id, login_id, password, staff_name, grade,"
+              + " phone_number, color_code, staff_status, created_at, modified_at)"
+              + " VALUES (?, ?, ?, 'pw', '담당자', '디자이너', '01000000000', '#000000', 'STAFF',"
+              + " ?, ?)",
+          staffId,
+          SHOP_ID,
+          "staff" + staffId,
+          now,
+          now);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM reservation_detail");
+    jdbcTemplate.update("DELETE FROM reservation");
+    jdbcTemplate.update("DELETE FROM staff");
+  }
+
+  @Test
+  @DisplayName("담당자 4명에게 16개 스레드가 동시에 예약해도 겹치는 예약이 없다")
+  void 동시_예약_겹침_없음() throws Exception {
+    // given
+    AtomicInteger conflicts = new AtomicInteger();
+    AtomicInteger lockFailures = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+
+    // when
+    for (int t = 0; t < THREADS; t++) {
+      results.add(
+          pool.submit(
+              () -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int booked = 0;
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                  LocalDateTime startAt =
+                      FIRST_OPEN
+                          .plusDays(random.nextInt(DAYS))
+                          .plusMinutes(30L * random.nextInt(START_SLOTS));
+                  try {
+                    reservationService.createFullReservation(
+                        SHOP_ID,
+                        new CreateReservationFullRequest(
+                            1L + random.nextInt(STAFFS),
+                            null,
+                            null,
+                            null,
+                            startAt,
+                            startAt.plusMinutes(DURATION_MINUTES),
+                            ITEMS));
+                    booked++;
+                  } catch (BusinessException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+                    conflicts.incrementAndGet();
+                  } catch (PessimisticLockingFailureException e) {
+                    lockFailures.incrementAndGet();
+                  }
+                }
+                return booked;
+              }));
+    }
+    long startedAt = System.nanoTime();
+    start.countDown();
+    int booked = 0;
+    for (Future<Integer> result : results) {
+      booked += result.get();
+    }
+    long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+    pool.shutdown();
+
+    // then
+    int attempts = THREADS * ATTEMPTS_PER_THREAD;
+    System.out.printf(
+        "[benchmark] booking (%d threads, %d attempts, %d staffs): booked=%d, conflicts=%d,"
+            + " lock failures=%d, %d ms, %.0f attempts/s, %.0f bookings/s%n",
+        THREADS,
+        attempts,
+        STAFFS,
+        booked,
+        conflicts.get(),
+        lockFailures.get(),
+        elapsedMillis,
+        attempts * 1000.0 / elapsedMillis,
+        booked * 1000.0 / elapsedMillis);
+
+    assertThat(booked).isPositive();
+    assertThat(booked + conflicts.get() + lockFailures.get()).isEqualTo(attempts);
+    assertThat(overlappingPairs()).isZero();
+    // 확보한 예약마다 시술 항목이 모두 들어갔다
+    assertThat(count("SELECT COUNT(*) FROM reservation")).isEqualTo(booked);
+    assertThat(count("SELECT COUNT(*) FROM reservation_detail"))
+        .isEqualTo((long) booked * ITEMS.size());
+  }
+
+  private long overlappingPairs() {
+    return count(
+        "SELECT COUNT(*) FROM reservation a JOIN reservation b"
+            + " ON a.staff_id = b.staff_id AND a.reservation_id < b.reservation_id"
+            + " AND a.reservation_start_at < b.reservation_end_at"
+            + " AND b.reservation_start_at < a.reservation_end_at"
+            + " WHERE a.deleted_at IS NULL AND b.deleted_at IS NULL");
+  }
+
+  private long count(String sql) {
+    return jdbcTemplate.queryForObject(sql, Long.class);
+  }
+}
@@ -4,19 +4,32 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.deveagles.be15_deveagles_be.common.events.ReservationCreatedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationStatusChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.ReservationStatusChangedEvent.StatusChange;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerIdResponse;
 import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.CreateReservationFullRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.CreateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationStatusRequest;
+import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.response.ReservationStatusChangeResult;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.DayOfWeekEnum;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.RegularLeave;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.RegularPlan;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.Reservation;
-import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationDetail;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationStatusName;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.LeaveRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.PlanRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.RegularLeaveRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.RegularPlanRepository;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationDetailRepository;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.repository.ReservationRepository;
+import com.deveagles.be15_deveagles_be.features.schedules.command.infrastructure.repository.ReservationDetailBatchWriter;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +45,16 @@ class ReservationServiceTest {
 
   @Mock private ReservationDetailRepository reservationDetailRepository;
 
+  @Mock private ReservationDetailBatchWriter reservationDetailBatchWriter;
+
+  @Mock private PlanRepository planRepository;
+
+  @Mock private LeaveRepository leaveRepository;
+
+  @Mock private RegularLeaveRepository regularLeaveRepository;
+
+  @Mock private RegularPlanRepository regularPlanRepository;
+
   @Mock private CustomerQueryService customerQueryService;
 
   @Mock private ApplicationEventPublisher eventPublisher;
@@ -41,6 +64,8 @@ class ReservationServiceTest {
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(reservationRepository.lockStaff(anyLong()))
+        .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
   }
 
   private CreateReservationRequest buildRequest() {
@@ -82,8 +107,9 @@ class ReservationServiceTest {
 
     // then
     assertThat(resultId).isEqualTo(123L);
+    verify(reservationRepository).lockStaff(2L);
     verify(reservationRepository).save(any(Reservation.class));
-    verify(reservationDetailRepository, times(2)).save(any(ReservationDetail.class));
+    verify(reservationDetailBatchWriter).insertAll(123L, List.of(101L, 102L));
     verify(eventPublisher).publishEvent(any(ReservationCreatedEvent.class));
   }
 
@@ -110,7 +136,7 @@ class ReservationServiceTest {
     // then
     assertThat(resultId).isEqualTo(456L);
     verify(reservationRepository).save(any(Reservation.class));
-    verify(reservationDetailRepository, times(2)).save(any(ReservationDetail.class));
+    verify(reservationDetailBatchWriter).insertAll(456L, List.of(101L, 102L));
     verify(eventPublisher).publishEvent(any(ReservationCreatedEvent.class));
   }
 
@@ -142,7 +168,78 @@ class ReservationServiceTest {
     // then
     assertThat(resultId).isEqualTo(789L);
     verify(reservationRepository).save(any(Reservation.class));
-    verify(reservationDetailRepository, times(2)).save(any(ReservationDetail.class));
+    verify(reservationDetailBatchWriter).insertAll(789L, List.of(101L, 102L));
+  }
+
+  @Test
+  @DisplayName("담당자의 다른 예약과 시간이 겹치면 저장하지 않고 거절한다")
+  void createFullReservation_overlappingReservation_throws() {
+    // given
+    LocalDateTime startAt = LocalDateTime.now().plusDays(1);
+    CreateReservationFullRequest request =
+        new CreateReservationFullRequest(
+            1L, 2L, null, null, startAt, startAt.plusHours(1), List.of(101L));
+    when(reservationRepository.findOverlappingIds(
+            2L, startAt.minusDays(1), startAt, startAt.plusHours(1), null))
+        .thenReturn(List.of(55L));
+
+    // when & then
+    assertThatThrownBy(() -> reservationService.createFullReservation(1L, request))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+    verify(reservationRepository).lockStaff(2L);
+    verify(reservationRepository, never()).save(any(Reservation.class));
+    verifyNoInteractions(reservationDetailBatchWriter);
+  }
+
+  @Test
+  @DisplayName("겹침 조회 범위보다 긴 예약은 담당자를 잠그기 전에 거절한다")
+  void createFullReservation_longerThanMaxDuration_throws() {
+    // given
+    LocalDateTime startAt = LocalDateTime.now().plusDays(1);
+    CreateReservationFullRequest request =
+        new CreateReservationFullRequest(
+            1L, 2L, null, null, startAt, startAt.plusHours(25), List.of(101L));
+
+    // when & then
+    assertThatThrownBy(() -> reservationService.createFullReservation(1L, request))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_RESERVATION_TIME_RANGE);
+    verify(reservationRepository, never()).lockStaff(anyLong());
+    verify(reservationRepository, never()).save(any(Reservation.class));
+  }
+
+  @Test
+  @DisplayName("예약 수정 시 자기 자신은 빼고, 담당자의 단기 일정과 겹치면 거절한다")
+  void updateReservation_overlappingPlan_throws() {
+    // given
+    Long reservationId = 1L;
+    Reservation reservation =
+        Reservation.builder()
+            .reservationId(reservationId)
+            .shopId(10L)
+            .staffId(2L)
+            .reservationStatusName(ReservationStatusName.PENDING)
+            .build();
+    when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+    LocalDateTime startAt = LocalDateTime.now().plusDays(1);
+    when(planRepository.existsByStaffIdAndPlanStartAtBeforeAndPlanEndAtAfter(
+            3L, startAt.plusHours(1), startAt))
+        .thenReturn(true);
+    UpdateReservationRequest request =
+        new UpdateReservationRequest(
+            3L, "CONFIRMED", null, null, startAt, startAt.plusHours(1), List.of());
+
+    // when & then
+    assertThatThrownBy(() -> reservationService.updateReservation(10L, reservationId, request))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+    verify(reservationRepository)
+        .findOverlappingIds(3L, startAt.minusDays(1), startAt, startAt.plusHours(1), reservationId);
+    assertThat(reservation.getStaffId()).isEqualTo(2L);
   }
 
   @Test
@@ -178,8 +275,9 @@ class ReservationServiceTest {
     reservationService.updateReservation(shopId, reservationId, request);
 
     // then
+    verify(reservationRepository).lockStaff(3L);
     verify(reservationDetailRepository).deleteByReservationId(reservationId);
-    verify(reservationDetailRepository).saveAll(anyList());
+    verify(reservationDetailBatchWriter).insertAll(reservationId, List.of(201L, 202L));
   }
 
   @Test
@@ -207,7 +305,7 @@ class ReservationServiceTest {
   }
 
   @Test
-  @DisplayName("예약 상태 일괄 변경 성공")
+  @DisplayName("예약 상태 일괄 변경 성공 - 한 번에 읽고 상태별로 한 번씩 반영한 뒤 이벤트를 한 번 발행")
   void changeReservationStatuses_success() {
     // given
     Long shopId = 1L;
@@ -216,6 +314,8 @@ class ReservationServiceTest {
         Reservation.builder()
             .reservationId(100L)
             .shopId(shopId)
+            .staffId(2L)
+            .customerId(7L)
             .reservationStatusName(ReservationStatusName.PENDING)
             .build();
 
@@ -226,25 +326,58 @@ class ReservationServiceTest {
             .reservationStatusName(ReservationStatusName.PENDING)
             .build();
 
-    when(reservationRepository.findById(100L)).thenReturn(Optional.of(res1));
-    when(reservationRepository.findById(101L)).thenReturn(Optional.of(res2));
+    Reservation res3 =
+        Reservation.builder()
+            .reservationId(102L)
+            .shopId(shopId)
+            .reservationStatusName(ReservationStatusName.CONFIRMED)
+            .build();
+
+    when(reservationRepository.findAllById(anyCollection()))
+        .thenReturn(List.of(res1, res2, res3));
+    when(reservationRepository.updateStatuses(anyCollection(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
 
     List<UpdateReservationStatusRequest> requestList =
         List.of(
             new UpdateReservationStatusRequest(100L, ReservationStatusName.CONFIRMED),
-            new UpdateReservationStatusRequest(101L, ReservationStatusName.CBC));
+            new UpdateReservationStatusRequest(101L, ReservationStatusName.CBC),
+            new UpdateReservationStatusRequest(102L, ReservationStatusName.CONFIRMED));
 
     // when
-    reservationService.changeReservationStatuses(shopId, requestList);
+    List<ReservationStatusChangeResult> results =
+        reservationService.changeReservationStatuses(shopId, requestList);
 
     // then
-    assertThat(res1.getReservationStatusName()).isEqualTo(ReservationStatusName.CONFIRMED);
-    assertThat(res2.getReservationStatusName()).isEqualTo(ReservationStatusName.CBC);
+    assertThat(results).allMatch(ReservationStatusChangeResult::success).hasSize(3);
+    verify(reservationRepository, times(1)).findAllById(anyCollection());
+    verify(reservationRepository, never()).findById(anyLong());
+    verify(reservationRepository)
+        .updateStatuses(
+            eq(List.of(100L)),
+            eq(ReservationStatusName.CONFIRMED),
+            eq(ReservationStatusName.PAID),
+            any());
+    verify(reservationRepository)
+        .updateStatuses(
+            eq(List.of(101L)),
+            eq(ReservationStatusName.CBC),
+            eq(ReservationStatusName.PAID),
+            any());
+
+    // 이미 CONFIRMED 인 102 는 바뀐 것이 없으므로 이벤트에서 빠진다
+    ArgumentCaptor<ReservationStatusChangedEvent> event =
+        ArgumentCaptor.forClass(ReservationStatusChangedEvent.class);
+    verify(eventPublisher, times(1)).publishEvent(event.capture());
+    assertThat(event.getValue().changes())
+        .containsExactly(
+            new StatusChange(100L, 2L, 7L, "PENDING", "CONFIRMED"),
+            new StatusChange(101L, null, null, "PENDING", "CBC"));
   }
 
   @Test
-  @DisplayName("예약 상태 일괄 변경 실패 - PAID 상태 포함")
-  void changeReservationStatuses_paid_throws() {
+  @DisplayName("예약 상태 일괄 변경 - PAID 예약과 다른 매장 예약은 실패로 돌려주고 나머지는 반영")
+  void changeReservationStatuses_paidAndForeign_reportedPerItem() {
     // given
     Long shopId = 1L;
 
@@ -254,15 +387,178 @@ class ReservationServiceTest {
             .shopId(shopId)
             .reservationStatusName(ReservationStatusName.PAID)
             .build();
+    Reservation foreignReservation =
+        Reservation.builder()
+            .reservationId(101L)
+            .shopId(999L)
+            .reservationStatusName(ReservationStatusName.PENDING)
+            .build();
+    Reservation pendingReservation =
+        Reservation.builder()
+            .reservationId(102L)
+            .shopId(shopId)
+            .reservationStatusName(ReservationStatusName.PENDING)
+            .build();
 
-    when(reservationRepository.findById(100L)).thenReturn(Optional.of(paidReservation));
+    when(reservationRepository.findAllById(anyCollection()))
+        .thenReturn(List.of(paidReservation, foreignReservation, pendingReservation));
+    when(reservationRepository.updateStatuses(anyCollection(), any(), any(), any()))
+        .thenReturn(1);
 
     List<UpdateReservationStatusRequest> requestList =
-        List.of(new UpdateReservationStatusRequest(100L, ReservationStatusName.CONFIRMED));
+        List.of(
+            new UpdateReservationStatusRequest(100L, ReservationStatusName.CONFIRMED),
+            new UpdateReservationStatusRequest(101L, ReservationStatusName.CONFIRMED),
+            new UpdateReservationStatusRequest(102L, ReservationStatusName.NO_SHOW),
+            new UpdateReservationStatusRequest(103L, ReservationStatusName.NO_SHOW));
+
+    // when
+    List<ReservationStatusChangeResult> results =
+        reservationService.changeReservationStatuses(shopId, requestList);
+
+    // then
+    assertThat(results)
+        .containsExactly(
+            ReservationStatusChangeResult.failed(
+                100L, ErrorCode.MODIFY_NOT_ALLOWED_FOR_PAID_RESERVATION),
+            ReservationStatusChangeResult.failed(101L, ErrorCode.RESERVATION_NOT_FOUND),
+            ReservationStatusChangeResult.changed(102L),
+            ReservationStatusChangeResult.failed(103L, ErrorCode.RESERVATION_NOT_FOUND));
+    verify(reservationRepository)
+        .updateStatuses(
+            eq(List.of(102L)),
+            eq(ReservationStatusName.NO_SHOW),
+            eq(ReservationStatusName.PAID),
+            any());
+    verify(reservationRepository, times(1)).updateStatuses(anyCollection(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("담당자의 정기 휴무 요일에 걸친 예약은 거절한다")
+  void createReservation_regularLeave_throws() {
+    // given
+    LocalDateTime startAt = LocalDateTime.of(2030, 1, 7, 10, 0); // 월요일
+    when(regularLeaveRepository.findByStaffId(2L))
+        .thenReturn(
+            List.of(RegularLeave.builder().staffId(2L).weeklyLeave(DayOfWeekEnum.MON).build()));
+    CreateReservationRequest request =
+        new CreateReservationRequest(
+            1L, 2L, null, "김하늘", "01012345678", null, startAt, startAt.plusHours(1), List.of());
+
+    // when & then
+    assertThatThrownBy(() -> reservationService.createReservation(request))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+    verify(reservationRepository, never()).save(any(Reservation.class));
+  }
+
+  @Test
+  @DisplayName("매월 반복 정기 일정은 그날의 일정 시간과 겹칠 때만 거절한다")
+  void updateReservation_regularPlan_conflictOnlyWhenTimesOverlap() {
+    // given
+    Long reservationId = 1L;
+    Reservation reservation =
+        Reservation.builder()
+            .reservationId(reservationId)
+            .shopId(10L)
+            .staffId(2L)
+            .reservationStatusName(ReservationStatusName.PENDING)
+            .build();
+    when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+    when(regularPlanRepository.findByStaffId(2L))
+        .thenReturn(
+            List.of(
+                RegularPlan.builder()
+                    .staffId(2L)
+                    .monthlyPlan(15)
+                    .weeklyPlan(DayOfWeekEnum.MON)
+                    .regularPlanStartAt(LocalTime.of(12, 0))
+                    .regularPlanEndAt(LocalTime.of(13, 0))
+                    .build()));
+    LocalDateTime morning = LocalDateTime.of(2030, 1, 15, 10, 0);
+    LocalDateTime lunch = LocalDateTime.of(2030, 1, 15, 12, 30);
+
+    // when
+    reservationService.updateReservation(
+        10L,
+        reservationId,
+        new UpdateReservationRequest(
+            2L, "CONFIRMED", null, null, morning, morning.plusHours(2), List.of()));
 
     // then
-    assertThatThrownBy(() -> reservationService.changeReservationStatuses(shopId, requestList))
+    assertThatThrownBy(
+            () ->
+                reservationService.updateReservation(
+                    10L,
+                    reservationId,
+                    new UpdateReservationRequest(
+                        2L, "CONFIRMED", null, null, lunch, lunch.plusHours(1), List.of())))
         .isInstanceOf(BusinessException.class)
-        .hasMessageContaining("PAID 상태의 예약은 수정할 수 없습니다");
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.RESERVATION_TIME_CONFLICT);
+  }
+
+  @Test
+  @DisplayName("예약 상태 일괄 변경 - 취소를 되돌리는 예약은 담당자 시간을 확보하고 겹치면 실패로 돌려준다")
+  void changeReservationStatuses_uncancel_claimsStaffInterval() {
+    // given
+    Long shopId = 1L;
+    LocalDateTime startAt = LocalDateTime.of(2030, 1, 8, 10, 0);
+    Reservation overlapsCommitted = cancelled(100L, shopId, 2L, startAt.plusHours(3));
+    Reservation reclaimed = cancelled(101L, shopId, 2L, startAt);
+    Reservation overlapsReclaimed = cancelled(102L, shopId, 2L, startAt.plusMinutes(30));
+    Reservation otherStaff = cancelled(103L, shopId, 3L, startAt);
+
+    when(reservationRepository.findAllById(anyCollection()))
+        .thenReturn(List.of(overlapsCommitted, reclaimed, overlapsReclaimed, otherStaff));
+    when(reservationRepository.findOverlappingIds(
+            2L,
+            startAt.plusHours(3).minusDays(1),
+            startAt.plusHours(3),
+            startAt.plusHours(4),
+            100L))
+        .thenReturn(List.of(55L));
+    when(reservationRepository.updateStatuses(anyCollection(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
+
+    List<UpdateReservationStatusRequest> requestList =
+        List.of(
+            new UpdateReservationStatusRequest(100L, ReservationStatusName.CONFIRMED),
+            new UpdateReservationStatusRequest(101L, ReservationStatusName.CONFIRMED),
+            new UpdateReservationStatusRequest(102L, ReservationStatusName.CONFIRMED),
+            new UpdateReservationStatusRequest(103L, ReservationStatusName.CONFIRMED));
+
+    // when
+    List<ReservationStatusChangeResult> results =
+        reservationService.changeReservationStatuses(shopId, requestList);
+
+    // then
+    assertThat(results)
+        .containsExactly(
+            ReservationStatusChangeResult.failed(100L, ErrorCode.RESERVATION_TIME_CONFLICT),
+            ReservationStatusChangeResult.changed(101L),
+            ReservationStatusChangeResult.failed(102L, ErrorCode.RESERVATION_TIME_CONFLICT),
+            ReservationStatusChangeResult.changed(103L));
+    verify(reservationRepository, atLeastOnce()).lockStaff(2L);
+    verify(reservationRepository).lockStaff(3L);
+    verify(reservationRepository)
+        .updateStatuses(
+            eq(List.of(101L, 103L)),
+            eq(ReservationStatusName.CONFIRMED),
+            eq(ReservationStatusName.PAID),
+            any());
+  }
+
+  private Reservation cancelled(
+      Long reservationId, Long shopId, Long staffId, LocalDateTime startAt) {
+    return Reservation.builder()
+        .reservationId(reservationId)
+        .shopId(shopId)
+        .staffId(staffId)
+        .reservationStatusName(ReservationStatusName.CBC)
+        .reservationStartAt(startAt)
+        .reservationEndAt(startAt.plusHours(1))
+        .build();
   }
 }
@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.schedules.command.application.dto.request.UpdateReservationSettingRequest;
 import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.ReservationSetting;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("예약 설정 수정 테스트")
@@ -29,6 +32,7 @@ class ReservationSettingCommandServiceTest {
 
   @Mock private ReservationSettingRepository reservationSettingRepository;
   @Mock private ShopCommandServiceImpl shopCommandService;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @Test
   void 기존_요일이_요청에_없으면_softDelete_처리된다() {
@@ -95,6 +99,8 @@ class ReservationSettingCommandServiceTest {
     reservationSettingCommandService.updateReservationSettings(shopId, List.of(req));
 
     verify(reservationSettingRepository).save(any());
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.RESERVATION_SETTINGS, shopId));
   }
 
   @Test
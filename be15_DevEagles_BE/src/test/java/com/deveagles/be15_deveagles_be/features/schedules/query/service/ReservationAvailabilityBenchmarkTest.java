@@ -0,0 +1,228 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse.DayAvailability;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse.StaffAvailability;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 직원 20명 매장의 30일 예약 가능 시간을 실제 {@link ReservationAvailabilityService} 와 {@code
+ * SlotAvailabilityMapper} 로 계산한다. 기간 전체를 한 번에 조회할 때와 화면이 날짜마다 하루씩 조회할 때(직원, 날짜별로 예약을 읽던 이전
+ * 호출 방식)를 비교하고 두 결과가 같은지 확인한다. 예약 이력 1년치와 단기 일정, 휴무, 정기 일정/휴무를 넣고 운영과 같은 실행 계획을 보도록
+ * Testcontainers MariaDB 에서 돌린다. 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(MybatisAutoConfiguration.class)
+@Import({
+  QueryDslConfig.class,
+  CustomerSearchOutboxWriter.class,
+  ReservationAvailabilityService.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("예약 가능 시간 조회 벤치마크")
+class ReservationAvailabilityBenchmarkTest {
+
+  @Container @ServiceConnection
+  static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+  private static final Long SHOP_ID = 1L;
+  private static final int STAFFS = 20;
+  private static final int DAYS = 30;
+  // 조회 기간 앞뒤로 쌓인 예약 이력
+  private static final int HISTORY_DAYS = 365;
+  private static final int RESERVATIONS_PER_STAFF_PER_DAY = 8;
+  private static final int SLOT_MINUTES = 30;
+  private static final LocalDate FROM = LocalDate.of(2026, 11, 1);
+  private static final LocalDate TO = FROM.plusDays(DAYS - 1);
+  private static final int WARMUP = 5;
+  private static final int ITERATIONS = 20;
+
+  @Autowired private ReservationAvailabilityService reservationAvailabilityService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean private ReservationSettingQueryService reservationSettingQueryService;
+
+  @BeforeEach
+  void setUp() {
+    Map<Integer, CustomerReservationSettingResponse> settings = new HashMap<>();
+    for (int day = 1; day <= 7; day++) {
+      settings.put(
+          day,
+          new CustomerReservationSettingResponse(
+              LocalTime.of(10, 0),
+              LocalTime.of(20, 0),
+              LocalTime.of(13, 0),
+              LocalTime.of(14, 0),
+              SLOT_MINUTES));
+    }
+    given(reservationSettingQueryService.getWeeklySettings(SHOP_ID)).willReturn(settings);
+  }
+
+  @Test
+  @DisplayName("직원 20명, 30일 예약 가능 시간: 날짜별 조회 vs 기간 조회")
+  void 날짜별_기간_조회_비교() {
+    // given
+    seed();
+
+    // when
+    SlotAvailabilityResponse range =
+        reservationAvailabilityService.getAvailability(SHOP_ID, FROM, TO, null);
+    Map<Long, List<DayAvailability>> perDay = perDay();
+
+    // then
+    assertThat(range.staffs()).hasSize(STAFFS);
+    for (StaffAvailability staff : range.staffs()) {
+      assertThat(staff.days()).hasSize(DAYS).isEqualTo(perDay.get(staff.staffId()));
+    }
+    assertThat(range.staffs())
+        .flatMap(StaffAvailability::days)
+        .anySatisfy(day -> assertThat(day.freeTimes()).isEmpty())
+        .anySatisfy(day -> assertThat(day.freeTimes()).isNotEmpty());
+
+    long perDayNanos = time(this::perDay);
+    long rangeNanos =
+        time(() -> reservationAvailabilityService.getAvailability(SHOP_ID, FROM, TO, null));
+    System.out.printf(
+        "[benchmark] availability (%d staffs, %d days, %d reservations): per day avg=%.3fms"
+            + " (%d calls), range avg=%.3fms (1 call), speedup=%.1fx%n",
+        STAFFS,
+        DAYS,
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation", Long.class),
+        perDayNanos / 1_000_000.0,
+        DAYS,
+        rangeNanos / 1_000_000.0,
+        (double) perDayNanos / Math.max(rangeNanos, 1));
+  }
+
+  /** 화면이 날짜마다 하루씩 조회해 직원별로 이어 붙인 결과 */
+  private Map<Long, List<DayAvailability>> perDay() {
+    Map<Long, List<DayAvailability>> result = new LinkedHashMap<>();
+    for (LocalDate date = FROM; !date.isAfter(TO); date = date.plusDays(1)) {
+      for (StaffAvailability staff :
+          reservationAvailabilityService.getAvailability(SHOP_ID, date, date, null).staffs()) {
+        result.computeIfAbsent(staff.staffId(), id -> new ArrayList<>()).addAll(staff.days());
+      }
+    }
+    return result;
+  }
+
+  /** 워밍업 후 평균 실행 시간(ns) */
+  private long time(Runnable call) {
+    for (int i = 0; i < WARMUP; i++) {
+      call.run();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      call.run();
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  // 조회 기간을 가운데 둔 1년치 예약(10건 중 1건은 고객 취소)과 직원마다 단기 일정, 휴무, 정기 일정/휴무를 넣는다
+  private void seed() {
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_reservation_staff_start"
+            + " ON reservation (staff_id, reservation_start_at)");
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (long staffId = 1; staffId <= STAFFS; staffId++) {
+      jdbcTemplate.update(
+          "INSERT INTO staff (staff_id, shop_id, login_id, password, staff_name, grade,"
+              + " phone_number, color_code, staff_status, created_at, modified_at)"
+              + " VALUES (?, ?, ?, 'pw', '담당자', '디자이너', '01000000000', '#000000', 'STAFF',"
+              + " ?, ?)",
+          staffId,
+          SHOP_ID,
+          "staff" + staffId,
+          now,
+          now);
+    }
+
+    // 직원마다 하루 8건, 영업 시간 10:00~20:00 의 30분 칸 중 하나에서 시작하는 40분 예약
+    jdbcTemplate.update(
+        "INSERT INTO reservation (staff_id, shop_id, reservation_status_name,"
+            + " reservation_start_at, reservation_end_at, created_at, modified_at)"
+            + " SELECT 1 + seq % ?, ?, IF(seq % 10 = 0, 'CBC', 'CONFIRMED'), t, t + INTERVAL 40"
+            + " MINUTE, NOW(), NOW()"
+            + " FROM (SELECT seq, TIMESTAMP(?) + INTERVAL (seq DIV ?) DAY"
+            + " + INTERVAL (600 + 30 * ((seq * 7) % 20)) MINUTE AS t"
+            + " FROM seq_0_to_"
+            + (HISTORY_DAYS * STAFFS * RESERVATIONS_PER_STAFF_PER_DAY - 1)
+            + ") s",
+        STAFFS,
+        SHOP_ID,
+        FROM.minusDays(HISTORY_DAYS / 2),
+        STAFFS * RESERVATIONS_PER_STAFF_PER_DAY);
+
+    // 직원마다 사흘에 한 번 15:00~17:00 단기 일정
+    jdbcTemplate.update(
+        "INSERT INTO plan (staff_id, shop_id, plan_title, plan_start_at, plan_end_at)"
+            + " SELECT 1 + seq % ?, ?, '교육', t, t + INTERVAL 2 HOUR"
+            + " FROM (SELECT seq, TIMESTAMP(?) + INTERVAL (3 * (seq DIV ?)) DAY"
+            + " + INTERVAL 15 HOUR AS t FROM seq_0_to_"
+            + (STAFFS * (DAYS / 3) - 1)
+            + ") s",
+        STAFFS,
+        SHOP_ID,
+        FROM,
+        STAFFS);
+
+    String[] weekdays = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+    for (long staffId = 1; staffId <= STAFFS; staffId++) {
+      jdbcTemplate.update(
+          "INSERT INTO `leave` (staff_id, shop_id, leave_title, leave_at) VALUES (?, ?, '연차', ?)",
+          staffId,
+          SHOP_ID,
+          FROM.plusDays(staffId % DAYS));
+      if (staffId % 2 == 0) {
+        jdbcTemplate.update(
+            "INSERT INTO regular_leave (staff_id, shop_id, regular_leave_title, weekly_leave)"
+                + " VALUES (?, ?, '정기 휴무', ?)",
+            staffId,
+            SHOP_ID,
+            weekdays[(int) (staffId % 7)]);
+      } else {
+        jdbcTemplate.update(
+            "INSERT INTO regular_plan (staff_id, shop_id, regular_plan_title, monthly_plan,"
+                + " regular_plan_start_at, regular_plan_end_at)"
+                + " VALUES (?, ?, '정기 회의', 15, '11:00:00', '12:00:00')",
+            staffId,
+            SHOP_ID);
+      }
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.deveagles.be15_deveagles_be.features.schedules.query.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
+import com.deveagles.be15_deveagles_be.features.schedules.command.domain.aggregate.DayOfWeekEnum;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.AvailableStaffDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.BusyTimeDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.RegularScheduleDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.SlotAvailabilityResponse.DayAvailability;
+import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.StaffLeaveDto;
+import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.SlotAvailabilityMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기간 예약 가능 시간 조회 테스트")
+class ReservationAvailabilityServiceTest {
+
+  private static final Long SHOP_ID = 1L;
+  // 2026-10-19 은 월요일
+  private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+  private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+  @Mock private SlotAvailabilityMapper slotAvailabilityMapper;
+  @Mock private ReservationSettingQueryService reservationSettingQueryService;
+
+  @InjectMocks private ReservationAvailabilityService reservationAvailabilityService;
+
+  @BeforeEach
+  void setUp() {
+    // 매일 10:00 ~ 14:00, 점심 12:00 ~ 13:00, 30분 단위
+    CustomerReservationSettingResponse setting =
+        new CustomerReservationSettingResponse(
+            LocalTime.of(10, 0), LocalTime.of(14, 0), LocalTime.of(12, 0), LocalTime.of(13, 0), 30);
+    Map<Integer, CustomerReservationSettingResponse> weekly =
+        IntStream.rangeClosed(1, 7).boxed().collect(Collectors.toMap(day -> day, day -> setting));
+    lenient().when(reservationSettingQueryService.getWeeklySettings(SHOP_ID)).thenReturn(weekly);
+  }
+
+  @Test
+  @DisplayName("예약, 일정, 휴무, 정기 일정/휴무와 점심시간을 뺀 칸만 돌려준다")
+  void getAvailability_excludesBusySlots() {
+    // given
+    given(slotAvailabilityMapper.findAvailableStaffs(SHOP_ID, null, MONDAY))
+        .willReturn(
+            List.of(
+                new AvailableStaffDto(1L, "김직원", null), new AvailableStaffDto(2L, "이직원", null)));
+    given(slotAvailabilityMapper.findBusyTimes(eq(List.of(1L, 2L)), any(), any(), any()))
+        .willReturn(
+            List.of(
+                // 40분 예약은 걸친 두 칸을 모두 막는다
+                new BusyTimeDto(1L, MONDAY.atTime(10, 0), MONDAY.atTime(10, 40)),
+                new BusyTimeDto(1L, MONDAY.atTime(13, 30), MONDAY.atTime(14, 0))));
+    given(slotAvailabilityMapper.findLeaves(List.of(1L, 2L), MONDAY, TUESDAY))
+        .willReturn(List.of(new StaffLeaveDto(2L, TUESDAY)));
+    given(slotAvailabilityMapper.findRegularSchedules(List.of(1L, 2L)))
+        .willReturn(
+            List.of(
+                new RegularScheduleDto(2L, null, DayOfWeekEnum.MON, null, null),
+                new RegularScheduleDto(
+                    1L, TUESDAY.getDayOfMonth(), null, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+    // when
+    SlotAvailabilityResponse response =
+        reservationAvailabilityService.getAvailability(SHOP_ID, MONDAY, TUESDAY, null);
+
+    // then
+    assertThat(response.slotMinutes()).isEqualTo(30);
+    assertThat(response.staffs()).hasSize(2);
+    assertThat(response.staffs().get(0).days())
+        .containsExactly(
+            new DayAvailability(MONDAY, List.of("11:00", "11:30", "13:00")),
+            new DayAvailability(TUESDAY, List.of("11:00", "11:30", "13:00", "13:30")));
+    assertThat(response.staffs().get(1).days())
+        .containsExactly(
+            new DayAvailability(MONDAY, List.of()), new DayAvailability(TUESDAY, List.of()));
+  }
+
+  @Test
+  @DisplayName("전날부터 이어진 일정은 조회 시작일 칸도 막고, 퇴사일 이후 날짜는 돌려주지 않는다")
+  void getAvailability_spanningBusyTimeAndLeftStaff() {
+    // given
+    given(slotAvailabilityMapper.findAvailableStaffs(SHOP_ID, 1L, MONDAY))
+        .willReturn(List.of(new AvailableStaffDto(1L, "김직원", MONDAY)));
+    given(slotAvailabilityMapper.findBusyTimes(anyList(), any(), any(), any()))
+        .willReturn(
+            List.of(
+                new BusyTimeDto(
+                    1L, LocalDateTime.of(2026, 10, 18, 22, 0), MONDAY.atTime(11, 0))));
+
+    // when
+    SlotAvailabilityResponse response =
+        reservationAvailabilityService.getAvailability(SHOP_ID, MONDAY, TUESDAY, 1L);
+
+    // then
+    assertThat(response.staffs().get(0).days())
+        .containsExactly(new DayAvailability(MONDAY, List.of("11:00", "11:30", "13:00", "13:30")));
+  }
+
+  @Test
+  @DisplayName("조회 기간이 31일을 넘으면 예외가 발생한다")
+  void getAvailability_rangeTooLong() {
+    assertThatThrownBy(
+            () ->
+                reservationAvailabilityService.getAvailability(
+                    SHOP_ID, MONDAY, MONDAY.plusDays(31), null))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_AVAILABILITY_RANGE);
+  }
+}
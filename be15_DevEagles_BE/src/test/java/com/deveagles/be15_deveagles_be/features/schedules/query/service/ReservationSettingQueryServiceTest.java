@@ -1,8 +1,10 @@
 package com.deveagles.be15_deveagles_be.features.schedules.query.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.CustomerReservationSettingResponse;
 import com.deveagles.be15_deveagles_be.features.schedules.query.dto.response.ReservationSettingResponse;
@@ -10,6 +12,8 @@ import com.deveagles.be15_deveagles_be.features.schedules.query.mapper.Reservati
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,9 +26,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ReservationSettingQueryServiceTest {
 
   @Mock private ReservationSettingMapper reservationSettingMapper;
+  @Mock private ReferenceDataCache referenceDataCache;
 
   @InjectMocks private ReservationSettingQueryService reservationSettingQueryService;
 
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(referenceDataCache.get(any(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+  }
+
   @Test
   void shopId로_예약설정리스트를_조회할수있다() {
     // given
@@ -61,12 +73,19 @@ class ReservationSettingQueryServiceTest {
     LocalDate date = LocalDate.of(2025, 7, 1); // 화요일
     int dayOfWeek = date.getDayOfWeek().getValue(); // 2
 
-    CustomerReservationSettingResponse expectedResponse =
-        new CustomerReservationSettingResponse(
-            LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(12, 0), LocalTime.of(13, 0), 30);
-
-    when(reservationSettingMapper.findCustomerReservationSetting(shopId, dayOfWeek))
-        .thenReturn(expectedResponse);
+    when(reservationSettingMapper.findSettingsWithUnitByShopId(shopId))
+        .thenReturn(
+            List.of(
+                new ReservationSettingResponse(
+                    shopId,
+                    dayOfWeek,
+                    LocalTime.of(9, 0),
+                    LocalTime.of(18, 0),
+                    LocalTime.of(12, 0),
+                    LocalTime.of(13, 0),
+                    30),
+                new ReservationSettingResponse(
+                    shopId, 3, LocalTime.of(10, 0), LocalTime.of(19, 0), null, null, 30)));
 
     // when
     CustomerReservationSettingResponse result =
@@ -80,7 +99,7 @@ class ReservationSettingQueryServiceTest {
     assertThat(result.lunchEndTime()).isEqualTo(LocalTime.of(13, 0));
     assertThat(result.reservationTerm()).isEqualTo(30);
 
-    verify(reservationSettingMapper, times(1)).findCustomerReservationSetting(shopId, dayOfWeek);
+    verify(reservationSettingMapper, times(1)).findSettingsWithUnitByShopId(shopId);
   }
 
   @Test
@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
 import com.deveagles.be15_deveagles_be.features.shops.command.domain.aggregate.Shop;
 import com.deveagles.be15_deveagles_be.features.shops.command.repository.ShopRepository;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("IncentiveCommandService 단위 테스트")
@@ -40,6 +43,8 @@ public class IncentiveCommandServiceImplTest {
 
   @Mock private IncentiveRepository incentiveRepository;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @DisplayName("getIncentives_일괄설정_반환 성공")
   @Test
   void getIncentives_일괄설정_반환() {
@@ -189,6 +194,8 @@ public class IncentiveCommandServiceImplTest {
     // then
     verify(shopRepository).save(any(Shop.class));
     verifyNoInteractions(incentiveRepository);
+    verify(eventPublisher)
+        .publishEvent(new ReferenceDataChangedEvent(ReferenceCache.INCENTIVES, shopId));
   }
 
   @DisplayName("setIncentive - 기존 일괄 인센티브 존재 시 업데이트")
@@ -0,0 +1,360 @@
+package com.deveagles.be15_deveagles_be.features.staffsales.query.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceDataCache;
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
+import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.SearchMode;
+import com.deveagles.be15_deveagles_be.features.staffsales.command.domain.aggregate.ProductType;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.request.GetStaffSalesListRequest;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.SalesTargetQueryRepository;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.StaffSalesQueryRepository;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.StaffSalesQueryRepositoryImpl;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
+import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.Staff;
+import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 직원 매출 일괄 집계(getSalesByStaffIds)가 기존 직원별 집계(getSalesByStaff)와 같은 결과를 내는지 H2 에 매출 데이터를 넣고 두 쿼리
+ * 경로를 모두 실행해 확인한다. 삭제/환불 매출, 조회 기간 밖 매출, 다른 매장 매출, 카테고리가 섞인 매출, 쿠폰, 삭제된 결제, 선불권/횟수권 결제를 섞는다.
+ */
+@DataJpaTest
+@ActiveProfiles("jpatest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+  QueryDslConfig.class,
+  CustomerSearchOutboxWriter.class,
+  StaffSalesQueryRepositoryImpl.class,
+  SalesCalculator.class
+})
+@DisplayName("직원 매출 일괄 집계 - 기존 직원별 집계와 결과 동일성 테스트")
+class StaffSalesAggregationParityTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final Long OTHER_SHOP_ID = 2L;
+  private static final int STAFF_COUNT = 12;
+  private static final LocalDate MONTH = LocalDate.of(2024, 6, 1);
+  private static final PaymentsMethod[] METHODS = {
+    PaymentsMethod.CARD,
+    PaymentsMethod.CASH,
+    PaymentsMethod.NAVER_PAY,
+    PaymentsMethod.LOCAL,
+    PaymentsMethod.PREPAID_PASS,
+    PaymentsMethod.SESSION_PASS
+  };
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private StaffSalesQueryRepository staffSalesQueryRepository;
+  @Autowired private SalesCalculator salesCalculator;
+
+  @MockitoBean private ReferenceDataCache referenceDataCache;
+
+  private StaffSalesQueryServiceImpl service;
+  private List<Staff> staffList;
+
+  @BeforeEach
+  void setUp() {
+    given(referenceDataCache.get(any(), any(), any(), any()))
+        .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+
+    staffList = new ArrayList<>();
+    for (long staffId = 1; staffId <= STAFF_COUNT; staffId++) {
+      staffList.add(Staff.builder().staffId(staffId).staffName("직원" + staffId).build());
+    }
+    UserRepository userRepository = mock(UserRepository.class);
+    given(userRepository.findByShopIdAndLeftDateIsNull(SHOP_ID)).willReturn(staffList);
+    service =
+        new StaffSalesQueryServiceImpl(
+            userRepository,
+            mock(SalesTargetQueryRepository.class),
+            staffSalesQueryRepository,
+            salesCalculator);
+
+    seed();
+  }
+
+  @Test
+  @DisplayName("일괄 집계 결과가 기존 직원별 집계 결과와 동일하다")
+  void getStaffSales_기존결과와_동일() {
+    // given
+    GetStaffSalesListRequest request = new GetStaffSalesListRequest(SearchMode.MONTH, MONTH, null);
+    LocalDateTime startDate = MONTH.atStartOfDay();
+    LocalDateTime endDate = MONTH.withDayOfMonth(MONTH.lengthOfMonth()).atTime(23, 59, 59);
+
+    // when
+    StaffSalesListResult expected = legacyGetStaffSales(startDate, endDate);
+    StaffSalesListResult actual = service.getStaffSales(SHOP_ID, request);
+
+    // then
+    assertThat(actual.getStaffSalesList()).hasSameSizeAs(expected.getStaffSalesList());
+    for (int i = 0; i < expected.getStaffSalesList().size(); i++) {
+      StaffSalesListResponse expectedStaff = expected.getStaffSalesList().get(i);
+      StaffSalesListResponse actualStaff = actual.getStaffSalesList().get(i);
+
+      assertThat(actualStaff.getStaffId()).isEqualTo(expectedStaff.getStaffId());
+      assertThat(actualStaff.getPaymentsSalesList())
+          .hasSameSizeAs(expectedStaff.getPaymentsSalesList());
+      for (int j = 0; j < expectedStaff.getPaymentsSalesList().size(); j++) {
+        StaffPaymentsSalesResponse expectedSales = expectedStaff.getPaymentsSalesList().get(j);
+        StaffPaymentsSalesResponse actualSales = actualStaff.getPaymentsSalesList().get(j);
+
+        // 결제 수단 순서는 기존 쿼리에서 정해져 있지 않으므로 순서 없이 비교
+        assertThat(actualSales.getNetSalesList())
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyInAnyOrderElementsOf(expectedSales.getNetSalesList());
+        assertThat(actualSales)
+            .usingRecursiveComparison()
+            .ignoringFields("netSalesList")
+            .isEqualTo(expectedSales);
+      }
+    }
+    assertThat(actual.getTotalSummary())
+        .usingRecursiveComparison()
+        .isEqualTo(expected.getTotalSummary());
+    // 데이터가 실제로 집계되었는지 확인
+    assertThat(actual.getTotalSummary().getTotalGrossSales()).isPositive();
+    assertThat(actual.getTotalSummary().getTotalCoupon()).isPositive();
+    assertThat(actual.getTotalSummary().getTotalPrepaid()).isPositive();
+    assertThat(actual.getTotalSummary().getTotalIncentiveAmount()).isPositive();
+  }
+
+  // 변경 전 getStaffSales 구현 (직원별 getSalesByStaff 조회 + 카테고리별 인센티브율 재조회)
+  private StaffSalesListResult legacyGetStaffSales(
+      LocalDateTime startDate, LocalDateTime endDate) {
+    List<StaffSalesListResponse> result =
+        staffList.stream()
+            .map(
+                staff -> {
+                  List<StaffPaymentsSalesResponse> paymentsSalesList =
+                      staffSalesQueryRepository
+                          .getSalesByStaff(false, SHOP_ID, staff.getStaffId(), startDate, endDate)
+                          .stream()
+                          .map(
+                              response -> {
+                                Map<PaymentsMethod, Integer> rateMap =
+                                    salesCalculator.getEffectiveIncentiveRates(
+                                        SHOP_ID,
+                                        staff.getStaffId(),
+                                        ProductType.valueOf(response.getCategory()));
+
+                                List<StaffNetSalesResponse> netSalesList =
+                                    response.getNetSalesList().stream()
+                                        .filter(
+                                            net ->
+                                                net.getPaymentsMethod()
+                                                    != PaymentsMethod.PREPAID_PASS)
+                                        .map(
+                                            net -> {
+                                              int amount =
+                                                  Optional.ofNullable(net.getAmount()).orElse(0);
+                                              int rate =
+                                                  rateMap.getOrDefault(net.getPaymentsMethod(), 0);
+                                              return StaffNetSalesResponse.builder()
+                                                  .paymentsMethod(net.getPaymentsMethod())
+                                                  .amount(amount)
+                                                  .incentiveAmount(
+                                                      (int) Math.floor(amount * (rate / 100.0)))
+                                                  .build();
+                                            })
+                                        .toList();
+
+                                int incentiveTotal =
+                                    netSalesList.stream()
+                                        .mapToInt(StaffNetSalesResponse::getIncentiveAmount)
+                                        .sum();
+                                int grossSalesTotal =
+                                    netSalesList.stream()
+                                        .mapToInt(StaffNetSalesResponse::getAmount)
+                                        .sum();
+                                int deductionTotal =
+                                    response.getDeductionList().stream()
+                                        .mapToInt(StaffSalesDeductionsResponse::getAmount)
+                                        .sum();
+
+                                return StaffPaymentsSalesResponse.builder()
+                                    .category(response.getCategory())
+                                    .netSalesList(netSalesList)
+                                    .deductionList(response.getDeductionList())
+                                    .incentiveTotal(incentiveTotal)
+                                    .grossSalesTotal(grossSalesTotal)
+                                    .deductionTotal(deductionTotal)
+                                    .netSalesTotal(grossSalesTotal - deductionTotal)
+                                    .build();
+                              })
+                          .toList();
+
+                  return StaffSalesListResponse.builder()
+                      .staffId(staff.getStaffId())
+                      .staffName(staff.getStaffName())
+                      .paymentsSalesList(paymentsSalesList)
+                      .build();
+                })
+            .toList();
+
+    return StaffSalesListResult.builder()
+        .staffSalesList(result)
+        .totalSummary(salesCalculator.calculateSummary(SHOP_ID, result))
+        .build();
+  }
+
+  private void seed() {
+    // 직원, 고객, 패스 등 집계와 관계없는 참조 데이터는 넣지 않는다
+    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    // 실제 스키마는 쿠폰 없는 상품 매출을 허용한다
+    jdbcTemplate.execute("ALTER TABLE item_sales ALTER COLUMN coupon_id SET NULL");
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (long shopId : new long[] {SHOP_ID, OTHER_SHOP_ID}) {
+      jdbcTemplate.update(
+          "INSERT INTO shop (shop_id, shop_name, address, detail_address, industry_id,"
+              + " incentive_status, reservation_term, created_at, modified_at)"
+              + " VALUES (?, ?, '서울', '1층', 1, TRUE, 30, ?, ?)",
+          shopId,
+          "매장" + shopId,
+          now,
+          now);
+    }
+
+    // 1차 상품: 1 = 서비스, 2 = 상품, 3 = 다른 매장 서비스
+    insertPrimaryItem(1, SHOP_ID, "SERVICE", now);
+    insertPrimaryItem(2, SHOP_ID, "PRODUCT", now);
+    insertPrimaryItem(3, OTHER_SHOP_ID, "SERVICE", now);
+    long[] secondaryToPrimary = {0, 1, 1, 2, 2, 3};
+    for (int id = 1; id < secondaryToPrimary.length; id++) {
+      jdbcTemplate.update(
+          "INSERT INTO secondary_item (secondary_item_id, primary_item_id, secondary_item_name,"
+              + " is_active, created_at, modified_at) VALUES (?, ?, ?, TRUE, ?, ?)",
+          id,
+          secondaryToPrimary[id],
+          "2차" + id,
+          now,
+          now);
+    }
+
+    // 부동소수 절삭 차이가 드러나는 인센티브율(29, 57)과 직원별 재정의, 비활성 인센티브 포함
+    for (ProductType type : ProductType.values()) {
+      insertIncentive(type, PaymentsMethod.CARD, 10, null, true);
+      insertIncentive(type, PaymentsMethod.CASH, 29, null, true);
+      insertIncentive(type, PaymentsMethod.NAVER_PAY, 7, null, true);
+      insertIncentive(type, PaymentsMethod.LOCAL, 40, null, false);
+    }
+    insertIncentive(ProductType.SERVICE, PaymentsMethod.CARD, 57, 3L, true);
+    insertIncentive(ProductType.PRODUCT, PaymentsMethod.CASH, 13, 3L, true);
+    insertIncentive(ProductType.SESSION_PASS, PaymentsMethod.NAVER_PAY, 33, 7L, true);
+
+    Random random = new Random(15L);
+    for (long salesId = 1; salesId <= 600; salesId++) {
+      long staffId = 1 + random.nextInt(STAFF_COUNT + 1); // 재직 직원 목록에 없는 직원 포함
+      long shopId = random.nextInt(15) == 0 ? OTHER_SHOP_ID : SHOP_ID;
+      LocalDateTime salesDate =
+          MONTH.minusDays(2).atTime(0, 0).plusMinutes(30L * random.nextInt(34 * 48));
+      int kind = random.nextInt(4);
+      int discount = random.nextInt(5) == 0 ? 0 : random.nextInt(20_000);
+
+      jdbcTemplate.update(
+          "INSERT INTO sales (sales_id, customer_id, staff_id, shop_id, discount_amount,"
+              + " total_amount, sales_date, is_refunded, created_at, modified_at, deleted_at)"
+              + " VALUES (?, 1, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+          salesId,
+          staffId,
+          shopId,
+          random.nextInt(6) == 0 ? null : discount,
+          100_000,
+          Timestamp.valueOf(salesDate),
+          random.nextInt(20) == 0,
+          now,
+          now,
+          random.nextInt(25) == 0 ? now : null);
+
+      switch (kind) {
+        case 0, 1 -> {
+          // 상품 매출: 한 매출에 서비스/상품이 섞이는 경우 포함
+          int lines = 1 + random.nextInt(2);
+          for (int line = 0; line < lines; line++) {
+            long secondaryItemId =
+                shopId == OTHER_SHOP_ID ? 5 : 1 + random.nextInt(4); // 다른 매장은 자기 상품
+            Long couponId = random.nextInt(4) == 0 ? Long.valueOf(1 + random.nextInt(9)) : null;
+            jdbcTemplate.update(
+                "INSERT INTO item_sales (secondary_item_id, sales_id, quantity, coupon_id,"
+                    + " created_at, modified_at) VALUES (?, ?, 1, ?, ?, ?)",
+                secondaryItemId,
+                salesId,
+                couponId,
+                now,
+                now);
+          }
+        }
+        case 2 ->
+            jdbcTemplate.update(
+                "INSERT INTO session_pass_sales (session_pass_id, sales_id, created_at,"
+                    + " modified_at) VALUES (1, ?, ?, ?)",
+                salesId,
+                now,
+                now);
+        default ->
+            jdbcTemplate.update(
+                "INSERT INTO prepaid_pass_sales (prepaid_pass_id, sales_id, created_at)"
+                    + " VALUES (1, ?, ?)",
+                salesId,
+                now);
+      }
+
+      int payments = 1 + random.nextInt(3);
+      for (int p = 0; p < payments; p++) {
+        jdbcTemplate.update(
+            "INSERT INTO payments (sales_id, payments_method, amount, created_at, deleted_at)"
+                + " VALUES (?, ?, ?, ?, ?)",
+            salesId,
+            METHODS[random.nextInt(METHODS.length)].name(),
+            1 + random.nextInt(300_000),
+            now,
+            random.nextInt(10) == 0 ? now : null);
+      }
+    }
+  }
+
+  private void insertPrimaryItem(long id, long shopId, String category, Timestamp now) {
+    jdbcTemplate.update(
+        "INSERT INTO primary_item (primary_item_id, shop_id, primary_item_name, category,"
+            + " created_at) VALUES (?, ?, ?, ?, ?)",
+        id,
+        shopId,
+        "1차" + id,
+        category,
+        now);
+  }
+
+  private void insertIncentive(
+      ProductType type, PaymentsMethod method, int rate, Long staffId, boolean active) {
+    jdbcTemplate.update(
+        "INSERT INTO incentive (type, payments_method, incentive, shop_id, staff_id, is_active)"
+            + " VALUES (?, ?, ?, ?, ?, ?)",
+        type.name(),
+        method.name(),
+        rate,
+        SHOP_ID,
+        staffId,
+        active);
+  }
+}
@@ -3,6 +3,9 @@ package com.deveagles.be15_deveagles_be.features.staffsales.query.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.deveagles.be15_deveagles_be.features.sales.command.domain.aggregate.PaymentsMethod;
@@ -12,6 +15,8 @@ import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.request.Get
 import com.deveagles.be15_deveagles_be.features.staffsales.query.dto.response.*;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.SalesTargetQueryRepository;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.repository.StaffSalesQueryRepository;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.IncentiveRate;
+import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.IncentiveRateTable;
 import com.deveagles.be15_deveagles_be.features.staffsales.query.service.support.SalesCalculator;
 import com.deveagles.be15_deveagles_be.features.users.command.domain.aggregate.Staff;
 import com.deveagles.be15_deveagles_be.features.users.command.repository.UserRepository;
@@ -84,16 +89,18 @@ public class StaffSalesQueryServiceImplTest {
     // stub
     given(userRepository.findByShopIdAndLeftDateIsNull(shopId)).willReturn(List.of(staff));
     given(
-            staffSalesQueryRepository.getSalesByStaff(
-                false,
+            staffSalesQueryRepository.getSalesByStaffIds(
                 shopId,
-                staffId,
+                List.of(staffId),
                 start.withDayOfMonth(1).atStartOfDay(),
                 start.withDayOfMonth(start.lengthOfMonth()).atTime(23, 59, 59)))
-        .willReturn(List.of(paymentsSales));
-    given(salesCalculator.getEffectiveIncentiveRates(shopId, staffId, ProductType.SERVICE))
-        .willReturn(Map.of(PaymentsMethod.CARD, 10));
-    given(salesCalculator.calculateSummary(eq(shopId), anyList())).willReturn(summary);
+        .willReturn(Map.of(staffId, List.of(paymentsSales)));
+    given(salesCalculator.loadIncentiveRates(shopId))
+        .willReturn(
+            new IncentiveRateTable(
+                List.of(new IncentiveRate(null, ProductType.SERVICE, PaymentsMethod.CARD, 10))));
+    given(salesCalculator.calculateSummary(anyList(), any(IncentiveRateTable.class)))
+        .willReturn(summary);
 
     // when
     StaffSalesListResult result = staffSalesQueryService.getStaffSales(shopId, request);
@@ -104,6 +111,12 @@ public class StaffSalesQueryServiceImplTest {
     assertThat(result.getTotalSummary().getTotalNetSales()).isEqualTo(10000);
     assertThat(result.getTotalSummary().getTotalDiscount()).isEqualTo(2000);
     assertThat(result.getTotalSummary().getTotalIncentiveAmount()).isEqualTo(1000);
+    assertThat(result.getStaffSalesList().get(0).getPaymentsSalesList().get(0).getIncentiveTotal())
+        .isEqualTo(1000);
+    // 직원 수와 무관하게 일괄 집계 1회, 인센티브율 1회만 조회
+    verify(staffSalesQueryRepository, never())
+        .getSalesByStaff(anyBoolean(), any(), any(), any(), any());
+    verify(salesCalculator, times(1)).loadIncentiveRates(shopId);
   }
 
   @DisplayName("getStaffDetailSales - 성공")
@@ -0,0 +1,109 @@
+package com.deveagles.be15_deveagles_be.features.statistics.command.application.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.dto.SalesRollupEntry;
+import com.deveagles.be15_deveagles_be.features.statistics.command.domain.repository.DailySalesRollupRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupCommandServiceImplTest {
+
+  @Mock private DailySalesRollupRepository dailySalesRollupRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks private SalesRollupCommandServiceImpl salesRollupCommandService;
+
+  private final LocalDateTime salesDate = LocalDateTime.of(2024, 3, 15, 14, 30);
+
+  @Test
+  @DisplayName("매출 등록 시 해당 일자 집계에 금액과 건수를 더한다")
+  void add() {
+    SalesRollupEntry entry = new SalesRollupEntry(1L, salesDate, 9000, 1000, true);
+
+    salesRollupCommandService.add(entry);
+
+    verify(dailySalesRollupRepository)
+        .upsertDelta(1L, LocalDate.of(2024, 3, 15), 9000L, 1L, 1000L, 1000L, 0L, 0L);
+    // 통계 변경 알림은 매출 명령 서비스가 보낸다
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @DisplayName("매출 수정 시 이전 값을 빼고 새 값을 더한다")
+  void replace() {
+    SalesRollupEntry before = new SalesRollupEntry(1L, salesDate, 9000, 1000, false);
+    SalesRollupEntry after = new SalesRollupEntry(1L, salesDate.plusDays(1), 12000, null, false);
+
+    salesRollupCommandService.replace(before, after);
+
+    verify(dailySalesRollupRepository)
+        .upsertDelta(1L, LocalDate.of(2024, 3, 15), -9000L, -1L, -1000L, 0L, 0L, 0L);
+    verify(dailySalesRollupRepository)
+        .upsertDelta(1L, LocalDate.of(2024, 3, 16), 12000L, 1L, 0L, 0L, 0L, 0L);
+  }
+
+  @Test
+  @DisplayName("환불 시 매출 집계에서 빼고 환불 집계에 더한다")
+  void refund() {
+    SalesRollupEntry entry = new SalesRollupEntry(1L, salesDate, 9000, 1000, false);
+
+    salesRollupCommandService.refund(entry);
+
+    verify(dailySalesRollupRepository)
+        .upsertDelta(1L, LocalDate.of(2024, 3, 15), -9000L, -1L, -1000L, 0L, 9000L, 1L);
+  }
+
+  @Test
+  @DisplayName("매출일시가 없는 매출은 집계에 반영하지 않는다")
+  void skipWhenSalesDateMissing() {
+    salesRollupCommandService.add(new SalesRollupEntry(1L, null, 9000, 0, false));
+
+    verify(dailySalesRollupRepository, never())
+        .upsertDelta(
+            any(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("재구성 시 기간 집계를 삭제 후 원본 매출로 다시 적재한다")
+  void rebuild() {
+    LocalDate start = LocalDate.of(2024, 1, 1);
+    LocalDate end = LocalDate.of(2024, 1, 31);
+    when(dailySalesRollupRepository.insertAggregatedFromSales(
+            1L, start.atStartOfDay(), end.plusDays(1).atStartOfDay()))
+        .thenReturn(31);
+
+    int rebuilt = salesRollupCommandService.rebuild(1L, start, end);
+
+    assertThat(rebuilt).isEqualTo(31);
+    verify(dailySalesRollupRepository).deleteByShopIdAndPeriod(1L, start, end);
+    verify(eventPublisher).publishEvent(new StatisticsDataChangedEvent(1L));
+  }
+
+  @Test
+  @DisplayName("재구성 기간이 잘못되면 예외가 발생한다")
+  void rebuildInvalidPeriod() {
+    assertThatThrownBy(
+            () ->
+                salesRollupCommandService.rebuild(
+                    1L, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -0,0 +1,151 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.SalesRollupCommandService;
+import com.deveagles.be15_deveagles_be.features.statistics.command.application.service.impl.SalesRollupCommandServiceImpl;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 {@link StatisticsQueryRepositoryImpl#findSalesStatisticsByPeriod} 를 {@code
+ * statistics.sales-rollup.enabled} 를 끈 상태(원본 sales 스캔)와 켠 상태(daily_sales_rollup 조회)로 120만 건
+ * 매출에서 비교한다. 집계는 실제 {@link SalesRollupCommandService#rebuild} 로 채운다. 운영과 같은 실행 계획을 보도록
+ * Testcontainers MariaDB 에서 돌리며, 기본 test 태스크에서는 제외되고 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+  QueryDslConfig.class,
+  CustomerSearchOutboxWriter.class,
+  SalesRollupCommandServiceImpl.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("일자별 매출 집계 벤치마크")
+class DailySalesRollupBenchmarkTest {
+
+  @Container @ServiceConnection
+  static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+  private static final int SALES_ROWS = 1_200_000;
+  private static final int SHOP_COUNT = 20;
+  private static final long TARGET_SHOP_ID = 7L;
+  private static final LocalDate FIRST_DAY = LocalDate.of(2022, 1, 1);
+  private static final int DAYS = 3 * 365;
+  private static final int ITERATIONS = 20;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private JPAQueryFactory queryFactory;
+  @Autowired private SalesRollupCommandService salesRollupCommandService;
+
+  private StatisticsQueryRepositoryImpl rawRepository;
+  private StatisticsQueryRepositoryImpl rollupRepository;
+
+  @BeforeEach
+  void setUp() {
+    rawRepository = repository(false);
+    rollupRepository = repository(true);
+  }
+
+  @Test
+  @DisplayName("120만 건 매출의 기간별 매출 통계: 원본 스캔 vs 일자별 집계")
+  void 원본_스캔_집계_비교() {
+    // given
+    seed();
+    long rebuildStart = System.nanoTime();
+    int rebuilt =
+        salesRollupCommandService.rebuild(
+            TARGET_SHOP_ID, FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1));
+    long rebuildMillis = (System.nanoTime() - rebuildStart) / 1_000_000;
+
+    // when & then
+    System.out.printf(
+        "[benchmark] sales rows=%d, shops=%d, rollup rebuild (shop %d, %d days)=%dms%n",
+        SALES_ROWS, SHOP_COUNT, TARGET_SHOP_ID, rebuilt, rebuildMillis);
+    assertThat(rebuilt).isEqualTo(DAYS);
+    compare("1개월", FIRST_DAY.plusYears(1), FIRST_DAY.plusYears(1).plusMonths(1).minusDays(1));
+    compare("1년", FIRST_DAY.plusYears(1), FIRST_DAY.plusYears(2).minusDays(1));
+    compare("3년", FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1));
+  }
+
+  private void compare(String label, LocalDate startDate, LocalDate endDate) {
+    List<SalesStatisticsResponse> raw =
+        rawRepository.findSalesStatisticsByPeriod(TARGET_SHOP_ID, startDate, endDate);
+    List<SalesStatisticsResponse> rollup =
+        rollupRepository.findSalesStatisticsByPeriod(TARGET_SHOP_ID, startDate, endDate);
+    assertThat(raw).isNotEmpty();
+    assertThat(rollup).usingRecursiveFieldByFieldElementComparator().isEqualTo(raw);
+
+    long rawNanos = time(rawRepository, startDate, endDate);
+    long rollupNanos = time(rollupRepository, startDate, endDate);
+    System.out.printf(
+        "[benchmark] sales statistics %s (%d days): raw scan avg=%.2fms, rollup avg=%.2fms,"
+            + " speedup=%.1fx%n",
+        label,
+        raw.size(),
+        rawNanos / 1_000_000.0,
+        rollupNanos / 1_000_000.0,
+        (double) rawNanos / Math.max(rollupNanos, 1));
+  }
+
+  /** 워밍업 후 평균 실행 시간(ns) */
+  private long time(StatisticsQueryRepositoryImpl repository, LocalDate from, LocalDate to) {
+    for (int i = 0; i < 3; i++) {
+      repository.findSalesStatisticsByPeriod(TARGET_SHOP_ID, from, to);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      repository.findSalesStatisticsByPeriod(TARGET_SHOP_ID, from, to);
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  private StatisticsQueryRepositoryImpl repository(boolean salesRollupEnabled) {
+    StatisticsQueryRepositoryImpl repository =
+        new StatisticsQueryRepositoryImpl(queryFactory, mock(ReservationCapacityCache.class));
+    ReflectionTestUtils.setField(repository, "salesRollupEnabled", salesRollupEnabled);
+    return repository;
+  }
+
+  // 매장 20곳에 3년치 매출을 매장마다 일자별로 고르게 나누고 50건 중 1건은 환불로 둔다 (MariaDB 시퀀스 엔진으로 생성)
+  private void seed() {
+    jdbcTemplate.execute("CREATE INDEX idx_sales_shop_date ON sales (shop_id, sales_date)");
+    jdbcTemplate.update(
+        "INSERT INTO sales (customer_id, staff_id, shop_id, total_amount, discount_amount,"
+            + " sales_date, is_refunded, created_at, modified_at)"
+            + " SELECT 1, 1, 1 + seq % ?, 10000 + (seq * 31) % 90000, (seq * 17) % 5000,"
+            + " TIMESTAMP(?) + INTERVAL ((seq DIV ?) % ?) DAY"
+            + " + INTERVAL (540 + (seq * 13) % 720) MINUTE,"
+            + " (seq DIV ?) % 50 = 0, NOW(), NOW()"
+            + " FROM seq_1_to_"
+            + SALES_ROWS,
+        SHOP_COUNT,
+        FIRST_DAY,
+        SHOP_COUNT,
+        DAYS,
+        SHOP_COUNT);
+  }
+}
@@ -0,0 +1,92 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.statistics.query.repository.ReservationCapacity.StaffLeave;
+import com.deveagles.be15_deveagles_be.features.statistics.query.repository.ReservationCapacity.WeekdayHours;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("예약 용량 모델 테스트")
+class ReservationCapacityTest {
+
+  // 2026-10-19 은 월요일
+  private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+  private static final Long STAFF_ID = 7L;
+
+  private List<WeekdayHours> hours;
+
+  @BeforeEach
+  void setUp() {
+    // 월 ~ 토 10:00 ~ 20:00, 점심 12:00 ~ 13:00 → 하루 18칸, 일요일 휴무
+    hours = new ArrayList<>();
+    for (int dayOfWeek = 1; dayOfWeek <= 6; dayOfWeek++) {
+      hours.add(new WeekdayHours(dayOfWeek, 10 * 60, 20 * 60, 12 * 60, 13 * 60));
+    }
+  }
+
+  @Test
+  @DisplayName("주간 템플릿으로 기간, 시간, 요일 × 시간 용량을 계산한다")
+  void shopCapacity() {
+    // given
+    ReservationCapacity capacity = ReservationCapacity.compile(hours, List.of());
+
+    // then
+    assertThat(capacity.isOperating(1)).isTrue();
+    assertThat(capacity.isOperating(7)).isFalse();
+    assertThat(capacity.slots(MONDAY, MONDAY.plusDays(1))).isEqualTo(18);
+    assertThat(capacity.slots(MONDAY.plusDays(6), MONDAY.plusDays(7))).isZero();
+    // 2주 = 운영일 12일
+    assertThat(capacity.slots(MONDAY, MONDAY.plusDays(14))).isEqualTo(12 * 18);
+    assertThat(capacity.hourSlots(MONDAY, MONDAY.plusDays(14), 10)).isEqualTo(12 * 2);
+    assertThat(capacity.hourSlots(MONDAY, MONDAY.plusDays(14), 12)).isZero();
+    assertThat(capacity.hourSlots(MONDAY, MONDAY.plusDays(14), 20)).isZero();
+    assertThat(capacity.weekdayHourSlots(MONDAY, MONDAY.plusDays(14), 1, 10)).isEqualTo(4);
+    // 10:00 ~ 18:00 중 점심 1시간 제외
+    assertThat(capacity.slots(null, MONDAY, MONDAY.plusDays(1), 20, 36)).isEqualTo(14);
+    assertThat(capacity.slots(MONDAY, MONDAY)).isZero();
+  }
+
+  @Test
+  @DisplayName("직원 용량은 단기 휴무, 요일/월 정기 휴무일을 한 번씩만 뺀다")
+  void staffCapacityExcludesLeaves() {
+    // given
+    List<StaffLeave> leaves =
+        List.of(
+            new StaffLeave(STAFF_ID, MONDAY.plusDays(1), null, null), // 10-20 화
+            new StaffLeave(STAFF_ID, MONDAY.plusDays(2), null, null), // 10-21 수, 요일 휴무와 겹침
+            new StaffLeave(STAFF_ID, null, null, 3), // 매주 수요일
+            new StaffLeave(STAFF_ID, null, 23, null), // 매월 23일 (10-23 금)
+            new StaffLeave(STAFF_ID, MONDAY.plusDays(4), null, null), // 10-23, 월 휴무와 겹침
+            new StaffLeave(STAFF_ID, MONDAY.plusDays(6), null, null)); // 10-25 일, 원래 휴무
+    ReservationCapacity capacity = ReservationCapacity.compile(hours, leaves);
+
+    // when
+    int week = capacity.staffSlots(STAFF_ID, MONDAY, MONDAY.plusDays(7));
+
+    // then: 운영일 6일 중 화, 수, 금 휴무
+    assertThat(week).isEqualTo(3 * 18);
+    assertThat(capacity.staffSlots(STAFF_ID, MONDAY.plusDays(1), MONDAY.plusDays(2))).isZero();
+    assertThat(capacity.staffSlots(STAFF_ID, MONDAY, MONDAY.plusDays(1))).isEqualTo(18);
+    // 다른 직원은 매장 용량 그대로
+    assertThat(capacity.staffSlots(8L, MONDAY, MONDAY.plusDays(7))).isEqualTo(6 * 18);
+  }
+
+  @Test
+  @DisplayName("월 정기 휴무는 그 날짜가 없는 달에는 빼지 않는다")
+  void monthlyLeaveSkipsShortMonths() {
+    // given: 매월 31일 휴무, 2026-11 은 30일까지
+    ReservationCapacity capacity =
+        ReservationCapacity.compile(hours, List.of(new StaffLeave(STAFF_ID, null, 31, null)));
+    LocalDate from = LocalDate.of(2026, 10, 1);
+    LocalDate to = LocalDate.of(2026, 12, 1);
+
+    // then: 2026-10-31 은 토요일이라 한 번만 빠진다
+    assertThat(capacity.staffSlots(STAFF_ID, from, to))
+        .isEqualTo(capacity.slots(from, to) - 18);
+  }
+}
@@ -0,0 +1,154 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.ReservationRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.ReservationRequest.GroupBy;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.ReservationStatisticsResponse;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 1년치 예약으로 실제 {@link StatisticsQueryRepositoryImpl#findAdvancedReservationStatistics} 의 히트맵
+ * 통계(30분 칸, 시간별, 요일 × 시간별)를 만드는 시간을 잰다. 세 통계 모두 기간 예약 시작 시각을 한 번 읽어 {@link
+ * ReservationHeatmap} 에 센 결과이며, 용량은 실제 {@link ReservationCapacityCache} 가 예약 설정에서 만든다. 운영과 같은
+ * 실행 계획을 보도록 Testcontainers MariaDB 에서 돌리며, 기본 test 태스크에서는 제외되고 {@code ./gradlew benchmark}로
+ * 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+  QueryDslConfig.class,
+  CustomerSearchOutboxWriter.class,
+  StatisticsQueryRepositoryImpl.class,
+  ReservationCapacityCache.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("예약 히트맵 통계 벤치마크")
+class ReservationHeatmapBenchmarkTest {
+
+  @Container @ServiceConnection
+  static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+  private static final Long SHOP_ID = 1L;
+  private static final int SHOP_COUNT = 10;
+  private static final int DAYS = 365;
+  private static final int RESERVATIONS_PER_DAY = 60;
+  private static final LocalDate START = LocalDate.of(2025, 1, 1);
+  private static final LocalDate END = START.plusDays(DAYS - 1);
+  private static final int WARMUP = 3;
+  private static final int ITERATIONS = 10;
+
+  @Autowired private StatisticsQueryRepositoryImpl statisticsQueryRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("1년치 예약의 30분 칸, 시간별, 요일 × 시간별 예약 통계")
+  void 히트맵_통계() {
+    // given
+    seed();
+    long reserved =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM reservation WHERE shop_id = ?"
+                + " AND reservation_status_name NOT IN ('CBC', 'CBS') AND deleted_at IS NULL",
+            Long.class,
+            SHOP_ID);
+
+    // when
+    List<ReservationStatisticsResponse> timeSlots = statistics(GroupBy.TIME_SLOT);
+    List<ReservationStatisticsResponse> hours = statistics(GroupBy.HOUR);
+    List<ReservationStatisticsResponse> dayTimeSlots = statistics(GroupBy.DAY_TIME_SLOT);
+
+    // then
+    assertThat(timeSlots).hasSize(ReservationHeatmap.SLOTS_PER_DAY);
+    assertThat(sumReserved(timeSlots)).isEqualTo(reserved);
+    assertThat(hours).hasSize(24);
+    assertThat(sumReserved(hours)).isEqualTo(reserved);
+    // 일요일은 예약 설정이 없어 빠지고, 09~20시 시작 예약만 센다
+    assertThat(dayTimeSlots).hasSize(6 * 12).allMatch(row -> !"SUN".equals(row.getDayOfWeek()));
+
+    System.out.printf(
+        "[benchmark] reservation heatmap (%d days, %d reservations in shop, %d shops):"
+            + " time slot avg=%.2fms, hour avg=%.2fms, day x hour avg=%.2fms%n",
+        DAYS,
+        reserved,
+        SHOP_COUNT,
+        time(GroupBy.TIME_SLOT) / 1_000_000.0,
+        time(GroupBy.HOUR) / 1_000_000.0,
+        time(GroupBy.DAY_TIME_SLOT) / 1_000_000.0);
+  }
+
+  private List<ReservationStatisticsResponse> statistics(GroupBy groupBy) {
+    ReservationRequest request = new ReservationRequest();
+    request.setStartDate(START);
+    request.setEndDate(END);
+    request.setGroupBy(groupBy);
+    return statisticsQueryRepository.findAdvancedReservationStatistics(SHOP_ID, request);
+  }
+
+  private long sumReserved(List<ReservationStatisticsResponse> rows) {
+    return rows.stream().mapToLong(ReservationStatisticsResponse::getReservedSlots).sum();
+  }
+
+  /** 워밍업 후 평균 실행 시간(ns) */
+  private long time(GroupBy groupBy) {
+    for (int i = 0; i < WARMUP; i++) {
+      statistics(groupBy);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      statistics(groupBy);
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  // 매장 10곳에 1년치 예약을 하루 60건씩, 09:00~21:00 사이 5분 단위로 넣고 10건 중 1건은 고객 취소로 둔다
+  private void seed() {
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_reservation_shop_start ON reservation (shop_id, reservation_start_at)");
+    // 월~토 10:00~20:00 영업, 13:00~14:00 점심
+    for (int day = 1; day <= 6; day++) {
+      jdbcTemplate.update(
+          "INSERT INTO reservation_setting (shop_id, available_day, available_start_time,"
+              + " available_end_time, lunch_start_time, lunch_end_time)"
+              + " VALUES (?, ?, '10:00:00', '20:00:00', '13:00:00', '14:00:00')",
+          SHOP_ID,
+          day);
+    }
+    jdbcTemplate.update(
+        "INSERT INTO reservation (staff_id, shop_id, reservation_status_name,"
+            + " reservation_start_at, reservation_end_at, created_at, modified_at)"
+            + " SELECT 1 + k % 8, shop_id, IF(k % 10 = 0, 'CBC', 'CONFIRMED'), t,"
+            + " t + INTERVAL 40 MINUTE, NOW(), NOW()"
+            + " FROM (SELECT 1 + seq % ? AS shop_id, seq DIV ? AS k,"
+            + " TIMESTAMP(?) + INTERVAL ((seq DIV ?) DIV ?) DAY"
+            + " + INTERVAL (540 + 5 * (((seq DIV ?) * 37) % 144)) MINUTE AS t"
+            + " FROM seq_0_to_"
+            + (SHOP_COUNT * DAYS * RESERVATIONS_PER_DAY - 1)
+            + ") s",
+        SHOP_COUNT,
+        SHOP_COUNT,
+        START,
+        SHOP_COUNT,
+        RESERVATIONS_PER_DAY,
+        SHOP_COUNT);
+  }
+}
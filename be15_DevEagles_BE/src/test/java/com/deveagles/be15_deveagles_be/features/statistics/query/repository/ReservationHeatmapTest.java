@@ -0,0 +1,69 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("예약 히트맵 테스트")
+class ReservationHeatmapTest {
+
+  // 2026-10-19 은 월요일
+  private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
+  @Test
+  @DisplayName("시작 시각을 요일 × 30분 칸에 세고 칸, 시간, 요일 × 시간 합을 돌려준다")
+  void bucketsByDayOfWeekAndSlot() {
+    // given
+    ReservationHeatmap heatmap = new ReservationHeatmap(MONDAY, MONDAY.plusDays(13));
+
+    // when
+    heatmap.add(MONDAY.atTime(10, 0));
+    heatmap.add(MONDAY.atTime(10, 29));
+    heatmap.add(MONDAY.atTime(10, 30));
+    heatmap.add(MONDAY.plusDays(7).atTime(10, 45));
+    heatmap.add(MONDAY.plusDays(1).atTime(10, 0));
+    heatmap.add(MONDAY.plusDays(6).atTime(23, 59));
+
+    // then
+    assertThat(heatmap.total()).isEqualTo(6);
+    assertThat(heatmap.slot(20)).isEqualTo(3); // 10:00 ~ 10:29, 월 2건 + 화 1건
+    assertThat(heatmap.slot(21)).isEqualTo(2); // 10:30 ~ 10:59
+    assertThat(heatmap.slot(47)).isEqualTo(1);
+    assertThat(heatmap.hour(10)).isEqualTo(5);
+    assertThat(heatmap.dayHour(1, 10)).isEqualTo(4);
+    assertThat(heatmap.dayHour(2, 10)).isEqualTo(1);
+    assertThat(heatmap.dayHour(7, 23)).isEqualTo(1);
+    assertThat(heatmap.dayHour(3, 10)).isZero();
+  }
+
+  @Test
+  @DisplayName("기간에 포함된 요일별 날짜 수를 센다")
+  void countsDaysPerWeekday() {
+    // given: 목요일부터 다음 주 토요일까지 10일
+    LocalDate thursday = MONDAY.plusDays(3);
+    ReservationHeatmap heatmap = new ReservationHeatmap(thursday, thursday.plusDays(9));
+
+    // then
+    assertThat(heatmap.totalDays()).isEqualTo(10);
+    assertThat(heatmap.days(1)).isEqualTo(1);
+    assertThat(heatmap.days(3)).isEqualTo(1);
+    assertThat(heatmap.days(4)).isEqualTo(2);
+    assertThat(heatmap.days(5)).isEqualTo(2);
+    assertThat(heatmap.days(6)).isEqualTo(2);
+    assertThat(heatmap.days(7)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("하루짜리 기간은 그 요일만 1일이다")
+  void singleDay() {
+    ReservationHeatmap heatmap = new ReservationHeatmap(MONDAY, MONDAY);
+    heatmap.add(LocalDateTime.of(2026, 10, 19, 0, 0));
+
+    assertThat(heatmap.days(1)).isEqualTo(1);
+    assertThat(heatmap.days(2)).isZero();
+    assertThat(heatmap.slot(0)).isEqualTo(1);
+  }
+}
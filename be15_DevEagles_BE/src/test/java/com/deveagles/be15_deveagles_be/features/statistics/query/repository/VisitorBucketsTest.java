@@ -0,0 +1,92 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest.Bucket;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("방문객 구간 집계 테스트")
+class VisitorBucketsTest {
+
+  private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+  @Test
+  @DisplayName("15분 구간으로 접고 빈 구간은 0 으로 채운다")
+  void foldsIntoQuarterHours() {
+    // given: 10:00 ~ 11:00, 15분 구간 4개
+    VisitorBuckets buckets =
+        new VisitorBuckets(
+            Bucket.MINUTE_15,
+            DATE,
+            DATE,
+            LocalTime.of(10, 0),
+            LocalTime.of(11, 0),
+            List.of(VisitorBuckets.MALE, VisitorBuckets.FEMALE));
+
+    // when
+    buckets.addTime(10, 0, "M", 2);
+    buckets.addTime(10, 10, "F", 1);
+    buckets.addTime(10, 40, "M", 3);
+    buckets.addTime(9, 55, "M", 5); // 구간 밖
+    buckets.addTime(11, 0, "F", 5); // 구간 밖
+    List<VisitorStatisticsResponse> rows = buckets.build();
+
+    // then
+    assertThat(rows)
+        .extracting(VisitorStatisticsResponse::getDisplayKey)
+        .containsExactly("10:00", "10:15", "10:30", "10:45");
+    assertThat(rows)
+        .extracting(VisitorStatisticsResponse::getTotalVisitors)
+        .containsExactly(3L, 0L, 3L, 0L);
+    assertThat(rows.get(1).getVisitors()).containsEntry("M", 0L).containsEntry("F", 0L);
+  }
+
+  @Test
+  @DisplayName("등급 같은 ID 차원은 숫자 순으로, 값이 없으면 UNKNOWN 으로 마지막에 둔다")
+  void ordersDiscoveredKeys() {
+    // given
+    VisitorBuckets buckets =
+        new VisitorBuckets(Bucket.DAY, DATE, DATE.plusDays(1), null, null, List.of());
+
+    // when
+    buckets.addDay(DATE, 10L, 1);
+    buckets.addDay(DATE, null, 2);
+    buckets.addDay(DATE.plusDays(1), 2L, 4);
+    List<VisitorStatisticsResponse> rows = buckets.build();
+
+    // then
+    assertThat(rows.get(0).getVisitors().keySet())
+        .containsExactly("2", "10", VisitorBuckets.UNKNOWN);
+    assertThat(rows.get(0).getTotalVisitors()).isEqualTo(3L);
+    assertThat(rows.get(1).getVisitors()).containsEntry("2", 4L).containsEntry("10", 0L);
+    assertThat(rows.get(0).getDayOfWeek()).isEqualTo("월");
+    assertThat(rows.get(1).getDisplayKey()).isEqualTo("10/20");
+  }
+
+  @Test
+  @DisplayName("종료일이 시작일보다 앞서면 날짜 구간 없이 빈 목록을 돌려준다")
+  void emptyWhenEndBeforeStart() {
+    // given
+    VisitorBuckets buckets =
+        new VisitorBuckets(
+            Bucket.DAY,
+            DATE,
+            DATE.minusDays(3),
+            null,
+            null,
+            List.of(VisitorBuckets.MALE, VisitorBuckets.FEMALE));
+
+    // when
+    buckets.addDay(DATE, "M", 1);
+    List<VisitorStatisticsResponse> rows = buckets.build();
+
+    // then
+    assertThat(rows).isEmpty();
+    assertThat(VisitorBuckets.toDaily(rows)).isEmpty();
+  }
+}
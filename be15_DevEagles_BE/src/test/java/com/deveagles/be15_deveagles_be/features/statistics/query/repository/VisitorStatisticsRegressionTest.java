@@ -0,0 +1,203 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.common.config.QueryDslConfig;
+import com.deveagles.be15_deveagles_be.features.customers.command.infrastructure.repository.CustomerSearchOutboxWriter;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 시간대별/일별 성별 방문객 통계를 H2 에서 실제 {@link StatisticsQueryRepositoryImpl} 로 조회해, 기존 방식(시간, 날짜 × 성별마다
+ * COUNT 쿼리)과 같은 결과를 내는지 확인한다. 성별이 없는 고객, 고객이 없는 예약, 취소/삭제 예약, 다른 매장 예약, 조회 구간 밖 시간대를 섞는다.
+ */
+@DataJpaTest
+@ActiveProfiles("jpatest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, CustomerSearchOutboxWriter.class})
+@DisplayName("방문객 통계 회귀 테스트")
+class VisitorStatisticsRegressionTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final LocalDate START = LocalDate.of(2026, 9, 1);
+  private static final LocalDate END = LocalDate.of(2026, 9, 30);
+  private static final String FILTER =
+      " WHERE r.shop_id = 1 AND r.reservation_start_at BETWEEN ? AND ?"
+          + " AND r.deleted_at IS NULL AND r.reservation_status_name NOT IN ('CBC', 'CBS')";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private JPAQueryFactory queryFactory;
+
+  private StatisticsQueryRepositoryImpl statisticsQueryRepository;
+
+  @BeforeEach
+  void setUp() {
+    seed();
+    statisticsQueryRepository =
+        new StatisticsQueryRepositoryImpl(queryFactory, mock(ReservationCapacityCache.class));
+  }
+
+  @Test
+  @DisplayName("시간대별 성별 방문객 통계가 기존 시간별 조회 결과와 같다")
+  void 시간대별_기존_결과와_동일() {
+    // when
+    List<HourlyVisitorStatisticsResponse> legacy = legacyHourly();
+    List<HourlyVisitorStatisticsResponse> grouped =
+        statisticsQueryRepository.findHourlyVisitorStatistics(SHOP_ID, START, END);
+
+    // then
+    assertThat(grouped).hasSize(12);
+    assertThat(grouped).usingRecursiveFieldByFieldElementComparator().isEqualTo(legacy);
+    assertThat(grouped.stream().mapToLong(HourlyVisitorStatisticsResponse::getTotalVisitors).sum())
+        .isPositive();
+  }
+
+  @Test
+  @DisplayName("일별 성별 방문객 통계가 기존 날짜별 조회 결과와 같다")
+  void 일별_기존_결과와_동일() {
+    // when
+    List<DailyVisitorStatisticsResponse> legacy = legacyDaily(START, END);
+    List<DailyVisitorStatisticsResponse> grouped =
+        statisticsQueryRepository.findDailyVisitorStatistics(SHOP_ID, START, END);
+
+    // then
+    assertThat(grouped).hasSize(30);
+    assertThat(grouped).usingRecursiveFieldByFieldElementComparator().isEqualTo(legacy);
+  }
+
+  @Test
+  @DisplayName("종료일이 시작일보다 앞서면 기존처럼 빈 목록을 돌려준다")
+  void 일별_역순_기간_빈_목록() {
+    // when
+    List<DailyVisitorStatisticsResponse> grouped =
+        statisticsQueryRepository.findDailyVisitorStatistics(SHOP_ID, END, START);
+
+    // then
+    assertThat(grouped).isEmpty();
+    assertThat(legacyDaily(END, START)).isEmpty();
+  }
+
+  /** 기존 방식: 9 ~ 20시마다 남녀 COUNT 쿼리를 보낸다. */
+  private List<HourlyVisitorStatisticsResponse> legacyHourly() {
+    String sql =
+        "SELECT COUNT(*) FROM reservation r LEFT JOIN customer c"
+            + " ON r.customer_id = c.customer_id"
+            + FILTER
+            + " AND HOUR(r.reservation_start_at) = ? AND c.gender = ?";
+    List<HourlyVisitorStatisticsResponse> result = new ArrayList<>();
+    for (int hour = 9; hour <= 20; hour++) {
+      long male = count(sql, START, END, hour, "M");
+      long female = count(sql, START, END, hour, "F");
+      result.add(
+          new HourlyVisitorStatisticsResponse(
+              hour, String.format("%02d:00", hour), male, female, male + female, hour + "시"));
+    }
+    return result;
+  }
+
+  /** 기존 방식: 날짜마다 남녀 COUNT 쿼리를 보낸다. */
+  private List<DailyVisitorStatisticsResponse> legacyDaily(LocalDate from, LocalDate to) {
+    String[] dayNames = {"월", "화", "수", "목", "금", "토", "일"};
+    String sql =
+        "SELECT COUNT(*) FROM reservation r LEFT JOIN customer c"
+            + " ON r.customer_id = c.customer_id"
+            + FILTER
+            + " AND c.gender = ?";
+    List<DailyVisitorStatisticsResponse> result = new ArrayList<>();
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      long male = count(sql, date, date, null, "M");
+      long female = count(sql, date, date, null, "F");
+      result.add(
+          new DailyVisitorStatisticsResponse(
+              date,
+              dayNames[date.getDayOfWeek().getValue() - 1],
+              male,
+              female,
+              male + female,
+              String.format("%02d/%02d", date.getMonthValue(), date.getDayOfMonth())));
+    }
+    return result;
+  }
+
+  private long count(String sql, LocalDate from, LocalDate to, Integer hour, String gender) {
+    List<Object> args = new ArrayList<>();
+    args.add(Timestamp.valueOf(from.atStartOfDay()));
+    args.add(Timestamp.valueOf(to.atTime(LocalTime.MAX)));
+    if (hour != null) {
+      args.add(hour);
+    }
+    args.add(gender);
+    return jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+  }
+
+  private void seed() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0));
+    List<Object[]> customers = new ArrayList<>();
+    for (long id = 1; id <= 50; id++) {
+      customers.add(
+          new Object[] {
+            id,
+            String.format("010%08d", id),
+            Date.valueOf(LocalDate.of(1990, 1, 1)),
+            id % 10 == 0 ? null : (id % 2 == 0 ? "F" : "M"),
+            now,
+            now
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO customer (customer_id, customer_grade_id, shop_id, staff_id, customer_name,"
+            + " phone_number, visit_count, total_revenue, recent_visit_date, birthdate,"
+            + " noshow_count, gender, marketing_consent, notification_consent, created_at,"
+            + " modified_at) VALUES (?, 1, 1, 1, '고객', ?, 0, 0, CURRENT_DATE, ?, 0, ?, FALSE,"
+            + " FALSE, ?, ?)",
+        customers);
+
+    Random random = new Random(7);
+    String[] statuses = {"CONFIRMED", "CONFIRMED", "PAID", "CBC", "CBS"};
+    List<Object[]> reservations = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      // 조회 기간 앞뒤 하루와 07:00 ~ 22:55 를 포함
+      LocalDateTime startAt =
+          START
+              .minusDays(1)
+              .plusDays(random.nextInt(32))
+              .atTime(7, 0)
+              .plusMinutes(5L * random.nextInt(192));
+      reservations.add(
+          new Object[] {
+            random.nextInt(20) == 0 ? 2L : SHOP_ID,
+            random.nextInt(30) == 0 ? null : (long) (1 + random.nextInt(50)),
+            statuses[random.nextInt(statuses.length)],
+            Timestamp.valueOf(startAt),
+            Timestamp.valueOf(startAt.plusHours(1)),
+            random.nextInt(25) == 0 ? Timestamp.valueOf(startAt) : null,
+            now,
+            now
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO reservation (staff_id, shop_id, customer_id, reservation_status_name,"
+            + " reservation_start_at, reservation_end_at, deleted_at, created_at, modified_at)"
+            + " VALUES (1, ?, ?, ?, ?, ?, ?, ?, ?)",
+        reservations);
+  }
+}
@@ -0,0 +1,131 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.ReservationSummaryResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsDashboardResponse.SectionStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StatisticsDashboardServiceImplTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final LocalDate START = LocalDate.of(2026, 10, 1);
+  private static final LocalDate END = LocalDate.of(2026, 10, 31);
+
+  private StatisticsQueryService statisticsQueryService;
+  private StatisticsDashboardServiceImpl dashboardService;
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    statisticsQueryService = mock(StatisticsQueryService.class);
+    dashboardService = new StatisticsDashboardServiceImpl(statisticsQueryService);
+    ReflectionTestUtils.setField(dashboardService, "parallelism", 6);
+    ReflectionTestUtils.setField(dashboardService, "queueCapacity", 10);
+    ReflectionTestUtils.setField(dashboardService, "sectionTimeoutMs", 300L);
+    dashboardService.init();
+
+    given(statisticsQueryService.getSalesSummary(SHOP_ID, START, END))
+        .willReturn(SalesSummaryResponse.builder().totalSales(100000L).build());
+    given(statisticsQueryService.getSalesStatistics(SHOP_ID, START, END)).willReturn(List.of());
+    given(statisticsQueryService.getPrimaryItemDailyTrend(SHOP_ID, START, END))
+        .willReturn(List.of());
+    given(statisticsQueryService.getHourlyVisitorStatistics(SHOP_ID, START, END))
+        .willReturn(List.of(new HourlyVisitorStatisticsResponse(9, "09:00", 1L, 2L, 3L, "9시")));
+    given(statisticsQueryService.getDailyVisitorStatistics(SHOP_ID, START, END))
+        .willReturn(List.of());
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    dashboardService.shutdown();
+  }
+
+  @Test
+  @DisplayName("모든 섹션을 동시에 조회하고 섹션별 상태와 소요 시간을 담는다")
+  void 전체_섹션_조회() {
+    // given
+    given(statisticsQueryService.getReservationSummary(SHOP_ID, START, END))
+        .willReturn(new ReservationSummaryResponse());
+
+    // when
+    StatisticsDashboardResponse response = dashboardService.getDashboard(SHOP_ID, START, END);
+
+    // then
+    assertThat(response.isPartial()).isFalse();
+    assertThat(response.getSalesSummary().getTotalSales()).isEqualTo(100000L);
+    assertThat(response.getReservationSummary()).isNotNull();
+    assertThat(response.getHourlyVisitors()).hasSize(1);
+    assertThat(response.getSections())
+        .containsOnlyKeys(
+            "salesSummary",
+            "dailySales",
+            "primaryItemDailyTrend",
+            "reservationSummary",
+            "hourlyVisitors",
+            "dailyVisitors");
+    assertThat(response.getSections().values())
+        .allSatisfy(
+            meta -> {
+              assertThat(meta.getStatus()).isEqualTo(SectionStatus.OK);
+              assertThat(meta.getElapsedMs()).isNotNegative();
+            });
+  }
+
+  @Test
+  @DisplayName("제한 시간을 넘긴 섹션만 비우고 나머지 결과는 그대로 반환한다")
+  void 섹션_시간_초과() {
+    // given: 예약 요약이 풀릴 때까지 멈춰 있음
+    given(statisticsQueryService.getReservationSummary(SHOP_ID, START, END))
+        .willAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return new ReservationSummaryResponse();
+            });
+
+    // when
+    StatisticsDashboardResponse response = dashboardService.getDashboard(SHOP_ID, START, END);
+
+    // then
+    assertThat(response.isPartial()).isTrue();
+    assertThat(response.getReservationSummary()).isNull();
+    assertThat(response.getSections().get("reservationSummary").getStatus())
+        .isEqualTo(SectionStatus.TIMEOUT);
+    assertThat(response.getSalesSummary()).isNotNull();
+    assertThat(response.getSections().get("salesSummary").getStatus())
+        .isEqualTo(SectionStatus.OK);
+    assertThat(response.getElapsedMs()).isLessThan(2000L);
+  }
+
+  @Test
+  @DisplayName("예외가 난 섹션은 실패로 표시하고 나머지 결과는 그대로 반환한다")
+  void 섹션_조회_실패() {
+    // given
+    given(statisticsQueryService.getReservationSummary(SHOP_ID, START, END))
+        .willThrow(new IllegalStateException("DB 오류"));
+
+    // when
+    StatisticsDashboardResponse response = dashboardService.getDashboard(SHOP_ID, START, END);
+
+    // then
+    assertThat(response.isPartial()).isTrue();
+    assertThat(response.getReservationSummary()).isNull();
+    assertThat(response.getSections().get("reservationSummary").getStatus())
+        .isEqualTo(SectionStatus.FAILED);
+    assertThat(response.getHourlyVisitors()).hasSize(1);
+  }
+}
@@ -1,11 +1,17 @@
 package com.deveagles.be15_deveagles_be.features.statistics.query.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
+import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.AdvancedSalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.DailyVisitorStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.HourlyVisitorStatisticsResponse;
@@ -15,11 +21,14 @@ import com.deveagles.be15_deveagles_be.features.statistics.query.dto.Reservation
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesStatisticsResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
 import com.deveagles.be15_deveagles_be.features.statistics.query.dto.StatisticsRequest;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.VisitorStatisticsRequest;
 import com.deveagles.be15_deveagles_be.features.statistics.query.repository.StatisticsQueryRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +40,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class StatisticsQueryServiceImplTest {
 
   @Mock private StatisticsQueryRepository statisticsQueryRepository;
+  @Mock private StatisticsResultCache statisticsResultCache;
 
   @InjectMocks private StatisticsQueryServiceImpl statisticsQueryService;
 
@@ -38,6 +48,14 @@ class StatisticsQueryServiceImplTest {
   private final LocalDate startDate = LocalDate.of(2024, 1, 1);
   private final LocalDate endDate = LocalDate.of(2024, 1, 31);
 
+  @BeforeEach
+  void setUp() {
+    // 캐시는 항상 계산 결과를 그대로 돌려준다
+    lenient()
+        .when(statisticsResultCache.get(any(), anyString(), any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+  }
+
   @Test
   @DisplayName("매출 통계 조회 테스트")
   void getSalesStatistics() {
@@ -300,6 +318,24 @@ class StatisticsQueryServiceImplTest {
     verify(statisticsQueryRepository).findDailyVisitorStatistics(shopId, startDate, endDate);
   }
 
+  @Test
+  @DisplayName("방문객 구간/차원별 조회 - 기간이 없거나 종료일이 시작일보다 앞서면 조회하지 않고 거절한다")
+  void getVisitorStatistics_invalidPeriod() {
+    VisitorStatisticsRequest reversed = new VisitorStatisticsRequest();
+    reversed.setStartDate(endDate);
+    reversed.setEndDate(startDate);
+    VisitorStatisticsRequest missing = new VisitorStatisticsRequest();
+    missing.setEndDate(endDate);
+
+    for (VisitorStatisticsRequest request : List.of(reversed, missing)) {
+      assertThatThrownBy(() -> statisticsQueryService.getVisitorStatistics(shopId, request))
+          .isInstanceOf(BusinessException.class)
+          .extracting("errorCode")
+          .isEqualTo(ErrorCode.INVALID_STATISTICS_PERIOD);
+    }
+    verifyNoInteractions(statisticsQueryRepository, statisticsResultCache);
+  }
+
   @Test
   @DisplayName("1차 상품별 일별 매출추이 조회 테스트")
   void getPrimaryItemDailyTrend() {
@@ -0,0 +1,194 @@
+package com.deveagles.be15_deveagles_be.features.statistics.query.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.cache.ReferenceCache;
+import com.deveagles.be15_deveagles_be.common.events.ReferenceDataChangedEvent;
+import com.deveagles.be15_deveagles_be.common.events.StatisticsDataChangedEvent;
+import com.deveagles.be15_deveagles_be.features.statistics.query.dto.SalesSummaryResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("통계 결과 캐시 테스트")
+class StatisticsResultCacheTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final String VERSION_KEY = "STATS:VERSION:1";
+  private static final TypeReference<SalesSummaryResponse> SUMMARY = new TypeReference<>() {};
+  private static final List<Object> PERIOD =
+      Arrays.asList(LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 30));
+
+  private RedisTemplate<String, String> redisTemplate;
+  private ValueOperations<String, String> valueOperations;
+  private StatisticsResultCache cache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get(VERSION_KEY)).willReturn("5");
+
+    cache = new StatisticsResultCache(redisTemplate, new ObjectMapper().findAndRegisterModules());
+    ReflectionTestUtils.setField(cache, "enabled", true);
+    ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+    ReflectionTestUtils.setField(cache, "l1MaxEntries", 100);
+    cache.init();
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("처음 조회는 계산해 Redis 에 TTL 과 함께 저장하고, 같은 버전의 다음 조회는 로컬에서 응답한다")
+  void 로컬_캐시_적중() {
+    // when
+    SalesSummaryResponse first = get();
+    SalesSummaryResponse second = get();
+
+    // then
+    assertThat(first.getTotalSales()).isEqualTo(1000L);
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    verify(valueOperations)
+        .set(startsWith("STATS:1:sales-summary:5:"), anyString(), eq(Duration.ofSeconds(600)));
+    verify(valueOperations, times(2)).get(VERSION_KEY);
+  }
+
+  @Test
+  @DisplayName("로컬에 없고 Redis 에 같은 버전의 결과가 있으면 계산하지 않는다")
+  void Redis_캐시_적중() {
+    // given
+    given(valueOperations.get(startsWith("STATS:1:sales-summary:5:")))
+        .willReturn("{\"totalSales\":7000,\"totalTransactions\":3}");
+
+    // when
+    SalesSummaryResponse result = get();
+
+    // then
+    assertThat(result.getTotalSales()).isEqualTo(7000L);
+    assertThat(result.getTotalTransactions()).isEqualTo(3L);
+    assertThat(loads).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("매장 데이터 버전이 바뀌면 이전 결과를 쓰지 않고 다시 계산한다")
+  void 버전_변경시_재계산() {
+    // given
+    get();
+
+    // when
+    cache.onStatisticsDataChanged(new StatisticsDataChangedEvent(SHOP_ID));
+    given(valueOperations.get(VERSION_KEY)).willReturn("6");
+    get();
+
+    // then
+    assertThat(loads).hasValue(2);
+    verify(valueOperations).increment(VERSION_KEY);
+    verify(valueOperations).set(startsWith("STATS:1:sales-summary:6:"), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("통계와 관계없는 기준 데이터 변경은 버전을 올리지 않는다")
+  void 관계없는_기준데이터_변경() {
+    // when
+    cache.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceCache.TAGS, SHOP_ID));
+    cache.onReferenceDataChanged(
+        new ReferenceDataChangedEvent(ReferenceCache.RESERVATION_SETTINGS, SHOP_ID));
+
+    // then
+    verify(valueOperations, times(1)).increment(VERSION_KEY);
+  }
+
+  @Test
+  @DisplayName("버전을 읽을 수 없으면 캐시 없이 매번 계산한다")
+  void Redis_장애시_직접_계산() {
+    // given
+    given(valueOperations.get(VERSION_KEY))
+        .willThrow(new IllegalStateException("connection refused"));
+
+    // when
+    get();
+    get();
+
+    // then
+    assertThat(loads).hasValue(2);
+    verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("같은 요청이 동시에 들어오면 한 번만 계산하고 결과를 함께 쓴다")
+  void 동시_요청_병합() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // when: 첫 요청이 계산 중인 동안 나머지 요청이 들어온다
+      Future<SalesSummaryResponse> first =
+          executor.submit(
+              () ->
+                  cache.get(
+                      SHOP_ID,
+                      "sales-summary",
+                      PERIOD,
+                      SUMMARY,
+                      () -> {
+                        started.countDown();
+                        await(release);
+                        return load();
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      List<Future<SalesSummaryResponse>> others =
+          List.of(executor.submit(this::get), executor.submit(this::get));
+      Thread.sleep(100);
+      release.countDown();
+
+      // then
+      SalesSummaryResponse result = first.get(5, TimeUnit.SECONDS);
+      for (Future<SalesSummaryResponse> other : others) {
+        assertThat(other.get(5, TimeUnit.SECONDS)).isSameAs(result);
+      }
+      assertThat(loads).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private SalesSummaryResponse get() {
+    return cache.get(SHOP_ID, "sales-summary", PERIOD, SUMMARY, this::load);
+  }
+
+  private SalesSummaryResponse load() {
+    loads.incrementAndGet();
+    return SalesSummaryResponse.builder().totalSales(1000L).totalTransactions(1L).build();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
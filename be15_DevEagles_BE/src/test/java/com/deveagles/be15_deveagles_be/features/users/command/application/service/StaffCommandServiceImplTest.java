@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
+import com.deveagles.be15_deveagles_be.common.events.StaffAuthChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.domain.aggregate.AccessAuth;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,6 +44,7 @@ public class StaffCommandServiceImplTest {
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private UserCommandService userCommandService;
   @Mock private FileCommandService fileCommandService;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private MultipartFile profile;
 
   private StaffCommandServiceImpl staffCommandService;
@@ -56,7 +59,8 @@ public class StaffCommandServiceImplTest {
             accessAuthQueryRepository,
             passwordEncoder,
             userCommandService,
-            fileCommandService);
+            fileCommandService,
+            eventPublisher);
   }
 
   @Test
@@ -194,6 +198,7 @@ public class StaffCommandServiceImplTest {
     verify(accessAuthRepository).save(any(AccessAuth.class));
     assertThat(staff.getStaffName()).isEqualTo("새이름");
     assertThat(staff.getEmail()).isEqualTo("new@example.com");
+    verify(eventPublisher).publishEvent(any(StaffAuthChangedEvent.class));
   }
 
   @Test
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.deveagles.be15_deveagles_be.common.events.StaffAuthChangedEvent;
 import com.deveagles.be15_deveagles_be.common.exception.BusinessException;
 import com.deveagles.be15_deveagles_be.common.exception.ErrorCode;
 import com.deveagles.be15_deveagles_be.features.auth.command.application.model.CustomUser;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -38,6 +40,8 @@ public class UserCommandServiceImplTest {
 
   @Mock private AmazonS3 amazonS3;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @Mock private MultipartFile multipartFile;
 
   private String bucket = "test-bucket";
@@ -46,7 +50,7 @@ public class UserCommandServiceImplTest {
 
   @BeforeEach
   void setUp() {
-    service = new UserCommandServiceImpl(userRepository, passwordEncoder, amazonS3);
+    service = new UserCommandServiceImpl(userRepository, passwordEncoder, amazonS3, eventPublisher);
     ReflectionTestUtils.setField(service, "bucket", bucket);
   }
 
@@ -61,7 +65,7 @@ public class UserCommandServiceImplTest {
     Mockito.when(userRepository.findStaffByLoginId(loginId)).thenReturn(Optional.of(existingStaff));
 
     UserCommandServiceImpl service =
-        new UserCommandServiceImpl(userRepository, passwordEncoder, amazonS3);
+        new UserCommandServiceImpl(userRepository, passwordEncoder, amazonS3, eventPublisher);
 
     // when
     Boolean result = service.validCheckId(request);
@@ -80,7 +84,7 @@ public class UserCommandServiceImplTest {
     Mockito.when(userRepository.findStaffByLoginId(loginId)).thenReturn(Optional.empty());
 
     UserCommandServiceImpl service =
-        new UserCommandServiceImpl(userRepository, passwordEncoder, amazonS3);
+        new UserCommandServiceImpl(userRepository, passwordEncoder, amazonS3, eventPublisher);
 
     // when
     Boolean result = service.validCheckId(request);
@@ -448,6 +452,7 @@ public class UserCommandServiceImplTest {
 
     // then
     assertEquals(encodedPassword, staff.getPassword());
+    Mockito.verify(eventPublisher).publishEvent(Mockito.any(StaffAuthChangedEvent.class));
   }
 
   @Test
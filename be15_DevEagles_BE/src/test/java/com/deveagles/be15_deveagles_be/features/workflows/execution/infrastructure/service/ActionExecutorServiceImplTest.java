@@ -0,0 +1,202 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.request.CustomerSearchQuery;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerAudienceCursor;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService.ActionExecutionResult;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowExecutionLease.LeaseLostException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("액션 청크 실행 테스트")
+class ActionExecutorServiceImplTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final int CHUNK_SIZE = 500;
+
+  private WorkflowExecutionRepository workflowExecutionRepository;
+  private MessageServiceAdapter messageService;
+  private NotificationServiceAdapter notificationService;
+  private CustomerQueryService customerQueryService;
+  private ActionExecutorServiceImpl actionExecutorService;
+
+  private CustomerSearchQuery query;
+
+  @BeforeEach
+  void setUp() {
+    workflowExecutionRepository = mock(WorkflowExecutionRepository.class);
+    messageService = mock(MessageServiceAdapter.class);
+    notificationService = mock(NotificationServiceAdapter.class);
+    customerQueryService = mock(CustomerQueryService.class);
+    WorkflowExecutionLease lease = new WorkflowExecutionLease(workflowExecutionRepository);
+    ReflectionTestUtils.setField(lease, "leaseSeconds", 300L);
+
+    actionExecutorService =
+        new ActionExecutorServiceImpl(
+            workflowExecutionRepository,
+            new ObjectMapper().findAndRegisterModules(),
+            messageService,
+            mock(CouponServiceAdapter.class),
+            notificationService,
+            lease);
+
+    query =
+        new CustomerSearchQuery(
+            SHOP_ID, null, null, null, null, null, null, false, null, false, null, false, 0, 0,
+            null, null);
+
+    given(messageService.sendMessages(anyList(), eq(SHOP_ID), eq("1"), any()))
+        .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+  }
+
+  @Test
+  @DisplayName("1000명을 넘는 대상도 청크 단위로 모두 처리하고 청크마다 진행 상황을 저장한다")
+  void 청크_단위_전체_처리() {
+    // given
+    given(customerQueryService.findAudienceCustomerIds(query, null, CHUNK_SIZE))
+        .willReturn(ids(1, 500));
+    given(customerQueryService.findAudienceCustomerIds(query, 500L, CHUNK_SIZE))
+        .willReturn(ids(501, 1000));
+    given(customerQueryService.findAudienceCustomerIds(query, 1000L, CHUNK_SIZE))
+        .willReturn(ids(1001, 1200));
+    WorkflowExecution execution = newExecution();
+
+    // when
+    ActionExecutionResult result =
+        actionExecutorService.executeActionInChunks(messageWorkflow(), cursor(null), execution);
+
+    // then
+    assertThat(result.getSuccessCount()).isEqualTo(1200);
+    assertThat(result.getFailureCount()).isZero();
+    assertThat(execution.getProcessedCount()).isEqualTo(1200);
+    assertThat(execution.getTargetCount()).isEqualTo(1200);
+    assertThat(execution.getLastProcessedCustomerId()).isEqualTo(1200L);
+    // 고객마다가 아니라 청크마다 한 번씩 일괄 발송
+    verify(messageService).sendMessages(eq(ids(1, 500)), eq(SHOP_ID), eq("1"), any());
+    verify(messageService).sendMessages(eq(ids(501, 1000)), eq(SHOP_ID), eq("1"), any());
+    verify(messageService).sendMessages(eq(ids(1001, 1200)), eq(SHOP_ID), eq("1"), any());
+    verifyNoMoreInteractions(messageService);
+    verify(workflowExecutionRepository, times(3)).save(execution);
+  }
+
+  @Test
+  @DisplayName("중단된 실행은 저장된 재개 지점 이후 고객부터 이어서 처리한다")
+  void 재개_지점부터_처리() {
+    // given
+    given(customerQueryService.findAudienceCustomerIds(query, 1000L, CHUNK_SIZE))
+        .willReturn(ids(1001, 1200));
+    WorkflowExecution execution = newExecution();
+    execution.recordChunkProgress(1000L, 1000, 990, 10);
+
+    // when
+    ActionExecutionResult result =
+        actionExecutorService.executeActionInChunks(
+            messageWorkflow(), cursor(execution.getLastProcessedCustomerId()), execution);
+
+    // then
+    assertThat(result.getSuccessCount()).isEqualTo(1190);
+    assertThat(result.getFailureCount()).isEqualTo(10);
+    assertThat(execution.getProcessedCount()).isEqualTo(1200);
+    verify(messageService, times(1)).sendMessages(anyList(), anyLong(), anyString(), any());
+    verify(messageService).sendMessages(eq(ids(1001, 1200)), eq(SHOP_ID), eq("1"), any());
+    verify(customerQueryService, never()).findAudienceCustomerIds(query, null, CHUNK_SIZE);
+  }
+
+  @Test
+  @DisplayName("시스템 알림은 대상 고객이 여러 청크여도 한 번만 발송한다")
+  void 시스템_알림_단일_발송() {
+    // given
+    given(customerQueryService.findAudienceCustomerIds(query, null, CHUNK_SIZE))
+        .willReturn(ids(1, 500));
+    given(
+            notificationService.sendNotification(
+                eq(SHOP_ID), anyLong(), anyString(), anyString(), anyString(), anyInt()))
+        .willReturn(true);
+    Workflow workflow =
+        Workflow.builder()
+            .id(100L)
+            .shopId(SHOP_ID)
+            .staffId(1L)
+            .title("알림 워크플로우")
+            .actionType("system-notification")
+            .actionConfig("{\"notificationTitle\":\"제목\",\"notificationContent\":\"내용\"}")
+            .build();
+
+    // when
+    actionExecutorService.executeActionInChunks(workflow, cursor(null), newExecution());
+
+    // then
+    verify(notificationService, times(1))
+        .sendNotification(eq(SHOP_ID), anyLong(), anyString(), anyString(), anyString(), anyInt());
+    verify(customerQueryService, times(1)).findAudienceCustomerIds(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("청크 사이에 다른 실행이 lease 를 넘겨받으면 더 발송하지 않고 멈춘다")
+  void lease_상실시_중단() {
+    // given
+    given(customerQueryService.findAudienceCustomerIds(query, null, CHUNK_SIZE))
+        .willReturn(ids(1, 500));
+    given(customerQueryService.findAudienceCustomerIds(query, 500L, CHUNK_SIZE))
+        .willReturn(ids(501, 1000));
+    given(workflowExecutionRepository.renewLease(eq(1L), eq("node-a"), any()))
+        .willReturn(true, false);
+    WorkflowExecution execution = newExecution();
+    execution.holdLease("node-a", LocalDateTime.now().plusMinutes(5));
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                actionExecutorService.executeActionInChunks(
+                    messageWorkflow(), cursor(null), execution))
+        .isInstanceOf(LeaseLostException.class);
+    verify(messageService, times(1)).sendMessages(anyList(), anyLong(), anyString(), any());
+    verify(workflowExecutionRepository, times(1)).save(execution);
+    assertThat(execution.getLastProcessedCustomerId()).isEqualTo(500L);
+  }
+
+  private CustomerAudienceCursor cursor(Long afterCustomerId) {
+    return new CustomerAudienceCursor(customerQueryService, query, afterCustomerId, CHUNK_SIZE);
+  }
+
+  private Workflow messageWorkflow() {
+    return Workflow.builder()
+        .id(100L)
+        .shopId(SHOP_ID)
+        .staffId(1L)
+        .title("메시지 워크플로우")
+        .actionType("message-only")
+        .actionConfig("{\"messageTemplateId\":\"1\",\"sendTime\":\"10:00:00\"}")
+        .build();
+  }
+
+  private WorkflowExecution newExecution() {
+    return WorkflowExecution.builder()
+        .id(1L)
+        .workflowId(100L)
+        .shopId(SHOP_ID)
+        .executionStatus("RUNNING")
+        .triggerType("visit-cycle")
+        .actionType("message-only")
+        .build();
+  }
+
+  private List<Long> ids(long from, long to) {
+    return LongStream.rangeClosed(from, to).boxed().toList();
+  }
+}
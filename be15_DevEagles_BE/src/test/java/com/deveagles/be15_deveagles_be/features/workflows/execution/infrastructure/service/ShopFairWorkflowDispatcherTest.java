@@ -0,0 +1,202 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import com.deveagles.be15_deveagles_be.features.workflows.query.application.dto.response.WorkflowExecutionMetricsResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("매장별 공정 워크플로우 디스패처 테스트")
+class ShopFairWorkflowDispatcherTest {
+
+  private WorkflowRepository workflowRepository;
+  private WorkflowExecutionService workflowExecutionService;
+  private WorkflowExecutionMetrics metrics;
+  private ShopFairWorkflowDispatcher dispatcher;
+
+  private final List<Long> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  void setUp() {
+    workflowRepository = mock(WorkflowRepository.class);
+    workflowExecutionService = mock(WorkflowExecutionService.class);
+    metrics = new WorkflowExecutionMetrics();
+    dispatcher =
+        new ShopFairWorkflowDispatcher(workflowRepository, workflowExecutionService, metrics);
+  }
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  @DisplayName("대형 매장의 워크플로우가 많아도 다른 매장이 라운드로빈으로 끼어든다")
+  void dispatchScheduled_매장별_라운드로빈() throws Exception {
+    // given
+    init(1, 1);
+    List<Workflow> workflows = new ArrayList<>();
+    for (long id = 1; id <= 5; id++) {
+      workflows.add(workflow(id, 1L));
+    }
+    workflows.add(workflow(100L, 2L));
+    workflows.add(workflow(200L, 3L));
+    stubClaimAndExecution(workflows);
+
+    // when
+    int dispatched = dispatcher.dispatchScheduled(workflows);
+    awaitExecutions(7);
+
+    // then
+    assertThat(dispatched).isEqualTo(7);
+    assertThat(executionOrder).containsExactly(1L, 100L, 200L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  @DisplayName("다른 노드가 선점한 워크플로우는 실행하지 않는다")
+  void dispatchScheduled_선점실패시_건너뜀() throws Exception {
+    // given
+    init(2, 2);
+    Workflow claimed = workflow(1L, 1L);
+    Workflow taken = workflow(2L, 1L);
+    stubClaimAndExecution(List.of(claimed));
+    given(workflowRepository.claimScheduled(eq(2L), anyString(), any(), any())).willReturn(false);
+
+    // when
+    dispatcher.dispatchScheduled(List.of(claimed, taken));
+    awaitExecutions(1);
+    verify(workflowRepository, timeout(2000)).releaseClaim(eq(1L), anyString());
+
+    awaitSkipped(1L, 1L);
+
+    // then
+    verify(workflowExecutionService, never()).executeWorkflow(taken);
+    verify(workflowRepository, never()).releaseClaim(eq(2L), anyString());
+    WorkflowExecutionMetricsResponse snapshot = metrics.snapshot(1L);
+    assertThat(snapshot.getCompletedCount()).isEqualTo(1L);
+    assertThat(snapshot.getSkippedCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("트리거 슬롯 실행은 슬롯 단위로 선점한다")
+  void dispatchTriggerSlot_슬롯선점() throws Exception {
+    // given
+    init(2, 2);
+    LocalDateTime slot = LocalDateTime.of(2024, 6, 1, 9, 0);
+    Workflow workflow = workflow(1L, 1L);
+    given(
+            workflowRepository.claimTriggerSlot(
+                eq(1L), anyString(), eq(slot), any(LocalDateTime.class), any()))
+        .willReturn(true);
+    given(workflowRepository.findById(1L)).willReturn(Optional.of(workflow));
+    recordExecutions();
+
+    // when
+    dispatcher.dispatchTriggerSlot(List.of(workflow), slot);
+    awaitExecutions(1);
+
+    // then
+    verify(workflowRepository, never()).claimScheduled(any(), any(), any(), any());
+    verify(workflowRepository, timeout(2000)).releaseClaim(eq(1L), anyString());
+  }
+
+  @Test
+  @DisplayName("이미 대기/실행 중인 워크플로우는 다시 적재하지 않는다")
+  void dispatchScheduled_중복적재_방지() throws Exception {
+    // given
+    init(1, 1);
+    Workflow workflow = workflow(1L, 1L);
+    CountDownLatch release = new CountDownLatch(1);
+    given(workflowRepository.claimScheduled(eq(1L), anyString(), any(), any())).willReturn(true);
+    given(workflowRepository.findById(1L)).willReturn(Optional.of(workflow));
+    doAnswer(
+            invocation -> {
+              release.await(2, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(workflowExecutionService)
+        .executeWorkflow(workflow);
+
+    // when
+    int first = dispatcher.dispatchScheduled(List.of(workflow));
+    int second = dispatcher.dispatchScheduled(List.of(workflow));
+    release.countDown();
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    verify(workflowExecutionService, timeout(2000).times(1)).executeWorkflow(workflow);
+  }
+
+  private void init(int poolSize, int maxConcurrentPerShop) {
+    ReflectionTestUtils.setField(dispatcher, "poolSize", poolSize);
+    ReflectionTestUtils.setField(dispatcher, "maxConcurrentPerShop", maxConcurrentPerShop);
+    ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 60L);
+    ReflectionTestUtils.setField(dispatcher, "nodeId", "test-node");
+    dispatcher.init();
+  }
+
+  private void stubClaimAndExecution(List<Workflow> workflows) {
+    for (Workflow workflow : workflows) {
+      given(workflowRepository.claimScheduled(eq(workflow.getId()), anyString(), any(), any()))
+          .willReturn(true);
+      given(workflowRepository.findById(workflow.getId())).willReturn(Optional.of(workflow));
+    }
+    recordExecutions();
+  }
+
+  private void recordExecutions() {
+    doAnswer(
+            invocation -> {
+              executionOrder.add(invocation.<Workflow>getArgument(0).getId());
+              return null;
+            })
+        .when(workflowExecutionService)
+        .executeWorkflow(any(Workflow.class));
+  }
+
+  private void awaitExecutions(int expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2000;
+    while (executionOrder.size() < expected && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(executionOrder).hasSize(expected);
+  }
+
+  private void awaitSkipped(Long shopId, long expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2000;
+    while (metrics.snapshot(shopId).getSkippedCount() < expected
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private Workflow workflow(Long id, Long shopId) {
+    return Workflow.builder()
+        .id(id)
+        .shopId(shopId)
+        .staffId(1L)
+        .title("워크플로우-" + id)
+        .triggerType("visit-cycle")
+        .triggerCategory("periodic")
+        .actionType("message-only")
+        .nextScheduledAt(LocalDateTime.now().minusMinutes(1))
+        .build();
+  }
+}
@@ -0,0 +1,163 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.common.events.WorkflowDefinitionChangedEvent;
+import com.deveagles.be15_deveagles_be.features.customers.query.dto.response.CustomerDetailResponse;
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.CustomerRegistrationEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.CustomerVisitEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.TriggerCheckService.PaymentCompletedEvent;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("트리거 배치 평가 테스트")
+class TriggerCheckServiceImplTest {
+
+  private static final Long SHOP_ID = 1L;
+  private static final Long CUSTOMER_ID = 10L;
+
+  private WorkflowRepository workflowRepository;
+  private WorkflowExecutionService workflowExecutionService;
+  private CustomerQueryService customerQueryService;
+  private TriggerDefinitionCache triggerDefinitionCache;
+  private TriggerCheckServiceImpl triggerCheckService;
+
+  private Workflow visitCycleWorkflow;
+  private Workflow amountWorkflow;
+
+  @BeforeEach
+  void setUp() {
+    workflowRepository = mock(WorkflowRepository.class);
+    workflowExecutionService = mock(WorkflowExecutionService.class);
+    customerQueryService = mock(CustomerQueryService.class);
+    triggerDefinitionCache = new TriggerDefinitionCache(workflowRepository, new ObjectMapper());
+    ReflectionTestUtils.setField(triggerDefinitionCache, "ttlSeconds", 300L);
+
+    triggerCheckService =
+        new TriggerCheckServiceImpl(
+            workflowRepository,
+            workflowExecutionService,
+            customerQueryService,
+            triggerDefinitionCache);
+    ReflectionTestUtils.setField(triggerCheckService, "maxPending", 100);
+
+    visitCycleWorkflow = workflow(100L, "visit-cycle", "{\"visitCycleDays\":30}");
+    amountWorkflow = workflow(200L, "amount-milestone", "{\"amountMilestone\":100000}");
+
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID))
+        .willReturn(List.of(visitCycleWorkflow, amountWorkflow));
+    given(workflowRepository.findById(100L)).willReturn(Optional.of(visitCycleWorkflow));
+    given(workflowRepository.findById(200L)).willReturn(Optional.of(amountWorkflow));
+    given(customerQueryService.getCustomerDetail(CUSTOMER_ID, SHOP_ID))
+        .willReturn(
+            Optional.of(
+                CustomerDetailResponse.builder()
+                    .customerId(CUSTOMER_ID)
+                    .visitCount(5)
+                    .totalRevenue(150000)
+                    .recentVisitDate(LocalDate.now().minusDays(30))
+                    .build()));
+  }
+
+  @Test
+  @DisplayName("이벤트는 즉시 평가되지 않고 배치 처리 시점에 평가된다")
+  void 이벤트_버퍼링() {
+    // when
+    triggerCheckService.onCustomerVisit(visitEvent());
+
+    // then
+    verifyNoInteractions(customerQueryService, workflowExecutionService);
+
+    triggerCheckService.flush();
+    verify(workflowExecutionService).executeTriggeredWorkflow(visitCycleWorkflow, CUSTOMER_ID);
+  }
+
+  @Test
+  @DisplayName("같은 고객의 여러 이벤트는 병합되어 고객 정보를 한 번만 조회한다")
+  void 고객별_병합() {
+    // given
+    triggerCheckService.onCustomerVisit(visitEvent());
+    triggerCheckService.onCustomerVisit(visitEvent());
+    triggerCheckService.onPaymentCompleted(
+        new PaymentCompletedEvent(CUSTOMER_ID, SHOP_ID, 50000L, LocalDateTime.now()));
+
+    // when
+    triggerCheckService.flush();
+
+    // then
+    verify(customerQueryService, times(1)).getCustomerDetail(CUSTOMER_ID, SHOP_ID);
+    verify(workflowExecutionService, times(1))
+        .executeTriggeredWorkflow(visitCycleWorkflow, CUSTOMER_ID);
+    verify(workflowExecutionService, times(1))
+        .executeTriggeredWorkflow(amountWorkflow, CUSTOMER_ID);
+    verify(workflowRepository, never()).findByTriggerTypeAndShopId(anyString(), anyLong());
+  }
+
+  @Test
+  @DisplayName("트리거 정의는 캐시되고 워크플로우 변경 시 무효화된다")
+  void 트리거정의_캐시() {
+    // given
+    triggerCheckService.onCustomerVisit(visitEvent());
+    triggerCheckService.flush();
+    triggerCheckService.onCustomerVisit(visitEvent());
+    triggerCheckService.flush();
+    verify(workflowRepository, times(1)).findAllByShopIdAndIsActiveTrue(SHOP_ID);
+
+    // when
+    triggerDefinitionCache.onWorkflowDefinitionChanged(
+        new WorkflowDefinitionChangedEvent(SHOP_ID, 100L));
+    triggerCheckService.onCustomerVisit(visitEvent());
+    triggerCheckService.flush();
+
+    // then
+    verify(workflowRepository, times(2)).findAllByShopIdAndIsActiveTrue(SHOP_ID);
+  }
+
+  @Test
+  @DisplayName("신규 고객 팔로업은 고객 정보 조회 없이 실행된다")
+  void 신규고객_팔로업() {
+    // given
+    Workflow followup = workflow(300L, "new-customer-followup", null);
+    given(workflowRepository.findAllByShopIdAndIsActiveTrue(SHOP_ID)).willReturn(List.of(followup));
+    given(workflowRepository.findById(300L)).willReturn(Optional.of(followup));
+
+    // when
+    triggerCheckService.onCustomerRegistration(
+        new CustomerRegistrationEvent(CUSTOMER_ID, SHOP_ID, LocalDateTime.now()));
+    triggerCheckService.flush();
+
+    // then
+    verify(workflowExecutionService).executeTriggeredWorkflow(followup, CUSTOMER_ID);
+    verifyNoInteractions(customerQueryService);
+  }
+
+  private CustomerVisitEvent visitEvent() {
+    return new CustomerVisitEvent(CUSTOMER_ID, SHOP_ID, "1", LocalDateTime.now());
+  }
+
+  private Workflow workflow(Long id, String triggerType, String triggerConfig) {
+    return Workflow.builder()
+        .id(id)
+        .shopId(SHOP_ID)
+        .staffId(1L)
+        .title("워크플로우-" + id)
+        .triggerType(triggerType)
+        .triggerCategory("lifecycle")
+        .triggerConfig(triggerConfig)
+        .actionType("message-only")
+        .build();
+  }
+}
@@ -0,0 +1,164 @@
+package com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.deveagles.be15_deveagles_be.features.customers.query.service.CustomerQueryService;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.Workflow;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.aggregate.WorkflowExecution;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowExecutionRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.command.domain.repository.WorkflowRepository;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.ActionExecutorService;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.application.service.WorkflowExecutionService.ActionExecutionResult;
+import com.deveagles.be15_deveagles_be.features.workflows.execution.infrastructure.service.WorkflowExecutionLease.LeaseLostException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("워크플로우 실행 재개 테스트")
+class WorkflowExecutionServiceImplTest {
+
+  private static final Long WORKFLOW_ID = 100L;
+
+  private WorkflowRepository workflowRepository;
+  private WorkflowExecutionRepository workflowExecutionRepository;
+  private ActionExecutorService actionExecutorService;
+  private WorkflowExecutionServiceImpl workflowExecutionService;
+
+  @BeforeEach
+  void setUp() {
+    workflowRepository = mock(WorkflowRepository.class);
+    workflowExecutionRepository = mock(WorkflowExecutionRepository.class);
+    actionExecutorService = mock(ActionExecutorService.class);
+    WorkflowExecutionLease lease = new WorkflowExecutionLease(workflowExecutionRepository);
+    ReflectionTestUtils.setField(lease, "leaseSeconds", 300L);
+
+    workflowExecutionService =
+        new WorkflowExecutionServiceImpl(
+            workflowRepository,
+            workflowExecutionRepository,
+            mock(CustomerQueryService.class),
+            actionExecutorService,
+            lease,
+            new ObjectMapper());
+    ReflectionTestUtils.setField(workflowExecutionService, "audienceChunkSize", 500);
+
+    given(actionExecutorService.executeActionInChunks(any(), any(), any()))
+        .willAnswer(
+            invocation -> {
+              WorkflowExecution execution = invocation.getArgument(2);
+              execution.recordChunkProgress(10L, 10, 10, 0);
+              return new ActionExecutionResult(10, 0);
+            });
+  }
+
+  @Test
+  @DisplayName("lease 가 살아 있는 실행이 있으면 가로채지 않고 건너뛴다")
+  void 진행중인_실행_건너뜀() {
+    // given
+    WorkflowExecution running = runningExecution();
+    given(workflowExecutionRepository.findRunningByWorkflowIdAndRunKind(WORKFLOW_ID, "AUDIENCE"))
+        .willReturn(Optional.of(running));
+    given(workflowExecutionRepository.claimLease(eq(1L), anyString(), any(), any()))
+        .willReturn(false);
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow());
+
+    // then
+    verify(actionExecutorService, never()).executeActionInChunks(any(), any(), any());
+    verify(workflowExecutionRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("lease 가 만료된 실행은 넘겨받아 재개 지점부터 이어서 처리한다")
+  void 만료된_실행_재개() {
+    // given
+    WorkflowExecution running = runningExecution();
+    running.recordChunkProgress(1000L, 1000, 1000, 0);
+    given(workflowExecutionRepository.findRunningByWorkflowIdAndRunKind(WORKFLOW_ID, "AUDIENCE"))
+        .willReturn(Optional.of(running));
+    given(workflowExecutionRepository.claimLease(eq(1L), anyString(), any(), any()))
+        .willReturn(true);
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow());
+
+    // then
+    verify(actionExecutorService).executeActionInChunks(any(), any(), same(running));
+    assertThat(running.getLeaseOwner()).isNotNull();
+    assertThat(running.getProcessedCount()).isEqualTo(1010);
+    assertThat(running.isSuccessful()).isTrue();
+  }
+
+  @Test
+  @DisplayName("재개할 실행이 없으면 lease 를 쥔 새 대상 고객 실행을 만든다")
+  void 새_실행_생성() {
+    // given
+    given(workflowExecutionRepository.findRunningByWorkflowIdAndRunKind(WORKFLOW_ID, "AUDIENCE"))
+        .willReturn(Optional.empty());
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow());
+
+    // then
+    ArgumentCaptor<WorkflowExecution> captor = ArgumentCaptor.forClass(WorkflowExecution.class);
+    verify(workflowExecutionRepository, atLeastOnce()).save(captor.capture());
+    WorkflowExecution created = captor.getAllValues().get(0);
+    assertThat(created.getRunKind()).isEqualTo("AUDIENCE");
+    assertThat(created.getLeaseOwner()).isNotNull();
+    assertThat(created.getLeaseUntil()).isNotNull();
+    verify(workflowExecutionRepository, never()).claimLease(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("실행 중 lease 를 잃으면 넘겨받은 실행의 행을 덮어쓰지 않는다")
+  void lease_상실시_저장하지_않음() {
+    // given
+    WorkflowExecution running = runningExecution();
+    given(workflowExecutionRepository.findRunningByWorkflowIdAndRunKind(WORKFLOW_ID, "AUDIENCE"))
+        .willReturn(Optional.of(running));
+    given(workflowExecutionRepository.claimLease(eq(1L), anyString(), any(), any()))
+        .willReturn(true);
+    given(actionExecutorService.executeActionInChunks(any(), any(), any()))
+        .willThrow(new LeaseLostException(1L));
+
+    // when
+    workflowExecutionService.executeWorkflow(workflow());
+
+    // then
+    verify(workflowExecutionRepository, never()).save(any());
+    verify(workflowRepository, never()).save(any());
+    assertThat(running.isRunning()).isTrue();
+  }
+
+  private Workflow workflow() {
+    return Workflow.builder()
+        .id(WORKFLOW_ID)
+        .shopId(1L)
+        .staffId(1L)
+        .title("메시지 워크플로우")
+        .triggerType("visit-cycle")
+        .actionType("message-only")
+        .isActive(true)
+        .build();
+  }
+
+  private WorkflowExecution runningExecution() {
+    return WorkflowExecution.builder()
+        .id(1L)
+        .workflowId(WORKFLOW_ID)
+        .shopId(1L)
+        .executionStatus("RUNNING")
+        .triggerType("visit-cycle")
+        .actionType("message-only")
+        .runKind("AUDIENCE")
+        .build();
+  }
+}